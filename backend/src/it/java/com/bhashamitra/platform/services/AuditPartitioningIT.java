@@ -0,0 +1,163 @@
+package com.bhashamitra.platform.services;
+
+import com.bhashamitra.platform.models.AuditArchive;
+import com.bhashamitra.platform.models.AuditArchiveKey;
+import com.bhashamitra.platform.models.AuditArchiveKey.Kind;
+import com.bhashamitra.platform.models.EditorialAuditEvent;
+import com.bhashamitra.platform.models.Ids;
+import com.bhashamitra.platform.repositories.AuditArchiveKeyJdbcRepository;
+import com.bhashamitra.platform.repositories.AuditArchiveKeyRepository;
+import com.bhashamitra.platform.repositories.AuditArchiveRepository;
+import com.bhashamitra.platform.repositories.AuditPartitionJdbcRepository;
+import com.bhashamitra.platform.repositories.AuditPartitionJdbcRepository.Partition;
+import com.bhashamitra.platform.repositories.EditorialAuditEventJdbcRepository;
+import com.bhashamitra.platform.repositories.EditorialAuditEventJdbcRepository.Row;
+import com.bhashamitra.platform.repositories.NamedLockJdbcRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.MethodOrderer;
+import org.junit.jupiter.api.Order;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestMethodOrder;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+import org.testcontainers.mysql.MySQLContainer;
+import tools.jackson.databind.ObjectMapper;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Changelog 016 and {@link AuditArchiver} on a real MySQL 8: the partitioning DDL, adding
+ * months, archiving and dropping an expired month, and reading it back. The tests share
+ * one database and run in order. Needs Docker; run with {@code mvn -pl backend -P mysql-it test}.
+ */
+@Testcontainers
+@SpringBootTest(properties = {
+        "spring.liquibase.contexts=app,audit-partitioning",
+        "audit.writer.mode=sync",
+        "audit.archive.enabled=false",
+        // Login is never exercised; keep startup away from the Cognito discovery document
+        "COGNITO_CLIENT_ID=it",
+        "COGNITO_USER_POOL_ID=it",
+        "spring.security.oauth2.client.registration.cognito.provider=it",
+        "spring.security.oauth2.client.provider.it.authorization-uri=http://localhost/authorize",
+        "spring.security.oauth2.client.provider.it.token-uri=http://localhost/token",
+        "spring.security.oauth2.client.provider.it.jwk-set-uri=http://localhost/jwks",
+        "spring.security.oauth2.client.provider.it.user-info-uri=http://localhost/userinfo",
+        "spring.security.oauth2.client.provider.it.user-name-attribute=sub"
+})
+@TestMethodOrder(MethodOrderer.OrderAnnotation.class)
+@DisplayName("editorial_audit_events partitioning on MySQL")
+class AuditPartitioningIT {
+
+    // 2026-10 and earlier are in p202610 after changelog 016
+    private static final Instant SEPTEMBER_2026 = Instant.parse("2026-09-10T08:00:00Z");
+    private static final Instant JUNE_2027 = Instant.parse("2027-06-10T08:00:00Z");
+    private static final Clock JANUARY_2028 = Clock.fixed(Instant.parse("2028-01-15T00:00:00Z"), ZoneOffset.UTC);
+
+    @Container
+    static final MySQLContainer MYSQL = new MySQLContainer("mysql:8.4");
+
+    @DynamicPropertySource
+    static void properties(DynamicPropertyRegistry registry) throws IOException {
+        registry.add("spring.datasource.url", MYSQL::getJdbcUrl);
+        registry.add("spring.datasource.username", MYSQL::getUsername);
+        registry.add("spring.datasource.password", MYSQL::getPassword);
+        String archiveDir = Files.createTempDirectory("audit-archive-it").toString();
+        registry.add("audit.archive.dir", () -> archiveDir);
+    }
+
+    @Autowired
+    private AuditPartitionJdbcRepository partitions;
+    @Autowired
+    private NamedLockJdbcRepository locks;
+    @Autowired
+    private AuditArchiveRepository archives;
+    @Autowired
+    private AuditArchiveKeyRepository archiveKeys;
+    @Autowired
+    private AuditArchiveKeyJdbcRepository archiveKeyInserts;
+    @Autowired
+    private AuditArchiveStore store;
+    @Autowired
+    private ObjectMapper objectMapper;
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+    @Autowired
+    private EditorialAuditEventJdbcRepository events;
+    @Autowired
+    private EditorialAuditEventService service;
+
+    @Test
+    @Order(1)
+    @DisplayName("Archives an expired month, drops its partition and keeps serving its events")
+    void archivesExpiredPartitionAndReadsItBack() throws IOException {
+        assertTrue(partitions.isSupported());
+        assertEquals(List.of(new Partition("p202610", 1793491200L), new Partition("pmax", null)),
+                partitions.findPartitions());
+
+        String lemmaId = Ids.newId();
+        events.insertBatch(List.of(
+                row(lemmaId, "CREATED", SEPTEMBER_2026),
+                row(lemmaId, "UPDATED", SEPTEMBER_2026.plusSeconds(60)),
+                row(lemmaId, "PUBLISHED", SEPTEMBER_2026.plusSeconds(120)),
+                row(Ids.newId(), "CREATED", SEPTEMBER_2026.plusSeconds(180))));
+
+        archiver().tick();
+
+        // Months up to 2028-04 added; 2026-10 archived, the empty 2026-11 and 2026-12 dropped
+        List<String> names = partitions.findPartitions().stream().map(Partition::name).toList();
+        assertFalse(names.contains("p202610"));
+        assertFalse(names.contains("p202612"));
+        assertTrue(names.containsAll(List.of("p202701", "p202706", "p202804", "pmax")));
+
+        AuditArchive archive = archives.findByPartitionName("p202610").orElseThrow();
+        assertTrue(archive.isDropped());
+        assertEquals(4, archive.getRowCount());
+        assertTrue(store.exists(archive.getBlobKey()));
+        assertEquals(3, archiveKeys.findArchives(Kind.ENTITY, AuditArchiveKey.entityKey("Lemma", lemmaId))
+                .get(0).eventCount());
+
+        events.insertBatch(List.of(row(lemmaId, "UPDATED", JUNE_2027)));
+        Page<EditorialAuditEvent> timeline = service.getTimeline("Lemma", lemmaId, PageRequest.of(0, 3));
+        assertEquals(4, timeline.getTotalElements());
+        assertEquals(List.of("UPDATED", "PUBLISHED", "UPDATED"),
+                timeline.getContent().stream().map(EditorialAuditEvent::getEventType).toList());
+        assertEquals("CREATED", service.getTimeline("Lemma", lemmaId, PageRequest.of(1, 3))
+                .getContent().get(0).getEventType());
+    }
+
+    @Test
+    @Order(2)
+    @DisplayName("Does not drop a partition whose row count changed since it was archived")
+    void keepsPartitionThatGainedRows() {
+        archiver().tick();
+        events.insertBatch(List.of(row(Ids.newId(), "CREATED", JUNE_2027)));
+
+        assertFalse(partitions.dropPartitionIfCount("p202706", 0));
+        assertTrue(partitions.findPartitions().stream().anyMatch(p -> p.name().equals("p202706")));
+    }
+
+    private AuditArchiver archiver() {
+        return new AuditArchiver(partitions, locks, archives, archiveKeys, archiveKeyInserts, store, objectMapper,
+                transactionManager, Duration.ofHours(6), 12, 3, JANUARY_2028);
+    }
+
+    private static Row row(String entityId, String eventType, Instant ts) {
+        return new Row(Ids.newId(), "Lemma", entityId, eventType, "editor@example.com", null, null, ts);
+    }
+}
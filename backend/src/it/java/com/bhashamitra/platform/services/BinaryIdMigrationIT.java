@@ -0,0 +1,235 @@
+package com.bhashamitra.platform.services;
+
+import com.bhashamitra.platform.models.Ids;
+import com.bhashamitra.platform.models.Lemma;
+import com.bhashamitra.platform.models.LemmaStatus;
+import com.bhashamitra.platform.models.Meaning;
+import com.bhashamitra.platform.repositories.BinaryIdBackfillJdbcRepository;
+import com.bhashamitra.platform.repositories.BinaryIdBackfillJdbcRepository.Table;
+import com.bhashamitra.platform.repositories.LemmaSentenceLinkRepository.LinkedLemma;
+import com.bhashamitra.platform.repositories.LemmaSentenceLinkRepository.LinkedSentence;
+import com.bhashamitra.platform.repositories.NamedLockJdbcRepository;
+import liquibase.Liquibase;
+import liquibase.database.Database;
+import liquibase.database.DatabaseFactory;
+import liquibase.database.jvm.JdbcConnection;
+import liquibase.resource.ClassLoaderResourceAccessor;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+import org.testcontainers.mysql.MySQLContainer;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.Statement;
+import java.time.Duration;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * The online move to BINARY(16) ids on a real MySQL 8, for a database that already held
+ * data before changelog 013: startup keeps the CHAR(36) ids and adds the shadow columns
+ * (017) and the link keyset indexes with their shadow twins (019), the application reads
+ * and writes in that layout, {@link BinaryIdBackfill} fills the shadows and the swap (018)
+ * makes them the id columns with every reference intact.
+ * Needs Docker; run with {@code mvn -pl backend -P mysql-it test}.
+ */
+@Testcontainers
+@SpringBootTest(properties = {
+        "audit.writer.mode=sync",
+        "ids.backfill.enabled=false",
+        "ids.storage-check-interval=PT0.1S",
+        "lemma-summary.reconcile-on-startup=false",
+        "lemma-summary.reconcile-interval=PT0S",
+        // Login is never exercised; keep startup away from the Cognito discovery document
+        "COGNITO_CLIENT_ID=it",
+        "COGNITO_USER_POOL_ID=it",
+        "spring.security.oauth2.client.registration.cognito.provider=it",
+        "spring.security.oauth2.client.provider.it.authorization-uri=http://localhost/authorize",
+        "spring.security.oauth2.client.provider.it.token-uri=http://localhost/token",
+        "spring.security.oauth2.client.provider.it.jwk-set-uri=http://localhost/jwks",
+        "spring.security.oauth2.client.provider.it.user-info-uri=http://localhost/userinfo",
+        "spring.security.oauth2.client.provider.it.user-name-attribute=sub"
+})
+@DisplayName("Binary id migration on MySQL")
+class BinaryIdMigrationIT {
+
+    @Container
+    static final MySQLContainer MYSQL = new MySQLContainer("mysql:8.4");
+
+    // The schema as it was before the binary ids
+    private static final List<String> LEGACY_CHANGELOGS = List.of(
+            "db/changelog/001-create-languages.xml",
+            "db/changelog/002-create-lemmas.xml",
+            "db/changelog/003-create-meanings.xml",
+            "db/changelog/004-create-surface-forms.xml",
+            "db/changelog/005-create-usage-sentences.xml",
+            "db/changelog/006-create-lemma-sentence-links.xml",
+            "db/changelog/007-create-pronunciations.xml",
+            "db/changelog/008-create-editorial-audit-events.xml",
+            "db/changelog/009-add-lemma-keyset-index.xml",
+            "db/changelog/010-add-usage-sentence-modified-index.xml",
+            "db/changelog/011-add-canonical-keys.xml",
+            "db/changelog/012-add-latin-keys.xml"
+    );
+
+    // Random (v4) ids, as the application generated them before
+    private static final String LEMMA_ID = "6f1c2d3e-4a5b-4c6d-8e7f-0a1b2c3d4e5f";
+    private static final String MEANING_ID = "0d9e8f7a-6b5c-4d3e-9f2a-1b0c9d8e7f6a";
+    private static final String FORM_ID = "a1b2c3d4-e5f6-4a7b-8c9d-0e1f2a3b4c5d";
+    private static final String SENTENCE_ID = "f0e1d2c3-b4a5-4968-8776-655443322110";
+    private static final String LINK_ID = "12345678-9abc-4def-8123-456789abcdef";
+
+    @DynamicPropertySource
+    static void properties(DynamicPropertyRegistry registry) {
+        registry.add("spring.datasource.url", MYSQL::getJdbcUrl);
+        registry.add("spring.datasource.username", MYSQL::getUsername);
+        registry.add("spring.datasource.password", MYSQL::getPassword);
+    }
+
+    @BeforeAll
+    static void legacyDatabase() throws Exception {
+        try (Connection c = DriverManager.getConnection(MYSQL.getJdbcUrl(), MYSQL.getUsername(), MYSQL.getPassword())) {
+            Database database = DatabaseFactory.getInstance().findCorrectDatabaseImplementation(new JdbcConnection(c));
+            for (String changelog : LEGACY_CHANGELOGS) {
+                new Liquibase(changelog, new ClassLoaderResourceAccessor(), database).update("app");
+            }
+            c.setAutoCommit(true);
+            try (Statement st = c.createStatement()) {
+                st.executeUpdate("INSERT INTO lemmas (id, language, lemma_native, status) VALUES ('"
+                        + LEMMA_ID + "', 'mr', 'घर', 'PUBLISHED')");
+                st.executeUpdate("INSERT INTO meanings (id, lemma_id, meaning_language, meaning_text, priority) VALUES ('"
+                        + MEANING_ID + "', '" + LEMMA_ID + "', 'en', 'house', 1)");
+                st.executeUpdate("INSERT INTO surface_forms (id, lemma_id, form_native) VALUES ('"
+                        + FORM_ID + "', '" + LEMMA_ID + "', 'घरात')");
+                st.executeUpdate("INSERT INTO usage_sentences (id, language, sentence_native, status) VALUES ('"
+                        + SENTENCE_ID + "', 'mr', 'हे माझे घर आहे', 'PUBLISHED')");
+                st.executeUpdate("INSERT INTO lemma_sentence_links (id, lemma_id, sentence_id, surface_form_id, link_type) VALUES ('"
+                        + LINK_ID + "', '" + LEMMA_ID + "', '" + SENTENCE_ID + "', '" + FORM_ID + "', 'EXACT')");
+            }
+        }
+    }
+
+    @Autowired
+    private LemmaService lemmaService;
+    @Autowired
+    private MeaningService meaningService;
+    @Autowired
+    private SurfaceFormService surfaceFormService;
+    @Autowired
+    private LemmaSentenceLinkService linkService;
+    @Autowired
+    private BinaryIdBackfillJdbcRepository backfillRepository;
+    @Autowired
+    private NamedLockJdbcRepository locks;
+    @Autowired
+    private DataSource dataSource;
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    @DisplayName("Text ids work until the swap, the backfill completes the shadows and the swap keeps every reference")
+    void expandBackfillAndSwap() throws Exception {
+        // Startup left the data alone: text ids, shadow columns beside them
+        assertEquals(Ids.Storage.TEXT, Ids.storage());
+        assertEquals("char", idType("lemmas"));
+        assertTrue(backfillRepository.isExpanded());
+        assertEquals("घर", lemmaService.getById(LEMMA_ID).getLemmaNative());
+        assertLinkPages();
+
+        // Written in the text layout; the triggers fill the shadows
+        Lemma lemma = lemmaService.create(new LemmaService.LemmaCreateRequest(
+                "mr", "पाणी", "pani", "noun", null, LemmaStatus.PUBLISHED), "it");
+        Meaning water = meaningService.create(new MeaningService.MeaningCreateRequest(lemma.getId(), "en", "water", 1), "it");
+        assertEquals(hex(water.getId()), jdbcTemplate.queryForObject(
+                "SELECT LOWER(HEX(id_bin)) FROM meanings WHERE id = ?", String.class, water.getId()));
+        assertTrue(backfillRepository.hasUnfilled(table("lemma_sentence_links")));
+
+        // Backfill in batches smaller than the tables
+        new BinaryIdBackfill(backfillRepository, locks, 1, Duration.ZERO).backfill();
+        for (Table table : BinaryIdBackfillJdbcRepository.TABLES) {
+            assertFalse(backfillRepository.hasUnfilled(table), table.name());
+        }
+
+        // Swap, as the next release would at startup
+        try (Connection c = dataSource.getConnection()) {
+            Database database = DatabaseFactory.getInstance().findCorrectDatabaseImplementation(new JdbcConnection(c));
+            new Liquibase("db/changelog/db.changelog-master.xml", new ClassLoaderResourceAccessor(), database)
+                    .update("app,binary-ids-contract");
+        }
+        assertEquals("binary", idType("lemmas"));
+        assertEquals("binary", idType("lemma_summary"));
+        assertFalse(backfillRepository.isExpanded());
+        long deadline = System.nanoTime() + Duration.ofSeconds(10).toNanos();
+        while (Ids.storage() != Ids.Storage.BINARY && System.nanoTime() < deadline) {
+            Thread.sleep(50);
+        }
+        assertEquals(Ids.Storage.BINARY, Ids.storage());
+
+        // Same ids, same references, in the binary layout
+        assertEquals(1, jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM lemma_sentence_links WHERE id = ? AND lemma_id = ? AND sentence_id = ? AND surface_form_id = ?",
+                Integer.class, Ids.toBytes(LINK_ID), Ids.toBytes(LEMMA_ID), Ids.toBytes(SENTENCE_ID), Ids.toBytes(FORM_ID)));
+        assertEquals(List.of(MEANING_ID), meaningService.listByLemmaId(LEMMA_ID).stream().map(Meaning::getId).toList());
+        assertEquals(List.of("lemma_id", "created_date", "id"), indexColumns("idx_lsl_lemma_created"));
+        assertEquals(List.of("sentence_id", "created_date", "id"), indexColumns("idx_lsl_sentence_created"));
+        assertTrue(indexColumns("idx_lsl_lemma_created_bin").isEmpty());
+        assertLinkPages();
+        meaningService.create(new MeaningService.MeaningCreateRequest(LEMMA_ID, "en", "home", 2), "it");
+
+        // The foreign keys act on the binary columns
+        surfaceFormService.delete(FORM_ID, "it");
+        assertNull(jdbcTemplate.queryForObject(
+                "SELECT surface_form_id FROM lemma_sentence_links WHERE id = ?", byte[].class, Ids.toBytes(LINK_ID)));
+        jdbcTemplate.update("DELETE FROM lemmas WHERE id = ?", (Object) Ids.toBytes(lemma.getId()));
+        assertEquals(0, jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM meanings WHERE lemma_id = ?", Integer.class, (Object) Ids.toBytes(lemma.getId())));
+    }
+
+    /**
+     * The legacy link, found from both ends and sought past with its own key.
+     */
+    private void assertLinkPages() {
+        List<LinkedSentence> examples = linkService.listPublishedSentencesForLemma(LEMMA_ID, null, null, 10).items();
+        assertEquals(List.of(LINK_ID), examples.stream().map(LinkedSentence::linkId).toList());
+        LinkedSentence link = examples.get(0);
+        assertEquals(List.of(LINK_ID), linkService.listPublishedLemmasForSentence(SENTENCE_ID, null, null, 10).items()
+                .stream().map(LinkedLemma::linkId).toList());
+        assertTrue(linkService.listPublishedSentencesForLemma(
+                LEMMA_ID, link.linkCreatedDate(), link.linkId(), 10).items().isEmpty());
+        assertTrue(linkService.listPublishedLemmasForSentence(
+                SENTENCE_ID, link.linkCreatedDate(), link.linkId(), 10).items().isEmpty());
+    }
+
+    private List<String> indexColumns(String index) {
+        return jdbcTemplate.queryForList("""
+                SELECT COLUMN_NAME FROM information_schema.STATISTICS
+                WHERE TABLE_SCHEMA = DATABASE() AND TABLE_NAME = 'lemma_sentence_links' AND INDEX_NAME = ?
+                ORDER BY SEQ_IN_INDEX
+                """, String.class, index);
+    }
+
+    private String idType(String table) {
+        return jdbcTemplate.queryForObject("""
+                SELECT DATA_TYPE FROM information_schema.COLUMNS
+                WHERE TABLE_SCHEMA = DATABASE() AND TABLE_NAME = ? AND COLUMN_NAME = ?
+                """, String.class, table, "lemma_summary".equals(table) ? "lemma_id" : "id");
+    }
+
+    private static Table table(String name) {
+        return BinaryIdBackfillJdbcRepository.TABLES.stream().filter(t -> t.name().equals(name)).findFirst().orElseThrow();
+    }
+
+    private static String hex(String id) {
+        return id.replace("-", "");
+    }
+}
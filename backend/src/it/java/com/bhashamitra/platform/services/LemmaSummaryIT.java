@@ -0,0 +1,138 @@
+package com.bhashamitra.platform.services;
+
+import com.bhashamitra.platform.models.Lemma;
+import com.bhashamitra.platform.models.LemmaStatus;
+import com.bhashamitra.platform.models.LemmaSummary;
+import com.bhashamitra.platform.models.Meaning;
+import com.bhashamitra.platform.models.UsageSentence;
+import com.bhashamitra.platform.models.UsageSentenceStatus;
+import com.bhashamitra.platform.repositories.LemmaSummaryRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+import org.testcontainers.mysql.MySQLContainer;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * lemma_summary kept by the writing services on a real MySQL 8: creating, deleting and
+ * publishing move the counts, a missing row is filled in by the upsert, and
+ * {@link LemmaSummaryReconciler} puts drifted counts right. Needs Docker; run with
+ * {@code mvn -pl backend -P mysql-it test}.
+ */
+@Testcontainers
+@SpringBootTest(properties = {
+        "audit.writer.mode=sync",
+        "lemma-summary.reconcile-on-startup=false",
+        "lemma-summary.reconcile-interval=PT0S",
+        // Login is never exercised; keep startup away from the Cognito discovery document
+        "COGNITO_CLIENT_ID=it",
+        "COGNITO_USER_POOL_ID=it",
+        "spring.security.oauth2.client.registration.cognito.provider=it",
+        "spring.security.oauth2.client.provider.it.authorization-uri=http://localhost/authorize",
+        "spring.security.oauth2.client.provider.it.token-uri=http://localhost/token",
+        "spring.security.oauth2.client.provider.it.jwk-set-uri=http://localhost/jwks",
+        "spring.security.oauth2.client.provider.it.user-info-uri=http://localhost/userinfo",
+        "spring.security.oauth2.client.provider.it.user-name-attribute=sub"
+})
+@DisplayName("lemma_summary maintenance on MySQL")
+class LemmaSummaryIT {
+
+    @Container
+    static final MySQLContainer MYSQL = new MySQLContainer("mysql:8.4");
+
+    @DynamicPropertySource
+    static void properties(DynamicPropertyRegistry registry) {
+        registry.add("spring.datasource.url", MYSQL::getJdbcUrl);
+        registry.add("spring.datasource.username", MYSQL::getUsername);
+        registry.add("spring.datasource.password", MYSQL::getPassword);
+    }
+
+    @Autowired
+    private LemmaService lemmaService;
+    @Autowired
+    private MeaningService meaningService;
+    @Autowired
+    private SurfaceFormService surfaceFormService;
+    @Autowired
+    private UsageSentenceService sentenceService;
+    @Autowired
+    private LemmaSentenceLinkService linkService;
+    @Autowired
+    private LemmaSummaryReconciler reconciler;
+    @Autowired
+    private LemmaSummaryRepository summaries;
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    @DisplayName("Creating and deleting children and publishing a linked sentence move the counts")
+    void createDeleteAndPublishMoveTheCounts() {
+        Lemma lemma = lemmaService.create(new LemmaService.LemmaCreateRequest(
+                "mr", "घर", "ghar", "noun", null, LemmaStatus.PUBLISHED), "it");
+        assertCounts(lemma, 0, 0, 0);
+
+        Meaning house = meaningService.create(new MeaningService.MeaningCreateRequest(lemma.getId(), "en", "house", 1), "it");
+        meaningService.create(new MeaningService.MeaningCreateRequest(lemma.getId(), "en", "home", 2), "it");
+        surfaceFormService.create(new SurfaceFormService.SurfaceFormCreateRequest(lemma.getId(), "घरात", null, "locative", null), "it");
+        assertCounts(lemma, 2, 1, 0);
+
+        meaningService.delete(house.getId(), "it");
+        assertCounts(lemma, 1, 1, 0);
+
+        UsageSentence sentence = sentenceService.create(new UsageSentenceService.UsageSentenceCreateRequest(
+                "mr", "हे माझे घर आहे", null, "This is my house", null, null, 1, UsageSentenceStatus.REVIEW), "it");
+        linkService.create(new LemmaSentenceLinkService.CreateRequest(lemma.getId(), sentence.getId(), null, null), "it");
+        assertCounts(lemma, 1, 1, 0);
+
+        sentenceService.setStatus(sentence.getId(), UsageSentenceStatus.PUBLISHED, "it");
+        assertCounts(lemma, 1, 1, 1);
+
+        sentenceService.setStatus(sentence.getId(), UsageSentenceStatus.ARCHIVED, "it");
+        assertCounts(lemma, 1, 1, 0);
+    }
+
+    @Test
+    @DisplayName("A change to a lemma without a summary row counts it from the source tables")
+    void missingRowIsCountedOnNextChange() {
+        Lemma lemma = lemmaService.create(new LemmaService.LemmaCreateRequest(
+                "mr", "पाणी", "pani", "noun", null, LemmaStatus.PUBLISHED), "it");
+        meaningService.create(new MeaningService.MeaningCreateRequest(lemma.getId(), "en", "water", 1), "it");
+        summaries.deleteById(lemma.getId());
+
+        surfaceFormService.create(new SurfaceFormService.SurfaceFormCreateRequest(lemma.getId(), "पाण्यात", null, "locative", null), "it");
+
+        assertCounts(lemma, 1, 1, 0);
+    }
+
+    @Test
+    @DisplayName("Reconciliation puts drifted counts right")
+    void reconcileRecountsDriftedRows() {
+        Lemma lemma = lemmaService.create(new LemmaService.LemmaCreateRequest(
+                "mr", "घाट", "ghat", "noun", null, LemmaStatus.PUBLISHED), "it");
+        meaningService.create(new MeaningService.MeaningCreateRequest(lemma.getId(), "en", "ghat", 1), "it");
+        jdbcTemplate.update("UPDATE lemma_summary SET meaning_count = 7, example_count = 3");
+
+        int lemmas = reconciler.reconcile();
+
+        assertTrue(lemmas >= 1);
+        assertCounts(lemma, 1, 0, 0);
+        assertEquals(List.of(), jdbcTemplate.queryForList(
+                "SELECT lemma_id FROM lemma_summary WHERE meaning_count = 7", byte[].class));
+    }
+
+    private void assertCounts(Lemma lemma, int meanings, int surfaceForms, int examples) {
+        LemmaSummary summary = summaries.findById(lemma.getId()).orElseThrow();
+        assertEquals(meanings, summary.getMeaningCount(), "meanings");
+        assertEquals(surfaceForms, summary.getSurfaceFormCount(), "surface forms");
+        assertEquals(examples, summary.getExampleCount(), "examples");
+    }
+}
@@ -0,0 +1,120 @@
+package com.bhashamitra.platform.config;
+
+import com.bhashamitra.platform.models.Ids;
+import com.bhashamitra.platform.models.Ids.Storage;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.sql.init.dependency.DependsOnDatabaseInitialization;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.DatabaseMetaData;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Types;
+import java.time.Duration;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Sets {@link Ids#storage()} from the type of lemmas.id, once Liquibase has run: BINARY(16)
+ * on a database created with changelog 013, CHAR(36) on one created before it until the
+ * binary-id migration has swapped the columns (changelogs 017 and 018).
+ *
+ * While the ids are still text a background thread looks again every
+ * {@code ids.storage-check-interval}, so a running instance follows the swap made by a
+ * newer one without a restart. Writes in between bind text ids to the binary columns and
+ * fail; the interval bounds that window.
+ */
+@Component
+@DependsOnDatabaseInitialization
+public class IdStorageMonitor implements SmartLifecycle {
+
+    private static final Logger log = LoggerFactory.getLogger(IdStorageMonitor.class);
+
+    private final DataSource dataSource;
+    private final Duration checkInterval;
+
+    private volatile boolean running;
+    private volatile Thread worker;
+
+    public IdStorageMonitor(
+            DataSource dataSource,
+            @Value("${ids.storage-check-interval:PT2S}") Duration checkInterval
+    ) {
+        this.dataSource = dataSource;
+        this.checkInterval = checkInterval;
+        Ids.setStorage(detect());
+        if (Ids.storage() == Storage.TEXT) {
+            log.info("Ids are stored as CHAR(36); binding them as text until the binary-id swap");
+        }
+    }
+
+    @Override
+    public void start() {
+        running = true;
+        if (Ids.storage() == Storage.BINARY) {
+            return;
+        }
+        Thread t = new Thread(this::run, "id-storage-monitor");
+        t.setDaemon(true);
+        t.start();
+        worker = t;
+    }
+
+    @Override
+    public void stop() {
+        running = false;
+        Thread t = worker;
+        if (t != null) {
+            LockSupport.unpark(t);
+            try {
+                t.join(Duration.ofSeconds(10));
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            worker = null;
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    private void run() {
+        while (running && Ids.storage() == Storage.TEXT) {
+            LockSupport.parkNanos(checkInterval.toNanos());
+            if (running && detect() == Storage.BINARY) {
+                Ids.setStorage(Storage.BINARY);
+                log.info("Ids are now stored as BINARY(16)");
+            }
+        }
+    }
+
+    /**
+     * TEXT when lemmas.id is a character column; BINARY otherwise, including when the
+     * table cannot be inspected.
+     */
+    Storage detect() {
+        try (Connection c = dataSource.getConnection()) {
+            DatabaseMetaData metaData = c.getMetaData();
+            // MySQL keeps the names as created, H2 upper-cases them
+            for (String table : new String[]{"lemmas", "LEMMAS"}) {
+                try (ResultSet rs = metaData.getColumns(c.getCatalog(), null, table, null)) {
+                    while (rs.next()) {
+                        if ("id".equalsIgnoreCase(rs.getString("COLUMN_NAME"))) {
+                            int type = rs.getInt("DATA_TYPE");
+                            return type == Types.CHAR || type == Types.VARCHAR ? Storage.TEXT : Storage.BINARY;
+                        }
+                    }
+                }
+            }
+        } catch (SQLException e) {
+            log.warn("Could not read the type of lemmas.id; assuming BINARY(16) ids", e);
+        }
+        return Storage.BINARY;
+    }
+}
@@ -0,0 +1,49 @@
+package com.bhashamitra.platform.config;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.ResolvableType;
+import org.springframework.http.HttpOutputMessage;
+import org.springframework.http.converter.HttpMessageNotWritableException;
+import org.springframework.http.converter.json.JacksonJsonHttpMessageConverter;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.io.IOException;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Application metrics that Spring Boot does not record on its own. Service methods are
+ * timed with {@code @Timed} and repositories by {@link RepositoryMetricsAspect}; this adds
+ * the JSON serialization time of response bodies.
+ */
+@Configuration
+public class MetricsConfig {
+
+    /**
+     * Replaces Boot's JSON message converter (same {@link JsonMapper}) with one that times
+     * writing each response body as {@code json.serialization} (payload=http-response).
+     * The time includes handing the bytes to the container's response buffer.
+     */
+    @Bean
+    JacksonJsonHttpMessageConverter jacksonJsonHttpMessageConverter(JsonMapper jsonMapper, MeterRegistry meterRegistry) {
+        Timer timer = Timer.builder("json.serialization")
+                .description("Time spent serializing a payload to JSON")
+                .tag("payload", "http-response")
+                .register(meterRegistry);
+        return new JacksonJsonHttpMessageConverter(jsonMapper) {
+            @Override
+            protected void writeInternal(Object object, ResolvableType resolvableType, HttpOutputMessage outputMessage,
+                                         Map<String, Object> hints) throws IOException, HttpMessageNotWritableException {
+                long start = System.nanoTime();
+                try {
+                    super.writeInternal(object, resolvableType, outputMessage, hints);
+                } finally {
+                    timer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+                }
+            }
+        };
+    }
+}
@@ -0,0 +1,106 @@
+package com.bhashamitra.platform.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.metrics.micrometer.MicrometerMetricsTrackerFactory;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.properties.bind.Bindable;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.boot.jdbc.autoconfigure.DataSourceProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Condition;
+import org.springframework.context.annotation.ConditionContext;
+import org.springframework.context.annotation.Conditional;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+import org.springframework.core.type.AnnotatedTypeMetadata;
+import org.springframework.util.StringUtils;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Replaces Spring Boot's single DataSource with a {@link ReadWriteDataSource} when
+ * {@code datasource.readers.urls} lists one or more reader endpoints (for Aurora, the
+ * cluster reader endpoint or individual instance endpoints).
+ *
+ * The writer is built from {@code spring.datasource.*} as before; each reader gets its
+ * own Hikari pool with the same credentials and {@code spring.datasource.hikari.*}
+ * settings, marked read-only. Without reader URLs this class does nothing and Boot's
+ * auto-configured pool is used.
+ *
+ * Every pool reports Hikari's pool metrics ({@code hikaricp.connections.*}, tagged with
+ * the pool name), which Boot only wires up on its own for the pool it creates.
+ */
+@Configuration
+@Conditional(ReadReplicaConfig.ReadersConfigured.class)
+public class ReadReplicaConfig {
+
+    private static final String HIKARI_PREFIX = "spring.datasource.hikari";
+
+    @Bean
+    ReadWriteDataSource dataSource(
+            DataSourceProperties properties,
+            Environment environment,
+            MeterRegistry meterRegistry,
+            @Value("${datasource.readers.urls}") String readerUrls,
+            @Value("${datasource.readers.connection-timeout:PT2S}") Duration readerConnectionTimeout,
+            @Value("${datasource.readers.read-your-writes-window:PT5S}") Duration readYourWritesWindow,
+            @Value("${datasource.readers.after-change-window:PT5S}") Duration afterChangeWindow,
+            @Value("${datasource.readers.down-cooldown:PT30S}") Duration downCooldown,
+            @Value("${datasource.readers.lag-query:}") String lagQuery,
+            @Value("${datasource.readers.max-lag:PT1S}") Duration maxLag,
+            @Value("${datasource.readers.lag-check-interval:PT5S}") Duration lagCheckInterval
+    ) {
+        Binder binder = Binder.get(environment);
+        MicrometerMetricsTrackerFactory metrics = new MicrometerMetricsTrackerFactory(meterRegistry);
+
+        HikariDataSource writer = pool(properties, binder, metrics, properties.determineUrl());
+        if (writer.getPoolName() == null) {
+            writer.setPoolName("writer");
+        }
+
+        List<HikariDataSource> readers = new ArrayList<>();
+        List<String> urls = Arrays.stream(readerUrls.split(","))
+                .map(String::trim)
+                .filter(u -> !u.isEmpty())
+                .toList();
+        for (int i = 0; i < urls.size(); i++) {
+            HikariDataSource reader = pool(properties, binder, metrics, urls.get(i));
+            reader.setPoolName("reader-" + (i + 1));
+            reader.setReadOnly(true);
+            // Fail over to the next reader quickly instead of waiting out the writer's timeout
+            reader.setConnectionTimeout(readerConnectionTimeout.toMillis());
+            readers.add(reader);
+        }
+
+        return new ReadWriteDataSource(writer, readers, new ReadWriteDataSource.Settings(
+                readYourWritesWindow,
+                afterChangeWindow,
+                downCooldown,
+                lagQuery.isBlank() ? null : lagQuery,
+                maxLag,
+                lagCheckInterval
+        ));
+    }
+
+    private static HikariDataSource pool(DataSourceProperties properties, Binder binder,
+                                         MicrometerMetricsTrackerFactory metrics, String url) {
+        HikariDataSource pool = properties.initializeDataSourceBuilder()
+                .type(HikariDataSource.class)
+                .url(url)
+                .build();
+        binder.bind(HIKARI_PREFIX, Bindable.ofInstance(pool));
+        pool.setMetricsTrackerFactory(metrics);
+        return pool;
+    }
+
+    static class ReadersConfigured implements Condition {
+        @Override
+        public boolean matches(ConditionContext context, AnnotatedTypeMetadata metadata) {
+            return StringUtils.hasText(context.getEnvironment().getProperty("datasource.readers.urls"));
+        }
+    }
+}
@@ -0,0 +1,171 @@
+package com.bhashamitra.platform.config;
+
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+/**
+ * Routing hints for {@link ReadWriteDataSource}; no-ops when no readers are configured.
+ *
+ * Replicas are for request-scoped reads. Anything built from a read and then kept - an
+ * in-memory snapshot, a registry, a second-level cache entry - would keep whatever state
+ * a lagging replica had, until its next invalidation. So:
+ * - Rebuilds run inside {@link #onWriter}: their read-only transactions use the writer.
+ * - {@link #dataChanged(String, Object)} is called whenever a cached entity (or a whole
+ *   entity type) is invalidated, here or on another instance. For
+ *   {@code datasource.readers.after-change-window} afterwards, a transaction about to
+ *   reload one of those entities into the cache moves to the writer
+ *   ({@link #reloadOnWriter}); one already reading from a replica loads it without caching
+ *   it. Every other read keeps using the replicas.
+ * - {@link #dataChanged()} (every region evicted, when invalidations were lost) sends
+ *   every read on this instance to the writer for the window.
+ */
+public final class ReadRouting {
+
+    private static final ThreadLocal<Boolean> WRITER_PINNED = new ThreadLocal<>();
+    private static final ThreadLocal<Boolean> ON_READER = new ThreadLocal<>();
+
+    // Bound the change log; entries older than the window are swept once it grows past this
+    private static final int CHANGES_SWEEP_SIZE = 10_000;
+
+    // How long a change counts as recent; 0 = no readers, nothing to track
+    private static volatile long windowNanos;
+
+    // System.nanoTime() of the last change to everything; 0 = none yet
+    private static volatile long lastChange;
+
+    // Entity name, or entity name and id, to System.nanoTime() of its last change
+    private static final Map<String, Long> changes = new ConcurrentHashMap<>();
+
+    private ReadRouting() {
+    }
+
+    /**
+     * Set by the {@link ReadWriteDataSource}; forgets the changes recorded so far.
+     */
+    static void configure(Duration afterChangeWindow) {
+        windowNanos = afterChangeWindow.toNanos();
+        lastChange = 0;
+        changes.clear();
+    }
+
+    /**
+     * Runs work with every connection it opens taken from the writer.
+     */
+    public static <T> T onWriter(Supplier<T> work) {
+        Boolean outer = WRITER_PINNED.get();
+        WRITER_PINNED.set(Boolean.TRUE);
+        try {
+            return work.get();
+        } finally {
+            if (outer == null) {
+                WRITER_PINNED.remove();
+            }
+        }
+    }
+
+    /**
+     * Everything cached may have changed.
+     */
+    public static void dataChanged() {
+        if (windowNanos == 0) {
+            return;
+        }
+        long now = System.nanoTime();
+        // 0 is reserved for "never"
+        lastChange = now != 0 ? now : 1;
+    }
+
+    /**
+     * One entity changed, or every entity of the type when id is null.
+     */
+    public static void dataChanged(String entity, Object id) {
+        long window = windowNanos;
+        if (window == 0) {
+            return;
+        }
+        long now = System.nanoTime();
+        changes.put(key(entity, id), now);
+        if (changes.size() > CHANGES_SWEEP_SIZE) {
+            changes.values().removeIf(at -> now - at >= window);
+        }
+    }
+
+    /**
+     * Whether the entity changed within the window, so a copy loaded from a replica may
+     * predate the change.
+     */
+    public static boolean changedRecently(String entity, Object id) {
+        long window = windowNanos;
+        if (window == 0) {
+            return false;
+        }
+        long now = System.nanoTime();
+        return within(lastChange, now, window)
+                || within(changes.get(entity), now, window)
+                || (id != null && within(changes.get(key(entity, id)), now, window));
+    }
+
+    /**
+     * Sends the rest of the current transaction to the writer, unless it already holds a
+     * reader connection (see {@link #onReader}). Outside a transaction reads use the writer
+     * anyway.
+     */
+    public static void reloadOnWriter() {
+        if (WRITER_PINNED.get() != null || ON_READER.get() != null
+                || !TransactionSynchronizationManager.isSynchronizationActive()) {
+            return;
+        }
+        WRITER_PINNED.set(Boolean.TRUE);
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                WRITER_PINNED.remove();
+            }
+        });
+    }
+
+    /**
+     * Whether the current transaction reads from a replica.
+     */
+    public static boolean onReader() {
+        return ON_READER.get() != null;
+    }
+
+    static boolean isWriterPinned() {
+        return WRITER_PINNED.get() != null;
+    }
+
+    static boolean everythingChangedRecently() {
+        long window = windowNanos;
+        return window != 0 && within(lastChange, System.nanoTime(), window);
+    }
+
+    /**
+     * The current transaction got its connection from a reader.
+     */
+    static void readerTaken() {
+        if (ON_READER.get() != null || !TransactionSynchronizationManager.isSynchronizationActive()) {
+            return;
+        }
+        ON_READER.set(Boolean.TRUE);
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                ON_READER.remove();
+            }
+        });
+    }
+
+    private static boolean within(Long at, long now, long window) {
+        return at != null && at != 0 && now - at < window;
+    }
+
+    private static String key(String entity, Object id) {
+        return id == null ? entity : entity + '#' + id;
+    }
+}
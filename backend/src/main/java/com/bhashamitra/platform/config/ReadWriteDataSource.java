@@ -0,0 +1,236 @@
+package com.bhashamitra.platform.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.jdbc.datasource.AbstractDataSource;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.security.authentication.AnonymousAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.io.Closeable;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * The application DataSource when read replicas are configured: read-only transactions
+ * ({@code @Transactional(readOnly = true)}) run on a reader, everything else on the writer.
+ *
+ * Built on {@link LazyConnectionDataSourceProxy}: the physical connection is fetched on
+ * the first statement, after the transaction manager has marked it read-only, and
+ * read-only connections come from the reader router below. Outside a transaction, and
+ * inside read-write ones, every statement goes to the writer.
+ *
+ * Reader choice, per connection:
+ * - Pinned to the writer: cache and snapshot rebuilds ({@link ReadRouting#onWriter}),
+ *   transactions about to reload an entity invalidated within {@code afterChangeWindow}
+ *   ({@link ReadRouting#reloadOnWriter}), and every read for that window after the whole
+ *   cache was dropped. Nothing kept in memory is loaded from a replica that has not caught
+ *   up with the change; the window should exceed the replicas' lag.
+ * - Read-your-writes: a user whose read-write transaction committed within
+ *   {@code readYourWritesWindow} reads from the writer, so an editor sees what they
+ *   just saved even while the replicas catch up.
+ * - Round-robin over readers that are up. A reader whose pool fails to hand out a
+ *   connection is skipped for {@code downCooldown}.
+ * - With a lag query configured, each reader reports its replication lag at most once
+ *   per {@code lagCheckInterval}; a reader behind by more than {@code maxLag} is skipped
+ *   until a later check finds it caught up.
+ * - No usable reader: the writer.
+ */
+final class ReadWriteDataSource extends LazyConnectionDataSourceProxy implements Closeable {
+
+    private static final Logger log = LoggerFactory.getLogger(ReadWriteDataSource.class);
+
+    // Bound the read-your-writes map; stale entries are swept once it grows past this
+    private static final int RECENT_WRITERS_SWEEP_SIZE = 10_000;
+
+    record Settings(Duration readYourWritesWindow, Duration afterChangeWindow, Duration downCooldown,
+                    String lagQuery, Duration maxLag, Duration lagCheckInterval) {}
+
+    private final HikariDataSource writer;
+    private final List<Reader> readers;
+    private final Settings settings;
+
+    private final Map<String, Long> lastCommitByActor = new ConcurrentHashMap<>();
+    private final AtomicInteger nextReader = new AtomicInteger();
+
+    ReadWriteDataSource(HikariDataSource writer, List<HikariDataSource> readers, Settings settings) {
+        this.writer = writer;
+        this.settings = settings;
+        this.readers = readers.stream().map(Reader::new).toList();
+        ReadRouting.configure(settings.afterChangeWindow());
+        setTargetDataSource(new WriterDataSource());
+        setReadOnlyDataSource(new ReaderRouter());
+    }
+
+    @Override
+    public void close() {
+        for (Reader r : readers) {
+            r.pool.close();
+        }
+        writer.close();
+    }
+
+    // =========================================================
+    // Writer side: remember who committed, for read-your-writes
+    // =========================================================
+
+    private final class WriterDataSource extends DelegatingDataSource {
+
+        WriterDataSource() {
+            super(writer);
+        }
+
+        @Override
+        public Connection getConnection() throws SQLException {
+            Connection con = super.getConnection();
+            String actor = currentActor();
+            if (actor != null
+                    && TransactionSynchronizationManager.isSynchronizationActive()
+                    && !TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+                TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                    @Override
+                    public void afterCommit() {
+                        recordCommit(actor);
+                    }
+                });
+            }
+            return con;
+        }
+    }
+
+    private void recordCommit(String actor) {
+        long now = System.currentTimeMillis();
+        lastCommitByActor.put(actor, now);
+        if (lastCommitByActor.size() > RECENT_WRITERS_SWEEP_SIZE) {
+            long cutoff = now - settings.readYourWritesWindow().toMillis();
+            lastCommitByActor.values().removeIf(t -> t < cutoff);
+        }
+    }
+
+    private boolean committedRecently(String actor) {
+        Long at = lastCommitByActor.get(actor);
+        return at != null && System.currentTimeMillis() - at < settings.readYourWritesWindow().toMillis();
+    }
+
+    private static String currentActor() {
+        Authentication auth = SecurityContextHolder.getContext().getAuthentication();
+        if (auth == null || !auth.isAuthenticated() || auth instanceof AnonymousAuthenticationToken) {
+            return null;
+        }
+        return auth.getName();
+    }
+
+    // =========================================================
+    // Reader side
+    // =========================================================
+
+    private final class ReaderRouter extends AbstractDataSource {
+
+        @Override
+        public Connection getConnection() throws SQLException {
+            if (ReadRouting.isWriterPinned() || ReadRouting.everythingChangedRecently()) {
+                return writer.getConnection();
+            }
+            String actor = currentActor();
+            if (actor != null && committedRecently(actor)) {
+                return writer.getConnection();
+            }
+
+            int n = readers.size();
+            int start = Math.floorMod(nextReader.getAndIncrement(), n);
+            for (int i = 0; i < n; i++) {
+                Connection con = readers.get((start + i) % n).tryConnection();
+                if (con != null) {
+                    ReadRouting.readerTaken();
+                    return con;
+                }
+            }
+            return writer.getConnection();
+        }
+
+        @Override
+        public Connection getConnection(String username, String password) throws SQLException {
+            throw new UnsupportedOperationException("Readers use the pool's credentials");
+        }
+    }
+
+    private final class Reader {
+
+        private final HikariDataSource pool;
+        // Until when the reader is skipped after a failed connection attempt
+        private volatile long downUntil;
+        private volatile boolean lagChecks;
+        private volatile boolean lagging;
+        private volatile long nextLagCheck;
+
+        Reader(HikariDataSource pool) {
+            this.pool = pool;
+            this.lagChecks = settings.lagQuery() != null;
+        }
+
+        Connection tryConnection() {
+            long now = System.currentTimeMillis();
+            if (now < downUntil || (lagging && now < nextLagCheck)) {
+                return null;
+            }
+            Connection con;
+            try {
+                con = pool.getConnection();
+            } catch (SQLException e) {
+                downUntil = now + settings.downCooldown().toMillis();
+                log.warn("Reader {} unavailable, sending its reads to the writer for {}: {}",
+                        pool.getPoolName(), settings.downCooldown(), e.getMessage());
+                return null;
+            }
+            if (lagChecks && now >= nextLagCheck && !checkLag(con, now)) {
+                closeQuietly(con);
+                return null;
+            }
+            return con;
+        }
+
+        private boolean checkLag(Connection con, long now) {
+            nextLagCheck = now + settings.lagCheckInterval().toMillis();
+            long lagMillis;
+            try (Statement st = con.createStatement(); ResultSet rs = st.executeQuery(settings.lagQuery())) {
+                lagMillis = rs.next() ? rs.getLong(1) : 0;
+            } catch (SQLException e) {
+                lagChecks = false;
+                lagging = false;
+                log.warn("Replica lag query failed on {}; lag checks disabled for it: {}",
+                        pool.getPoolName(), e.getMessage());
+                return true;
+            }
+            boolean behind = lagMillis > settings.maxLag().toMillis();
+            if (behind != lagging) {
+                if (behind) {
+                    log.warn("Reader {} is {} ms behind the writer; skipping it", pool.getPoolName(), lagMillis);
+                } else {
+                    log.info("Reader {} caught up ({} ms behind)", pool.getPoolName(), lagMillis);
+                }
+            }
+            lagging = behind;
+            return !behind;
+        }
+    }
+
+    private static void closeQuietly(Connection con) {
+        try {
+            con.close();
+        } catch (SQLException ignored) {
+            // Returning a connection to the pool; nothing useful to do on failure
+        }
+    }
+}
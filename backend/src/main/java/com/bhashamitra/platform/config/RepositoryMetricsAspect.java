@@ -0,0 +1,107 @@
+package com.bhashamitra.platform.config;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.aspectj.lang.reflect.MethodSignature;
+import org.springframework.data.domain.Slice;
+import org.springframework.stereotype.Component;
+import org.springframework.util.ClassUtils;
+
+import java.util.Collection;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.BaseStream;
+
+/**
+ * Times every call into a repository, Spring Data and plain-JDBC alike, as
+ * {@code repository.query} (tags: repository, method, exception) and records how many rows
+ * a read returned as {@code repository.query.rows}.
+ *
+ * Rows are counted from the return value: collections and pages by size, an
+ * {@code Optional} or single entity as 0 or 1. Counts, flags, streams and void writes
+ * are timed but not counted. Spring Boot's own {@code spring.data.repository.invocations}
+ * timer is switched off in application.properties, as this one covers the same calls.
+ */
+@Aspect
+@Component
+public class RepositoryMetricsAspect {
+
+    private static final String REPOSITORY_PACKAGE = "com.bhashamitra.platform.repositories.";
+
+    private final MeterRegistry registry;
+    private final Map<Class<?>, String> names = new ConcurrentHashMap<>();
+
+    public RepositoryMetricsAspect(MeterRegistry registry) {
+        this.registry = registry;
+    }
+
+    @Around("target(org.springframework.data.repository.Repository) "
+            + "|| @within(org.springframework.stereotype.Repository)")
+    public Object time(ProceedingJoinPoint pjp) throws Throwable {
+        String repository = repositoryName(pjp.getTarget());
+        MethodSignature signature = (MethodSignature) pjp.getSignature();
+        String method = signature.getName();
+
+        long start = System.nanoTime();
+        String exception = "none";
+        try {
+            Object result = pjp.proceed();
+            long rows = signature.getReturnType() == void.class ? -1 : rows(result);
+            if (rows >= 0) {
+                DistributionSummary.builder("repository.query.rows")
+                        .description("Rows returned by a repository read")
+                        .tag("repository", repository)
+                        .tag("method", method)
+                        .register(registry)
+                        .record(rows);
+            }
+            return result;
+        } catch (Throwable t) {
+            exception = t.getClass().getSimpleName();
+            throw t;
+        } finally {
+            Timer.builder("repository.query")
+                    .description("Repository call latency")
+                    .tag("repository", repository)
+                    .tag("method", method)
+                    .tag("exception", exception)
+                    .register(registry)
+                    .record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    /**
+     * Rows carried by a return value, or -1 when it is not a row result.
+     */
+    static long rows(Object result) {
+        if (result == null) return 0;
+        if (result instanceof Collection<?> c) return c.size();
+        if (result instanceof Slice<?> s) return s.getNumberOfElements();
+        if (result instanceof Optional<?> o) return o.isPresent() ? 1 : 0;
+        if (result instanceof Number || result instanceof Boolean
+                || result instanceof Iterable<?> || result instanceof BaseStream<?, ?>) {
+            return -1;
+        }
+        return 1;
+    }
+
+    /**
+     * The application's repository interface behind a Spring Data proxy, else the class.
+     */
+    private String repositoryName(Object target) {
+        return names.computeIfAbsent(target.getClass(), type -> {
+            for (Class<?> i : ClassUtils.getAllInterfacesForClassAsSet(type)) {
+                if (i.getName().startsWith(REPOSITORY_PACKAGE)) {
+                    return i.getSimpleName();
+                }
+            }
+            return ClassUtils.getUserClass(type).getSimpleName();
+        });
+    }
+}
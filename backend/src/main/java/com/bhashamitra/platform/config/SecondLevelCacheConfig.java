@@ -0,0 +1,83 @@
+package com.bhashamitra.platform.config;
+
+import org.ehcache.config.CacheConfiguration;
+import org.ehcache.config.builders.CacheConfigurationBuilder;
+import org.ehcache.config.builders.ConfigurationBuilder;
+import org.ehcache.config.builders.ExpiryPolicyBuilder;
+import org.ehcache.config.builders.ResourcePoolsBuilder;
+import org.ehcache.jsr107.EhcacheCachingProvider;
+import org.hibernate.cache.jcache.ConfigSettings;
+import org.springframework.boot.context.properties.bind.Bindable;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.boot.hibernate.autoconfigure.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+
+import javax.cache.CacheManager;
+import javax.cache.Caching;
+import java.net.URI;
+import java.time.Duration;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Regions of the Hibernate second-level cache, held on heap by Ehcache behind JCache.
+ *
+ * Every region is declared under {@code cache.regions.<name>} with a {@code max-entries}
+ * bound (beyond it Ehcache evicts, roughly least recently used first) and an optional
+ * {@code time-to-live}. Hibernate is told to fail on a region that is not declared, so
+ * nothing is ever cached without a bound. The regions are named in the {@code @Cache}
+ * annotations on the entities; the query cache is off. Whether the cache is used at all is
+ * {@code hibernate.cache.use_second_level_cache}.
+ */
+@Configuration
+public class SecondLevelCacheConfig {
+
+    private static final String REGIONS_PREFIX = "cache.regions";
+
+    @Bean(destroyMethod = "close")
+    CacheManager hibernateCacheManager(Environment environment) {
+        Map<String, Region> regions = Binder.get(environment)
+                .bind(REGIONS_PREFIX, Bindable.mapOf(String.class, Region.class))
+                .orElse(Map.of());
+
+        ConfigurationBuilder config = ConfigurationBuilder.newConfigurationBuilder();
+        for (Map.Entry<String, Region> region : regions.entrySet()) {
+            config = config.withCache(region.getKey(), region.getValue().toEhcache(region.getKey()));
+        }
+
+        // A URI of its own, so each application context gets a separate manager
+        EhcacheCachingProvider provider = (EhcacheCachingProvider) Caching.getCachingProvider(
+                EhcacheCachingProvider.class.getName(), SecondLevelCacheConfig.class.getClassLoader());
+        return provider.getCacheManager(URI.create("urn:bhashamitra:second-level-cache:" + UUID.randomUUID()),
+                config.build());
+    }
+
+    @Bean
+    HibernatePropertiesCustomizer secondLevelCacheProperties(CacheManager hibernateCacheManager) {
+        return properties -> {
+            properties.put("hibernate.cache.region.factory_class", ConfigSettings.SIMPLE_FACTORY_NAME);
+            properties.put(ConfigSettings.CACHE_MANAGER, hibernateCacheManager);
+            properties.put(ConfigSettings.MISSING_CACHE_STRATEGY, "fail");
+        };
+    }
+
+    /**
+     * One {@code cache.regions.<name>} entry; a null time-to-live keeps entries until evicted.
+     */
+    record Region(long maxEntries, Duration timeToLive) {
+
+        CacheConfiguration<Object, Object> toEhcache(String name) {
+            if (maxEntries <= 0) {
+                throw new IllegalStateException("Cache region " + name + " needs max-entries > 0");
+            }
+            return CacheConfigurationBuilder.newCacheConfigurationBuilder(Object.class, Object.class,
+                            ResourcePoolsBuilder.heap(maxEntries))
+                    .withExpiry(timeToLive == null
+                            ? ExpiryPolicyBuilder.noExpiration()
+                            : ExpiryPolicyBuilder.timeToLiveExpiration(timeToLive))
+                    .build();
+        }
+    }
+}
@@ -1,14 +1,54 @@
 package com.bhashamitra.platform.config;
 
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.core.annotation.Order;
+import org.springframework.security.authentication.ProviderManager;
+import org.springframework.security.authentication.dao.DaoAuthenticationProvider;
 import org.springframework.security.config.Customizer;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
+import org.springframework.security.config.http.SessionCreationPolicy;
+import org.springframework.security.core.userdetails.User;
+import org.springframework.security.provisioning.InMemoryUserDetailsManager;
 import org.springframework.security.web.SecurityFilterChain;
 
 @Configuration
 public class SecurityConfig {
 
+    /**
+     * Prometheus scrapes /actuator/prometheus with HTTP Basic as metrics.scrape.username /
+     * metrics.scrape.password, outside the Cognito login. Without a password the endpoint
+     * is closed. The password is plaintext unless metrics.scrape.password-encoded is set,
+     * in which case it is used as given and must carry its encoder id ({bcrypt}...).
+     */
+    @Bean
+    @Order(1)
+    SecurityFilterChain metricsScrapeFilterChain(HttpSecurity http,
+                                                 @Value("${metrics.scrape.username:prometheus}") String username,
+                                                 @Value("${metrics.scrape.password:}") String password,
+                                                 @Value("${metrics.scrape.password-encoded:false}") boolean passwordEncoded) throws Exception {
+        http
+                .securityMatcher("/actuator/prometheus")
+                .csrf(csrf -> csrf.disable())
+                .sessionManagement(session -> session.sessionCreationPolicy(SessionCreationPolicy.STATELESS))
+                .httpBasic(Customizer.withDefaults());
+
+        if (password.isBlank()) {
+            http.authorizeHttpRequests(auth -> auth.anyRequest().denyAll());
+        } else {
+            InMemoryUserDetailsManager scraper = new InMemoryUserDetailsManager(User.withUsername(username)
+                    .password(passwordEncoded ? password : "{noop}" + password)
+                    .roles("metrics")
+                    .build());
+            http
+                    .authenticationManager(new ProviderManager(new DaoAuthenticationProvider(scraper)))
+                    .authorizeHttpRequests(auth -> auth.anyRequest().hasRole("metrics"));
+        }
+
+        return http.build();
+    }
+
     @Bean
     SecurityFilterChain securityFilterChain(HttpSecurity http,
                                             CognitoLogoutSuccessHandler logoutSuccessHandler) throws Exception {
@@ -0,0 +1,312 @@
+package com.bhashamitra.platform.config;
+
+import jakarta.servlet.http.HttpServletRequest;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.core.io.AbstractResource;
+import org.springframework.core.io.Resource;
+import org.springframework.core.io.support.PathMatchingResourcePatternResolver;
+import org.springframework.http.HttpHeaders;
+import org.springframework.web.servlet.resource.HttpResource;
+import org.springframework.web.servlet.resource.ResourceResolver;
+import org.springframework.web.servlet.resource.ResourceResolverChain;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.zip.CRC32;
+
+/**
+ * In-memory index of the React bundle under {@code classpath:/static/}, built once at
+ * startup, with the {@code .br} / {@code .gz} siblings written by the frontend build
+ * (frontend/scripts/precompress.mjs) attached to the file they compress.
+ *
+ * Serving a file is a map lookup plus an Accept-Encoding check (q-values honoured, q=0
+ * refuses a coding); nothing walks the classpath or inflates a jar entry per request.
+ * Files are held as byte arrays up to {@code preloadMaxBytes} in total (compressed
+ * variants first, they are what browsers ask for); the rest are read from the classpath
+ * on demand.
+ *
+ * Requests for extension-less paths that are not API or actuator routes resolve straight
+ * to index.html, so client-side routes survive a reload.
+ */
+final class StaticBundle {
+
+    private static final Logger log = LoggerFactory.getLogger(StaticBundle.class);
+
+    static final String LOCATION = "classpath:static/";
+    private static final String INDEX = "index.html";
+    private static final List<String> NON_SPA_PREFIXES = List.of("api/", "actuator/", "login/", "oauth2/");
+
+    private final Map<String, Entry> entries;
+    private final Entry index;
+
+    private StaticBundle(Map<String, Entry> entries) {
+        this.entries = Map.copyOf(entries);
+        this.index = entries.get(INDEX);
+    }
+
+    static StaticBundle load(long preloadMaxBytes) throws IOException {
+        PathMatchingResourcePatternResolver scanner = new PathMatchingResourcePatternResolver();
+        Resource root = scanner.getResource(LOCATION);
+        if (!root.exists()) {
+            log.info("No static bundle on the classpath; serving API only");
+            return new StaticBundle(Map.of());
+        }
+        String rootUrl = root.getURL().toString();
+
+        Map<String, Resource> files = new HashMap<>();
+        for (Resource r : scanner.getResources(LOCATION + "**/*")) {
+            String url = r.getURL().toString();
+            if (url.endsWith("/") || !url.startsWith(rootUrl) || !r.isReadable()) {
+                continue;
+            }
+            files.put(url.substring(rootUrl.length()), r);
+        }
+
+        Budget budget = new Budget(preloadMaxBytes);
+        Map<String, Entry> entries = new HashMap<>();
+        // Compressed variants claim the preload budget before identity files
+        for (String path : files.keySet()) {
+            if (path.endsWith(".br") || path.endsWith(".gz")) {
+                String base = path.substring(0, path.length() - 3);
+                if (files.containsKey(base)) {
+                    continue;
+                }
+            }
+            Resource identity = files.get(path);
+            Variant br = variant(files.get(path + ".br"), filename(path), "br", budget);
+            Variant gz = variant(files.get(path + ".gz"), filename(path), "gzip", budget);
+            entries.put(path, new Entry(path, identity, br, gz));
+        }
+        for (Entry e : entries.values()) {
+            e.identity = variant(e.identityResource, filename(e.path), null, budget);
+        }
+
+        long precompressed = entries.values().stream().filter(e -> e.br != null || e.gz != null).count();
+        log.info("Indexed static bundle: {} files ({} precompressed), {} KiB held in memory",
+                entries.size(), precompressed, budget.used / 1024);
+        return new StaticBundle(entries);
+    }
+
+    /**
+     * Resolver for one resource handler. {@code prefix} is the handler's path under
+     * static/ (e.g. "assets/"); only the root handler should do the SPA fallback.
+     */
+    ResourceResolver resolver(String prefix, boolean spaFallback) {
+        return new ResourceResolver() {
+            @Override
+            public Resource resolveResource(HttpServletRequest request, String requestPath,
+                                            List<? extends Resource> locations, ResourceResolverChain chain) {
+                Entry entry = entries.get(prefix + requestPath);
+                if (entry == null && spaFallback && isSpaRoute(requestPath)) {
+                    entry = index;
+                }
+                // Deliberately not calling the chain: a miss here is a miss on the classpath too
+                return entry != null ? entry.select(request) : null;
+            }
+
+            @Override
+            public String resolveUrlPath(String resourcePath, List<? extends Resource> locations, ResourceResolverChain chain) {
+                return entries.containsKey(prefix + resourcePath) ? resourcePath : null;
+            }
+        };
+    }
+
+    static String etagOf(Resource resource) {
+        return resource instanceof BundleResource b ? b.variant.etag() : null;
+    }
+
+    private static boolean isSpaRoute(String path) {
+        if (path.lastIndexOf('.') > path.lastIndexOf('/')) {
+            return false;
+        }
+        for (String prefix : NON_SPA_PREFIXES) {
+            if (path.startsWith(prefix) || path.equals(prefix.substring(0, prefix.length() - 1))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * The quality the Accept-Encoding header gives a content coding (RFC 9110 12.5.3):
+     * its own entry, else a {@code *} entry, else 0. {@code x-gzip} counts as gzip; a
+     * malformed q-value counts as 0, so the file goes out uncompressed.
+     */
+    static double qValue(String acceptEncoding, String coding) {
+        double own = -1;
+        double wildcard = -1;
+        for (String element : acceptEncoding.split(",")) {
+            String[] parts = element.split(";");
+            String name = parts[0].trim().toLowerCase(Locale.ROOT);
+            if (name.equals("x-gzip")) {
+                name = "gzip";
+            }
+            if (!name.equals(coding) && !name.equals("*")) {
+                continue;
+            }
+            double q = 1;
+            for (int i = 1; i < parts.length; i++) {
+                String param = parts[i].trim();
+                if (param.length() > 1 && (param.charAt(0) == 'q' || param.charAt(0) == 'Q') && param.charAt(1) == '=') {
+                    q = parseQ(param.substring(2).trim());
+                }
+            }
+            if (name.equals(coding)) {
+                own = Math.max(own, q);
+            } else {
+                wildcard = Math.max(wildcard, q);
+            }
+        }
+        return own >= 0 ? own : Math.max(wildcard, 0);
+    }
+
+    private static double parseQ(String value) {
+        try {
+            double q = Double.parseDouble(value);
+            return q >= 0 && q <= 1 ? q : 0;
+        } catch (NumberFormatException e) {
+            return 0;
+        }
+    }
+
+    private static String filename(String path) {
+        return path.substring(path.lastIndexOf('/') + 1);
+    }
+
+    private static Variant variant(Resource r, String filename, String encoding, Budget budget) throws IOException {
+        if (r == null) {
+            return null;
+        }
+        byte[] bytes;
+        try (InputStream in = r.getInputStream()) {
+            bytes = in.readAllBytes();
+        }
+        CRC32 crc = new CRC32();
+        crc.update(bytes);
+        String etag = "\"" + Long.toHexString(crc.getValue()) + "-" + Integer.toHexString(bytes.length)
+                + (encoding != null ? "-" + encoding : "") + "\"";
+        return new Variant(r, budget.claim(bytes.length) ? bytes : null, bytes.length,
+                filename, encoding, r.lastModified(), etag);
+    }
+
+    // =========================================================
+    // Index entries
+    // =========================================================
+
+    private static final class Budget {
+        private final long max;
+        private long used;
+
+        Budget(long max) {
+            this.max = max;
+        }
+
+        boolean claim(long bytes) {
+            if (used + bytes > max) {
+                return false;
+            }
+            used += bytes;
+            return true;
+        }
+    }
+
+    private record Variant(Resource source, byte[] bytes, long length, String filename,
+                           String encoding, long lastModified, String etag) {}
+
+    private static final class Entry {
+        private final String path;
+        private final Resource identityResource;
+        private final Variant br;
+        private final Variant gz;
+        private Variant identity;
+
+        Entry(String path, Resource identityResource, Variant br, Variant gz) {
+            this.path = path;
+            this.identityResource = identityResource;
+            this.br = br;
+            this.gz = gz;
+        }
+
+        Resource select(HttpServletRequest request) {
+            boolean negotiated = br != null || gz != null;
+            if (negotiated) {
+                String accept = request.getHeader(HttpHeaders.ACCEPT_ENCODING);
+                if (accept != null) {
+                    double brQ = br != null ? qValue(accept, "br") : 0;
+                    double gzQ = gz != null ? qValue(accept, "gzip") : 0;
+                    // Ties go to brotli, the smaller file
+                    if (brQ > 0 && brQ >= gzQ) {
+                        return new BundleResource(br, true);
+                    }
+                    if (gzQ > 0) {
+                        return new BundleResource(gz, true);
+                    }
+                }
+            }
+            return new BundleResource(identity, negotiated);
+        }
+    }
+
+    /**
+     * One served variant. Reports the original file name (so the content type is that of
+     * the uncompressed file) and adds Content-Encoding / Vary through {@link HttpResource}.
+     */
+    private static final class BundleResource extends AbstractResource implements HttpResource {
+
+        private final Variant variant;
+        private final boolean vary;
+
+        BundleResource(Variant variant, boolean vary) {
+            this.variant = variant;
+            this.vary = vary;
+        }
+
+        @Override
+        public InputStream getInputStream() throws IOException {
+            return variant.bytes() != null ? new ByteArrayInputStream(variant.bytes()) : variant.source().getInputStream();
+        }
+
+        @Override
+        public boolean exists() {
+            return true;
+        }
+
+        @Override
+        public long contentLength() {
+            return variant.length();
+        }
+
+        @Override
+        public long lastModified() {
+            return variant.lastModified();
+        }
+
+        @Override
+        public String getFilename() {
+            return variant.filename();
+        }
+
+        @Override
+        public String getDescription() {
+            return "static bundle file [" + variant.filename() + (variant.encoding() != null ? ", " + variant.encoding() : "") + "]";
+        }
+
+        @Override
+        public HttpHeaders getResponseHeaders() {
+            HttpHeaders headers = new HttpHeaders();
+            if (variant.encoding() != null) {
+                headers.set(HttpHeaders.CONTENT_ENCODING, variant.encoding());
+            }
+            if (vary) {
+                headers.set(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+            }
+            return headers;
+        }
+    }
+}
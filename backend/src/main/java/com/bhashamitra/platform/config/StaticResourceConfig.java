@@ -0,0 +1,51 @@
+package com.bhashamitra.platform.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.CacheControl;
+import org.springframework.util.unit.DataSize;
+import org.springframework.web.servlet.config.annotation.ResourceHandlerRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.time.Duration;
+
+/**
+ * Serves the embedded React bundle from a {@link StaticBundle} instead of Spring Boot's
+ * default static resource handler.
+ *
+ * - /assets/** holds Vite's content-hashed files: cached for a year and marked immutable.
+ * - Everything else (index.html, favicon, SPA routes) is revalidated on every use
+ *   (no-cache) against a content ETag, so a deploy is picked up immediately.
+ */
+@Configuration
+public class StaticResourceConfig implements WebMvcConfigurer {
+
+    private final StaticBundle bundle;
+
+    public StaticResourceConfig(@Value("${web.static.preload-max-size:16MB}") DataSize preloadMaxSize) {
+        try {
+            this.bundle = StaticBundle.load(preloadMaxSize.toBytes());
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not index the static bundle", e);
+        }
+    }
+
+    @Override
+    public void addResourceHandlers(ResourceHandlerRegistry registry) {
+        registry.addResourceHandler("/assets/**")
+                .addResourceLocations(StaticBundle.LOCATION + "assets/")
+                .setCacheControl(CacheControl.maxAge(Duration.ofDays(365)).cachePublic().immutable())
+                .setEtagGenerator(StaticBundle::etagOf)
+                .resourceChain(false)
+                .addResolver(bundle.resolver("assets/", false));
+
+        registry.addResourceHandler("/**")
+                .addResourceLocations(StaticBundle.LOCATION)
+                .setCacheControl(CacheControl.noCache().cachePublic())
+                .setEtagGenerator(StaticBundle::etagOf)
+                .resourceChain(false)
+                .addResolver(bundle.resolver("", true));
+    }
+}
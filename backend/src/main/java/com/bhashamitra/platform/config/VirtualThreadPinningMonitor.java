@@ -0,0 +1,141 @@
+package com.bhashamitra.platform.config;
+
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordedFrame;
+import jdk.jfr.consumer.RecordedStackTrace;
+import jdk.jfr.consumer.RecordingStream;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Reports virtual threads that stay pinned to their carrier thread, when request handling
+ * runs on virtual threads ({@code spring.threads.virtual.enabled=true}).
+ *
+ * On Java 21 a virtual thread that blocks inside a {@code synchronized} block or a native
+ * frame keeps its carrier; with only as many carriers as CPUs, a few such waits (a slow
+ * JDBC call under a monitor, say) stall every request. The JVM records each pin longer
+ * than {@code threads.virtual.pinning-threshold} as a JFR {@code jdk.VirtualThreadPinned}
+ * event; this streams those events in-process and logs them with their stack, once per
+ * call site per {@code threads.virtual.pinning-log-interval} with a count of the rest.
+ */
+@Component
+@ConditionalOnProperty(name = "spring.threads.virtual.enabled", havingValue = "true")
+public class VirtualThreadPinningMonitor implements SmartLifecycle {
+
+    private static final Logger log = LoggerFactory.getLogger(VirtualThreadPinningMonitor.class);
+
+    private static final String PINNED_EVENT = "jdk.VirtualThreadPinned";
+    private static final int LOGGED_FRAMES = 15;
+
+    private final Duration threshold;
+    private final Duration logInterval;
+    private final Map<String, Site> sites = new ConcurrentHashMap<>();
+
+    private volatile RecordingStream stream;
+
+    public VirtualThreadPinningMonitor(
+            @Value("${threads.virtual.pinning-threshold:PT0.02S}") Duration threshold,
+            @Value("${threads.virtual.pinning-log-interval:PT1M}") Duration logInterval
+    ) {
+        this.threshold = threshold;
+        this.logInterval = logInterval;
+    }
+
+    @Override
+    public void start() {
+        RecordingStream rs;
+        try {
+            rs = new RecordingStream();
+        } catch (IllegalStateException | SecurityException e) {
+            log.warn("JFR unavailable; virtual thread pinning is not monitored: {}", e.getMessage());
+            return;
+        }
+        rs.enable(PINNED_EVENT).withThreshold(threshold).withStackTrace();
+        rs.onEvent(PINNED_EVENT, this::onPinned);
+        rs.startAsync();
+        stream = rs;
+        log.info("Watching for virtual threads pinned longer than {}", threshold);
+    }
+
+    @Override
+    public void stop() {
+        RecordingStream rs = stream;
+        stream = null;
+        if (rs != null) {
+            rs.close();
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return stream != null;
+    }
+
+    private void onPinned(RecordedEvent event) {
+        String site = site(event.getStackTrace());
+
+        long now = System.currentTimeMillis();
+        Site s = sites.computeIfAbsent(site, k -> new Site());
+        s.suppressed.incrementAndGet();
+        long last = s.lastLogged.get();
+        if (now - last < logInterval.toMillis() || !s.lastLogged.compareAndSet(last, now)) {
+            return;
+        }
+
+        long count = s.suppressed.getAndSet(0);
+        log.warn("Virtual thread pinned for {} ms ({} time(s) at this site since last report){}",
+                event.getDuration().toMillis(), count, stack(event.getStackTrace()));
+    }
+
+    /**
+     * The innermost frame outside the JDK (the driver or application code that blocked);
+     * the top frames are the same parking code for every pin.
+     */
+    private static String site(RecordedStackTrace trace) {
+        if (trace == null || trace.getFrames().isEmpty()) {
+            return "unknown";
+        }
+        for (RecordedFrame f : trace.getFrames()) {
+            String type = f.getMethod().getType().getName();
+            if (!type.startsWith("java.") && !type.startsWith("jdk.") && !type.startsWith("sun.")) {
+                return frame(f);
+            }
+        }
+        return frame(trace.getFrames().get(0));
+    }
+
+    private static String stack(RecordedStackTrace trace) {
+        if (trace == null) {
+            return "";
+        }
+        StringBuilder sb = new StringBuilder();
+        List<RecordedFrame> frames = trace.getFrames();
+        for (int i = 0; i < frames.size() && i < LOGGED_FRAMES; i++) {
+            sb.append("\n\tat ").append(frame(frames.get(i)));
+        }
+        if (frames.size() > LOGGED_FRAMES || trace.isTruncated()) {
+            sb.append("\n\t...");
+        }
+        return sb.toString();
+    }
+
+    private static String frame(RecordedFrame f) {
+        return f.getMethod().getType().getName() + "." + f.getMethod().getName() + ":" + f.getLineNumber();
+    }
+
+    private static final class Site {
+        // Starts "long ago" so the first pin at a site is logged immediately
+        private final AtomicLong lastLogged = new AtomicLong(Long.MIN_VALUE / 2);
+        private final AtomicLong suppressed = new AtomicLong();
+    }
+}
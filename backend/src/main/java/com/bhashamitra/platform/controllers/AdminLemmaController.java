@@ -5,7 +5,9 @@ import com.bhashamitra.platform.controllers.dto.LemmaDto;
 import com.bhashamitra.platform.controllers.dto.UpdateLemmaRequest;
 import com.bhashamitra.platform.models.Lemma;
 import com.bhashamitra.platform.models.LemmaStatus;
+import com.bhashamitra.platform.repositories.LemmaRepository.LemmaView;
 import com.bhashamitra.platform.services.LemmaService;
+import com.bhashamitra.platform.services.LemmaSummaryReconciler;
 import jakarta.validation.Valid;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.Authentication;
@@ -20,9 +22,11 @@ import static com.bhashamitra.platform.security.ActorUtil.actor;
 public class AdminLemmaController {
 
     private final LemmaService lemmaService;
+    private final LemmaSummaryReconciler lemmaSummaryReconciler;
 
-    public AdminLemmaController(LemmaService lemmaService) {
+    public AdminLemmaController(LemmaService lemmaService, LemmaSummaryReconciler lemmaSummaryReconciler) {
         this.lemmaService = lemmaService;
+        this.lemmaSummaryReconciler = lemmaSummaryReconciler;
     }
 
     // --------------------
@@ -56,6 +60,27 @@ public class AdminLemmaController {
         return lemmas.stream().map(AdminLemmaController::toDto).toList();
     }
 
+    // Cross-script search (all statuses unless status is given)
+    @GetMapping("/search")
+    public ResponseEntity<List<LemmaDto>> search(
+            @RequestParam String language,
+            @RequestParam String q,
+            @RequestParam(required = false) String status,
+            @RequestParam(defaultValue = "20") int limit
+    ) {
+        try {
+            LemmaStatus st = (status == null || status.isBlank())
+                    ? null
+                    : LemmaStatus.valueOf(status.trim().toUpperCase());
+            List<LemmaDto> out = lemmaService.searchByLatin(language, q, st, Math.min(limit, 100)).stream()
+                    .map(AdminLemmaController::toDto)
+                    .toList();
+            return ResponseEntity.ok(out);
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
+        }
+    }
+
     // --------------------
     // CREATE
     // --------------------
@@ -161,6 +186,16 @@ public class AdminLemmaController {
         }
     }
 
+    // --------------------
+    // Maintenance
+    // --------------------
+
+    // Recount every lemma from the source tables; returns the number of lemmas recounted
+    @PostMapping("/summaries/reconcile")
+    public ResponseEntity<Integer> reconcileSummaries() {
+        return ResponseEntity.ok(lemmaSummaryReconciler.reconcile());
+    }
+
     // --------------------
     // Helpers
     // --------------------
@@ -176,4 +211,16 @@ public class AdminLemmaController {
                 l.getStatus() != null ? l.getStatus().name() : null
         );
     }
+
+    private static LemmaDto toDto(LemmaView l) {
+        return new LemmaDto(
+                l.id(),
+                l.language(),
+                l.lemmaNative(),
+                l.lemmaLatin(),
+                l.pos(),
+                l.notes(),
+                l.status() != null ? l.status().name() : null
+        );
+    }
 }
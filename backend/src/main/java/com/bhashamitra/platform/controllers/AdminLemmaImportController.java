@@ -0,0 +1,78 @@
+package com.bhashamitra.platform.controllers;
+
+import com.bhashamitra.platform.controllers.dto.LemmaImportErrorDto;
+import com.bhashamitra.platform.controllers.dto.LemmaImportResultDto;
+import com.bhashamitra.platform.services.LemmaImportService;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.Authentication;
+import org.springframework.web.bind.annotation.*;
+
+import java.io.IOException;
+import java.io.InputStream;
+
+import static com.bhashamitra.platform.security.ActorUtil.actor;
+
+/**
+ * Bulk import of lemmas (with meanings, surface forms and sentence links).
+ *
+ * The body is streamed, never buffered whole: send NDJSON (application/x-ndjson, one
+ * lemma object per line) or CSV (text/csv with a header row). ?format= overrides the
+ * Content-Type.
+ */
+@RestController
+@RequestMapping("/api/admin/lemmas/import")
+public class AdminLemmaImportController {
+
+    private final LemmaImportService importService;
+
+    public AdminLemmaImportController(LemmaImportService importService) {
+        this.importService = importService;
+    }
+
+    @PostMapping
+    public ResponseEntity<LemmaImportResultDto> importLemmas(
+            @RequestParam String language,
+            @RequestParam(required = false) String format,
+            @RequestHeader(value = HttpHeaders.CONTENT_TYPE, required = false) String contentType,
+            InputStream body,
+            Authentication auth
+    ) throws IOException {
+        String actor = actor(auth);
+
+        try {
+            LemmaImportService.Format fmt = resolveFormat(format, contentType);
+            LemmaImportService.ImportResult result = importService.importLemmas(language, fmt, body, actor);
+            return ResponseEntity.ok(toDto(result));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
+        }
+    }
+
+    private static LemmaImportService.Format resolveFormat(String format, String contentType) {
+        if (format != null && !format.isBlank()) {
+            return LemmaImportService.Format.valueOf(format.trim().toUpperCase());
+        }
+        if (contentType != null && contentType.toLowerCase().startsWith("text/csv")) {
+            return LemmaImportService.Format.CSV;
+        }
+        return LemmaImportService.Format.NDJSON;
+    }
+
+    private static LemmaImportResultDto toDto(LemmaImportService.ImportResult r) {
+        return new LemmaImportResultDto(
+                r.importId(),
+                r.language(),
+                r.totalRows(),
+                r.importedLemmas(),
+                r.importedMeanings(),
+                r.importedSurfaceForms(),
+                r.importedLinks(),
+                r.failedRows(),
+                r.errors().stream()
+                        .map(e -> new LemmaImportErrorDto(e.line(), e.lemmaNative(), e.message()))
+                        .toList(),
+                r.errorsTruncated()
+        );
+    }
+}
@@ -1,10 +1,13 @@
 package com.bhashamitra.platform.controllers;
 
 import com.bhashamitra.platform.controllers.dto.CreateUsageSentenceRequest;
+import com.bhashamitra.platform.controllers.dto.SentenceSearchHitDto;
 import com.bhashamitra.platform.controllers.dto.UpdateUsageSentenceRequest;
 import com.bhashamitra.platform.controllers.dto.UsageSentenceDto;
 import com.bhashamitra.platform.models.UsageSentence;
 import com.bhashamitra.platform.models.UsageSentenceStatus;
+import com.bhashamitra.platform.services.SentenceSearchIndex;
+import com.bhashamitra.platform.services.SentenceSearchService;
 import com.bhashamitra.platform.services.UsageSentenceService;
 import jakarta.validation.Valid;
 import org.springframework.http.ResponseEntity;
@@ -20,9 +23,12 @@ import static com.bhashamitra.platform.security.ActorUtil.actor;
 public class AdminUsageSentenceController {
 
     private final UsageSentenceService usageSentenceService;
+    private final SentenceSearchService sentenceSearchService;
 
-    public AdminUsageSentenceController(UsageSentenceService usageSentenceService) {
+    public AdminUsageSentenceController(UsageSentenceService usageSentenceService,
+                                        SentenceSearchService sentenceSearchService) {
         this.usageSentenceService = usageSentenceService;
+        this.sentenceSearchService = sentenceSearchService;
     }
 
     // --------------------
@@ -56,6 +62,32 @@ public class AdminUsageSentenceController {
         return out.stream().map(AdminUsageSentenceController::toDto).toList();
     }
 
+    // Full-text search across all statuses (optionally filtered)
+    @GetMapping("/search")
+    public ResponseEntity<List<SentenceSearchHitDto>> search(
+            @RequestParam String language,
+            @RequestParam String q,
+            @RequestParam(required = false) String status,
+            @RequestParam(required = false) String register,
+            @RequestParam(required = false) Integer minDifficulty,
+            @RequestParam(required = false) Integer maxDifficulty,
+            @RequestParam(required = false) Integer limit
+    ) {
+        int k = (limit == null || limit < 1) ? 50 : Math.min(limit, 200);
+
+        try {
+            UsageSentenceStatus st = (status == null || status.isBlank())
+                    ? null
+                    : UsageSentenceStatus.valueOf(status.trim().toUpperCase());
+            SentenceSearchIndex.Filter filter = new SentenceSearchIndex.Filter(st, register, minDifficulty, maxDifficulty);
+            return ResponseEntity.ok(sentenceSearchService.search(language, q, filter, k).stream()
+                    .map(h -> PublicSearchController.toDto(language.trim(), h))
+                    .toList());
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
+        }
+    }
+
     // --------------------
     // CREATE
     // --------------------
@@ -0,0 +1,35 @@
+package com.bhashamitra.platform.controllers;
+
+import org.springframework.http.CacheControl;
+
+import java.time.Duration;
+
+/**
+ * Cache-Control for public reads. Everything here is public data, so shared caches (ALB,
+ * CDN) may store it; max-age bounds how stale a cached copy can get before it is
+ * revalidated with the ETag / Last-Modified validators.
+ */
+public enum CachePolicy {
+
+    /** Language list and lookups: change a few times a year. */
+    LANGUAGES(Duration.ofMinutes(5)),
+
+    /** Snapshot-backed dictionary reads; revalidation is a map lookup. */
+    DICTIONARY(Duration.ofMinutes(1)),
+
+    /** Database-backed searches and sentence reads. */
+    SEARCH(Duration.ofMinutes(1)),
+
+    /** Full-language export downloads. */
+    EXPORT(Duration.ofMinutes(10));
+
+    private final Duration maxAge;
+
+    CachePolicy(Duration maxAge) {
+        this.maxAge = maxAge;
+    }
+
+    public CacheControl cacheControl() {
+        return CacheControl.maxAge(maxAge).cachePublic();
+    }
+}
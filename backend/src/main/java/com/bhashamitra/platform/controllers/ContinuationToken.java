@@ -0,0 +1,56 @@
+package com.bhashamitra.platform.controllers;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+/**
+ * Opaque continuation tokens for keyset-paginated endpoints.
+ * A token is the URL-safe Base64 of the last row's sort key parts, so clients
+ * can only pass it back as-is; its layout is free to change between releases.
+ */
+final class ContinuationToken {
+
+    private static final char SEPARATOR = '\u001F'; // ASCII unit separator, never valid in our keys
+
+    private ContinuationToken() {
+    }
+
+    static String encode(String... parts) {
+        StringBuilder sb = new StringBuilder();
+        for (int i = 0; i < parts.length; i++) {
+            if (i > 0) sb.append(SEPARATOR);
+            sb.append(parts[i]);
+        }
+        return Base64.getUrlEncoder().withoutPadding()
+                .encodeToString(sb.toString().getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * @throws IllegalArgumentException if the token is malformed or has the wrong number of parts
+     */
+    static String[] decode(String token, int expectedParts) {
+        String raw;
+        try {
+            raw = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("Invalid continuation token");
+        }
+
+        String[] parts = new String[expectedParts];
+        int start = 0;
+        for (int i = 0; i < expectedParts - 1; i++) {
+            int end = raw.indexOf(SEPARATOR, start);
+            if (end < 0) {
+                throw new IllegalArgumentException("Invalid continuation token");
+            }
+            parts[i] = raw.substring(start, end);
+            start = end + 1;
+        }
+        String last = raw.substring(start);
+        if (last.indexOf(SEPARATOR) >= 0) {
+            throw new IllegalArgumentException("Invalid continuation token");
+        }
+        parts[expectedParts - 1] = last;
+        return parts;
+    }
+}
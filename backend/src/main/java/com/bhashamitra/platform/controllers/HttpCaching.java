@@ -0,0 +1,46 @@
+package com.bhashamitra.platform.controllers;
+
+import com.bhashamitra.platform.services.CacheStamp;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.HttpHeaders;
+import org.springframework.web.context.request.NativeWebRequest;
+import org.springframework.web.context.request.WebRequest;
+
+/**
+ * Conditional GET support for the public controllers.
+ *
+ * Endpoints with a {@link CacheStamp} go through {@link #notModified}; endpoints without
+ * a cheap validator only get {@code ResponseEntity.ok().cacheControl(...)}.
+ *
+ * Usage, after the request has been validated and before the body is built:
+ * <pre>
+ * if (HttpCaching.notModified(request, CachePolicy.DICTIONARY, snapshot.stamp())) {
+ *     return null; // 304 already committed by Spring, no body is read or serialized
+ * }
+ * </pre>
+ * Error responses never reach this point, so they are never marked cacheable. The stamp
+ * is taken before the body is read, so a body is never tagged with a newer stamp than
+ * the data it was built from.
+ */
+final class HttpCaching {
+
+    private HttpCaching() {
+    }
+
+    /**
+     * Sets Cache-Control, then ETag / Last-Modified from the stamp (when there is one) and
+     * answers If-None-Match / If-Modified-Since. Returns true when the response is a 304.
+     */
+    static boolean notModified(WebRequest request, CachePolicy policy, CacheStamp stamp) {
+        if (request instanceof NativeWebRequest nativeRequest) {
+            HttpServletResponse response = nativeRequest.getNativeResponse(HttpServletResponse.class);
+            if (response != null) {
+                response.setHeader(HttpHeaders.CACHE_CONTROL, policy.cacheControl().getHeaderValue());
+            }
+        }
+        if (stamp == null) {
+            return false;
+        }
+        return request.checkNotModified(stamp.etag(), stamp.lastModifiedMillis());
+    }
+}
@@ -2,32 +2,103 @@ package com.bhashamitra.platform.controllers;
 
 import com.bhashamitra.platform.controllers.dto.LanguageDto;
 import com.bhashamitra.platform.models.Language;
+import com.bhashamitra.platform.services.CacheStamp;
+import com.bhashamitra.platform.services.LanguageExportService;
 import com.bhashamitra.platform.services.LanguageService;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.context.request.async.AsyncWebRequest;
+import org.springframework.web.context.request.async.WebAsyncUtils;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.time.Duration;
 import java.util.List;
+import java.util.zip.GZIPOutputStream;
 
 @RestController
 @RequestMapping("/api/public/languages")
 public class PublicLanguageController {
 
     private final LanguageService languageService;
+    private final LanguageExportService languageExportService;
+    private final Duration exportTimeout;
 
-    public PublicLanguageController(LanguageService languageService) {
+    public PublicLanguageController(LanguageService languageService,
+                                    LanguageExportService languageExportService,
+                                    @Value("${languages.export-timeout:PT30M}") Duration exportTimeout) {
         this.languageService = languageService;
+        this.languageExportService = languageExportService;
+        this.exportTimeout = exportTimeout;
     }
 
     @GetMapping
-    public List<LanguageDto> getEnabledLanguages() {
+    public List<LanguageDto> getEnabledLanguages(WebRequest request) {
+        if (HttpCaching.notModified(request, CachePolicy.LANGUAGES, languageService.languagesStamp())) {
+            return null;
+        }
         return languageService.getEnabledLanguages().stream()
                 .map(PublicLanguageController::toDto)
                 .toList();
     }
 
     @GetMapping("/{code}")
-    public ResponseEntity<LanguageDto> getEnabledByCode(@PathVariable String code) {
-        return ResponseEntity.ok(toDto(languageService.getEnabledByCode(code)));
+    public ResponseEntity<LanguageDto> getEnabledByCode(@PathVariable String code, WebRequest request) {
+        CacheStamp stamp = languageService.languagesStamp();
+        Language language = languageService.getEnabledByCode(code);
+        if (HttpCaching.notModified(request, CachePolicy.LANGUAGES, stamp)) {
+            return null;
+        }
+        return ResponseEntity.ok(toDto(language));
+    }
+
+    /**
+     * Full dump of a language's published content, one lemma per NDJSON line.
+     * format=ndjson (default) or gzip (same content, gzip-compressed file). The stream can
+     * run for minutes, so it gets its own async timeout instead of the application default.
+     */
+    @GetMapping("/{code}/export")
+    public ResponseEntity<StreamingResponseBody> export(@PathVariable String code,
+                                                        @RequestParam(defaultValue = "ndjson") String format,
+                                                        WebRequest request) {
+        Language language = languageService.getEnabledByCode(code);
+
+        boolean gzip;
+        switch (format.trim().toLowerCase()) {
+            case "ndjson" -> gzip = false;
+            case "gzip" -> gzip = true;
+            default -> {
+                return ResponseEntity.badRequest().build();
+            }
+        }
+
+        // Applied when the StreamingResponseBody starts async processing after this returns
+        AsyncWebRequest asyncRequest = WebAsyncUtils.getAsyncManager(request).getAsyncWebRequest();
+        if (asyncRequest != null) {
+            asyncRequest.setTimeout(exportTimeout.toMillis());
+        }
+
+        String filename = language.getCode() + "-published.ndjson" + (gzip ? ".gz" : "");
+        StreamingResponseBody body = out -> {
+            if (gzip) {
+                try (GZIPOutputStream gz = new GZIPOutputStream(out, 64 * 1024)) {
+                    languageExportService.exportPublished(language.getCode(), gz);
+                }
+            } else {
+                languageExportService.exportPublished(language.getCode(), out);
+            }
+        };
+
+        // No cheap validator covers linked sentences, so the export is only given a max-age
+        return ResponseEntity.ok()
+                .cacheControl(CachePolicy.EXPORT.cacheControl())
+                .contentType(gzip ? MediaType.parseMediaType("application/gzip") : MediaType.parseMediaType("application/x-ndjson"))
+                .header(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment().filename(filename).build().toString())
+                .body(body);
     }
 
 
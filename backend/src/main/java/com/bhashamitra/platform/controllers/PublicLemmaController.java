@@ -1,10 +1,17 @@
 package com.bhashamitra.platform.controllers;
 
+import com.bhashamitra.platform.controllers.dto.LemmaDetailDto;
 import com.bhashamitra.platform.controllers.dto.LemmaDto;
-import com.bhashamitra.platform.models.Lemma;
-import com.bhashamitra.platform.services.LemmaService;
+import com.bhashamitra.platform.controllers.dto.LemmaPageDto;
+import com.bhashamitra.platform.controllers.dto.MeaningDto;
+import com.bhashamitra.platform.controllers.dto.PronunciationDto;
+import com.bhashamitra.platform.controllers.dto.SurfaceFormDto;
+import com.bhashamitra.platform.models.LemmaStatus;
+import com.bhashamitra.platform.services.PublishedDictionary;
+import com.bhashamitra.platform.services.PublishedDictionaryService;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
 import java.util.List;
 
@@ -12,39 +19,139 @@ import java.util.List;
 @RequestMapping("/api/public/lemmas")
 public class PublicLemmaController {
 
-    private final LemmaService lemmaService;
+    static final int DEFAULT_PAGE_SIZE = 50;
+    static final int MAX_PAGE_SIZE = 200;
 
-    public PublicLemmaController(LemmaService lemmaService) {
-        this.lemmaService = lemmaService;
+    private final PublishedDictionaryService publishedDictionaryService;
+
+    public PublicLemmaController(PublishedDictionaryService publishedDictionaryService) {
+        this.publishedDictionaryService = publishedDictionaryService;
     }
 
-    // List published lemmas by language
+    /**
+     * List published lemmas by language, one keyset page at a time.
+     * Pass the returned nextCursor back as ?cursor= to fetch the following page.
+     */
     @GetMapping
-    public List<LemmaDto> listPublishedByLanguage(@RequestParam String language) {
-        return lemmaService.listPublishedByLanguage(language).stream()
-                .map(PublicLemmaController::toDto)
-                .toList();
+    public ResponseEntity<LemmaPageDto> listPublishedByLanguage(
+            @RequestParam String language,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer limit,
+            WebRequest request
+    ) {
+        int pageSize = clampPageSize(limit);
+
+        try {
+            String afterNative = null;
+            String afterId = null;
+            if (cursor != null && !cursor.isBlank()) {
+                String[] key = ContinuationToken.decode(cursor.trim(), 2);
+                afterNative = key[0];
+                afterId = key[1];
+            }
+
+            PublishedDictionary snapshot = publishedDictionaryService.snapshot(language);
+            if (HttpCaching.notModified(request, CachePolicy.DICTIONARY, snapshot.stamp())) {
+                return null;
+            }
+
+            PublishedDictionary.Page page = snapshot.page(afterNative, afterId, pageSize);
+            List<LemmaDto> items = page.items().stream()
+                    .map(PublicLemmaController::toDto)
+                    .toList();
+
+            String nextCursor = null;
+            if (page.hasMore()) {
+                PublishedDictionary.LemmaEntry last = page.items().get(page.items().size() - 1);
+                nextCursor = ContinuationToken.encode(last.lemmaNative(), last.id());
+            }
+
+            return ResponseEntity.ok(new LemmaPageDto(items, nextCursor));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
+        }
     }
 
     // Get a published lemma by id
     @GetMapping("/{id}")
-    public ResponseEntity<LemmaDto> getPublishedById(@PathVariable String id) {
+    public ResponseEntity<LemmaDto> getPublishedById(@PathVariable String id, WebRequest request) {
+        try {
+            if (HttpCaching.notModified(request, CachePolicy.DICTIONARY, publishedDictionaryService.publishedLemmaStamp(id))) {
+                return null;
+            }
+            return ResponseEntity.ok(toDto(publishedDictionaryService.getPublishedLemma(id)));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.notFound().build();
+        }
+    }
+
+    /**
+     * Complete public view of a published lemma: the lemma with its meanings, surface forms
+     * and recordings, replacing four separate public calls for a word page.
+     */
+    @GetMapping("/{id}/detail")
+    public ResponseEntity<LemmaDetailDto> getPublishedDetail(@PathVariable String id, WebRequest request) {
         try {
-            return ResponseEntity.ok(toDto(lemmaService.getPublishedById(id)));
+            if (HttpCaching.notModified(request, CachePolicy.DICTIONARY, publishedDictionaryService.publishedLemmaStamp(id))) {
+                return null;
+            }
+            return ResponseEntity.ok(toDto(publishedDictionaryService.getPublishedLemmaDetail(id)));
         } catch (IllegalArgumentException e) {
             return ResponseEntity.notFound().build();
         }
     }
 
-    private static LemmaDto toDto(Lemma l) {
+    /**
+     * Batch variant for list pages: ?ids=a,b,c (at most MAX_PAGE_SIZE ids).
+     * Returns details in request order; ids that are not published are left out.
+     */
+    @GetMapping("/details")
+    public ResponseEntity<List<LemmaDetailDto>> getPublishedDetails(@RequestParam List<String> ids,
+                                                                    WebRequest request) {
+        if (ids.size() > MAX_PAGE_SIZE) {
+            return ResponseEntity.badRequest().build();
+        }
+        try {
+            if (HttpCaching.notModified(request, CachePolicy.DICTIONARY, publishedDictionaryService.publishedLemmaDetailsStamp(ids))) {
+                return null;
+            }
+            return ResponseEntity.ok(publishedDictionaryService.getPublishedLemmaDetails(ids).stream()
+                    .map(PublicLemmaController::toDto)
+                    .toList());
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
+        }
+    }
+
+    private static int clampPageSize(Integer limit) {
+        if (limit == null || limit < 1) return DEFAULT_PAGE_SIZE;
+        return Math.min(limit, MAX_PAGE_SIZE);
+    }
+
+    static LemmaDto toDto(PublishedDictionary.LemmaEntry l) {
         return new LemmaDto(
-                l.getId(),
-                l.getLanguage(),
-                l.getLemmaNative(),
-                l.getLemmaLatin(),
-                l.getPos(),
-                l.getNotes(),
-                l.getStatus() != null ? l.getStatus().name() : null
+                l.id(),
+                l.language(),
+                l.lemmaNative(),
+                l.lemmaLatin(),
+                l.pos(),
+                l.notes(),
+                LemmaStatus.PUBLISHED.name()
+        );
+    }
+
+    static LemmaDetailDto toDto(PublishedDictionary.LemmaDetail d) {
+        return new LemmaDetailDto(
+                toDto(d.lemma()),
+                d.meanings().stream()
+                        .map(m -> new MeaningDto(m.id(), m.lemmaId(), m.meaningLanguage(), m.meaningText(), m.priority()))
+                        .toList(),
+                d.surfaceForms().stream()
+                        .map(sf -> new SurfaceFormDto(sf.id(), sf.lemmaId(), sf.formNative(), sf.formLatin(), sf.formType(), sf.notes()))
+                        .toList(),
+                d.pronunciations().stream()
+                        .map(p -> new PronunciationDto(p.id(), "LEMMA", p.ownerId(), p.speaker(), p.region(), p.audioUri(), p.durationMs()))
+                        .toList()
         );
     }
 }
@@ -0,0 +1,151 @@
+package com.bhashamitra.platform.controllers;
+
+import com.bhashamitra.platform.controllers.dto.LemmaDto;
+import com.bhashamitra.platform.controllers.dto.SentenceExampleDto;
+import com.bhashamitra.platform.controllers.dto.SentenceExamplePageDto;
+import com.bhashamitra.platform.controllers.dto.SentenceLemmaDto;
+import com.bhashamitra.platform.controllers.dto.SentenceLemmaPageDto;
+import com.bhashamitra.platform.models.Ids;
+import com.bhashamitra.platform.repositories.LemmaRepository.LemmaView;
+import com.bhashamitra.platform.repositories.LemmaSentenceLinkRepository.LinkedLemma;
+import com.bhashamitra.platform.repositories.LemmaSentenceLinkRepository.LinkedSentence;
+import com.bhashamitra.platform.services.LemmaSentenceLinkService;
+import com.bhashamitra.platform.services.LemmaSentenceLinkService.LinkPage;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.List;
+
+/**
+ * Public traversal of the lemma-sentence graph, published on both ends. Pages are keyset
+ * pages on the link's (created date, id): pass the returned nextCursor back as ?cursor=
+ * for the next one.
+ */
+@RestController
+@RequestMapping("/api/public/lemma-sentence-links")
+public class PublicLemmaSentenceLinkController {
+
+    static final int DEFAULT_PAGE_SIZE = 20;
+    static final int MAX_PAGE_SIZE = 100;
+
+    private final LemmaSentenceLinkService service;
+
+    public PublicLemmaSentenceLinkController(LemmaSentenceLinkService service) {
+        this.service = service;
+    }
+
+    /**
+     * Examples for a word: published sentences linked to a published lemma, newest first.
+     */
+    @GetMapping("/sentences")
+    public ResponseEntity<SentenceExamplePageDto> sentencesForLemma(
+            @RequestParam String lemmaId,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer limit
+    ) {
+        LinkKey after;
+        try {
+            after = LinkKey.decode(cursor);
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
+        }
+        try {
+            LinkPage<LinkedSentence> page = service.listPublishedSentencesForLemma(
+                    lemmaId, after.created(), after.linkId(), clampPageSize(limit));
+            List<SentenceExampleDto> items = page.items().stream()
+                    .map(k -> new SentenceExampleDto(k.linkId(), k.linkType().name(), k.surfaceFormId(),
+                            PublicUsageSentenceController.toDto(k.sentence())))
+                    .toList();
+            String nextCursor = null;
+            if (page.hasMore()) {
+                LinkedSentence last = page.items().get(page.items().size() - 1);
+                nextCursor = LinkKey.encode(last.linkCreatedDate(), last.linkId());
+            }
+            return ResponseEntity.ok()
+                    .cacheControl(CachePolicy.SEARCH.cacheControl())
+                    .body(new SentenceExamplePageDto(items, nextCursor));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.notFound().build();
+        }
+    }
+
+    /**
+     * Words in a sentence: published lemmas linked to a published sentence, newest first.
+     */
+    @GetMapping("/lemmas")
+    public ResponseEntity<SentenceLemmaPageDto> lemmasForSentence(
+            @RequestParam String sentenceId,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer limit
+    ) {
+        LinkKey after;
+        try {
+            after = LinkKey.decode(cursor);
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
+        }
+        try {
+            LinkPage<LinkedLemma> page = service.listPublishedLemmasForSentence(
+                    sentenceId, after.created(), after.linkId(), clampPageSize(limit));
+            List<SentenceLemmaDto> items = page.items().stream()
+                    .map(k -> new SentenceLemmaDto(k.linkId(), k.linkType().name(), k.surfaceFormId(), toDto(k.lemma())))
+                    .toList();
+            String nextCursor = null;
+            if (page.hasMore()) {
+                LinkedLemma last = page.items().get(page.items().size() - 1);
+                nextCursor = LinkKey.encode(last.linkCreatedDate(), last.linkId());
+            }
+            return ResponseEntity.ok()
+                    .cacheControl(CachePolicy.SEARCH.cacheControl())
+                    .body(new SentenceLemmaPageDto(items, nextCursor));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.notFound().build();
+        }
+    }
+
+    /**
+     * The keyset of a link: its created date and id. Both null before the first page.
+     */
+    private record LinkKey(ZonedDateTime created, String linkId) {
+
+        static String encode(ZonedDateTime created, String linkId) {
+            return ContinuationToken.encode(created.toInstant().toString(), linkId);
+        }
+
+        static LinkKey decode(String cursor) {
+            if (cursor == null || cursor.isBlank()) {
+                return new LinkKey(null, null);
+            }
+            String[] key = ContinuationToken.decode(cursor.trim(), 2);
+            if (!Ids.isValid(key[1])) {
+                throw new IllegalArgumentException("Invalid continuation token");
+            }
+            try {
+                return new LinkKey(Instant.parse(key[0]).atZone(ZoneOffset.UTC), key[1]);
+            } catch (DateTimeParseException e) {
+                throw new IllegalArgumentException("Invalid continuation token");
+            }
+        }
+    }
+
+    private static int clampPageSize(Integer limit) {
+        if (limit == null || limit < 1) return DEFAULT_PAGE_SIZE;
+        return Math.min(limit, MAX_PAGE_SIZE);
+    }
+
+    private static LemmaDto toDto(LemmaView l) {
+        return new LemmaDto(
+                l.id(),
+                l.language(),
+                l.lemmaNative(),
+                l.lemmaLatin(),
+                l.pos(),
+                l.notes(),
+                l.status() != null ? l.status().name() : null
+        );
+    }
+}
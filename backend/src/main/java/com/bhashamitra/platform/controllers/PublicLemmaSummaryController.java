@@ -0,0 +1,96 @@
+package com.bhashamitra.platform.controllers;
+
+import com.bhashamitra.platform.controllers.dto.LemmaDto;
+import com.bhashamitra.platform.controllers.dto.LemmaSummaryDto;
+import com.bhashamitra.platform.controllers.dto.LemmaSummaryPageDto;
+import com.bhashamitra.platform.models.Ids;
+import com.bhashamitra.platform.repositories.LemmaRepository.LemmaView;
+import com.bhashamitra.platform.repositories.LemmaSummaryRepository.LemmaSummaryView;
+import com.bhashamitra.platform.services.LemmaSummaryService;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+
+/**
+ * Published lemmas with their meaning, surface form, example and recording counts, most
+ * examples first. Pass the returned nextCursor back as ?cursor= for the next page.
+ */
+@RestController
+@RequestMapping("/api/public/lemma-summaries")
+public class PublicLemmaSummaryController {
+
+    static final int DEFAULT_PAGE_SIZE = 50;
+    static final int MAX_PAGE_SIZE = 200;
+
+    private final LemmaSummaryService lemmaSummaryService;
+
+    public PublicLemmaSummaryController(LemmaSummaryService lemmaSummaryService) {
+        this.lemmaSummaryService = lemmaSummaryService;
+    }
+
+    @GetMapping
+    public ResponseEntity<LemmaSummaryPageDto> listByExamples(
+            @RequestParam String language,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer limit
+    ) {
+        try {
+            Integer afterExamples = null;
+            String afterId = null;
+            if (cursor != null && !cursor.isBlank()) {
+                String[] key = ContinuationToken.decode(cursor.trim(), 2);
+                afterExamples = Integer.valueOf(key[0]);
+                afterId = key[1];
+                if (!Ids.isValid(afterId)) {
+                    throw new IllegalArgumentException("Invalid continuation token");
+                }
+            }
+
+            LemmaSummaryService.SummaryPage page =
+                    lemmaSummaryService.listPublishedByExamples(language, afterExamples, afterId, clampPageSize(limit));
+            List<LemmaSummaryDto> items = page.items().stream()
+                    .map(PublicLemmaSummaryController::toDto)
+                    .toList();
+
+            String nextCursor = null;
+            if (page.hasMore()) {
+                LemmaSummaryView last = page.items().get(page.items().size() - 1);
+                nextCursor = ContinuationToken.encode(String.valueOf(last.exampleCount()), last.lemma().id());
+            }
+
+            return ResponseEntity.ok()
+                    .cacheControl(CachePolicy.SEARCH.cacheControl())
+                    .body(new LemmaSummaryPageDto(items, nextCursor));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
+        }
+    }
+
+    private static int clampPageSize(Integer limit) {
+        if (limit == null || limit < 1) return DEFAULT_PAGE_SIZE;
+        return Math.min(limit, MAX_PAGE_SIZE);
+    }
+
+    private static LemmaSummaryDto toDto(LemmaSummaryView s) {
+        return new LemmaSummaryDto(
+                toDto(s.lemma()),
+                s.meaningCount(),
+                s.surfaceFormCount(),
+                s.exampleCount(),
+                s.pronunciationCount()
+        );
+    }
+
+    private static LemmaDto toDto(LemmaView l) {
+        return new LemmaDto(
+                l.id(),
+                l.language(),
+                l.lemmaNative(),
+                l.lemmaLatin(),
+                l.pos(),
+                l.notes(),
+                l.status() != null ? l.status().name() : null
+        );
+    }
+}
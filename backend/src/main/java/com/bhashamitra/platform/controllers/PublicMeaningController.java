@@ -1,10 +1,10 @@
 package com.bhashamitra.platform.controllers;
 
 import com.bhashamitra.platform.controllers.dto.MeaningDto;
-import com.bhashamitra.platform.models.Meaning;
-import com.bhashamitra.platform.services.LemmaService;
-import com.bhashamitra.platform.services.MeaningService;
+import com.bhashamitra.platform.services.PublishedDictionary;
+import com.bhashamitra.platform.services.PublishedDictionaryService;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
 import java.util.List;
 
@@ -12,12 +12,10 @@ import java.util.List;
 @RequestMapping("/api/public/meanings")
 public class PublicMeaningController {
 
-    private final MeaningService meaningService;
-    private final LemmaService lemmaService;
+    private final PublishedDictionaryService publishedDictionaryService;
 
-    public PublicMeaningController(MeaningService meaningService, LemmaService lemmaService) {
-        this.meaningService = meaningService;
-        this.lemmaService = lemmaService;
+    public PublicMeaningController(PublishedDictionaryService publishedDictionaryService) {
+        this.publishedDictionaryService = publishedDictionaryService;
     }
 
     /**
@@ -25,22 +23,23 @@ public class PublicMeaningController {
      * Guardrail: lemma must be PUBLISHED.
      */
     @GetMapping
-    public List<MeaningDto> listForPublishedLemma(@RequestParam String lemmaId) {
+    public List<MeaningDto> listForPublishedLemma(@RequestParam String lemmaId, WebRequest request) {
         // throws if not published / not found
-        lemmaService.getPublishedById(lemmaId);
-
-        return meaningService.listByLemmaId(lemmaId).stream()
+        if (HttpCaching.notModified(request, CachePolicy.DICTIONARY, publishedDictionaryService.publishedLemmaStamp(lemmaId))) {
+            return null;
+        }
+        return publishedDictionaryService.meaningsForPublishedLemma(lemmaId).stream()
                 .map(PublicMeaningController::toDto)
                 .toList();
     }
 
-    private static MeaningDto toDto(Meaning m) {
+    private static MeaningDto toDto(PublishedDictionary.MeaningEntry m) {
         return new MeaningDto(
-                m.getId(),
-                m.getLemma() != null ? m.getLemma().getId() : null,
-                m.getMeaningLanguage(),
-                m.getMeaningText(),
-                m.getPriority()
+                m.id(),
+                m.lemmaId(),
+                m.meaningLanguage(),
+                m.meaningText(),
+                m.priority()
         );
     }
 }
@@ -1,10 +1,12 @@
 package com.bhashamitra.platform.controllers;
 
 import com.bhashamitra.platform.controllers.dto.PronunciationDto;
-import com.bhashamitra.platform.models.Pronunciation;
+import com.bhashamitra.platform.services.CacheStamp;
 import com.bhashamitra.platform.services.PronunciationService;
+import com.bhashamitra.platform.services.PublishedDictionary;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
 import java.util.List;
 
@@ -27,26 +29,35 @@ public class PublicPronunciationController {
     @GetMapping
     public ResponseEntity<List<PronunciationDto>> listPublicByOwner(
             @RequestParam String ownerType,
-            @RequestParam String ownerId
+            @RequestParam String ownerId,
+            WebRequest request
     ) {
         try {
-            List<Pronunciation> out = service.listPublicByOwner(ownerType, ownerId);
-            return ResponseEntity.ok(out.stream().map(PublicPronunciationController::toDto).toList());
+            String ot = ownerType.trim().toUpperCase();
+            // Lemma recordings come from the snapshot and have a validator; sentence ones do not
+            CacheStamp stamp = service.publicStamp(ot, ownerId);
+            if (stamp != null && HttpCaching.notModified(request, CachePolicy.DICTIONARY, stamp)) {
+                return null;
+            }
+            List<PublishedDictionary.PronunciationEntry> out = service.listPublicByOwner(ot, ownerId);
+            return ResponseEntity.ok()
+                    .cacheControl((stamp != null ? CachePolicy.DICTIONARY : CachePolicy.SEARCH).cacheControl())
+                    .body(out.stream().map(p -> toDto(ot, p)).toList());
         } catch (IllegalArgumentException e) {
             // includes "not published/not found" cases from your service calls
             return ResponseEntity.badRequest().build();
         }
     }
 
-    private static PronunciationDto toDto(Pronunciation p) {
+    private static PronunciationDto toDto(String ownerType, PublishedDictionary.PronunciationEntry p) {
         return new PronunciationDto(
-                p.getId(),
-                p.getOwnerType(),
-                p.getOwnerId(),
-                p.getSpeaker(),
-                p.getRegion(),
-                p.getAudioUri(),
-                p.getDurationMs()
+                p.id(),
+                ownerType,
+                p.ownerId(),
+                p.speaker(),
+                p.region(),
+                p.audioUri(),
+                p.durationMs()
         );
     }
 }
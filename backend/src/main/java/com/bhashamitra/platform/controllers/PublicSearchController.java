@@ -0,0 +1,223 @@
+package com.bhashamitra.platform.controllers;
+
+import com.bhashamitra.platform.controllers.dto.LemmaCandidateDto;
+import com.bhashamitra.platform.controllers.dto.LemmaDto;
+import com.bhashamitra.platform.controllers.dto.LemmaSuggestionDto;
+import com.bhashamitra.platform.controllers.dto.SentenceSearchHitDto;
+import com.bhashamitra.platform.controllers.dto.TokenResolutionDto;
+import com.bhashamitra.platform.controllers.dto.UsageSentenceDto;
+import com.bhashamitra.platform.models.LemmaStatus;
+import com.bhashamitra.platform.repositories.LemmaRepository.LemmaView;
+import com.bhashamitra.platform.services.LemmaAutocompleteIndex;
+import com.bhashamitra.platform.services.LemmaReverseIndex;
+import com.bhashamitra.platform.services.LemmaService;
+import com.bhashamitra.platform.services.PublishedDictionary;
+import com.bhashamitra.platform.services.PublishedDictionaryService;
+import com.bhashamitra.platform.services.SentenceSearchIndex;
+import com.bhashamitra.platform.services.SentenceSearchService;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+
+import java.util.List;
+
+@RestController
+@RequestMapping("/api/public/search")
+public class PublicSearchController {
+
+    static final int DEFAULT_SUGGESTIONS = 10;
+    static final int MAX_SUGGESTIONS = 50;
+    static final int DEFAULT_SENTENCE_HITS = 20;
+    static final int MAX_SENTENCE_HITS = 100;
+    static final int MAX_RESOLVE_TEXT_LENGTH = 2000;
+
+    private final PublishedDictionaryService publishedDictionaryService;
+    private final SentenceSearchService sentenceSearchService;
+    private final LemmaService lemmaService;
+
+    public PublicSearchController(PublishedDictionaryService publishedDictionaryService,
+                                  SentenceSearchService sentenceSearchService,
+                                  LemmaService lemmaService) {
+        this.publishedDictionaryService = publishedDictionaryService;
+        this.sentenceSearchService = sentenceSearchService;
+        this.lemmaService = lemmaService;
+    }
+
+    /**
+     * Autocomplete over published lemmas: q may be a partial word in Devanagari or in
+     * Latin transliteration; matches lemma and surface form spellings by prefix.
+     */
+    @GetMapping("/autocomplete")
+    public ResponseEntity<List<LemmaSuggestionDto>> autocomplete(
+            @RequestParam String language,
+            @RequestParam String q,
+            @RequestParam(required = false) Integer limit,
+            WebRequest request
+    ) {
+        int k = (limit == null || limit < 1) ? DEFAULT_SUGGESTIONS : Math.min(limit, MAX_SUGGESTIONS);
+
+        try {
+            PublishedDictionary snapshot = publishedDictionaryService.snapshot(language);
+            if (HttpCaching.notModified(request, CachePolicy.DICTIONARY, snapshot.stamp())) {
+                return null;
+            }
+            List<LemmaSuggestionDto> out = snapshot.autocomplete(q, k).stream()
+                    .map(PublicSearchController::toDto)
+                    .toList();
+            return ResponseEntity.ok(out);
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
+        }
+    }
+
+    /**
+     * Cross-script search over published lemmas: q in Devanagari, IAST or any learner
+     * romanization (paani, pani, pāṇī) is matched against the precomputed latin keys.
+     */
+    @GetMapping("/latin")
+    public ResponseEntity<List<LemmaDto>> searchLatin(
+            @RequestParam String language,
+            @RequestParam String q,
+            @RequestParam(required = false) Integer limit
+    ) {
+        int k = (limit == null || limit < 1) ? DEFAULT_SUGGESTIONS : Math.min(limit, MAX_SUGGESTIONS);
+
+        try {
+            List<LemmaDto> out = lemmaService.searchByLatin(language, q, LemmaStatus.PUBLISHED, k).stream()
+                    .map(PublicSearchController::toDto)
+                    .toList();
+            return ResponseEntity.ok().cacheControl(CachePolicy.SEARCH.cacheControl()).body(out);
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
+        }
+    }
+
+    /**
+     * Reverse lookup: the published lemmas an inflected word may be a form of.
+     */
+    @GetMapping("/lookup")
+    public ResponseEntity<List<LemmaCandidateDto>> lookup(
+            @RequestParam String language,
+            @RequestParam String word,
+            WebRequest request
+    ) {
+        try {
+            PublishedDictionary snapshot = publishedDictionaryService.snapshot(language);
+            if (HttpCaching.notModified(request, CachePolicy.DICTIONARY, snapshot.stamp())) {
+                return null;
+            }
+            return ResponseEntity.ok(snapshot.lookup(word).stream()
+                    .map(PublicSearchController::toDto)
+                    .toList());
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
+        }
+    }
+
+    /**
+     * Reverse lookup for every word of a pasted text (e.g. a whole sentence) in one call.
+     */
+    @GetMapping("/resolve")
+    public ResponseEntity<List<TokenResolutionDto>> resolve(
+            @RequestParam String language,
+            @RequestParam String text,
+            WebRequest request
+    ) {
+        if (text.length() > MAX_RESOLVE_TEXT_LENGTH) {
+            return ResponseEntity.badRequest().build();
+        }
+        try {
+            PublishedDictionary snapshot = publishedDictionaryService.snapshot(language);
+            if (HttpCaching.notModified(request, CachePolicy.DICTIONARY, snapshot.stamp())) {
+                return null;
+            }
+            return ResponseEntity.ok(snapshot.resolve(text).stream()
+                    .map(m -> new TokenResolutionDto(
+                            m.token(),
+                            m.candidates().stream().map(PublicSearchController::toDto).toList()))
+                    .toList());
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
+        }
+    }
+
+    /**
+     * Full-text search over published usage sentences (native text, transliteration,
+     * translation and explanation), best match first.
+     */
+    @GetMapping("/sentences")
+    public ResponseEntity<List<SentenceSearchHitDto>> searchSentences(
+            @RequestParam String language,
+            @RequestParam String q,
+            @RequestParam(required = false) String register,
+            @RequestParam(required = false) Integer minDifficulty,
+            @RequestParam(required = false) Integer maxDifficulty,
+            @RequestParam(required = false) Integer limit
+    ) {
+        int k = (limit == null || limit < 1) ? DEFAULT_SENTENCE_HITS : Math.min(limit, MAX_SENTENCE_HITS);
+
+        try {
+            List<SentenceSearchHitDto> out = sentenceSearchService
+                    .searchPublished(language, q, register, minDifficulty, maxDifficulty, k).stream()
+                    .map(h -> toDto(language.trim(), h))
+                    .toList();
+            return ResponseEntity.ok().cacheControl(CachePolicy.SEARCH.cacheControl()).body(out);
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
+        }
+    }
+
+    static SentenceSearchHitDto toDto(String language, SentenceSearchIndex.Hit hit) {
+        SentenceSearchIndex.Doc d = hit.doc();
+        return new SentenceSearchHitDto(
+                new UsageSentenceDto(
+                        d.id(),
+                        language,
+                        d.sentenceNative(),
+                        d.sentenceLatin(),
+                        d.translation(),
+                        d.register(),
+                        d.explanation(),
+                        d.difficulty(),
+                        d.status() != null ? d.status().name() : null
+                ),
+                hit.score()
+        );
+    }
+
+    private static LemmaDto toDto(LemmaView l) {
+        return new LemmaDto(
+                l.id(),
+                l.language(),
+                l.lemmaNative(),
+                l.lemmaLatin(),
+                l.pos(),
+                l.notes(),
+                l.status() != null ? l.status().name() : null
+        );
+    }
+
+    private static LemmaCandidateDto toDto(LemmaReverseIndex.Candidate c) {
+        return new LemmaCandidateDto(
+                c.lemma().id(),
+                c.lemma().lemmaNative(),
+                c.lemma().lemmaLatin(),
+                c.lemma().pos(),
+                c.matchedField().name(),
+                c.surfaceForm() != null ? c.surfaceForm().id() : null,
+                c.surfaceForm() != null ? c.surfaceForm().formNative() : null,
+                c.surfaceForm() != null ? c.surfaceForm().formType() : null
+        );
+    }
+
+    private static LemmaSuggestionDto toDto(LemmaAutocompleteIndex.Suggestion s) {
+        return new LemmaSuggestionDto(
+                s.lemma().id(),
+                s.lemma().lemmaNative(),
+                s.lemma().lemmaLatin(),
+                s.lemma().pos(),
+                s.matchedText(),
+                s.matchedField().name()
+        );
+    }
+}
@@ -2,10 +2,10 @@
 package com.bhashamitra.platform.controllers;
 
 import com.bhashamitra.platform.controllers.dto.SurfaceFormDto;
-import com.bhashamitra.platform.models.SurfaceForm;
-import com.bhashamitra.platform.services.LemmaService;
-import com.bhashamitra.platform.services.SurfaceFormService;
+import com.bhashamitra.platform.services.PublishedDictionary;
+import com.bhashamitra.platform.services.PublishedDictionaryService;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
 import java.util.List;
 
@@ -13,12 +13,10 @@ import java.util.List;
 @RequestMapping("/api/public/surface-forms")
 public class PublicSurfaceFormController {
 
-    private final SurfaceFormService surfaceFormService;
-    private final LemmaService lemmaService;
+    private final PublishedDictionaryService publishedDictionaryService;
 
-    public PublicSurfaceFormController(SurfaceFormService surfaceFormService, LemmaService lemmaService) {
-        this.surfaceFormService = surfaceFormService;
-        this.lemmaService = lemmaService;
+    public PublicSurfaceFormController(PublishedDictionaryService publishedDictionaryService) {
+        this.publishedDictionaryService = publishedDictionaryService;
     }
 
     /**
@@ -26,22 +24,24 @@ public class PublicSurfaceFormController {
      * Guardrail: lemma must be PUBLISHED.
      */
     @GetMapping
-    public List<SurfaceFormDto> listForPublishedLemma(@RequestParam String lemmaId) {
-        lemmaService.getPublishedById(lemmaId);
-
-        return surfaceFormService.listByLemmaId(lemmaId).stream()
+    public List<SurfaceFormDto> listForPublishedLemma(@RequestParam String lemmaId, WebRequest request) {
+        // throws if not published / not found
+        if (HttpCaching.notModified(request, CachePolicy.DICTIONARY, publishedDictionaryService.publishedLemmaStamp(lemmaId))) {
+            return null;
+        }
+        return publishedDictionaryService.surfaceFormsForPublishedLemma(lemmaId).stream()
                 .map(PublicSurfaceFormController::toDto)
                 .toList();
     }
 
-    private static SurfaceFormDto toDto(SurfaceForm sf) {
+    private static SurfaceFormDto toDto(PublishedDictionary.SurfaceFormEntry sf) {
         return new SurfaceFormDto(
-                sf.getId(),
-                sf.getLemma() != null ? sf.getLemma().getId() : null,
-                sf.getFormNative(),
-                sf.getFormLatin(),
-                sf.getFormType(),
-                sf.getNotes()
+                sf.id(),
+                sf.lemmaId(),
+                sf.formNative(),
+                sf.formLatin(),
+                sf.formType(),
+                sf.notes()
         );
     }
 }
@@ -1,10 +1,12 @@
 package com.bhashamitra.platform.controllers;
 
 import com.bhashamitra.platform.controllers.dto.UsageSentenceDto;
-import com.bhashamitra.platform.models.UsageSentence;
+import com.bhashamitra.platform.repositories.UsageSentenceRepository.UsageSentenceView;
+import com.bhashamitra.platform.services.CacheStamp;
 import com.bhashamitra.platform.services.UsageSentenceService;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
 import java.util.List;
 
@@ -20,7 +22,10 @@ public class PublicUsageSentenceController {
 
     // List published sentences by language
     @GetMapping
-    public List<UsageSentenceDto> listPublishedByLanguage(@RequestParam String language) {
+    public List<UsageSentenceDto> listPublishedByLanguage(@RequestParam String language, WebRequest request) {
+        if (HttpCaching.notModified(request, CachePolicy.SEARCH, usageSentenceService.publishedListStamp(language))) {
+            return null;
+        }
         return usageSentenceService.listPublishedByLanguage(language).stream()
                 .map(PublicUsageSentenceController::toDto)
                 .toList();
@@ -28,25 +33,32 @@ public class PublicUsageSentenceController {
 
     // Get a published sentence by id
     @GetMapping("/{id}")
-    public ResponseEntity<UsageSentenceDto> getPublishedById(@PathVariable String id) {
+    public ResponseEntity<UsageSentenceDto> getPublishedById(@PathVariable String id, WebRequest request) {
         try {
-            return ResponseEntity.ok(toDto(usageSentenceService.getPublishedById(id)));
+            // One row: the stamp needs the row itself, so a 304 only saves serialization and transfer
+            UsageSentenceView s = usageSentenceService.getPublishedById(id);
+            CacheStamp stamp = CacheStamp.of(s.id(), s.version(),
+                    s.lastModifiedDate() != null ? s.lastModifiedDate().toInstant() : null);
+            if (HttpCaching.notModified(request, CachePolicy.SEARCH, stamp)) {
+                return null;
+            }
+            return ResponseEntity.ok(toDto(s));
         } catch (IllegalArgumentException e) {
             return ResponseEntity.notFound().build();
         }
     }
 
-    private static UsageSentenceDto toDto(UsageSentence s) {
+    static UsageSentenceDto toDto(UsageSentenceView s) {
         return new UsageSentenceDto(
-                s.getId(),
-                s.getLanguage(),
-                s.getSentenceNative(),
-                s.getSentenceLatin(),
-                s.getTranslation(),
-                s.getRegister(),
-                s.getExplanation(),
-                s.getDifficulty(),
-                s.getStatus() != null ? s.getStatus().name() : null
+                s.id(),
+                s.language(),
+                s.sentenceNative(),
+                s.sentenceLatin(),
+                s.translation(),
+                s.register(),
+                s.explanation(),
+                s.difficulty(),
+                s.status() != null ? s.status().name() : null
         );
     }
 }
@@ -0,0 +1,12 @@
+package com.bhashamitra.platform.controllers.dto;
+
+public record LemmaCandidateDto(
+        String lemmaId,
+        String lemmaNative,
+        String lemmaLatin,
+        String pos,
+        String matchedField,
+        String surfaceFormId,
+        String formNative,
+        String formType
+) {}
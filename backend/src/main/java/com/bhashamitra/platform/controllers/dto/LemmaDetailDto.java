@@ -0,0 +1,10 @@
+package com.bhashamitra.platform.controllers.dto;
+
+import java.util.List;
+
+public record LemmaDetailDto(
+        LemmaDto lemma,
+        List<MeaningDto> meanings,
+        List<SurfaceFormDto> surfaceForms,
+        List<PronunciationDto> pronunciations
+) {}
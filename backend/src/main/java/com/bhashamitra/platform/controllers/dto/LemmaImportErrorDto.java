@@ -0,0 +1,7 @@
+package com.bhashamitra.platform.controllers.dto;
+
+public record LemmaImportErrorDto(
+        int line,
+        String lemmaNative,
+        String message
+) {}
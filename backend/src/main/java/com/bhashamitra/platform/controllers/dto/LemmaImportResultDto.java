@@ -0,0 +1,20 @@
+package com.bhashamitra.platform.controllers.dto;
+
+import java.util.List;
+
+/**
+ * Outcome of a bulk lemma import. errors lists at most the first 1000 failed rows;
+ * errorsTruncated tells whether more were dropped from the report.
+ */
+public record LemmaImportResultDto(
+        String importId,
+        String language,
+        int totalRows,
+        int importedLemmas,
+        int importedMeanings,
+        int importedSurfaceForms,
+        int importedLinks,
+        int failedRows,
+        List<LemmaImportErrorDto> errors,
+        boolean errorsTruncated
+) {}
@@ -0,0 +1,11 @@
+package com.bhashamitra.platform.controllers.dto;
+
+import java.util.List;
+
+/**
+ * One keyset page of lemmas. nextCursor is null on the last page.
+ */
+public record LemmaPageDto(
+        List<LemmaDto> items,
+        String nextCursor
+) {}
@@ -0,0 +1,10 @@
+package com.bhashamitra.platform.controllers.dto;
+
+public record LemmaSuggestionDto(
+        String lemmaId,
+        String lemmaNative,
+        String lemmaLatin,
+        String pos,
+        String matchedText,
+        String matchedField
+) {}
@@ -0,0 +1,13 @@
+package com.bhashamitra.platform.controllers.dto;
+
+/**
+ * A lemma with the counts list pages show as badges. exampleCount counts published
+ * example sentences.
+ */
+public record LemmaSummaryDto(
+        LemmaDto lemma,
+        int meaningCount,
+        int surfaceFormCount,
+        int exampleCount,
+        int pronunciationCount
+) {}
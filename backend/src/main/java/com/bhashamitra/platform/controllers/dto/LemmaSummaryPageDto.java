@@ -0,0 +1,11 @@
+package com.bhashamitra.platform.controllers.dto;
+
+import java.util.List;
+
+/**
+ * One keyset page of lemma summaries. nextCursor is null on the last page.
+ */
+public record LemmaSummaryPageDto(
+        List<LemmaSummaryDto> items,
+        String nextCursor
+) {}
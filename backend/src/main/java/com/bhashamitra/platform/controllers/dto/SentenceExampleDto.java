@@ -0,0 +1,11 @@
+package com.bhashamitra.platform.controllers.dto;
+
+/**
+ * A published sentence that uses a lemma, with the link that ties them.
+ */
+public record SentenceExampleDto(
+        String linkId,
+        String linkType,
+        String surfaceFormId,
+        UsageSentenceDto sentence
+) {}
@@ -0,0 +1,11 @@
+package com.bhashamitra.platform.controllers.dto;
+
+import java.util.List;
+
+/**
+ * One keyset page of example sentences. nextCursor is null on the last page.
+ */
+public record SentenceExamplePageDto(
+        List<SentenceExampleDto> items,
+        String nextCursor
+) {}
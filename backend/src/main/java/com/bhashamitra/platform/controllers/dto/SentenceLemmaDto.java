@@ -0,0 +1,11 @@
+package com.bhashamitra.platform.controllers.dto;
+
+/**
+ * A published lemma used in a sentence, with the link that ties them.
+ */
+public record SentenceLemmaDto(
+        String linkId,
+        String linkType,
+        String surfaceFormId,
+        LemmaDto lemma
+) {}
@@ -0,0 +1,11 @@
+package com.bhashamitra.platform.controllers.dto;
+
+import java.util.List;
+
+/**
+ * One keyset page of the lemmas in a sentence. nextCursor is null on the last page.
+ */
+public record SentenceLemmaPageDto(
+        List<SentenceLemmaDto> items,
+        String nextCursor
+) {}
@@ -0,0 +1,6 @@
+package com.bhashamitra.platform.controllers.dto;
+
+public record SentenceSearchHitDto(
+        UsageSentenceDto sentence,
+        double score
+) {}
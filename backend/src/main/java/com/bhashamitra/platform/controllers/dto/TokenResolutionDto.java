@@ -0,0 +1,8 @@
+package com.bhashamitra.platform.controllers.dto;
+
+import java.util.List;
+
+public record TokenResolutionDto(
+        String token,
+        List<LemmaCandidateDto> candidates
+) {}
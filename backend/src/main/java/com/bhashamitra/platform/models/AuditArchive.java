@@ -0,0 +1,41 @@
+package com.bhashamitra.platform.models;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Table;
+import lombok.Data;
+import lombok.EqualsAndHashCode;
+
+import java.time.ZonedDateTime;
+
+/**
+ * Manifest of one editorial_audit_events partition moved to the archive store
+ * ({@code AuditArchiver}): the blob holding its rows as gzipped NDJSON and the event_ts
+ * range they cover. {@code dropped} is set once the partition is gone from the live
+ * table; from then on audit reads include the archive.
+ */
+@Entity
+@Table(name = "audit_archives")
+@Data
+@EqualsAndHashCode(callSuper = true)
+public class AuditArchive extends Auditable {
+
+    @Column(name = "partition_name", length = 64, nullable = false, unique = true)
+    private String partitionName;
+
+    @Column(name = "blob_key", length = 512, nullable = false)
+    private String blobKey;
+
+    // Oldest and newest event_ts in the archive
+    @Column(name = "from_ts", nullable = false)
+    private ZonedDateTime fromTs;
+
+    @Column(name = "to_ts", nullable = false)
+    private ZonedDateTime toTs;
+
+    @Column(name = "row_count", nullable = false)
+    private long rowCount;
+
+    @Column(name = "dropped", nullable = false)
+    private boolean dropped;
+}
@@ -0,0 +1,62 @@
+package com.bhashamitra.platform.models;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.Id;
+import jakarta.persistence.IdClass;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.Type;
+
+import java.io.Serializable;
+
+/**
+ * One entry of the index over {@link AuditArchive}s: how many events of an archive carry
+ * a given entity, actor or event type. Written by {@code AuditArchiver} together with its
+ * manifest; never updated.
+ */
+@Entity
+@Table(name = "audit_archive_keys")
+@IdClass(AuditArchiveKey.Pk.class)
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class AuditArchiveKey {
+
+    public enum Kind { ENTITY, ACTOR, EVENT_TYPE }
+
+    @Id
+    @Enumerated(EnumType.STRING)
+    @Column(name = "key_type", length = 20, nullable = false)
+    private Kind keyType;
+
+    // ENTITY: see entityKey
+    @Id
+    @Column(name = "key_value", length = 200, nullable = false)
+    private String keyValue;
+
+    @Id
+    @Type(BinaryIdType.class)
+    @Column(name = "archive_id", length = Ids.BYTES, nullable = false)
+    private String archiveId;
+
+    @Column(name = "event_count", nullable = false)
+    private long eventCount;
+
+    public static String entityKey(String entityType, String entityId) {
+        return entityType + "/" + entityId;
+    }
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Pk implements Serializable {
+        private Kind keyType;
+        private String keyValue;
+        private String archiveId;
+    }
+}
@@ -2,10 +2,10 @@ package com.bhashamitra.platform.models;
 
 import com.fasterxml.jackson.annotation.JsonIgnore;
 import jakarta.persistence.*;
+import org.hibernate.annotations.Type;
 
 import java.time.ZoneOffset;
 import java.time.ZonedDateTime;
-import java.util.UUID;
 
 @MappedSuperclass
 public abstract class Auditable {
@@ -13,7 +13,8 @@ public abstract class Auditable {
     private static final String SYSTEM_USER = "system";
 
     @Id
-    @Column(name = "id", length = 36, nullable = false)
+    @Type(BinaryIdType.class)
+    @Column(name = "id", length = Ids.BYTES, nullable = false)
     protected String id;
 
     @Column(name = "created_by", nullable = false)
@@ -34,7 +35,7 @@ public abstract class Auditable {
     protected Long version;
 
     protected Auditable() {
-        this.id = UUID.randomUUID().toString();
+        this.id = Ids.newId();
     }
 
     @PrePersist
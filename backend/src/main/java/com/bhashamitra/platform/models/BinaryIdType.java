@@ -0,0 +1,66 @@
+package com.bhashamitra.platform.models;
+
+import org.hibernate.type.SqlTypes;
+import org.hibernate.type.descriptor.WrapperOptions;
+import org.hibernate.usertype.UserType;
+
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Types;
+
+/**
+ * Maps a String id attribute to a BINARY(16) column (see {@link Ids}). The Java side,
+ * repositories, JPQL parameters and DTOs keep the canonical string; only the column
+ * changes.
+ *
+ * A string that is not a canonical UUID (a mistyped path variable, say) is bound as NULL:
+ * lookups by it match nothing and surface as "not found" exactly as they did against the
+ * old CHAR(36) column, while writing it into a NOT NULL id column fails loudly.
+ *
+ * On a database that still has CHAR(36) id columns ({@link Ids.Storage#TEXT}) the
+ * canonical string is bound instead; reads take either layout.
+ *
+ * Use it on every id and id-valued foreign key column:
+ * {@code @Type(BinaryIdType.class) @Column(name = "...", length = Ids.BYTES)}.
+ * Association join columns pick it up from the referenced id.
+ */
+public class BinaryIdType implements UserType<String> {
+
+    @Override
+    public int getSqlType() {
+        return SqlTypes.BINARY;
+    }
+
+    @Override
+    public Class<String> returnedClass() {
+        return String.class;
+    }
+
+    @Override
+    public String nullSafeGet(ResultSet rs, int position, WrapperOptions options) throws SQLException {
+        return Ids.fromBytes(rs.getBytes(position));
+    }
+
+    @Override
+    public void nullSafeSet(PreparedStatement st, String value, int index, WrapperOptions options) throws SQLException {
+        boolean text = Ids.storage() == Ids.Storage.TEXT;
+        if (value == null || !Ids.isValid(value)) {
+            st.setNull(index, text ? Types.CHAR : Types.BINARY);
+        } else if (text) {
+            st.setString(index, (String) Ids.toJdbc(value));
+        } else {
+            st.setBytes(index, Ids.toBytes(value));
+        }
+    }
+
+    @Override
+    public String deepCopy(String value) {
+        return value;
+    }
+
+    @Override
+    public boolean isMutable() {
+        return false;
+    }
+}
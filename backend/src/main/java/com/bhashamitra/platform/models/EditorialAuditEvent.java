@@ -4,6 +4,7 @@ import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
 import jakarta.persistence.Table;
 import lombok.Data;
+import org.hibernate.annotations.Type;
 import lombok.EqualsAndHashCode;
 
 import java.time.ZonedDateTime;
@@ -17,7 +18,8 @@ public class EditorialAuditEvent extends Auditable {
     @Column(name = "entity_type", length = 30, nullable = false)
     private String entityType;
 
-    @Column(name = "entity_id", length = 36, nullable = false)
+    @Type(BinaryIdType.class)
+    @Column(name = "entity_id", length = Ids.BYTES, nullable = false)
     private String entityId;
 
     @Column(name = "event_type", length = 50, nullable = false)
@@ -34,4 +36,28 @@ public class EditorialAuditEvent extends Auditable {
 
     @Column(name = "event_ts", nullable = false)
     private ZonedDateTime eventTs;
+
+    /**
+     * An event read back from the audit archive (the row left the table with its
+     * partition); the base audit fields are derived the way the audit writer sets them.
+     * Not meant to be saved again.
+     */
+    public static EditorialAuditEvent archived(String id, String entityType, String entityId, String eventType,
+                                               String actor, String comment, String details, ZonedDateTime eventTs) {
+        EditorialAuditEvent e = new EditorialAuditEvent();
+        e.id = id;
+        e.entityType = entityType;
+        e.entityId = entityId;
+        e.eventType = eventType;
+        e.actor = actor;
+        e.comment = comment;
+        e.details = details;
+        e.eventTs = eventTs;
+        e.createdBy = actor;
+        e.createdDate = eventTs;
+        e.lastModifiedBy = actor;
+        e.lastModifiedDate = eventTs;
+        e.version = 0L;
+        return e;
+    }
 }
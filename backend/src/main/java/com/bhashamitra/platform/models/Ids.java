@@ -0,0 +1,199 @@
+package com.bhashamitra.platform.models;
+
+import java.nio.charset.StandardCharsets;
+import java.security.SecureRandom;
+import java.util.Locale;
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Primary key ids: time-ordered UUIDs (RFC 9562 version 7) stored as BINARY(16) and
+ * exchanged everywhere else in their canonical 36-character form.
+ *
+ * Layout: 48-bit Unix millis, version, 12-bit sequence, variant, 62 random bits. The
+ * sequence starts at a random value each millisecond and counts up within it, so ids
+ * from one process are strictly increasing even when the clock stalls or steps back;
+ * new rows land at the right edge of the clustered index instead of on random pages.
+ *
+ * The canonical string is lower-case hex with fixed dash positions, so string order
+ * equals byte order and in-memory sorts by id agree with the database.
+ *
+ * A database created before changelog 013 keeps its CHAR(36) id columns until the
+ * binary-id migration (changelogs 017 and 018) has swapped them; until then
+ * {@link #storage()} is {@link Storage#TEXT} and ids are bound as their canonical string
+ * ({@code config.IdStorageMonitor} tracks the layout).
+ */
+public final class Ids {
+
+    public static final int BYTES = 16;
+
+    private static final long VERSION_7 = 0x7000L;
+    private static final long VARIANT_RFC = 0x8000000000000000L;
+    private static final int SEQUENCE_BITS = 12;
+    // Fresh milliseconds start below the halfway mark, leaving room to count up
+    private static final int SEQUENCE_SEED_BOUND = 1 << (SEQUENCE_BITS - 1);
+
+    private static final char[] HEX = "0123456789abcdef".toCharArray();
+    private static final AtomicLong LAST = new AtomicLong();
+
+    private static volatile Storage storage = Storage.BINARY;
+
+    private Ids() {
+    }
+
+    /**
+     * How the database stores id columns.
+     */
+    public enum Storage {
+        /** BINARY(16): the 16 bytes */
+        BINARY,
+        /** CHAR(36): the canonical string, before the binary-id migration */
+        TEXT
+    }
+
+    public static Storage storage() {
+        return storage;
+    }
+
+    public static void setStorage(Storage storage) {
+        Ids.storage = Objects.requireNonNull(storage);
+    }
+
+    /**
+     * JDBC value of an id column in the current {@link #storage()}: the 16 bytes, or the
+     * canonical string; null stays null.
+     *
+     * @throws IllegalArgumentException when the string is not a canonical UUID
+     */
+    public static Object toJdbc(String id) {
+        if (id == null) {
+            return null;
+        }
+        if (storage == Storage.TEXT) {
+            if (!isValid(id)) {
+                throw new IllegalArgumentException("Invalid id: " + id);
+            }
+            return id.toLowerCase(Locale.ROOT);
+        }
+        return toBytes(id);
+    }
+
+    /**
+     * A new id in canonical form.
+     */
+    public static String newId() {
+        long timeAndSequence = nextTimeAndSequence();
+        long msb = ((timeAndSequence >>> SEQUENCE_BITS) << 16)
+                | VERSION_7
+                | (timeAndSequence & ((1 << SEQUENCE_BITS) - 1));
+        long lsb = (Random.INSTANCE.nextLong() >>> 2) | VARIANT_RFC;
+        return toString(msb, lsb);
+    }
+
+    /**
+     * True for a canonical (any case) 36-character UUID string.
+     */
+    public static boolean isValid(String id) {
+        if (id == null || id.length() != 36) {
+            return false;
+        }
+        for (int i = 0; i < 36; i++) {
+            char c = id.charAt(i);
+            if (i == 8 || i == 13 || i == 18 || i == 23) {
+                if (c != '-') {
+                    return false;
+                }
+            } else if (Character.digit(c, 16) < 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Canonical string to its 16 stored bytes; null stays null.
+     *
+     * @throws IllegalArgumentException when the string is not a canonical UUID
+     */
+    public static byte[] toBytes(String id) {
+        if (id == null) {
+            return null;
+        }
+        if (!isValid(id)) {
+            throw new IllegalArgumentException("Invalid id: " + id);
+        }
+        byte[] out = new byte[BYTES];
+        int nibbles = 0;
+        for (int i = 0; i < 36; i++) {
+            char c = id.charAt(i);
+            if (c != '-') {
+                out[nibbles >> 1] |= (byte) (Character.digit(c, 16) << ((nibbles & 1) == 0 ? 4 : 0));
+                nibbles++;
+            }
+        }
+        return out;
+    }
+
+    /**
+     * Stored bytes to the canonical string; null stays null. Takes the 16 bytes of a
+     * BINARY(16) column and the 36 characters of a CHAR(36) one.
+     */
+    public static String fromBytes(byte[] bytes) {
+        if (bytes == null) {
+            return null;
+        }
+        if (bytes.length == 36) {
+            String text = new String(bytes, StandardCharsets.US_ASCII);
+            if (isValid(text)) {
+                return text.toLowerCase(Locale.ROOT);
+            }
+        }
+        if (bytes.length != BYTES) {
+            throw new IllegalArgumentException("Expected " + BYTES + " id bytes, got " + bytes.length);
+        }
+        long msb = 0;
+        long lsb = 0;
+        for (int i = 0; i < 8; i++) {
+            msb = (msb << 8) | (bytes[i] & 0xff);
+            lsb = (lsb << 8) | (bytes[i + 8] & 0xff);
+        }
+        return toString(msb, lsb);
+    }
+
+    private static long nextTimeAndSequence() {
+        long now = System.currentTimeMillis();
+        while (true) {
+            long last = LAST.get();
+            long next = now > (last >>> SEQUENCE_BITS)
+                    ? (now << SEQUENCE_BITS) | Random.INSTANCE.nextInt(SEQUENCE_SEED_BOUND)
+                    // Same (or earlier) millisecond: count up; an overflow borrows the next millisecond
+                    : last + 1;
+            if (LAST.compareAndSet(last, next)) {
+                return next;
+            }
+        }
+    }
+
+    private static String toString(long msb, long lsb) {
+        char[] out = new char[36];
+        int pos = 0;
+        for (int nibble = 15; nibble >= 0; nibble--) {
+            out[pos++] = HEX[(int) (msb >>> (nibble * 4)) & 0xf];
+            if (pos == 8 || pos == 13 || pos == 18) {
+                out[pos++] = '-';
+            }
+        }
+        for (int nibble = 15; nibble >= 0; nibble--) {
+            out[pos++] = HEX[(int) (lsb >>> (nibble * 4)) & 0xf];
+            if (pos == 23) {
+                out[pos++] = '-';
+            }
+        }
+        return new String(out);
+    }
+
+    // Same source of randomness as UUID.randomUUID, created on first use
+    private static final class Random {
+        static final SecureRandom INSTANCE = new SecureRandom();
+    }
+}
@@ -1,13 +1,19 @@
 package com.bhashamitra.platform.models;
 
+import com.bhashamitra.platform.services.LanguageChangeListener;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
+import jakarta.persistence.EntityListeners;
 import jakarta.persistence.Table;
 import lombok.Data;
 import lombok.EqualsAndHashCode;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
 @Entity
 @Table(name = "languages")
+@EntityListeners(LanguageChangeListener.class)
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "languages")
 @Data
 @EqualsAndHashCode(callSuper = true)
 public class Language extends Auditable {
@@ -1,15 +1,33 @@
 package com.bhashamitra.platform.models;
 
+import com.bhashamitra.platform.text.TextCanonicalizer;
+import com.bhashamitra.platform.text.Transliterator;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
 import jakarta.persistence.EnumType;
 import jakarta.persistence.Enumerated;
+import jakarta.persistence.Index;
 import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
+import lombok.AccessLevel;
 import lombok.Data;
 import lombok.EqualsAndHashCode;
+import lombok.Setter;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
 @Entity
-@Table(name = "lemmas")
+@Table(
+        name = "lemmas",
+        uniqueConstraints = {
+                @UniqueConstraint(name = "uk_lemmas_language_lemma_native", columnNames = {"language", "lemma_native"}),
+                @UniqueConstraint(name = "uk_lemmas_language_lemma_key", columnNames = {"language", "lemma_key"})
+        },
+        indexes = {
+                @Index(name = "idx_lemmas_language_latin_key", columnList = "language, latin_key")
+        }
+)
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "lemmas")
 @Data
 @EqualsAndHashCode(callSuper = true)
 public class Lemma extends Auditable {
@@ -24,6 +42,22 @@ public class Lemma extends Auditable {
     @Column(name = "lemma_native", length = 255, nullable = false)
     private String lemmaNative;
 
+    /**
+     * TextCanonicalizer key of lemmaNative; unique per language (uk_lemmas_language_lemma_key).
+     * Derived in {@link #setLemmaNative}, never set directly.
+     */
+    @Setter(AccessLevel.NONE)
+    @Column(name = "lemma_key", length = 300)
+    private String lemmaKey;
+
+    /**
+     * Transliterator.latinKey of lemmaNative, for cross-script search (idx_lemmas_language_latin_key).
+     * Derived in {@link #setLemmaNative}, never set directly.
+     */
+    @Setter(AccessLevel.NONE)
+    @Column(name = "latin_key", length = 300)
+    private String latinKey;
+
     @Column(name = "lemma_latin", length = 255)
     private String lemmaLatin;
 
@@ -36,4 +70,10 @@ public class Lemma extends Auditable {
     @Enumerated(EnumType.STRING)
     @Column(name = "status", length = 20, nullable = false)
     private LemmaStatus status = LemmaStatus.DRAFT;
+
+    public void setLemmaNative(String lemmaNative) {
+        this.lemmaNative = lemmaNative;
+        this.lemmaKey = TextCanonicalizer.canonicalKey(lemmaNative);
+        this.latinKey = Transliterator.latinKey(lemmaNative);
+    }
 }
@@ -11,6 +11,7 @@ import jakarta.persistence.ManyToOne;
 import jakarta.persistence.Table;
 import jakarta.persistence.UniqueConstraint;
 import lombok.Data;
+import org.hibernate.annotations.Type;
 import lombok.EqualsAndHashCode;
 
 @Entity
@@ -24,7 +25,9 @@ import lombok.EqualsAndHashCode;
         },
         indexes = {
                 @Index(name = "idx_lsl_lemma", columnList = "lemma_id"),
-                @Index(name = "idx_lsl_sentence", columnList = "sentence_id")
+                @Index(name = "idx_lsl_sentence", columnList = "sentence_id"),
+                @Index(name = "idx_lsl_lemma_created", columnList = "lemma_id, created_date, id"),
+                @Index(name = "idx_lsl_sentence_created", columnList = "sentence_id, created_date, id")
         }
 )
 @Data
@@ -44,7 +47,8 @@ public class LemmaSentenceLink extends Auditable {
      * FK in DB is ON DELETE SET NULL.
      * NOTE: This entity is defined later (SurfaceForm). We'll create that model next.
      */
-    @Column(name = "surface_form_id", length = 36)
+    @Type(BinaryIdType.class)
+    @Column(name = "surface_form_id", length = Ids.BYTES)
     private String surfaceFormId;
 
     @Enumerated(EnumType.STRING)
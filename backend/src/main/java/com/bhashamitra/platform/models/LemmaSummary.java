@@ -0,0 +1,50 @@
+package com.bhashamitra.platform.models;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import lombok.Data;
+import org.hibernate.annotations.Type;
+
+/**
+ * Per-lemma counts of what hangs off a lemma, kept next to it so list pages do not count
+ * four child tables per row. Derived data: maintained incrementally by the services that
+ * write the children ({@code LemmaSummaryService}) and rebuilt from the source tables by
+ * {@code LemmaSummaryReconciler}. Never written through the entity.
+ */
+@Entity
+@Table(
+        name = "lemma_summary",
+        indexes = {
+                @Index(name = "idx_lemma_summary_examples", columnList = "example_count, lemma_id")
+        }
+)
+@Data
+public class LemmaSummary {
+
+    @Id
+    @Type(BinaryIdType.class)
+    @Column(name = "lemma_id", length = Ids.BYTES, nullable = false)
+    private String lemmaId;
+
+    @Column(name = "meaning_count", nullable = false)
+    private int meaningCount;
+
+    @Column(name = "surface_form_count", nullable = false)
+    private int surfaceFormCount;
+
+    /**
+     * Links to PUBLISHED sentences only, so the public count matches what the examples
+     * endpoint returns.
+     */
+    @Column(name = "example_count", nullable = false)
+    private int exampleCount;
+
+    /**
+     * Recordings with owner_type LEMMA.
+     */
+    @Column(name = "pronunciation_count", nullable = false)
+    private int pronunciationCount;
+}
@@ -3,6 +3,8 @@ package com.bhashamitra.platform.models;
 import jakarta.persistence.*;
 import lombok.Data;
 import lombok.EqualsAndHashCode;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
 @Entity
 @Table(
@@ -17,6 +19,7 @@ import lombok.EqualsAndHashCode;
                 @Index(name = "idx_meanings_lemma", columnList = "lemma_id")
         }
 )
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "meanings")
 @Data
 @EqualsAndHashCode(callSuper = true)
 public class Meaning extends Auditable {
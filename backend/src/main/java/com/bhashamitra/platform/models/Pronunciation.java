@@ -5,6 +5,7 @@ import jakarta.persistence.Entity;
 import jakarta.persistence.Index;
 import jakarta.persistence.Table;
 import lombok.Data;
+import org.hibernate.annotations.Type;
 import lombok.EqualsAndHashCode;
 
 @Entity
@@ -27,7 +28,8 @@ public class Pronunciation extends Auditable {
     /**
      * UUID of lemma / sentence / surface form / etc
      */
-    @Column(name = "owner_id", length = 36, nullable = false)
+    @Type(BinaryIdType.class)
+    @Column(name = "owner_id", length = Ids.BYTES, nullable = false)
     private String ownerId;
 
     @Column(name = "speaker", length = 100)
@@ -1,8 +1,14 @@
 package com.bhashamitra.platform.models;
 
+import com.bhashamitra.platform.text.TextCanonicalizer;
+import com.bhashamitra.platform.text.Transliterator;
 import jakarta.persistence.*;
+import lombok.AccessLevel;
 import lombok.Data;
 import lombok.EqualsAndHashCode;
+import lombok.Setter;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
 @Entity
 @Table(
@@ -11,12 +17,18 @@ import lombok.EqualsAndHashCode;
                 @UniqueConstraint(
                         name = "uk_surface_forms_lemma_form_native",
                         columnNames = {"lemma_id", "form_native"}
+                ),
+                @UniqueConstraint(
+                        name = "uk_surface_forms_lemma_form_key",
+                        columnNames = {"lemma_id", "form_key"}
                 )
         },
         indexes = {
-                @Index(name = "idx_surface_forms_lemma", columnList = "lemma_id")
+                @Index(name = "idx_surface_forms_lemma", columnList = "lemma_id"),
+                @Index(name = "idx_surface_forms_latin_key", columnList = "latin_key")
         }
 )
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "surface-forms")
 @Data
 @EqualsAndHashCode(callSuper = true)
 public class SurfaceForm extends Auditable {
@@ -28,6 +40,20 @@ public class SurfaceForm extends Auditable {
     @Column(name = "form_native", length = 255, nullable = false)
     private String formNative;
 
+    /**
+     * TextCanonicalizer key of formNative; unique per lemma. Derived in {@link #setFormNative}.
+     */
+    @Setter(AccessLevel.NONE)
+    @Column(name = "form_key", length = 300)
+    private String formKey;
+
+    /**
+     * Transliterator.latinKey of formNative, for cross-script search. Derived in {@link #setFormNative}.
+     */
+    @Setter(AccessLevel.NONE)
+    @Column(name = "latin_key", length = 300)
+    private String latinKey;
+
     @Column(name = "form_latin", length = 255)
     private String formLatin;
 
@@ -40,4 +66,10 @@ public class SurfaceForm extends Auditable {
 
     @Column(name = "notes", columnDefinition = "TEXT")
     private String notes;
+
+    public void setFormNative(String formNative) {
+        this.formNative = formNative;
+        this.formKey = TextCanonicalizer.canonicalKey(formNative);
+        this.latinKey = Transliterator.latinKey(formNative);
+    }
 }
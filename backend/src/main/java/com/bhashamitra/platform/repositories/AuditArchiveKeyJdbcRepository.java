@@ -0,0 +1,37 @@
+package com.bhashamitra.platform.repositories;
+
+import com.bhashamitra.platform.models.AuditArchiveKey;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+/**
+ * Plain-JDBC batch inserts into audit_archive_keys: an archived month carries one entry
+ * per entity, actor and event type, too many to save one merge at a time.
+ */
+@Repository
+public class AuditArchiveKeyJdbcRepository {
+
+    private static final String INSERT_SQL = """
+            INSERT INTO audit_archive_keys (key_type, key_value, archive_id, event_count)
+            VALUES (?, ?, ?, ?)
+            """;
+    private static final int BATCH_SIZE = 1000;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public AuditArchiveKeyJdbcRepository(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    public void insertAll(List<AuditArchiveKey> keys) {
+        if (keys.isEmpty()) return;
+        jdbcTemplate.batchUpdate(INSERT_SQL, keys, BATCH_SIZE, (ps, k) -> {
+            ps.setString(1, k.getKeyType().name());
+            ps.setString(2, k.getKeyValue());
+            JdbcSupport.setId(ps, 3, k.getArchiveId());
+            ps.setLong(4, k.getEventCount());
+        });
+    }
+}
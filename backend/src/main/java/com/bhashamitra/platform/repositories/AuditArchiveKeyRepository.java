@@ -0,0 +1,46 @@
+package com.bhashamitra.platform.repositories;
+
+import com.bhashamitra.platform.models.AuditArchive;
+import com.bhashamitra.platform.models.AuditArchiveKey;
+import com.bhashamitra.platform.models.AuditArchiveKey.Kind;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.ZonedDateTime;
+import java.util.List;
+
+public interface AuditArchiveKeyRepository extends JpaRepository<AuditArchiveKey, AuditArchiveKey.Pk> {
+
+    // Dropped archives holding events with this key, newest first
+    @Query("""
+            select new com.bhashamitra.platform.repositories.AuditArchiveKeyRepository$ArchiveCount(a, k.eventCount)
+            from AuditArchiveKey k join AuditArchive a on a.id = k.archiveId
+            where k.keyType = :keyType and k.keyValue = :keyValue and a.dropped = true
+            order by a.toTs desc
+            """)
+    List<ArchiveCount> findArchives(@Param("keyType") Kind keyType, @Param("keyValue") String keyValue);
+
+    // ... restricted to those overlapping [from, to]
+    @Query("""
+            select new com.bhashamitra.platform.repositories.AuditArchiveKeyRepository$ArchiveCount(a, k.eventCount)
+            from AuditArchiveKey k join AuditArchive a on a.id = k.archiveId
+            where k.keyType = :keyType and k.keyValue = :keyValue and a.dropped = true
+              and a.fromTs <= :to and a.toTs >= :from
+            order by a.toTs desc
+            """)
+    List<ArchiveCount> findArchivesOverlapping(@Param("keyType") Kind keyType,
+                                               @Param("keyValue") String keyValue,
+                                               @Param("from") ZonedDateTime from,
+                                               @Param("to") ZonedDateTime to);
+
+    @Modifying
+    @Query("delete from AuditArchiveKey k where k.archiveId = :archiveId")
+    int deleteByArchiveId(@Param("archiveId") String archiveId);
+
+    /**
+     * An archive and how many of its events carry the key looked up.
+     */
+    record ArchiveCount(AuditArchive archive, long eventCount) {}
+}
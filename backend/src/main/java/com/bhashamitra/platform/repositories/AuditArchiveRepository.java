@@ -0,0 +1,15 @@
+package com.bhashamitra.platform.repositories;
+
+import com.bhashamitra.platform.models.AuditArchive;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+import java.util.List;
+import java.util.Optional;
+
+public interface AuditArchiveRepository extends JpaRepository<AuditArchive, String> {
+
+    Optional<AuditArchive> findByPartitionName(String partitionName);
+
+    // Written but not yet dropped: the archiver stopped between the two steps
+    List<AuditArchive> findByDroppedFalse();
+}
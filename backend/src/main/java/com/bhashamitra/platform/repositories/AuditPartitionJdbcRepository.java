@@ -0,0 +1,150 @@
+package com.bhashamitra.platform.repositories;
+
+import com.bhashamitra.platform.repositories.EditorialAuditEventJdbcRepository.Row;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.ResultSet;
+import java.sql.Statement;
+import java.util.List;
+import java.util.Objects;
+import java.util.function.Consumer;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+
+/**
+ * Range partitions of editorial_audit_events (MySQL only, changelog 016): listing them,
+ * adding months, streaming one out and dropping it once archived. Partition names end up in DDL, so
+ * they are checked against {@link #NAME} rather than bound.
+ */
+@Repository
+public class AuditPartitionJdbcRepository {
+
+    private static final String TABLE = "editorial_audit_events";
+    private static final Pattern NAME = Pattern.compile("[A-Za-z0-9_]{1,64}");
+
+    private final JdbcTemplate jdbcTemplate;
+    private final JdbcTemplate streaming;
+
+    public AuditPartitionJdbcRepository(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+        // Connector/J streams row by row instead of buffering the whole result
+        this.streaming = new JdbcTemplate(Objects.requireNonNull(jdbcTemplate.getDataSource()));
+        this.streaming.setFetchSize(Integer.MIN_VALUE);
+    }
+
+    /**
+     * False on anything but MySQL (the H2 test database included); the other methods
+     * are only valid when this is true.
+     */
+    public boolean isSupported() {
+        String product = jdbcTemplate.execute((ConnectionCallback<String>) c -> c.getMetaData().getDatabaseProductName());
+        return "MySQL".equalsIgnoreCase(product);
+    }
+
+    /**
+     * Partitions in range order; empty when the table is not partitioned.
+     */
+    public List<Partition> findPartitions() {
+        return jdbcTemplate.query("""
+                SELECT PARTITION_NAME, PARTITION_DESCRIPTION
+                FROM information_schema.PARTITIONS
+                WHERE TABLE_SCHEMA = DATABASE() AND TABLE_NAME = ? AND PARTITION_NAME IS NOT NULL
+                ORDER BY PARTITION_ORDINAL_POSITION
+                """, (rs, i) -> {
+            String bound = rs.getString("PARTITION_DESCRIPTION");
+            return new Partition(rs.getString("PARTITION_NAME"),
+                    "MAXVALUE".equalsIgnoreCase(bound) ? null : Long.valueOf(bound));
+        }, TABLE);
+    }
+
+    /**
+     * Adds bounded partitions after the last one: split out of the MAXVALUE partition
+     * when there is one, appended otherwise.
+     */
+    public void addPartitions(List<Partition> partitions, String maxValuePartition) {
+        if (partitions.isEmpty()) return;
+
+        String defs = partitions.stream()
+                .map(p -> "PARTITION " + name(p.name()) + " VALUES LESS THAN (" + Objects.requireNonNull(p.lessThan()) + ")")
+                .collect(Collectors.joining(", "));
+        if (maxValuePartition != null) {
+            String max = name(maxValuePartition);
+            jdbcTemplate.execute("ALTER TABLE " + TABLE + " REORGANIZE PARTITION " + max
+                    + " INTO (" + defs + ", PARTITION " + max + " VALUES LESS THAN MAXVALUE)");
+        } else {
+            jdbcTemplate.execute("ALTER TABLE " + TABLE + " ADD PARTITION (" + defs + ")");
+        }
+    }
+
+    /**
+     * Every row of one partition, newest first, handed over as it is read.
+     */
+    public void streamPartition(String partition, Consumer<Row> consumer) {
+        streaming.query("""
+                SELECT id, entity_type, entity_id, event_type, actor, comment, details, event_ts
+                FROM %s PARTITION (%s)
+                ORDER BY event_ts DESC, id DESC
+                """.formatted(TABLE, name(partition)), (ResultSet rs) -> {
+            consumer.accept(new Row(
+                    JdbcSupport.getId(rs, "id"),
+                    rs.getString("entity_type"),
+                    JdbcSupport.getId(rs, "entity_id"),
+                    rs.getString("event_type"),
+                    rs.getString("actor"),
+                    rs.getString("comment"),
+                    rs.getString("details"),
+                    JdbcSupport.getUtcInstant(rs, "event_ts")
+            ));
+        });
+    }
+
+    public long countRows(String partition) {
+        Long count = jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM " + TABLE + " PARTITION (" + name(partition) + ")", Long.class);
+        return count != null ? count : 0;
+    }
+
+    /**
+     * Drops the partition if it still holds exactly expected rows, and returns whether it
+     * did. The table is write-locked between the count and the drop, so an event that
+     * reached the partition after it was archived is never dropped with it.
+     */
+    public boolean dropPartitionIfCount(String partition, long expected) {
+        String p = name(partition);
+        Boolean dropped = jdbcTemplate.execute((ConnectionCallback<Boolean>) c -> {
+            try (Statement st = c.createStatement()) {
+                st.execute("LOCK TABLES " + TABLE + " WRITE");
+                try {
+                    long count;
+                    try (ResultSet rs = st.executeQuery("SELECT COUNT(*) FROM " + TABLE + " PARTITION (" + p + ")")) {
+                        rs.next();
+                        count = rs.getLong(1);
+                    }
+                    if (count != expected) {
+                        return false;
+                    }
+                    st.execute("ALTER TABLE " + TABLE + " DROP PARTITION " + p);
+                    return true;
+                } finally {
+                    st.execute("UNLOCK TABLES");
+                }
+            }
+        });
+        return Boolean.TRUE.equals(dropped);
+    }
+
+    private static String name(String partition) {
+        if (partition == null || !NAME.matcher(partition).matches()) {
+            throw new IllegalArgumentException("Invalid partition name: " + partition);
+        }
+        return partition;
+    }
+
+    /**
+     * A range partition; lessThan is its exclusive upper bound in epoch seconds of
+     * event_ts, null for MAXVALUE.
+     */
+    public record Partition(String name, Long lessThan) {}
+}
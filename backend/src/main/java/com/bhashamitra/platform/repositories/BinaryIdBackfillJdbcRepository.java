@@ -0,0 +1,100 @@
+package com.bhashamitra.platform.repositories;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * The BINARY(16) shadow columns that changelog 017 adds next to each CHAR(36) id column
+ * of a database created before changelog 013 (MySQL only): whether they are there, and
+ * filling them from the text ids in primary-key ranges. Table and column names come from
+ * {@link #TABLES}, never from input.
+ */
+@Repository
+public class BinaryIdBackfillJdbcRepository {
+
+    /**
+     * Every table with CHAR(36) id columns, parents before children.
+     */
+    public static final List<Table> TABLES = List.of(
+            new Table("languages", List.of("id")),
+            new Table("lemmas", List.of("id")),
+            new Table("meanings", List.of("id", "lemma_id")),
+            new Table("surface_forms", List.of("id", "lemma_id")),
+            new Table("usage_sentences", List.of("id")),
+            new Table("lemma_sentence_links", List.of("id", "lemma_id", "sentence_id", "surface_form_id")),
+            new Table("pronunciations", List.of("id", "owner_id")),
+            new Table("editorial_audit_events", List.of("id", "entity_id")),
+            new Table("lemma_summary", List.of("lemma_id"))
+    );
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public BinaryIdBackfillJdbcRepository(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    /**
+     * True while the shadow columns exist: after changelog 017 and before the swap.
+     */
+    public boolean isExpanded() {
+        Integer count = jdbcTemplate.queryForObject("""
+                SELECT COUNT(*) FROM information_schema.COLUMNS
+                WHERE TABLE_SCHEMA = DATABASE() AND TABLE_NAME = 'lemmas' AND COLUMN_NAME = 'id_bin'
+                """, Integer.class);
+        return count != null && count > 0;
+    }
+
+    /**
+     * True when some row has an id whose shadow is not filled in.
+     */
+    public boolean hasUnfilled(Table table) {
+        String unfilled = table.idColumns().stream()
+                .map(c -> "(" + c + " IS NOT NULL AND " + c + "_bin IS NULL)")
+                .collect(Collectors.joining(" OR "));
+        Integer found = jdbcTemplate.queryForObject(
+                "SELECT EXISTS (SELECT 1 FROM " + table.name() + " WHERE " + unfilled + ")", Integer.class);
+        return found != null && found == 1;
+    }
+
+    /**
+     * Primary key of the last of the next limit rows after afterKey (null: from the
+     * start), in key order; null when there are none.
+     */
+    public String nextBatchEnd(Table table, String afterKey, int limit) {
+        String key = table.key();
+        String sql = "SELECT MAX(" + key + ") FROM (SELECT " + key + " FROM " + table.name()
+                + (afterKey != null ? " WHERE " + key + " > ?" : "")
+                + " ORDER BY " + key + " LIMIT " + limit + ") batch";
+        Object[] args = afterKey != null ? new Object[]{afterKey} : new Object[0];
+        return jdbcTemplate.queryForObject(sql, String.class, args);
+    }
+
+    /**
+     * Sets the shadow columns of the rows with afterKey &lt; key &lt;= toKey (afterKey
+     * null: from the start) and returns how many rows that was.
+     */
+    public int fill(Table table, String afterKey, String toKey) {
+        String key = table.key();
+        String set = table.idColumns().stream()
+                .map(c -> c + "_bin = UNHEX(REPLACE(" + c + ", '-', ''))")
+                .collect(Collectors.joining(", "));
+        String sql = "UPDATE " + table.name() + " SET " + set
+                + " WHERE " + (afterKey != null ? key + " > ? AND " : "") + key + " <= ?";
+        return afterKey != null
+                ? jdbcTemplate.update(sql, afterKey, toKey)
+                : jdbcTemplate.update(sql, toKey);
+    }
+
+    /**
+     * A table and its CHAR(36) id columns, primary key first; each has a shadow column
+     * named with the suffix {@code _bin}.
+     */
+    public record Table(String name, List<String> idColumns) {
+        public String key() {
+            return idColumns.get(0);
+        }
+    }
+}
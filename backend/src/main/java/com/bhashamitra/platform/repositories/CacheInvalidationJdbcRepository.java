@@ -0,0 +1,71 @@
+package com.bhashamitra.platform.repositories;
+
+import com.bhashamitra.platform.models.Ids;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.time.Instant;
+import java.util.List;
+
+/**
+ * The cache_invalidations table: second-level cache invalidations appended by one
+ * application instance and polled by the others, in seq order.
+ */
+@Repository
+public class CacheInvalidationJdbcRepository {
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public CacheInvalidationJdbcRepository(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    public void insertBatch(String node, List<Entry> entries, Instant now) {
+        if (entries.isEmpty()) return;
+
+        jdbcTemplate.batchUpdate("""
+                INSERT INTO cache_invalidations (node, entity, entity_id, created_date)
+                VALUES (?, ?, ?, ?)
+                """, entries, entries.size(), (ps, e) -> {
+            ps.setString(1, node);
+            ps.setString(2, e.entity());
+            // BINARY(16) whatever the id layout of the entity tables (changelog 014)
+            ps.setBytes(3, Ids.toBytes(e.entityId()));
+            JdbcSupport.setUtcTimestamp(ps, 4, now);
+        });
+    }
+
+    /**
+     * Highest seq written so far, 0 for an empty table.
+     */
+    public long maxSeq() {
+        Long max = jdbcTemplate.queryForObject("SELECT MAX(seq) FROM cache_invalidations", Long.class);
+        return max != null ? max : 0;
+    }
+
+    /**
+     * Up to limit rows with a seq above afterSeq, in seq order.
+     */
+    public List<Row> findAfter(long afterSeq, int limit) {
+        return jdbcTemplate.query(
+                "SELECT seq, node, entity, entity_id FROM cache_invalidations WHERE seq > ? ORDER BY seq LIMIT " + limit,
+                (rs, i) -> new Row(
+                        rs.getLong("seq"),
+                        rs.getString("node"),
+                        new Entry(rs.getString("entity"), JdbcSupport.getId(rs, "entity_id"))),
+                afterSeq);
+    }
+
+    public int deleteOlderThan(Instant cutoff) {
+        return jdbcTemplate.update("DELETE FROM cache_invalidations WHERE created_date < ?",
+                ps -> JdbcSupport.setUtcTimestamp(ps, 1, cutoff));
+    }
+
+    /**
+     * What to drop: one entity (entity and entityId), a whole entity region (entityId
+     * null) or every region (both null).
+     */
+    public record Entry(String entity, String entityId) {}
+
+    public record Row(long seq, String node, Entry entry) {}
+}
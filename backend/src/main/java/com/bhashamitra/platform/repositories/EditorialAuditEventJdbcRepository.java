@@ -0,0 +1,64 @@
+package com.bhashamitra.platform.repositories;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.time.Instant;
+import java.util.List;
+
+/**
+ * Plain-JDBC batch inserts into editorial_audit_events for the write-behind audit path.
+ * Bypasses the persistence context so thousands of rows cost a handful of round-trips.
+ * Rows already present (same id) are left as they are, so a spooled batch can be
+ * inserted again after a failure the database had in fact committed.
+ */
+@Repository
+public class EditorialAuditEventJdbcRepository {
+
+    private static final String INSERT_SQL = """
+            INSERT INTO editorial_audit_events
+                (id, entity_type, entity_id, event_type, actor, comment, details, event_ts,
+                 created_by, created_date, last_modified_by, last_modified_date, version)
+            VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, 0)
+            ON DUPLICATE KEY UPDATE id = id
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public EditorialAuditEventJdbcRepository(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    public void insertBatch(List<Row> rows) {
+        if (rows.isEmpty()) return;
+
+        jdbcTemplate.batchUpdate(INSERT_SQL, rows, rows.size(), (ps, r) -> {
+            JdbcSupport.setId(ps, 1, r.id());
+            ps.setString(2, r.entityType());
+            JdbcSupport.setId(ps, 3, r.entityId());
+            ps.setString(4, r.eventType());
+            ps.setString(5, r.actor());
+            ps.setString(6, r.comment());
+            ps.setString(7, r.details());
+            JdbcSupport.setUtcTimestamp(ps, 8, r.eventTs());
+            ps.setString(9, r.actor());
+            JdbcSupport.setUtcTimestamp(ps, 10, r.eventTs());
+            ps.setString(11, r.actor());
+            JdbcSupport.setUtcTimestamp(ps, 12, r.eventTs());
+        });
+    }
+
+    /**
+     * One editorial_audit_events row, already validated.
+     */
+    public record Row(
+            String id,
+            String entityType,
+            String entityId,
+            String eventType,
+            String actor,
+            String comment,
+            String details,
+            Instant eventTs
+    ) {}
+}
@@ -0,0 +1,73 @@
+package com.bhashamitra.platform.repositories;
+
+import com.bhashamitra.platform.models.Ids;
+
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.Instant;
+import java.util.Calendar;
+import java.util.Collection;
+import java.util.List;
+import java.util.TimeZone;
+
+/**
+ * Small helpers shared by the plain-JDBC repositories.
+ */
+final class JdbcSupport {
+
+    private static final TimeZone UTC = TimeZone.getTimeZone("UTC");
+
+    private JdbcSupport() {
+    }
+
+    /**
+     * Bind an instant the same way Hibernate does with hibernate.jdbc.time_zone=UTC.
+     */
+    static void setUtcTimestamp(PreparedStatement ps, int index, Instant value) throws SQLException {
+        ps.setTimestamp(index, Timestamp.from(value), Calendar.getInstance(UTC));
+    }
+
+    /**
+     * Read a timestamp column written with {@link #setUtcTimestamp}; null stays null.
+     */
+    static Instant getUtcInstant(ResultSet rs, String column) throws SQLException {
+        Timestamp ts = rs.getTimestamp(column, Calendar.getInstance(UTC));
+        return ts != null ? ts.toInstant() : null;
+    }
+
+    /**
+     * JDBC value of an id column in the current id layout (see {@link Ids#toJdbc});
+     * null stays null.
+     */
+    static Object id(String id) {
+        return Ids.toJdbc(id);
+    }
+
+    /**
+     * Id values for an IN (:ids) parameter.
+     */
+    static List<Object> ids(Collection<String> ids) {
+        return ids.stream().map(Ids::toJdbc).toList();
+    }
+
+    /**
+     * Bind an id column in the current id layout; null binds NULL.
+     */
+    static void setId(PreparedStatement ps, int index, String id) throws SQLException {
+        if (id == null) {
+            ps.setNull(index, Ids.storage() == Ids.Storage.TEXT ? Types.CHAR : Types.BINARY);
+        } else {
+            ps.setObject(index, Ids.toJdbc(id));
+        }
+    }
+
+    /**
+     * Read an id column back into its canonical string; null stays null.
+     */
+    static String getId(ResultSet rs, String column) throws SQLException {
+        return Ids.fromBytes(rs.getBytes(column));
+    }
+}
@@ -0,0 +1,178 @@
+package com.bhashamitra.platform.repositories;
+
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Read-only queries behind the full-language export: published lemmas one keyset chunk
+ * at a time, and the children of a chunk with one IN query per child table.
+ * Children are returned grouped by owner id, each group in display order.
+ */
+@Repository
+public class LanguageExportJdbcRepository {
+
+    private final NamedParameterJdbcTemplate jdbc;
+
+    public LanguageExportJdbcRepository(NamedParameterJdbcTemplate jdbc) {
+        this.jdbc = jdbc;
+    }
+
+    /**
+     * Next chunk of PUBLISHED lemmas ordered by (lemma_native, id), strictly after the given
+     * key (null key = from the start). Served by idx_lemmas_language_status_native_id.
+     */
+    public List<LemmaRow> findPublishedLemmasAfter(String language, String afterNative, String afterId, int limit) {
+        MapSqlParameterSource params = new MapSqlParameterSource()
+                .addValue("language", language)
+                .addValue("limit", limit);
+
+        String seek = "";
+        if (afterNative != null && afterId != null) {
+            seek = " AND (lemma_native > :afterNative OR (lemma_native = :afterNative AND id > :afterId))";
+            params.addValue("afterNative", afterNative).addValue("afterId", JdbcSupport.id(afterId));
+        }
+
+        return jdbc.query("""
+                SELECT id, lemma_native, lemma_latin, pos, notes
+                FROM lemmas
+                WHERE language = :language AND status = 'PUBLISHED'""" + seek + """
+                 ORDER BY lemma_native, id
+                 LIMIT :limit
+                """, params, (rs, i) -> new LemmaRow(
+                JdbcSupport.getId(rs, "id"),
+                rs.getString("lemma_native"),
+                rs.getString("lemma_latin"),
+                rs.getString("pos"),
+                rs.getString("notes")
+        ));
+    }
+
+    public Map<String, List<MeaningRow>> findMeanings(Collection<String> lemmaIds) {
+        Map<String, List<MeaningRow>> out = new HashMap<>();
+        if (lemmaIds.isEmpty()) return out;
+
+        jdbc.query("""
+                SELECT lemma_id, meaning_language, meaning_text, priority
+                FROM meanings
+                WHERE lemma_id IN (:ids)
+                ORDER BY lemma_id, priority, id
+                """, new MapSqlParameterSource("ids", JdbcSupport.ids(lemmaIds)), rs -> {
+            out.computeIfAbsent(JdbcSupport.getId(rs, "lemma_id"), k -> new ArrayList<>()).add(new MeaningRow(
+                    rs.getString("meaning_language"),
+                    rs.getString("meaning_text"),
+                    rs.getInt("priority")
+            ));
+        });
+        return out;
+    }
+
+    public Map<String, List<SurfaceFormRow>> findSurfaceForms(Collection<String> lemmaIds) {
+        Map<String, List<SurfaceFormRow>> out = new HashMap<>();
+        if (lemmaIds.isEmpty()) return out;
+
+        jdbc.query("""
+                SELECT id, lemma_id, form_native, form_latin, form_type, notes
+                FROM surface_forms
+                WHERE lemma_id IN (:ids)
+                ORDER BY lemma_id, form_native, id
+                """, new MapSqlParameterSource("ids", JdbcSupport.ids(lemmaIds)), rs -> {
+            out.computeIfAbsent(JdbcSupport.getId(rs, "lemma_id"), k -> new ArrayList<>()).add(new SurfaceFormRow(
+                    JdbcSupport.getId(rs, "id"),
+                    rs.getString("form_native"),
+                    rs.getString("form_latin"),
+                    rs.getString("form_type"),
+                    rs.getString("notes")
+            ));
+        });
+        return out;
+    }
+
+    /**
+     * Pronunciations grouped by owner_id for one owner type (LEMMA or SENTENCE).
+     */
+    public Map<String, List<PronunciationRow>> findPronunciations(String ownerType, Collection<String> ownerIds) {
+        Map<String, List<PronunciationRow>> out = new HashMap<>();
+        if (ownerIds.isEmpty()) return out;
+
+        jdbc.query("""
+                SELECT owner_id, speaker, region, audio_uri, duration_ms
+                FROM pronunciations
+                WHERE owner_type = :ownerType AND owner_id IN (:ids)
+                ORDER BY owner_id, created_date, id
+                """, new MapSqlParameterSource("ownerType", ownerType).addValue("ids", JdbcSupport.ids(ownerIds)), rs -> {
+            int duration = rs.getInt("duration_ms");
+            Integer durationOrNull = rs.wasNull() ? null : duration;
+            out.computeIfAbsent(JdbcSupport.getId(rs, "owner_id"), k -> new ArrayList<>()).add(new PronunciationRow(
+                    rs.getString("speaker"),
+                    rs.getString("region"),
+                    rs.getString("audio_uri"),
+                    durationOrNull
+            ));
+        });
+        return out;
+    }
+
+    /**
+     * PUBLISHED sentences linked to the given lemmas, grouped by lemma id.
+     */
+    public Map<String, List<SentenceRow>> findLinkedSentences(Collection<String> lemmaIds) {
+        Map<String, List<SentenceRow>> out = new HashMap<>();
+        if (lemmaIds.isEmpty()) return out;
+
+        jdbc.query("""
+                SELECT l.lemma_id, l.link_type, l.surface_form_id,
+                       s.id, s.sentence_native, s.sentence_latin, s.translation,
+                       s.register, s.explanation, s.difficulty
+                FROM lemma_sentence_links l
+                JOIN usage_sentences s ON s.id = l.sentence_id
+                WHERE l.lemma_id IN (:ids) AND s.status = 'PUBLISHED'
+                ORDER BY l.lemma_id, l.created_date, l.id
+                """, new MapSqlParameterSource("ids", JdbcSupport.ids(lemmaIds)), rs -> {
+            int difficulty = rs.getInt("difficulty");
+            Integer difficultyOrNull = rs.wasNull() ? null : difficulty;
+            out.computeIfAbsent(JdbcSupport.getId(rs, "lemma_id"), k -> new ArrayList<>()).add(new SentenceRow(
+                    JdbcSupport.getId(rs, "id"),
+                    rs.getString("link_type"),
+                    JdbcSupport.getId(rs, "surface_form_id"),
+                    rs.getString("sentence_native"),
+                    rs.getString("sentence_latin"),
+                    rs.getString("translation"),
+                    rs.getString("register"),
+                    rs.getString("explanation"),
+                    difficultyOrNull
+            ));
+        });
+        return out;
+    }
+
+    // =========================================================
+    // Rows
+    // =========================================================
+
+    public record LemmaRow(String id, String lemmaNative, String lemmaLatin, String pos, String notes) {}
+
+    public record MeaningRow(String meaningLanguage, String meaningText, int priority) {}
+
+    public record SurfaceFormRow(String id, String formNative, String formLatin, String formType, String notes) {}
+
+    public record PronunciationRow(String speaker, String region, String audioUri, Integer durationMs) {}
+
+    public record SentenceRow(
+            String id,
+            String linkType,
+            String surfaceFormId,
+            String sentenceNative,
+            String sentenceLatin,
+            String translation,
+            String register,
+            String explanation,
+            Integer difficulty
+    ) {}
+}
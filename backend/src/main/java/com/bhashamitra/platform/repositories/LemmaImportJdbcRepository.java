@@ -0,0 +1,156 @@
+package com.bhashamitra.platform.repositories;
+
+import com.bhashamitra.platform.models.Ids;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.time.Instant;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Set-based lookups and JDBC batch inserts for the bulk lemma import.
+ * Callers run each chunk in one transaction and pass rows that are already validated.
+ */
+@Repository
+public class LemmaImportJdbcRepository {
+
+    private final JdbcTemplate jdbcTemplate;
+    private final NamedParameterJdbcTemplate namedJdbcTemplate;
+
+    public LemmaImportJdbcRepository(JdbcTemplate jdbcTemplate, NamedParameterJdbcTemplate namedJdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.namedJdbcTemplate = namedJdbcTemplate;
+    }
+
+    // =========================================================
+    // Uniqueness / existence checks (one query per chunk)
+    // =========================================================
+
+    public Set<String> findExistingLemmaKeys(String language, Collection<String> lemmaKeys) {
+        if (lemmaKeys.isEmpty()) return Set.of();
+        return new HashSet<>(namedJdbcTemplate.queryForList(
+                "SELECT lemma_key FROM lemmas WHERE language = :language AND lemma_key IN (:keys)",
+                new MapSqlParameterSource()
+                        .addValue("language", language)
+                        .addValue("keys", lemmaKeys),
+                String.class
+        ));
+    }
+
+    public Set<String> findExistingSentenceIds(Collection<String> sentenceIds) {
+        // A malformed id cannot exist; leaving it out reports it as "not found" like before
+        List<String> valid = sentenceIds.stream().filter(Ids::isValid).toList();
+        if (valid.isEmpty()) return Set.of();
+        return new HashSet<>(namedJdbcTemplate.query(
+                "SELECT id FROM usage_sentences WHERE id IN (:ids)",
+                new MapSqlParameterSource("ids", JdbcSupport.ids(valid)),
+                (rs, i) -> JdbcSupport.getId(rs, "id")
+        ));
+    }
+
+    // =========================================================
+    // Batch inserts
+    // =========================================================
+
+    public void insertLemmas(List<LemmaRow> rows, String actor, Instant now) {
+        jdbcTemplate.batchUpdate("""
+                INSERT INTO lemmas
+                    (id, language, lemma_native, lemma_key, latin_key, lemma_latin, pos, notes, status,
+                     created_by, created_date, last_modified_by, last_modified_date, version)
+                VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, 0)
+                """, rows, rows.size(), (ps, r) -> {
+            JdbcSupport.setId(ps, 1, r.id());
+            ps.setString(2, r.language());
+            ps.setString(3, r.lemmaNative());
+            ps.setString(4, r.lemmaKey());
+            ps.setString(5, r.latinKey());
+            ps.setString(6, r.lemmaLatin());
+            ps.setString(7, r.pos());
+            ps.setString(8, r.notes());
+            ps.setString(9, r.status());
+            ps.setString(10, actor);
+            JdbcSupport.setUtcTimestamp(ps, 11, now);
+            ps.setString(12, actor);
+            JdbcSupport.setUtcTimestamp(ps, 13, now);
+        });
+    }
+
+    public void insertMeanings(List<MeaningRow> rows, String actor, Instant now) {
+        jdbcTemplate.batchUpdate("""
+                INSERT INTO meanings
+                    (id, lemma_id, meaning_language, meaning_text, priority,
+                     created_by, created_date, last_modified_by, last_modified_date, version)
+                VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, 0)
+                """, rows, rows.size(), (ps, r) -> {
+            JdbcSupport.setId(ps, 1, r.id());
+            JdbcSupport.setId(ps, 2, r.lemmaId());
+            ps.setString(3, r.meaningLanguage());
+            ps.setString(4, r.meaningText());
+            ps.setInt(5, r.priority());
+            ps.setString(6, actor);
+            JdbcSupport.setUtcTimestamp(ps, 7, now);
+            ps.setString(8, actor);
+            JdbcSupport.setUtcTimestamp(ps, 9, now);
+        });
+    }
+
+    public void insertSurfaceForms(List<SurfaceFormRow> rows, String actor, Instant now) {
+        jdbcTemplate.batchUpdate("""
+                INSERT INTO surface_forms
+                    (id, lemma_id, form_native, form_key, latin_key, form_latin, form_type, notes,
+                     created_by, created_date, last_modified_by, last_modified_date, version)
+                VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, 0)
+                """, rows, rows.size(), (ps, r) -> {
+            JdbcSupport.setId(ps, 1, r.id());
+            JdbcSupport.setId(ps, 2, r.lemmaId());
+            ps.setString(3, r.formNative());
+            ps.setString(4, r.formKey());
+            ps.setString(5, r.latinKey());
+            ps.setString(6, r.formLatin());
+            ps.setString(7, r.formType());
+            ps.setString(8, r.notes());
+            ps.setString(9, actor);
+            JdbcSupport.setUtcTimestamp(ps, 10, now);
+            ps.setString(11, actor);
+            JdbcSupport.setUtcTimestamp(ps, 12, now);
+        });
+    }
+
+    public void insertLinks(List<LinkRow> rows, String actor, Instant now) {
+        jdbcTemplate.batchUpdate("""
+                INSERT INTO lemma_sentence_links
+                    (id, lemma_id, sentence_id, surface_form_id, link_type,
+                     created_by, created_date, last_modified_by, last_modified_date, version)
+                VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, 0)
+                """, rows, rows.size(), (ps, r) -> {
+            JdbcSupport.setId(ps, 1, r.id());
+            JdbcSupport.setId(ps, 2, r.lemmaId());
+            JdbcSupport.setId(ps, 3, r.sentenceId());
+            JdbcSupport.setId(ps, 4, r.surfaceFormId());
+            ps.setString(5, r.linkType());
+            ps.setString(6, actor);
+            JdbcSupport.setUtcTimestamp(ps, 7, now);
+            ps.setString(8, actor);
+            JdbcSupport.setUtcTimestamp(ps, 9, now);
+        });
+    }
+
+    // =========================================================
+    // Rows
+    // =========================================================
+
+    public record LemmaRow(String id, String language, String lemmaNative, String lemmaKey, String latinKey,
+                           String lemmaLatin, String pos, String notes, String status) {}
+
+    public record MeaningRow(String id, String lemmaId, String meaningLanguage, String meaningText, int priority) {}
+
+    public record SurfaceFormRow(String id, String lemmaId, String formNative, String formKey, String latinKey,
+                                 String formLatin, String formType, String notes) {}
+
+    public record LinkRow(String id, String lemmaId, String sentenceId, String surfaceFormId, String linkType) {}
+}
@@ -2,8 +2,16 @@ package com.bhashamitra.platform.repositories;
 
 import com.bhashamitra.platform.models.Lemma;
 import com.bhashamitra.platform.models.LemmaStatus;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 
+import java.time.ZonedDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -15,11 +23,91 @@ public interface LemmaRepository extends JpaRepository<Lemma, String> {
 
     List<Lemma> findByLanguageAndStatusOrderByLemmaNativeAsc(String language, LemmaStatus status);
 
-    Optional<Lemma> findByLanguageAndLemmaNative(String language, String lemmaNative);
+    // Equality on the canonical key (TextCanonicalizer.canonicalKey), backed by uk_lemmas_language_lemma_key
+    Optional<Lemma> findByLanguageAndLemmaKey(String language, String lemmaKey);
 
-    boolean existsByLanguageAndLemmaNative(String language, String lemmaNative);
+    boolean existsByLanguageAndLemmaKey(String language, String lemmaKey);
 
     // -------- Public queries (only published) --------
 
-    Optional<Lemma> findByIdAndStatus(String id, LemmaStatus status);
+    boolean existsByIdAndStatus(String id, LemmaStatus status);
+
+    // -------- Read-only views (no entities, no persistence context, no flush) --------
+
+    // All lemmas of a language in a given status (published dictionary snapshot)
+    @Query("""
+            select new com.bhashamitra.platform.repositories.LemmaRepository$LemmaView(
+                l.id, l.language, l.lemmaNative, l.lemmaLatin, l.pos, l.notes, l.status, l.version, l.lastModifiedDate)
+            from Lemma l
+            where l.language = :language and l.status = :status
+            order by l.lemmaNative asc
+            """)
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FLUSH_MODE, value = "MANUAL"))
+    List<LemmaView> findViewsByLanguageAndStatus(@Param("language") String language,
+                                                 @Param("status") LemmaStatus status);
+
+    // Some lemmas of a language in a given status (incremental snapshot refresh)
+    @Query("""
+            select new com.bhashamitra.platform.repositories.LemmaRepository$LemmaView(
+                l.id, l.language, l.lemmaNative, l.lemmaLatin, l.pos, l.notes, l.status, l.version, l.lastModifiedDate)
+            from Lemma l
+            where l.id in :ids and l.language = :language and l.status = :status
+            """)
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FLUSH_MODE, value = "MANUAL"))
+    List<LemmaView> findViewsByIdInAndLanguageAndStatus(@Param("ids") Collection<String> ids,
+                                                        @Param("language") String language,
+                                                        @Param("status") LemmaStatus status);
+
+    // Primary-key lookup of the language a lemma in a given status belongs to
+    @Query("select l.language from Lemma l where l.id = :id and l.status = :status")
+    Optional<String> findLanguageByIdAndStatus(@Param("id") String id,
+                                               @Param("status") LemmaStatus status);
+
+    // Cross-script search: prefix seek on idx_lemmas_language_latin_key; status null = all statuses.
+    // Latin keys are lower-case letters and spaces only, so the prefix holds no LIKE wildcards.
+    @Query("""
+            select new com.bhashamitra.platform.repositories.LemmaRepository$LatinKeyMatch(
+                l.latinKey, l.id, l.language, l.lemmaNative, l.lemmaLatin, l.pos, l.notes, l.status, l.version, l.lastModifiedDate)
+            from Lemma l
+            where l.language = :language
+              and (:status is null or l.status = :status)
+              and l.latinKey like concat(:prefix, '%')
+            order by l.latinKey asc, l.id asc
+            """)
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FLUSH_MODE, value = "MANUAL"))
+    List<LatinKeyMatch> findLatinKeyMatches(@Param("language") String language,
+                                            @Param("status") LemmaStatus status,
+                                            @Param("prefix") String prefix,
+                                            Limit limit);
+
+    /**
+     * A lemma as public responses show it, selected column by column: nothing is
+     * hydrated, snapshotted for dirty checking or kept in the persistence context.
+     * version and lastModifiedDate feed {@code CacheStamp}.
+     */
+    record LemmaView(
+            String id,
+            String language,
+            String lemmaNative,
+            String lemmaLatin,
+            String pos,
+            String notes,
+            LemmaStatus status,
+            Long version,
+            ZonedDateTime lastModifiedDate
+    ) {}
+
+    /**
+     * A lemma found by a latin key prefix, with the key that matched (the lemma's own or
+     * one of its surface forms').
+     */
+    record LatinKeyMatch(String latinKey, LemmaView lemma) {
+
+        // Constructor expression target: JPQL cannot build the nested view itself
+        public LatinKeyMatch(String latinKey, String id, String language, String lemmaNative, String lemmaLatin,
+                             String pos, String notes, LemmaStatus status, Long version, ZonedDateTime lastModifiedDate) {
+            this(latinKey, new LemmaView(id, language, lemmaNative, lemmaLatin, pos, notes, status, version,
+                    lastModifiedDate));
+        }
+    }
 }
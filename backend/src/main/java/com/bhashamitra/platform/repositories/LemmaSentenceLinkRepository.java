@@ -1,8 +1,20 @@
 package com.bhashamitra.platform.repositories;
 
 import com.bhashamitra.platform.models.LemmaSentenceLink;
+import com.bhashamitra.platform.models.LemmaSentenceLinkType;
+import com.bhashamitra.platform.models.LemmaStatus;
+import com.bhashamitra.platform.models.UsageSentenceStatus;
+import com.bhashamitra.platform.repositories.LemmaRepository.LemmaView;
+import com.bhashamitra.platform.repositories.UsageSentenceRepository.UsageSentenceView;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 
+import java.time.ZonedDateTime;
 import java.util.List;
 import java.util.Optional;
 
@@ -18,4 +30,115 @@ public interface LemmaSentenceLinkRepository extends JpaRepository<LemmaSentence
 
     // Browse links by sentence (useful for "which lemmas are in this sentence?")
     List<LemmaSentenceLink> findBySentence_IdOrderByCreatedDateDescIdDesc(String sentenceId);
+
+    // -------- Read-only views (no entities, no persistence context, no flush) --------
+    //
+    // Public traversal: the link and the entity at its other end in one join, both ends filtered
+    // on status. Keyset pages on (created_date, id), newest first: ids only break ties, as links
+    // made before the time-ordered ids carry random ones. idx_lsl_lemma_created and
+    // idx_lsl_sentence_created (changelog 019) lead with the owner and then that key, so each page
+    // is one index range scan.
+
+    // Examples for a word: first page
+    @Query("""
+            select new com.bhashamitra.platform.repositories.LemmaSentenceLinkRepository$LinkedSentence(
+                k.id, k.createdDate, k.surfaceFormId, k.linkType,
+                s.id, s.language, s.sentenceNative, s.sentenceLatin, s.translation, s.register, s.explanation,
+                s.difficulty, s.status, s.version, s.lastModifiedDate)
+            from LemmaSentenceLink k join k.lemma l join k.sentence s
+            where l.id = :lemmaId and l.status = :lemmaStatus and s.status = :sentenceStatus
+            order by k.createdDate desc, k.id desc
+            """)
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FLUSH_MODE, value = "MANUAL"))
+    List<LinkedSentence> findSentencesForLemma(@Param("lemmaId") String lemmaId,
+                                               @Param("lemmaStatus") LemmaStatus lemmaStatus,
+                                               @Param("sentenceStatus") UsageSentenceStatus sentenceStatus,
+                                               Limit limit);
+
+    // Examples for a word: links strictly after the given key
+    @Query("""
+            select new com.bhashamitra.platform.repositories.LemmaSentenceLinkRepository$LinkedSentence(
+                k.id, k.createdDate, k.surfaceFormId, k.linkType,
+                s.id, s.language, s.sentenceNative, s.sentenceLatin, s.translation, s.register, s.explanation,
+                s.difficulty, s.status, s.version, s.lastModifiedDate)
+            from LemmaSentenceLink k join k.lemma l join k.sentence s
+            where l.id = :lemmaId and l.status = :lemmaStatus and s.status = :sentenceStatus
+              and (k.createdDate < :afterCreated
+                   or (k.createdDate = :afterCreated and k.id < :afterLinkId))
+            order by k.createdDate desc, k.id desc
+            """)
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FLUSH_MODE, value = "MANUAL"))
+    List<LinkedSentence> findSentencesForLemmaAfter(@Param("lemmaId") String lemmaId,
+                                                    @Param("lemmaStatus") LemmaStatus lemmaStatus,
+                                                    @Param("sentenceStatus") UsageSentenceStatus sentenceStatus,
+                                                    @Param("afterCreated") ZonedDateTime afterCreated,
+                                                    @Param("afterLinkId") String afterLinkId,
+                                                    Limit limit);
+
+    // Words in a sentence: first page
+    @Query("""
+            select new com.bhashamitra.platform.repositories.LemmaSentenceLinkRepository$LinkedLemma(
+                k.id, k.createdDate, k.surfaceFormId, k.linkType,
+                l.id, l.language, l.lemmaNative, l.lemmaLatin, l.pos, l.notes, l.status, l.version, l.lastModifiedDate)
+            from LemmaSentenceLink k join k.sentence s join k.lemma l
+            where s.id = :sentenceId and s.status = :sentenceStatus and l.status = :lemmaStatus
+            order by k.createdDate desc, k.id desc
+            """)
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FLUSH_MODE, value = "MANUAL"))
+    List<LinkedLemma> findLemmasForSentence(@Param("sentenceId") String sentenceId,
+                                            @Param("sentenceStatus") UsageSentenceStatus sentenceStatus,
+                                            @Param("lemmaStatus") LemmaStatus lemmaStatus,
+                                            Limit limit);
+
+    // Words in a sentence: links strictly after the given key
+    @Query("""
+            select new com.bhashamitra.platform.repositories.LemmaSentenceLinkRepository$LinkedLemma(
+                k.id, k.createdDate, k.surfaceFormId, k.linkType,
+                l.id, l.language, l.lemmaNative, l.lemmaLatin, l.pos, l.notes, l.status, l.version, l.lastModifiedDate)
+            from LemmaSentenceLink k join k.sentence s join k.lemma l
+            where s.id = :sentenceId and s.status = :sentenceStatus and l.status = :lemmaStatus
+              and (k.createdDate < :afterCreated
+                   or (k.createdDate = :afterCreated and k.id < :afterLinkId))
+            order by k.createdDate desc, k.id desc
+            """)
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FLUSH_MODE, value = "MANUAL"))
+    List<LinkedLemma> findLemmasForSentenceAfter(@Param("sentenceId") String sentenceId,
+                                                 @Param("sentenceStatus") UsageSentenceStatus sentenceStatus,
+                                                 @Param("lemmaStatus") LemmaStatus lemmaStatus,
+                                                 @Param("afterCreated") ZonedDateTime afterCreated,
+                                                 @Param("afterLinkId") String afterLinkId,
+                                                 Limit limit);
+
+    /**
+     * A link seen from its lemma: the link's own columns and the sentence it points to.
+     */
+    record LinkedSentence(String linkId, ZonedDateTime linkCreatedDate, String surfaceFormId,
+                          LemmaSentenceLinkType linkType, UsageSentenceView sentence) {
+
+        // Constructor expression target: JPQL cannot build the nested view itself
+        public LinkedSentence(String linkId, ZonedDateTime linkCreatedDate, String surfaceFormId,
+                              LemmaSentenceLinkType linkType, String id, String language, String sentenceNative,
+                              String sentenceLatin, String translation, String register, String explanation,
+                              Integer difficulty, UsageSentenceStatus status, Long version,
+                              ZonedDateTime lastModifiedDate) {
+            this(linkId, linkCreatedDate, surfaceFormId, linkType, new UsageSentenceView(id, language, sentenceNative,
+                    sentenceLatin, translation, register, explanation, difficulty, status, version, lastModifiedDate));
+        }
+    }
+
+    /**
+     * A link seen from its sentence: the link's own columns and the lemma it points to.
+     */
+    record LinkedLemma(String linkId, ZonedDateTime linkCreatedDate, String surfaceFormId,
+                       LemmaSentenceLinkType linkType, LemmaView lemma) {
+
+        // Constructor expression target: JPQL cannot build the nested view itself
+        public LinkedLemma(String linkId, ZonedDateTime linkCreatedDate, String surfaceFormId,
+                           LemmaSentenceLinkType linkType, String id, String language, String lemmaNative,
+                           String lemmaLatin, String pos, String notes, LemmaStatus status, Long version,
+                           ZonedDateTime lastModifiedDate) {
+            this(linkId, linkCreatedDate, surfaceFormId, linkType, new LemmaView(id, language, lemmaNative, lemmaLatin,
+                    pos, notes, status, version, lastModifiedDate));
+        }
+    }
 }
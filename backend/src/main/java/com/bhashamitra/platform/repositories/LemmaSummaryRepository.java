@@ -0,0 +1,143 @@
+package com.bhashamitra.platform.repositories;
+
+import com.bhashamitra.platform.models.Ids;
+import com.bhashamitra.platform.models.LemmaStatus;
+import com.bhashamitra.platform.models.LemmaSummary;
+import com.bhashamitra.platform.repositories.LemmaRepository.LemmaView;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+
+import java.time.ZonedDateTime;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * lemma_summary is only ever written with the statements below: counters move in place
+ * (no read-modify-write, so concurrent editors of one lemma do not lose updates) and
+ * rows are recounted from the source tables. Each update returns the rows it touched; 0
+ * means the lemma has no summary row yet.
+ */
+public interface LemmaSummaryRepository extends JpaRepository<LemmaSummary, String> {
+
+    // -------- Incremental maintenance --------
+
+    @Modifying
+    @Query("update LemmaSummary s set s.meaningCount = s.meaningCount + :delta where s.lemmaId = :lemmaId")
+    int addMeanings(@Param("lemmaId") String lemmaId, @Param("delta") int delta);
+
+    @Modifying
+    @Query("update LemmaSummary s set s.surfaceFormCount = s.surfaceFormCount + :delta where s.lemmaId = :lemmaId")
+    int addSurfaceForms(@Param("lemmaId") String lemmaId, @Param("delta") int delta);
+
+    @Modifying
+    @Query("update LemmaSummary s set s.exampleCount = s.exampleCount + :delta where s.lemmaId = :lemmaId")
+    int addExamples(@Param("lemmaId") String lemmaId, @Param("delta") int delta);
+
+    @Modifying
+    @Query("update LemmaSummary s set s.pronunciationCount = s.pronunciationCount + :delta where s.lemmaId = :lemmaId")
+    int addPronunciations(@Param("lemmaId") String lemmaId, @Param("delta") int delta);
+
+    // A sentence was published or unpublished: every lemma linked to it gains or loses an example
+    @Modifying
+    @Query("""
+            update LemmaSummary s set s.exampleCount = s.exampleCount + :delta
+            where s.lemmaId in (select k.lemma.id from LemmaSentenceLink k where k.sentence.id = :sentenceId)
+            """)
+    int addExamplesForSentence(@Param("sentenceId") String sentenceId, @Param("delta") int delta);
+
+    // -------- Rebuild from the source tables --------
+
+    /**
+     * Counts the given lemmas from the source tables into their rows, creating missing ones.
+     * An upsert rather than delete-and-insert, so two transactions filling in the same
+     * missing row do not collide on its key. Native (MySQL's ON DUPLICATE KEY UPDATE), so
+     * ids are bound as their column values ({@link Ids#toJdbc}); see {@link #upsertCounted(Collection)}.
+     * Reads the child tables, so pending child inserts and deletes are flushed first.
+     */
+    @Modifying(flushAutomatically = true)
+    @Query(value = """
+            INSERT INTO lemma_summary (lemma_id, meaning_count, surface_form_count, example_count, pronunciation_count)
+            SELECT l.id,
+                   (SELECT COUNT(*) FROM meanings m WHERE m.lemma_id = l.id),
+                   (SELECT COUNT(*) FROM surface_forms f WHERE f.lemma_id = l.id),
+                   (SELECT COUNT(*) FROM lemma_sentence_links k
+                        JOIN usage_sentences s ON s.id = k.sentence_id
+                    WHERE k.lemma_id = l.id AND s.status = 'PUBLISHED'),
+                   (SELECT COUNT(*) FROM pronunciations p WHERE p.owner_type = 'LEMMA' AND p.owner_id = l.id)
+            FROM lemmas l
+            WHERE l.id IN (:lemmaIds)
+            ON DUPLICATE KEY UPDATE
+                meaning_count = VALUES(meaning_count),
+                surface_form_count = VALUES(surface_form_count),
+                example_count = VALUES(example_count),
+                pronunciation_count = VALUES(pronunciation_count)
+            """, nativeQuery = true)
+    int upsertCountedIds(@Param("lemmaIds") Collection<?> lemmaIds);
+
+    default void upsertCounted(Collection<String> lemmaIds) {
+        upsertCountedIds(lemmaIds.stream().map(Ids::toJdbc).toList());
+    }
+
+    // Reconciliation walks lemmas in id order
+    @Query("select l.id from Lemma l order by l.id asc")
+    List<String> findLemmaIds(Limit limit);
+
+    @Query("select l.id from Lemma l where l.id > :afterId order by l.id asc")
+    List<String> findLemmaIdsAfter(@Param("afterId") String afterId, Limit limit);
+
+    // -------- Read-only views (no entities, no persistence context, no flush) --------
+
+    // "Most examples" ranking: backwards over idx_lemma_summary_examples, lemmas by primary key
+    @Query("""
+            select new com.bhashamitra.platform.repositories.LemmaSummaryRepository$LemmaSummaryView(
+                l.id, l.language, l.lemmaNative, l.lemmaLatin, l.pos, l.notes, l.status, l.version, l.lastModifiedDate,
+                s.meaningCount, s.surfaceFormCount, s.exampleCount, s.pronunciationCount)
+            from LemmaSummary s join Lemma l on l.id = s.lemmaId
+            where l.language = :language and l.status = :status
+            order by s.exampleCount desc, s.lemmaId desc
+            """)
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FLUSH_MODE, value = "MANUAL"))
+    List<LemmaSummaryView> findByExamples(@Param("language") String language,
+                                          @Param("status") LemmaStatus status,
+                                          Limit limit);
+
+    // "Most examples" ranking: rows strictly after (afterExamples, afterId)
+    @Query("""
+            select new com.bhashamitra.platform.repositories.LemmaSummaryRepository$LemmaSummaryView(
+                l.id, l.language, l.lemmaNative, l.lemmaLatin, l.pos, l.notes, l.status, l.version, l.lastModifiedDate,
+                s.meaningCount, s.surfaceFormCount, s.exampleCount, s.pronunciationCount)
+            from LemmaSummary s join Lemma l on l.id = s.lemmaId
+            where l.language = :language
+              and l.status = :status
+              and (s.exampleCount < :afterExamples
+                   or (s.exampleCount = :afterExamples and s.lemmaId < :afterId))
+            order by s.exampleCount desc, s.lemmaId desc
+            """)
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FLUSH_MODE, value = "MANUAL"))
+    List<LemmaSummaryView> findByExamplesAfter(@Param("language") String language,
+                                               @Param("status") LemmaStatus status,
+                                               @Param("afterExamples") int afterExamples,
+                                               @Param("afterId") String afterId,
+                                               Limit limit);
+
+    /**
+     * A lemma with its counts, for list pages that show badges.
+     */
+    record LemmaSummaryView(LemmaView lemma, int meaningCount, int surfaceFormCount, int exampleCount,
+                            int pronunciationCount) {
+
+        // Constructor expression target: JPQL cannot build the nested view itself
+        public LemmaSummaryView(String id, String language, String lemmaNative, String lemmaLatin, String pos,
+                                String notes, LemmaStatus status, Long version, ZonedDateTime lastModifiedDate,
+                                int meaningCount, int surfaceFormCount, int exampleCount, int pronunciationCount) {
+            this(new LemmaView(id, language, lemmaNative, lemmaLatin, pos, notes, status, version, lastModifiedDate),
+                    meaningCount, surfaceFormCount, exampleCount, pronunciationCount);
+        }
+    }
+}
@@ -1,8 +1,16 @@
 package com.bhashamitra.platform.repositories;
 
+import com.bhashamitra.platform.models.LemmaStatus;
 import com.bhashamitra.platform.models.Meaning;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 
+import java.time.ZonedDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -16,4 +24,43 @@ public interface MeaningRepository extends JpaRepository<Meaning, String> {
 
     // Handy lookup (optional but useful)
     Optional<Meaning> findByLemma_IdAndMeaningLanguageAndPriority(String lemmaId, String meaningLanguage, Integer priority);
+
+    // All meanings of a language's lemmas in a given status (published dictionary snapshot), as views
+    @Query("""
+            select new com.bhashamitra.platform.repositories.MeaningRepository$MeaningView(
+                m.id, l.id, m.meaningLanguage, m.meaningText, m.priority, m.version, m.lastModifiedDate)
+            from Meaning m join m.lemma l
+            where l.language = :language and l.status = :status
+            order by m.priority asc, m.id asc
+            """)
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FLUSH_MODE, value = "MANUAL"))
+    List<MeaningView> findViewsByLemmaLanguageAndStatus(@Param("language") String language,
+                                                        @Param("status") LemmaStatus status);
+
+    // Meanings of some lemmas of a language in a given status (incremental snapshot refresh)
+    @Query("""
+            select new com.bhashamitra.platform.repositories.MeaningRepository$MeaningView(
+                m.id, l.id, m.meaningLanguage, m.meaningText, m.priority, m.version, m.lastModifiedDate)
+            from Meaning m join m.lemma l
+            where l.id in :lemmaIds and l.language = :language and l.status = :status
+            order by m.priority asc, m.id asc
+            """)
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FLUSH_MODE, value = "MANUAL"))
+    List<MeaningView> findViewsByLemmaIdInAndLanguageAndStatus(@Param("lemmaIds") Collection<String> lemmaIds,
+                                                               @Param("language") String language,
+                                                               @Param("status") LemmaStatus status);
+
+    /**
+     * A meaning as public responses show it; not an entity, so it never enters the
+     * persistence context.
+     */
+    record MeaningView(
+            String id,
+            String lemmaId,
+            String meaningLanguage,
+            String meaningText,
+            Integer priority,
+            Long version,
+            ZonedDateTime lastModifiedDate
+    ) {}
 }
@@ -0,0 +1,59 @@
+package com.bhashamitra.platform.repositories;
+
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+
+/**
+ * MySQL user locks (GET_LOCK / RELEASE_LOCK), for background work that one instance at
+ * a time should do.
+ */
+@Repository
+public class NamedLockJdbcRepository {
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public NamedLockJdbcRepository(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    /**
+     * False on anything but MySQL (the H2 test database included), which has no user
+     * locks; {@link #runExclusively} is only valid when this is true.
+     */
+    public boolean isSupported() {
+        String product = jdbcTemplate.execute((ConnectionCallback<String>) c -> c.getMetaData().getDatabaseProductName());
+        return "MySQL".equalsIgnoreCase(product);
+    }
+
+    /**
+     * Runs work while holding the named lock. Returns false without running it when
+     * another session holds the lock. The lock lives on its own connection, released
+     * when work returns.
+     */
+    public boolean runExclusively(String lockName, Runnable work) {
+        Boolean ran = jdbcTemplate.execute((ConnectionCallback<Boolean>) c -> {
+            try (PreparedStatement lock = c.prepareStatement("SELECT GET_LOCK(?, 0)")) {
+                lock.setString(1, lockName);
+                try (ResultSet rs = lock.executeQuery()) {
+                    if (!rs.next() || rs.getInt(1) != 1) {
+                        return false;
+                    }
+                }
+            }
+            try {
+                work.run();
+                return true;
+            } finally {
+                try (PreparedStatement release = c.prepareStatement("SELECT RELEASE_LOCK(?)")) {
+                    release.setString(1, lockName);
+                    release.execute();
+                }
+            }
+        });
+        return Boolean.TRUE.equals(ran);
+    }
+}
@@ -1,8 +1,16 @@
 package com.bhashamitra.platform.repositories;
 
+import com.bhashamitra.platform.models.LemmaStatus;
 import com.bhashamitra.platform.models.Pronunciation;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 
+import java.time.ZonedDateTime;
+import java.util.Collection;
 import java.util.List;
 
 public interface PronunciationRepository extends JpaRepository<Pronunciation, String> {
@@ -10,4 +18,61 @@ public interface PronunciationRepository extends JpaRepository<Pronunciation, St
     List<Pronunciation> findByOwnerTypeAndOwnerIdOrderByCreatedDateDescIdDesc(String ownerType, String ownerId);
 
     boolean existsByOwnerTypeAndOwnerIdAndAudioUri(String ownerType, String ownerId, String audioUri);
+
+    // -------- Read-only views (no entities, no persistence context, no flush) --------
+
+    // Recordings of one owner, newest first (public sentence recordings)
+    @Query("""
+            select new com.bhashamitra.platform.repositories.PronunciationRepository$PronunciationView(
+                p.id, p.ownerId, p.speaker, p.region, p.audioUri, p.durationMs, p.version, p.lastModifiedDate)
+            from Pronunciation p
+            where p.ownerType = :ownerType and p.ownerId = :ownerId
+            order by p.createdDate desc, p.id desc
+            """)
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FLUSH_MODE, value = "MANUAL"))
+    List<PronunciationView> findViewsByOwner(@Param("ownerType") String ownerType,
+                                             @Param("ownerId") String ownerId);
+
+    // Lemma recordings for every lemma of a language in a given status (published dictionary snapshot)
+    @Query("""
+            select new com.bhashamitra.platform.repositories.PronunciationRepository$PronunciationView(
+                p.id, p.ownerId, p.speaker, p.region, p.audioUri, p.durationMs, p.version, p.lastModifiedDate)
+            from Pronunciation p
+            where p.ownerType = 'LEMMA'
+              and p.ownerId in (select l.id from Lemma l where l.language = :language and l.status = :status)
+            order by p.createdDate desc, p.id desc
+            """)
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FLUSH_MODE, value = "MANUAL"))
+    List<PronunciationView> findLemmaViewsByLanguageAndStatus(@Param("language") String language,
+                                                              @Param("status") LemmaStatus status);
+
+    // Recordings of some lemmas of a language in a given status (incremental snapshot refresh)
+    @Query("""
+            select new com.bhashamitra.platform.repositories.PronunciationRepository$PronunciationView(
+                p.id, p.ownerId, p.speaker, p.region, p.audioUri, p.durationMs, p.version, p.lastModifiedDate)
+            from Pronunciation p
+            where p.ownerType = 'LEMMA'
+              and p.ownerId in (select l.id from Lemma l
+                                where l.id in :lemmaIds and l.language = :language and l.status = :status)
+            order by p.createdDate desc, p.id desc
+            """)
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FLUSH_MODE, value = "MANUAL"))
+    List<PronunciationView> findLemmaViewsByIdInAndLanguageAndStatus(@Param("lemmaIds") Collection<String> lemmaIds,
+                                                                     @Param("language") String language,
+                                                                     @Param("status") LemmaStatus status);
+
+    /**
+     * A recording as public responses show it; not an entity, so it never enters the
+     * persistence context.
+     */
+    record PronunciationView(
+            String id,
+            String ownerId,
+            String speaker,
+            String region,
+            String audioUri,
+            Integer durationMs,
+            Long version,
+            ZonedDateTime lastModifiedDate
+    ) {}
 }
@@ -0,0 +1,71 @@
+package com.bhashamitra.platform.repositories;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+/**
+ * Keyset scans and batch updates behind the search key backfill (lemmas.lemma_key,
+ * surface_forms.form_key and both latin_key columns). Updates only touch rows whose key is
+ * still NULL, so re-running a batch, or racing a regular write through the entity, never
+ * overwrites a key.
+ */
+@Repository
+public class SearchKeyJdbcRepository {
+
+    public enum Target {
+        LEMMA_KEY("lemmas", "lemma_native", "lemma_key"),
+        SURFACE_FORM_KEY("surface_forms", "form_native", "form_key"),
+        LEMMA_LATIN_KEY("lemmas", "lemma_native", "latin_key"),
+        SURFACE_FORM_LATIN_KEY("surface_forms", "form_native", "latin_key");
+
+        private final String table;
+        private final String textColumn;
+        private final String keyColumn;
+
+        Target(String table, String textColumn, String keyColumn) {
+            this.table = table;
+            this.textColumn = textColumn;
+            this.keyColumn = keyColumn;
+        }
+    }
+
+    private final JdbcTemplate jdbc;
+
+    public SearchKeyJdbcRepository(JdbcTemplate jdbc) {
+        this.jdbc = jdbc;
+    }
+
+    /**
+     * Up to limit rows without a key, ordered by id, strictly after afterId (null for the first batch).
+     */
+    public List<Row> findWithoutKey(Target target, String afterId, int limit) {
+        String sql = "SELECT id, " + target.textColumn + " AS text FROM " + target.table
+                + " WHERE " + target.keyColumn + " IS NULL"
+                + (afterId != null ? " AND id > ?" : "")
+                + " ORDER BY id LIMIT " + limit;
+        Object[] args = afterId != null ? new Object[]{JdbcSupport.id(afterId)} : new Object[0];
+        return jdbc.query(sql, (rs, i) -> new Row(JdbcSupport.getId(rs, "id"), rs.getString("text")), args);
+    }
+
+    public void updateKeys(Target target, List<KeyUpdate> updates) {
+        jdbc.batchUpdate(updateSql(target), updates, updates.size(), (ps, u) -> {
+            ps.setString(1, u.key());
+            JdbcSupport.setId(ps, 2, u.id());
+        });
+    }
+
+    public int updateKey(Target target, KeyUpdate update) {
+        return jdbc.update(updateSql(target), update.key(), JdbcSupport.id(update.id()));
+    }
+
+    private static String updateSql(Target target) {
+        return "UPDATE " + target.table + " SET " + target.keyColumn + " = ?"
+                + " WHERE id = ? AND " + target.keyColumn + " IS NULL";
+    }
+
+    public record Row(String id, String text) {}
+
+    public record KeyUpdate(String id, String key) {}
+}
@@ -0,0 +1,96 @@
+package com.bhashamitra.platform.repositories;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.stereotype.Repository;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * Reads behind the sentence search index: a full scan of one language for a rebuild, and
+ * the cheap watermark / "modified since" queries used to keep an index in step with the
+ * table. Both of the latter are served by idx_usage_sentences_language_modified.
+ */
+@Repository
+public class SentenceSearchJdbcRepository {
+
+    private static final String COLUMNS = """
+            id, status, register, difficulty, last_modified_date,
+            sentence_native, sentence_latin, translation, explanation
+            """;
+
+    private static final RowMapper<Row> ROW_MAPPER = (rs, i) -> {
+        int difficulty = rs.getInt("difficulty");
+        Integer difficultyOrNull = rs.wasNull() ? null : difficulty;
+        return new Row(
+                JdbcSupport.getId(rs, "id"),
+                rs.getString("status"),
+                rs.getString("register"),
+                difficultyOrNull,
+                JdbcSupport.getUtcInstant(rs, "last_modified_date"),
+                rs.getString("sentence_native"),
+                rs.getString("sentence_latin"),
+                rs.getString("translation"),
+                rs.getString("explanation")
+        );
+    };
+
+    private final JdbcTemplate jdbc;
+
+    public SentenceSearchJdbcRepository(JdbcTemplate jdbc) {
+        this.jdbc = jdbc;
+    }
+
+    /**
+     * Every sentence of a language (all statuses), handed to the consumer row by row.
+     */
+    public void forEachSentence(String language, Consumer<Row> consumer) {
+        jdbc.query("SELECT " + COLUMNS + " FROM usage_sentences WHERE language = ?",
+                rs -> {
+                    consumer.accept(ROW_MAPPER.mapRow(rs, rs.getRow()));
+                },
+                language);
+    }
+
+    /**
+     * Sentences of a language modified at or after the given instant.
+     */
+    public List<Row> findModifiedSince(String language, Instant since) {
+        return jdbc.query("SELECT " + COLUMNS + " FROM usage_sentences WHERE language = ? AND last_modified_date >= ?",
+                ps -> {
+                    ps.setString(1, language);
+                    JdbcSupport.setUtcTimestamp(ps, 2, since);
+                },
+                ROW_MAPPER);
+    }
+
+    public Watermark watermark(String language) {
+        return jdbc.queryForObject(
+                "SELECT COUNT(*) AS n, MAX(last_modified_date) AS max_modified FROM usage_sentences WHERE language = ?",
+                (rs, i) -> new Watermark(rs.getLong("n"), JdbcSupport.getUtcInstant(rs, "max_modified")),
+                language);
+    }
+
+    // =========================================================
+    // Rows
+    // =========================================================
+
+    public record Row(
+            String id,
+            String status,
+            String register,
+            Integer difficulty,
+            Instant lastModified,
+            String sentenceNative,
+            String sentenceLatin,
+            String translation,
+            String explanation
+    ) {}
+
+    /**
+     * Row count and newest last_modified_date of one language (null when empty).
+     */
+    public record Watermark(long count, Instant maxLastModified) {}
+}
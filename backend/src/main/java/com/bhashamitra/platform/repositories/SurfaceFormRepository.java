@@ -1,18 +1,87 @@
 package com.bhashamitra.platform.repositories;
 
+import com.bhashamitra.platform.models.LemmaStatus;
 import com.bhashamitra.platform.models.SurfaceForm;
+import com.bhashamitra.platform.repositories.LemmaRepository.LatinKeyMatch;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 
+import java.time.ZonedDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
 public interface SurfaceFormRepository extends JpaRepository<SurfaceForm, String> {
 
-    // Uniqueness helper (matches uk_surface_forms_lemma_form_native)
-    boolean existsByLemma_IdAndFormNative(String lemmaId, String formNative);
+    // Uniqueness helper on the canonical key (matches uk_surface_forms_lemma_form_key)
+    boolean existsByLemma_IdAndFormKey(String lemmaId, String formKey);
 
-    Optional<SurfaceForm> findByLemma_IdAndFormNative(String lemmaId, String formNative);
+    Optional<SurfaceForm> findByLemma_IdAndFormKey(String lemmaId, String formKey);
 
     // Browse forms for a lemma
     List<SurfaceForm> findByLemma_IdOrderByFormNativeAscIdAsc(String lemmaId);
+
+    // -------- Read-only views (no entities, no persistence context, no flush) --------
+
+    // Cross-script search: prefix seek on idx_surface_forms_latin_key, narrowed to the language (and
+    // status, null = all); the owning lemma comes back with the form's key
+    @Query("""
+            select new com.bhashamitra.platform.repositories.LemmaRepository$LatinKeyMatch(
+                sf.latinKey, l.id, l.language, l.lemmaNative, l.lemmaLatin, l.pos, l.notes, l.status, l.version, l.lastModifiedDate)
+            from SurfaceForm sf join sf.lemma l
+            where l.language = :language
+              and (:status is null or l.status = :status)
+              and sf.latinKey like concat(:prefix, '%')
+            order by sf.latinKey asc, sf.id asc
+            """)
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FLUSH_MODE, value = "MANUAL"))
+    List<LatinKeyMatch> findLatinKeyMatches(@Param("language") String language,
+                                            @Param("status") LemmaStatus status,
+                                            @Param("prefix") String prefix,
+                                            Limit limit);
+
+    // All forms of a language's lemmas in a given status (published dictionary snapshot)
+    @Query("""
+            select new com.bhashamitra.platform.repositories.SurfaceFormRepository$SurfaceFormView(
+                sf.id, l.id, sf.formNative, sf.formLatin, sf.formType, sf.notes, sf.version, sf.lastModifiedDate)
+            from SurfaceForm sf join sf.lemma l
+            where l.language = :language and l.status = :status
+            order by sf.formNative asc, sf.id asc
+            """)
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FLUSH_MODE, value = "MANUAL"))
+    List<SurfaceFormView> findViewsByLemmaLanguageAndStatus(@Param("language") String language,
+                                                            @Param("status") LemmaStatus status);
+
+    // Forms of some lemmas of a language in a given status (incremental snapshot refresh)
+    @Query("""
+            select new com.bhashamitra.platform.repositories.SurfaceFormRepository$SurfaceFormView(
+                sf.id, l.id, sf.formNative, sf.formLatin, sf.formType, sf.notes, sf.version, sf.lastModifiedDate)
+            from SurfaceForm sf join sf.lemma l
+            where l.id in :lemmaIds and l.language = :language and l.status = :status
+            order by sf.formNative asc, sf.id asc
+            """)
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FLUSH_MODE, value = "MANUAL"))
+    List<SurfaceFormView> findViewsByLemmaIdInAndLanguageAndStatus(@Param("lemmaIds") Collection<String> lemmaIds,
+                                                                   @Param("language") String language,
+                                                                   @Param("status") LemmaStatus status);
+
+    /**
+     * A surface form as public responses show it; not an entity, so it never enters the
+     * persistence context.
+     */
+    record SurfaceFormView(
+            String id,
+            String lemmaId,
+            String formNative,
+            String formLatin,
+            String formType,
+            String notes,
+            Long version,
+            ZonedDateTime lastModifiedDate
+    ) {}
 }
@@ -2,9 +2,16 @@ package com.bhashamitra.platform.repositories;
 
 import com.bhashamitra.platform.models.UsageSentence;
 import com.bhashamitra.platform.models.UsageSentenceStatus;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 
+import java.time.ZonedDateTime;
 import java.util.List;
+import java.util.Optional;
 
 public interface UsageSentenceRepository extends JpaRepository<UsageSentence, String> {
 
@@ -13,4 +20,51 @@ public interface UsageSentenceRepository extends JpaRepository<UsageSentence, St
     List<UsageSentence> findByLanguageOrderBySentenceNativeAsc(String language);
 
     List<UsageSentence> findByLanguageAndStatusOrderBySentenceNativeAsc(String language, UsageSentenceStatus status);
+
+    // -------- Public queries (only published) --------
+
+    boolean existsByIdAndStatus(String id, UsageSentenceStatus status);
+
+    // -------- Read-only views (no entities, no persistence context, no flush) --------
+
+    @Query("""
+            select new com.bhashamitra.platform.repositories.UsageSentenceRepository$UsageSentenceView(
+                s.id, s.language, s.sentenceNative, s.sentenceLatin, s.translation, s.register, s.explanation,
+                s.difficulty, s.status, s.version, s.lastModifiedDate)
+            from UsageSentence s
+            where s.language = :language and s.status = :status
+            order by s.sentenceNative asc
+            """)
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FLUSH_MODE, value = "MANUAL"))
+    List<UsageSentenceView> findViewsByLanguageAndStatus(@Param("language") String language,
+                                                         @Param("status") UsageSentenceStatus status);
+
+    @Query("""
+            select new com.bhashamitra.platform.repositories.UsageSentenceRepository$UsageSentenceView(
+                s.id, s.language, s.sentenceNative, s.sentenceLatin, s.translation, s.register, s.explanation,
+                s.difficulty, s.status, s.version, s.lastModifiedDate)
+            from UsageSentence s
+            where s.id = :id and s.status = :status
+            """)
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FLUSH_MODE, value = "MANUAL"))
+    Optional<UsageSentenceView> findViewByIdAndStatus(@Param("id") String id,
+                                                      @Param("status") UsageSentenceStatus status);
+
+    /**
+     * A usage sentence as public responses show it, selected column by column: nothing is
+     * hydrated, snapshotted for dirty checking or kept in the persistence context.
+     */
+    record UsageSentenceView(
+            String id,
+            String language,
+            String sentenceNative,
+            String sentenceLatin,
+            String translation,
+            String register,
+            String explanation,
+            Integer difficulty,
+            UsageSentenceStatus status,
+            Long version,
+            ZonedDateTime lastModifiedDate
+    ) {}
 }
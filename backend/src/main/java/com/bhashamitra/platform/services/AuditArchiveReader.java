@@ -0,0 +1,118 @@
+package com.bhashamitra.platform.services;
+
+import com.bhashamitra.platform.models.AuditArchive;
+import com.bhashamitra.platform.models.EditorialAuditEvent;
+import com.bhashamitra.platform.repositories.AuditArchiveKeyRepository.ArchiveCount;
+import com.bhashamitra.platform.repositories.EditorialAuditEventJdbcRepository.Row;
+import org.springframework.stereotype.Component;
+import tools.jackson.databind.ObjectMapper;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Predicate;
+import java.util.zip.GZIPInputStream;
+
+/**
+ * Reads audit events back out of archived partitions: gzipped NDJSON of {@link Row}, one
+ * per line, newest first, as written by {@link AuditArchiver}. Archives cover disjoint
+ * months, so archives taken newest first are newest first as a whole.
+ *
+ * Archives are streamed, never loaded whole, and only the ones a page needs are opened:
+ * callers pass each archive with its exact number of matching events (from the
+ * audit_archive_keys index), which lets whole archives be skipped.
+ */
+@Component
+public class AuditArchiveReader {
+
+    private final AuditArchiveStore store;
+    private final ObjectMapper objectMapper;
+
+    public AuditArchiveReader(AuditArchiveStore store, ObjectMapper objectMapper) {
+        this.store = store;
+        this.objectMapper = objectMapper;
+    }
+
+    /**
+     * Up to limit events matching filter, newest first, after skipping the first skip
+     * matches. Each archive's count must be its exact number of matches.
+     */
+    public List<EditorialAuditEvent> page(List<ArchiveCount> archives, Predicate<Row> filter, long skip, int limit) {
+        List<EditorialAuditEvent> out = new ArrayList<>(Math.min(limit, 1024));
+        long toSkip = skip;
+        for (ArchiveCount a : archives) {
+            if (out.size() >= limit) break;
+            if (toSkip >= a.eventCount()) {
+                toSkip -= a.eventCount();
+                continue;
+            }
+            long[] skipping = {toSkip};
+            scan(a.archive(), r -> {
+                if (!filter.test(r)) return true;
+                if (skipping[0] > 0) {
+                    skipping[0]--;
+                    return true;
+                }
+                out.add(toEvent(r));
+                return out.size() < limit;
+            });
+            toSkip = 0;
+        }
+        return out;
+    }
+
+    /**
+     * Newest archived event matching filter, from the first archive holding one.
+     */
+    public Optional<EditorialAuditEvent> findLatest(List<ArchiveCount> archives, Predicate<Row> filter) {
+        for (ArchiveCount a : archives) {
+            if (a.eventCount() == 0) continue;
+            List<EditorialAuditEvent> page = page(List.of(a), filter, 0, 1);
+            if (!page.isEmpty()) {
+                return Optional.of(page.get(0));
+            }
+        }
+        return Optional.empty();
+    }
+
+    /**
+     * Number of events in one archive matching filter (one streamed pass).
+     */
+    public long count(AuditArchive archive, Predicate<Row> filter) {
+        long[] n = {0};
+        scan(archive, r -> {
+            if (filter.test(r)) n[0]++;
+            return true;
+        });
+        return n[0];
+    }
+
+    /**
+     * Hands the archive's rows, newest first, to visitor until it returns false.
+     */
+    private void scan(AuditArchive archive, Predicate<Row> visitor) {
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(
+                new GZIPInputStream(store.open(archive.getBlobKey())), StandardCharsets.UTF_8))) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                if (line.isBlank()) continue;
+                if (!visitor.test(objectMapper.readValue(line, Row.class))) {
+                    return;
+                }
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not read audit archive " + archive.getBlobKey(), e);
+        }
+    }
+
+    private static EditorialAuditEvent toEvent(Row r) {
+        return EditorialAuditEvent.archived(r.id(), r.entityType(), r.entityId(), r.eventType(),
+                r.actor(), r.comment(), r.details(), r.eventTs().atZone(ZoneOffset.UTC));
+    }
+}
@@ -0,0 +1,28 @@
+package com.bhashamitra.platform.services;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+
+/**
+ * Blob storage for archived audit partitions ({@code audit.archive.store}). Keys are
+ * relative paths such as {@code editorial_audit_events/p202610.ndjson.gz}.
+ */
+public interface AuditArchiveStore {
+
+    /**
+     * Stores what writer produces under key, replacing any previous blob. The blob
+     * becomes visible only once writer has returned and the bytes are durable; when
+     * writer throws, nothing is stored.
+     */
+    void put(String key, BlobWriter writer) throws IOException;
+
+    InputStream open(String key) throws IOException;
+
+    boolean exists(String key) throws IOException;
+
+    @FunctionalInterface
+    interface BlobWriter {
+        void writeTo(OutputStream out) throws IOException;
+    }
+}
@@ -0,0 +1,365 @@
+package com.bhashamitra.platform.services;
+
+import com.bhashamitra.platform.models.AuditArchive;
+import com.bhashamitra.platform.models.AuditArchiveKey;
+import com.bhashamitra.platform.models.AuditArchiveKey.Kind;
+import com.bhashamitra.platform.repositories.AuditArchiveKeyJdbcRepository;
+import com.bhashamitra.platform.repositories.AuditArchiveKeyRepository;
+import com.bhashamitra.platform.repositories.AuditArchiveRepository;
+import com.bhashamitra.platform.repositories.AuditPartitionJdbcRepository;
+import com.bhashamitra.platform.repositories.AuditPartitionJdbcRepository.Partition;
+import com.bhashamitra.platform.repositories.EditorialAuditEventJdbcRepository.Row;
+import com.bhashamitra.platform.repositories.NamedLockJdbcRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import tools.jackson.databind.ObjectMapper;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.YearMonth;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.locks.LockSupport;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Retention for editorial_audit_events ({@code audit.archive.enabled=true}), which is
+ * range-partitioned by month of event_ts on MySQL (changelog 016).
+ *
+ * Every {@code audit.archive.interval} a background thread, on one instance at a time:
+ * <ul>
+ *   <li>splits the MAXVALUE partition so monthly partitions exist
+ *       {@code audit.archive.months-ahead} months past the current one;</li>
+ *   <li>streams each partition older than {@code audit.archive.retain-months} full months,
+ *       newest first, to the {@link AuditArchiveStore} as gzipped NDJSON, records it in
+ *       audit_archives with its per-entity, per-actor and per-event-type counts
+ *       (audit_archive_keys), then drops the partition. Empty partitions are dropped
+ *       without an archive.</li>
+ * </ul>
+ * The drop happens under a table write lock and only if the partition still holds the
+ * rows that were archived; an event that arrived late (a replayed spool, say) keeps the
+ * partition for the next run, which archives it again. An archive is only read
+ * ({@code EditorialAuditEventService}) once its partition is gone, so no event is served
+ * twice; a drop interrupted before the manifest was updated is completed on the next run.
+ *
+ * Does nothing when the database is not MySQL or the table is not partitioned.
+ */
+@Component
+@ConditionalOnProperty(name = "audit.archive.enabled", havingValue = "true")
+public class AuditArchiver implements SmartLifecycle {
+
+    private static final Logger log = LoggerFactory.getLogger(AuditArchiver.class);
+
+    private static final String LOCK_NAME = "bhashamitra.audit-archiver";
+    private static final String KEY_PREFIX = "editorial_audit_events/";
+    private static final String KEY_SUFFIX = ".ndjson.gz";
+
+    private final AuditPartitionJdbcRepository partitions;
+    private final NamedLockJdbcRepository locks;
+    private final AuditArchiveRepository archives;
+    private final AuditArchiveKeyRepository keys;
+    private final AuditArchiveKeyJdbcRepository keyInserts;
+    private final AuditArchiveStore store;
+    private final ObjectMapper objectMapper;
+    private final TransactionTemplate manifestTx;
+    private final Duration interval;
+    private final int retainMonths;
+    private final int monthsAhead;
+    private final Clock clock;
+
+    private volatile boolean running;
+    private volatile boolean stopping;
+    private volatile Thread worker;
+
+    @Autowired
+    public AuditArchiver(AuditPartitionJdbcRepository partitions,
+                         NamedLockJdbcRepository locks,
+                         AuditArchiveRepository archives,
+                         AuditArchiveKeyRepository keys,
+                         AuditArchiveKeyJdbcRepository keyInserts,
+                         AuditArchiveStore store,
+                         ObjectMapper objectMapper,
+                         PlatformTransactionManager transactionManager,
+                         @Value("${audit.archive.interval:PT6H}") Duration interval,
+                         @Value("${audit.archive.retain-months:12}") int retainMonths,
+                         @Value("${audit.archive.months-ahead:3}") int monthsAhead) {
+        this(partitions, locks, archives, keys, keyInserts, store, objectMapper, transactionManager,
+                interval, retainMonths, monthsAhead, Clock.systemUTC());
+    }
+
+    AuditArchiver(AuditPartitionJdbcRepository partitions,
+                  NamedLockJdbcRepository locks,
+                  AuditArchiveRepository archives,
+                  AuditArchiveKeyRepository keys,
+                  AuditArchiveKeyJdbcRepository keyInserts,
+                  AuditArchiveStore store,
+                  ObjectMapper objectMapper,
+                  PlatformTransactionManager transactionManager,
+                  Duration interval,
+                  int retainMonths,
+                  int monthsAhead,
+                  Clock clock) {
+        if (retainMonths < 1) {
+            throw new IllegalArgumentException("audit.archive.retain-months must be at least 1");
+        }
+        this.partitions = partitions;
+        this.locks = locks;
+        this.archives = archives;
+        this.keys = keys;
+        this.keyInserts = keyInserts;
+        this.store = store;
+        this.objectMapper = objectMapper;
+        this.manifestTx = new TransactionTemplate(transactionManager);
+        this.interval = interval;
+        this.retainMonths = retainMonths;
+        this.monthsAhead = monthsAhead;
+        this.clock = clock;
+    }
+
+    // =========================================================
+    // Lifecycle
+    // =========================================================
+
+    @Override
+    public void start() {
+        running = true;
+        stopping = false;
+        Thread t = new Thread(this::run, "audit-archiver");
+        t.setDaemon(true);
+        t.start();
+        worker = t;
+        log.info("Audit archiver started (every {}, keeping {} months)", interval, retainMonths);
+    }
+
+    @Override
+    public void stop() {
+        running = false;
+        stopping = true;
+        Thread t = worker;
+        if (t != null) {
+            LockSupport.unpark(t);
+            try {
+                t.join(Duration.ofSeconds(10));
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            worker = null;
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    private void run() {
+        try {
+            if (!partitions.isSupported() || partitions.findPartitions().isEmpty()) {
+                log.info("editorial_audit_events is not partitioned; audit archiver idle");
+                return;
+            }
+        } catch (RuntimeException e) {
+            log.warn("Could not inspect editorial_audit_events partitions; audit archiver idle", e);
+            return;
+        }
+        while (running) {
+            try {
+                if (!locks.runExclusively(LOCK_NAME, this::tick)) {
+                    log.debug("Audit archiver running on another instance");
+                }
+            } catch (RuntimeException e) {
+                log.warn("Audit archiving failed; will retry", e);
+            }
+            LockSupport.parkNanos(interval.toNanos());
+        }
+    }
+
+    void tick() {
+        YearMonth current = YearMonth.now(clock.withZone(ZoneOffset.UTC));
+        completeDrops();
+        addPartitions(current);
+        archiveExpired(current);
+    }
+
+    // =========================================================
+    // Partitions ahead
+    // =========================================================
+
+    private void addPartitions(YearMonth current) {
+        List<Partition> all = partitions.findPartitions();
+        String maxValue = null;
+        Long lastBound = null;
+        for (Partition p : all) {
+            if (p.lessThan() == null) {
+                maxValue = p.name();
+            } else {
+                lastBound = p.lessThan();
+            }
+        }
+
+        // Partition p<yyyyMM> holds that month: bounded by the start of the next one
+        YearMonth next = lastBound != null ? monthOf(lastBound) : current;
+        YearMonth last = current.plusMonths(monthsAhead);
+        List<Partition> added = new ArrayList<>();
+        for (YearMonth m = next; !m.isAfter(last); m = m.plusMonths(1)) {
+            added.add(new Partition(partitionName(m), startOf(m.plusMonths(1))));
+        }
+        if (!added.isEmpty()) {
+            partitions.addPartitions(added, maxValue);
+            log.info("Added audit partitions {} to {}", added.get(0).name(), added.get(added.size() - 1).name());
+        }
+    }
+
+    // =========================================================
+    // Archiving
+    // =========================================================
+
+    /**
+     * Manifests left undropped by a run that stopped after DROP PARTITION.
+     */
+    private void completeDrops() {
+        List<String> live = partitions.findPartitions().stream().map(Partition::name).toList();
+        for (AuditArchive archive : archives.findByDroppedFalse()) {
+            if (!live.contains(archive.getPartitionName())) {
+                archive.setDropped(true);
+                archives.save(archive);
+            }
+        }
+    }
+
+    private void archiveExpired(YearMonth current) {
+        long cutoff = startOf(current.minusMonths(retainMonths));
+        for (Partition p : partitions.findPartitions()) {
+            if (stopping) return;
+            if (p.lessThan() == null || p.lessThan() > cutoff) continue;
+            archive(p.name());
+        }
+    }
+
+    private void archive(String partition) {
+        Optional<AuditArchive> existing = archives.findByPartitionName(partition);
+        if (existing.isPresent() && existing.get().isDropped()) {
+            log.warn("Audit partition {} was archived and dropped before but exists again; leaving it alone", partition);
+            return;
+        }
+
+        long started = System.nanoTime();
+        if (partitions.countRows(partition) == 0) {
+            if (partitions.dropPartitionIfCount(partition, 0)) {
+                existing.ifPresent(archives::delete);
+                log.info("Dropped empty audit partition {}", partition);
+            }
+            return;
+        }
+
+        String key = KEY_PREFIX + partition + KEY_SUFFIX;
+        Stats stats = new Stats();
+        try {
+            store.put(key, out -> {
+                GZIPOutputStream gzip = new GZIPOutputStream(out, 64 * 1024);
+                Writer writer = new BufferedWriter(new OutputStreamWriter(gzip, StandardCharsets.UTF_8), 64 * 1024);
+                partitions.streamPartition(partition, r -> {
+                    try {
+                        writer.write(objectMapper.writeValueAsString(r));
+                        writer.write('\n');
+                    } catch (IOException e) {
+                        throw new UncheckedIOException(e);
+                    }
+                    stats.add(r);
+                });
+                writer.flush();
+                gzip.finish();
+            });
+        } catch (IOException | UncheckedIOException e) {
+            throw new IllegalStateException("Could not write audit archive " + key, e);
+        }
+
+        AuditArchive archive = manifestTx.execute(tx -> {
+            AuditArchive a = existing.orElseGet(AuditArchive::new);
+            a.setPartitionName(partition);
+            a.setBlobKey(key);
+            a.setFromTs(stats.min.atZone(ZoneOffset.UTC));
+            a.setToTs(stats.max.atZone(ZoneOffset.UTC));
+            a.setRowCount(stats.rows);
+            a.setDropped(false);
+            a = archives.saveAndFlush(a);
+            keys.deleteByArchiveId(a.getId());
+            keyInserts.insertAll(stats.keys(a.getId()));
+            return a;
+        });
+
+        if (!partitions.dropPartitionIfCount(partition, stats.rows)) {
+            throw new IllegalStateException("Audit partition " + partition + " changed while archiving ("
+                    + stats.rows + " rows written); not dropped, archived again on the next run");
+        }
+        archive.setDropped(true);
+        archives.save(archive);
+
+        log.info("Archived audit partition {}: rows={} to {} in {} ms",
+                partition, stats.rows, key, (System.nanoTime() - started) / 1_000_000);
+    }
+
+    // =========================================================
+    // Helpers
+    // =========================================================
+
+    static String partitionName(YearMonth month) {
+        return "p%04d%02d".formatted(month.getYear(), month.getMonthValue());
+    }
+
+    private static long startOf(YearMonth month) {
+        return month.atDay(1).atStartOfDay(ZoneOffset.UTC).toEpochSecond();
+    }
+
+    // The month that starts at a partition bound
+    private static YearMonth monthOf(long epochSecond) {
+        return YearMonth.from(Instant.ofEpochSecond(epochSecond).atZone(ZoneOffset.UTC));
+    }
+
+    private static final class Stats {
+        long rows;
+        Instant min;
+        Instant max;
+        final Map<Kind, Map<String, long[]>> counts = new EnumMap<>(Kind.class);
+
+        void add(Row r) {
+            rows++;
+            Instant ts = r.eventTs();
+            if (min == null || ts.isBefore(min)) min = ts;
+            if (max == null || ts.isAfter(max)) max = ts;
+            count(Kind.ENTITY, AuditArchiveKey.entityKey(r.entityType(), r.entityId()));
+            count(Kind.ACTOR, r.actor());
+            count(Kind.EVENT_TYPE, r.eventType());
+        }
+
+        private void count(Kind kind, String value) {
+            counts.computeIfAbsent(kind, k -> new HashMap<>()).computeIfAbsent(value, v -> new long[1])[0]++;
+        }
+
+        List<AuditArchiveKey> keys(String archiveId) {
+            List<AuditArchiveKey> out = new ArrayList<>();
+            counts.forEach((kind, values) -> values.forEach((value, n) ->
+                    out.add(new AuditArchiveKey(kind, value, archiveId, n[0]))));
+            return out;
+        }
+    }
+}
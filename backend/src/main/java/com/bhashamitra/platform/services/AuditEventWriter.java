@@ -0,0 +1,470 @@
+package com.bhashamitra.platform.services;
+
+import com.bhashamitra.platform.repositories.EditorialAuditEventJdbcRepository;
+import com.bhashamitra.platform.repositories.EditorialAuditEventJdbcRepository.Row;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.dao.RecoverableDataAccessException;
+import org.springframework.dao.TransientDataAccessException;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionException;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import tools.jackson.databind.ObjectMapper;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Stream;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Write-behind pipeline for editorial audit events.
+ *
+ * In ASYNC mode (the default) events are handed over after the business transaction
+ * commits, queued in a bounded in-memory queue and batch-inserted over JDBC by a single
+ * background flusher. When the queue stays full for longer than
+ * {@code audit.writer.enqueue-timeout}, or a batch insert fails, the events are appended
+ * to an NDJSON spool file instead and replayed once the database accepts writes again,
+ * so an audit event is never silently dropped. The spool directory
+ * ({@code audit.writer.spool-dir}) has to survive a restart, so ASYNC mode refuses to
+ * start without one.
+ *
+ * Replays are idempotent (a batch that failed after the database took it is inserted
+ * again without duplicates). Spooled lines that do not parse, and spool files the
+ * database refuses for anything but being unavailable, are set aside in {@code *.failed}
+ * files next to the spool for someone to look at, and replay goes on with the rest.
+ *
+ * SYNC mode ({@code audit.writer.mode=sync}) keeps the original behavior of inserting
+ * each event inside the caller's transaction, for callers that need strict ordering.
+ *
+ * Metrics: {@code audit.write} times each batch insert (tag outcome), with the batch size
+ * in {@code audit.write.batch.size}; {@code audit.enqueue} is the time callers wait for
+ * room in the queue and {@code audit.queue.size} its depth. Events that miss the database
+ * count in {@code audit.spooled} (tag reason: queue-full, write-failed, not-running),
+ * {@code audit.spool.lost} counts those that could not even be written to disk and
+ * {@code audit.spool.quarantined} the spooled lines moved to {@code *.failed} files.
+ */
+@Component
+public class AuditEventWriter implements SmartLifecycle {
+
+    private static final Logger log = LoggerFactory.getLogger(AuditEventWriter.class);
+
+    private static final String SPOOL_FILE = "audit-spool.ndjson";
+    private static final String REPLAY_SUFFIX = ".replay";
+    private static final String FAILED_SUFFIX = ".failed";
+    private static final Duration REPLAY_RETRY_INTERVAL = Duration.ofSeconds(30);
+
+    public enum Mode { SYNC, ASYNC }
+
+    private final EditorialAuditEventJdbcRepository jdbcRepository;
+    private final ObjectMapper objectMapper;
+    private final TransactionTemplate replayTx;
+
+    private final Mode mode;
+    private final int batchSize;
+    private final Duration flushInterval;
+    private final Duration enqueueTimeout;
+    private final Path spoolDir;
+
+    private final BlockingQueue<Row> queue;
+    private final ReentrantLock spoolLock = new ReentrantLock();
+    private final AtomicLong spooled = new AtomicLong();
+
+    private final Timer writeSuccess;
+    private final Timer writeFailure;
+    private final DistributionSummary batchSizes;
+    private final Timer enqueueWait;
+    private final Counter spooledQueueFull;
+    private final Counter spooledWriteFailed;
+    private final Counter spooledNotRunning;
+    private final Counter spoolLost;
+    private final Counter spoolQuarantined;
+
+    private volatile boolean running;
+    private volatile Thread flusher;
+    private long nextReplayAt;
+
+    public AuditEventWriter(EditorialAuditEventJdbcRepository jdbcRepository,
+                            ObjectMapper objectMapper,
+                            PlatformTransactionManager transactionManager,
+                            MeterRegistry meterRegistry,
+                            @Value("${audit.writer.mode:async}") String mode,
+                            @Value("${audit.writer.queue-capacity:10000}") int queueCapacity,
+                            @Value("${audit.writer.batch-size:200}") int batchSize,
+                            @Value("${audit.writer.flush-interval:PT0.5S}") Duration flushInterval,
+                            @Value("${audit.writer.enqueue-timeout:PT0.05S}") Duration enqueueTimeout,
+                            @Value("${audit.writer.spool-dir:}") String spoolDir) {
+        this.jdbcRepository = jdbcRepository;
+        this.objectMapper = objectMapper;
+        this.replayTx = new TransactionTemplate(transactionManager);
+        this.mode = Mode.valueOf(mode.trim().toUpperCase());
+        if (this.mode == Mode.ASYNC && (spoolDir == null || spoolDir.isBlank())) {
+            throw new IllegalStateException("audit.writer.mode=async needs audit.writer.spool-dir on a volume that "
+                    + "survives restarts (AUDIT_SPOOL_DIR); set it or use audit.writer.mode=sync");
+        }
+        this.batchSize = batchSize;
+        this.flushInterval = flushInterval;
+        this.enqueueTimeout = enqueueTimeout;
+        this.spoolDir = spoolDir == null || spoolDir.isBlank() ? null : Path.of(spoolDir);
+        this.queue = new ArrayBlockingQueue<>(queueCapacity);
+
+        this.writeSuccess = writeTimer(meterRegistry, "success");
+        this.writeFailure = writeTimer(meterRegistry, "failure");
+        this.batchSizes = DistributionSummary.builder("audit.write.batch.size")
+                .description("Audit events per batch insert")
+                .register(meterRegistry);
+        this.enqueueWait = Timer.builder("audit.enqueue")
+                .description("Time a caller waited for room in the audit queue")
+                .register(meterRegistry);
+        Gauge.builder("audit.queue.size", queue, BlockingQueue::size)
+                .description("Audit events waiting for the background writer")
+                .register(meterRegistry);
+        this.spooledQueueFull = spooledCounter(meterRegistry, "queue-full");
+        this.spooledWriteFailed = spooledCounter(meterRegistry, "write-failed");
+        this.spooledNotRunning = spooledCounter(meterRegistry, "not-running");
+        this.spoolLost = Counter.builder("audit.spool.lost")
+                .description("Audit events that could be written neither to the database nor to the spool")
+                .register(meterRegistry);
+        this.spoolQuarantined = Counter.builder("audit.spool.quarantined")
+                .description("Spooled audit lines set aside in *.failed files instead of being replayed")
+                .register(meterRegistry);
+    }
+
+    private static Timer writeTimer(MeterRegistry registry, String outcome) {
+        return Timer.builder("audit.write")
+                .description("Audit batch insert latency")
+                .tag("outcome", outcome)
+                .register(registry);
+    }
+
+    private static Counter spooledCounter(MeterRegistry registry, String reason) {
+        return Counter.builder("audit.spooled")
+                .description("Audit events written to the spool file instead of the database")
+                .tag("reason", reason)
+                .register(registry);
+    }
+
+    public boolean isAsync() {
+        return mode == Mode.ASYNC;
+    }
+
+    /**
+     * Hand an event to the write-behind queue. Inside a transaction the event is only
+     * queued once that transaction commits, matching what a synchronous insert would leave.
+     */
+    public void submit(Row row) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    enqueue(row);
+                }
+            });
+        } else {
+            enqueue(row);
+        }
+    }
+
+    /**
+     * Events written to the spool file since startup (queue full or database unavailable).
+     */
+    public long spooledCount() {
+        return spooled.get();
+    }
+
+    void enqueue(Row row) {
+        boolean accepting = running;
+        if (accepting) {
+            long start = System.nanoTime();
+            try {
+                // Backpressure: the caller waits briefly for room before we fall back to disk
+                if (queue.offer(row, enqueueTimeout.toNanos(), TimeUnit.NANOSECONDS)) {
+                    return;
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            } finally {
+                enqueueWait.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+            }
+        }
+        spool(List.of(row), accepting ? spooledQueueFull : spooledNotRunning);
+    }
+
+    // =========================================================
+    // Lifecycle
+    // =========================================================
+
+    @Override
+    public void start() {
+        if (!isAsync()) {
+            return;
+        }
+        running = true;
+        nextReplayAt = System.nanoTime();
+        Thread t = new Thread(this::runFlusher, "audit-writer");
+        t.setDaemon(true);
+        t.start();
+        flusher = t;
+        log.info("Audit writer started (batchSize={}, capacity={}, spool={})",
+                batchSize, queue.remainingCapacity(), spoolDir);
+    }
+
+    @Override
+    public void stop() {
+        running = false;
+        Thread t = flusher;
+        if (t != null) {
+            try {
+                t.join(Duration.ofSeconds(10));
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            flusher = null;
+        }
+        // Whatever the flusher could not write in time survives on disk
+        List<Row> rest = new ArrayList<>();
+        queue.drainTo(rest);
+        if (!rest.isEmpty()) {
+            spool(rest, spooledNotRunning);
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    /**
+     * Start before and stop after the web server, so in-flight requests can still audit.
+     */
+    @Override
+    public int getPhase() {
+        return SmartLifecycle.DEFAULT_PHASE - 4096;
+    }
+
+    // =========================================================
+    // Flusher
+    // =========================================================
+
+    private void runFlusher() {
+        List<Row> batch = new ArrayList<>(batchSize);
+        while (running || !queue.isEmpty()) {
+            try {
+                Row first = queue.poll(flushInterval.toNanos(), TimeUnit.NANOSECONDS);
+                if (first == null) {
+                    replaySpoolIfDue();
+                    continue;
+                }
+                batch.add(first);
+                queue.drainTo(batch, batchSize - 1);
+                flush(batch);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                break;
+            } catch (RuntimeException e) {
+                log.error("Audit writer loop failed", e);
+            } finally {
+                batch.clear();
+            }
+        }
+    }
+
+    void flush(List<Row> batch) {
+        batchSizes.record(batch.size());
+        long start = System.nanoTime();
+        try {
+            jdbcRepository.insertBatch(batch);
+            writeSuccess.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        } catch (RuntimeException e) {
+            writeFailure.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+            log.warn("Audit batch insert of {} events failed; spooling to disk", batch.size(), e);
+            spool(batch, spooledWriteFailed);
+            nextReplayAt = System.nanoTime() + REPLAY_RETRY_INTERVAL.toNanos();
+        }
+    }
+
+    // =========================================================
+    // Spool (durable fallback)
+    // =========================================================
+
+    private void spool(List<Row> rows, Counter reason) {
+        StringBuilder sb = new StringBuilder();
+        for (Row r : rows) {
+            sb.append(objectMapper.writeValueAsString(r)).append('\n');
+        }
+
+        spoolLock.lock();
+        try {
+            if (spoolDir == null) {
+                throw new IOException("no audit.writer.spool-dir configured");
+            }
+            Files.createDirectories(spoolDir);
+            try (FileChannel ch = FileChannel.open(spoolDir.resolve(SPOOL_FILE),
+                    StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.APPEND)) {
+                ch.write(ByteBuffer.wrap(sb.toString().getBytes(StandardCharsets.UTF_8)));
+                ch.force(false);
+            }
+            spooled.addAndGet(rows.size());
+            reason.increment(rows.size());
+        } catch (IOException e) {
+            spoolLost.increment(rows.size());
+            // Last resort: keep the events in the log so they can be recovered by hand
+            log.error("Could not spool {} audit events, lost from the database: {}", rows.size(), sb, e);
+        } finally {
+            spoolLock.unlock();
+        }
+    }
+
+    private void replaySpoolIfDue() {
+        if (System.nanoTime() - nextReplayAt < 0) {
+            return;
+        }
+        try {
+            replaySpool();
+        } catch (RuntimeException | IOException e) {
+            log.warn("Audit spool replay failed; will retry", e);
+            nextReplayAt = System.nanoTime() + REPLAY_RETRY_INTERVAL.toNanos();
+        }
+    }
+
+    /**
+     * Move the active spool file aside and insert every spooled file, one transaction
+     * per file so a failed replay never leaves half a file behind in the database. A file
+     * the database refuses is quarantined and the others still replayed; when the
+     * database is unavailable the pass stops and the files wait for the next one.
+     */
+    void replaySpool() throws IOException {
+        if (spoolDir == null || !Files.isDirectory(spoolDir)) {
+            return;
+        }
+
+        spoolLock.lock();
+        try {
+            Path active = spoolDir.resolve(SPOOL_FILE);
+            if (Files.exists(active)) {
+                Files.move(active, spoolDir.resolve(SPOOL_FILE + "." + System.currentTimeMillis() + REPLAY_SUFFIX),
+                        StandardCopyOption.ATOMIC_MOVE);
+            }
+        } finally {
+            spoolLock.unlock();
+        }
+
+        List<Path> files;
+        try (Stream<Path> listing = Files.list(spoolDir)) {
+            files = listing.filter(f -> f.getFileName().toString().endsWith(REPLAY_SUFFIX)).sorted().toList();
+        }
+        for (Path file : files) {
+            List<String> unparsable = new ArrayList<>();
+            int replayed;
+            try {
+                replayed = replayFile(file, unparsable);
+            } catch (RuntimeException e) {
+                if (databaseUnavailable(e)) {
+                    throw e;
+                }
+                log.error("Database refused spooled audit file {}; moved to {}{}",
+                        file.getFileName(), file.getFileName(), FAILED_SUFFIX, e);
+                quarantineFile(file);
+                continue;
+            }
+            if (!unparsable.isEmpty()) {
+                Files.write(failedFile(file), unparsable, StandardCharsets.UTF_8,
+                        StandardOpenOption.CREATE, StandardOpenOption.APPEND);
+                spoolQuarantined.increment(unparsable.size());
+                log.error("Skipped {} unparsable lines of spooled audit file {}; kept in {}{}",
+                        unparsable.size(), file.getFileName(), file.getFileName(), FAILED_SUFFIX);
+            }
+            Files.delete(file);
+            log.info("Replayed {} spooled audit events from {}", replayed, file.getFileName());
+        }
+    }
+
+    private int replayFile(Path file, List<String> unparsable) {
+        try (BufferedReader reader = Files.newBufferedReader(file, StandardCharsets.UTF_8)) {
+            Integer count = replayTx.execute(status -> {
+                List<Row> batch = new ArrayList<>(batchSize);
+                int total = 0;
+                try {
+                    String line;
+                    while ((line = reader.readLine()) != null) {
+                        if (line.isBlank()) continue;
+                        Row row = parse(line);
+                        if (row == null) {
+                            unparsable.add(line);
+                            continue;
+                        }
+                        batch.add(row);
+                        if (batch.size() == batchSize) {
+                            jdbcRepository.insertBatch(batch);
+                            total += batch.size();
+                            batch.clear();
+                        }
+                    }
+                } catch (IOException e) {
+                    throw new UncheckedIOException("Could not read audit spool file " + file, e);
+                }
+                jdbcRepository.insertBatch(batch);
+                return total + batch.size();
+            });
+            return count == null ? 0 : count;
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not read audit spool file " + file, e);
+        }
+    }
+
+    private Row parse(String line) {
+        try {
+            Row row = objectMapper.readValue(line, Row.class);
+            return row != null && row.id() != null && row.eventTs() != null ? row : null;
+        } catch (RuntimeException e) {
+            return null;
+        }
+    }
+
+    private void quarantineFile(Path file) throws IOException {
+        try (Stream<String> lines = Files.lines(file, StandardCharsets.UTF_8)) {
+            spoolQuarantined.increment(lines.filter(l -> !l.isBlank()).count());
+        } catch (IOException | UncheckedIOException e) {
+            // Counted as one: the file is moved aside either way
+            spoolQuarantined.increment();
+        }
+        Files.move(file, failedFile(file), StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    private static Path failedFile(Path file) {
+        return file.resolveSibling(file.getFileName() + FAILED_SUFFIX);
+    }
+
+    // Worth retrying later, as opposed to a file the database will keep refusing
+    private static boolean databaseUnavailable(RuntimeException e) {
+        return e instanceof TransientDataAccessException
+                || e instanceof RecoverableDataAccessException
+                || e instanceof DataAccessResourceFailureException
+                || e instanceof TransactionException;
+    }
+}
@@ -2,19 +2,30 @@
 package com.bhashamitra.platform.services;
 
 
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import tools.jackson.core.JacksonException;
 import tools.jackson.databind.ObjectMapper;
 import org.springframework.stereotype.Service;
 
+import java.util.concurrent.TimeUnit;
+
 @Service
 public class AuditService {
 
     private final EditorialAuditEventService editorialAuditEventService;
     private final ObjectMapper objectMapper;
+    private final Timer serialization;
 
-    public AuditService(EditorialAuditEventService editorialAuditEventService, ObjectMapper objectMapper) {
+    public AuditService(EditorialAuditEventService editorialAuditEventService,
+                        ObjectMapper objectMapper,
+                        MeterRegistry meterRegistry) {
         this.editorialAuditEventService = editorialAuditEventService;
         this.objectMapper = objectMapper;
+        this.serialization = Timer.builder("json.serialization")
+                .description("Time spent serializing a payload to JSON")
+                .tag("payload", "audit-details")
+                .register(meterRegistry);
     }
 
     public void record(String entityType,
@@ -48,13 +59,16 @@ public class AuditService {
         record(entityType, entityId, eventType, actor, comment, json);
     }
 
-    private String toJson(Object details) {
+    String toJson(Object details) {
         if (details == null) return null;
+        long start = System.nanoTime();
         try {
             return objectMapper.writeValueAsString(details);
         } catch (JacksonException e) {
             // Never block the main business operation because audit serialization failed
             return "{\"auditSerializationError\":\"" + safeMessage(e.getMessage()) + "\"}";
+        } finally {
+            serialization.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
         }
     }
 
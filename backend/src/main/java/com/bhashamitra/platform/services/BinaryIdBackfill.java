@@ -0,0 +1,152 @@
+package com.bhashamitra.platform.services;
+
+import com.bhashamitra.platform.models.Ids;
+import com.bhashamitra.platform.repositories.BinaryIdBackfillJdbcRepository;
+import com.bhashamitra.platform.repositories.BinaryIdBackfillJdbcRepository.Table;
+import com.bhashamitra.platform.repositories.NamedLockJdbcRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Fills the BINARY(16) shadow id columns (changelog 017) of a database that still stores
+ * ids as CHAR(36), so the swap to binary ids (changelog 018) finds them complete. Rows
+ * written meanwhile get theirs from the 017 triggers.
+ *
+ * A background thread, on one instance at a time, walks each table in primary-key order
+ * in batches of {@code ids.backfill.batch-size} rows, one short UPDATE per batch and a
+ * pause of {@code ids.backfill.pause} between them; tables already complete are skipped.
+ * It stops once every table is done; an instance that finds another one at it checks
+ * again later, and a restart resumes an interrupted run.
+ *
+ * Does nothing when the database is not MySQL or the ids are already binary.
+ */
+@Component
+@ConditionalOnProperty(name = "ids.backfill.enabled", havingValue = "true")
+public class BinaryIdBackfill implements SmartLifecycle {
+
+    private static final Logger log = LoggerFactory.getLogger(BinaryIdBackfill.class);
+
+    private static final String LOCK_NAME = "bhashamitra.binary-id-backfill";
+    private static final Duration RETRY = Duration.ofMinutes(1);
+
+    private final BinaryIdBackfillJdbcRepository repository;
+    private final NamedLockJdbcRepository locks;
+    private final int batchSize;
+    private final Duration pause;
+
+    private volatile boolean running;
+    private volatile boolean stopping;
+    private volatile Thread worker;
+
+    public BinaryIdBackfill(BinaryIdBackfillJdbcRepository repository,
+                            NamedLockJdbcRepository locks,
+                            @Value("${ids.backfill.batch-size:1000}") int batchSize,
+                            @Value("${ids.backfill.pause:PT0.05S}") Duration pause) {
+        this.repository = repository;
+        this.locks = locks;
+        this.batchSize = batchSize;
+        this.pause = pause;
+    }
+
+    // =========================================================
+    // Lifecycle
+    // =========================================================
+
+    @Override
+    public void start() {
+        running = true;
+        stopping = false;
+        Thread t = new Thread(this::run, "binary-id-backfill");
+        t.setDaemon(true);
+        t.start();
+        worker = t;
+    }
+
+    @Override
+    public void stop() {
+        running = false;
+        stopping = true;
+        Thread t = worker;
+        if (t != null) {
+            LockSupport.unpark(t);
+            try {
+                t.join(Duration.ofSeconds(10));
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            worker = null;
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    private void run() {
+        try {
+            if (Ids.storage() != Ids.Storage.TEXT || !locks.isSupported() || !repository.isExpanded()) {
+                return;
+            }
+        } catch (RuntimeException e) {
+            log.warn("Could not inspect the id columns; binary id backfill idle", e);
+            return;
+        }
+        log.info("Binary id backfill started (batches of {})", batchSize);
+        boolean done = false;
+        while (running && !done) {
+            try {
+                done = locks.runExclusively(LOCK_NAME, this::backfill);
+                if (!done) {
+                    log.debug("Binary id backfill running on another instance");
+                }
+            } catch (RuntimeException e) {
+                log.warn("Binary id backfill failed; will retry", e);
+            }
+            if (!done) {
+                LockSupport.parkNanos(RETRY.toNanos());
+            }
+        }
+    }
+
+    // =========================================================
+    // Backfill
+    // =========================================================
+
+    void backfill() {
+        for (Table table : BinaryIdBackfillJdbcRepository.TABLES) {
+            if (stopping) {
+                return;
+            }
+            if (repository.hasUnfilled(table)) {
+                backfill(table);
+            }
+        }
+        if (!stopping) {
+            log.info("Binary id backfill complete; the swap (changelog 018) can run");
+        }
+    }
+
+    /**
+     * Returns the number of rows visited.
+     */
+    long backfill(Table table) {
+        long rows = 0;
+        String after = null;
+        String end;
+        while (!stopping && (end = repository.nextBatchEnd(table, after, batchSize)) != null) {
+            rows += repository.fill(table, after, end);
+            after = end;
+            LockSupport.parkNanos(pause.toNanos());
+        }
+        log.info("Binary id backfill {}: {} rows", table.name(), rows);
+        return rows;
+    }
+}
@@ -0,0 +1,32 @@
+package com.bhashamitra.platform.services;
+
+/**
+ * Second-level cache data other application instances have to drop after this one changed
+ * it: one entity (entity name and id), a whole entity region (id null) or every region
+ * (both null).
+ *
+ * Entity names starting with {@code dictionary:} are not Hibernate entities: they name a
+ * language of the published dictionary snapshot, with a lemma id or null for every lemma
+ * (see {@link PublishedDictionaryService}).
+ */
+public record CacheInvalidation(String entity, String id) {
+
+    private static final String DICTIONARY_PREFIX = "dictionary:";
+
+    public static CacheInvalidation everything() {
+        return new CacheInvalidation(null, null);
+    }
+
+    public static CacheInvalidation dictionary(String language, String lemmaId) {
+        return new CacheInvalidation(DICTIONARY_PREFIX + language, lemmaId);
+    }
+
+    /**
+     * The dictionary language this invalidation is for, or null for a cache region.
+     */
+    public String dictionaryLanguage() {
+        return entity != null && entity.startsWith(DICTIONARY_PREFIX)
+                ? entity.substring(DICTIONARY_PREFIX.length())
+                : null;
+    }
+}
@@ -0,0 +1,22 @@
+package com.bhashamitra.platform.services;
+
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * Carries second-level cache invalidations between application instances (ECS tasks).
+ * Chosen with {@code cache.invalidation.transport}: {@code local} for a single instance,
+ * {@code jdbc} for instances sharing the database.
+ */
+public interface CacheInvalidationTransport {
+
+    /**
+     * Tell the other instances; called on the committing thread, so it must not block on I/O.
+     */
+    void publish(CacheInvalidation invalidation);
+
+    /**
+     * Receive what other instances published, in batches, on a transport thread.
+     */
+    void subscribe(Consumer<List<CacheInvalidation>> listener);
+}
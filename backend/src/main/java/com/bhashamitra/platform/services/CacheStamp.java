@@ -0,0 +1,113 @@
+package com.bhashamitra.platform.services;
+
+import java.time.Instant;
+
+/**
+ * HTTP validator material for a resource or a collection: a 64-bit hash over the
+ * (id, version, lastModifiedDate) of every row the response is built from, plus a
+ * Last-Modified that is never earlier than the last change to them (or null when no such
+ * instant is known).
+ *
+ * Any insert, update or delete of a contributing row changes the hash (JPA bumps
+ * {@code version} on every update), so {@link #etag()} can be a strong validator
+ * without hashing the serialized body. Stamps are computed once when a snapshot is
+ * built, so answering a conditional request costs a map lookup.
+ */
+public record CacheStamp(long hash, Instant lastModified) {
+
+    /**
+     * Strong entity tag: the quoted hex hash.
+     */
+    public String etag() {
+        return "\"" + Long.toHexString(hash) + "\"";
+    }
+
+    /**
+     * Last-Modified as epoch millis, or -1 when unknown (Spring then skips the date check).
+     */
+    public long lastModifiedMillis() {
+        return lastModified != null ? lastModified.toEpochMilli() : -1;
+    }
+
+    /**
+     * Stamp of a single row; its lastModifiedDate is an exact Last-Modified.
+     */
+    public static CacheStamp of(String id, Long version, Instant lastModified) {
+        return builder().add(id, version, lastModified).build();
+    }
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    /**
+     * Order-sensitive FNV-1a fold; callers add rows in a deterministic order.
+     */
+    public static final class Builder {
+
+        private static final long OFFSET_BASIS = 0xcbf29ce484222325L;
+        private static final long PRIME = 0x100000001b3L;
+
+        private long hash = OFFSET_BASIS;
+        private Instant lastModified;
+
+        private Builder() {
+        }
+
+        public Builder add(String id, Long version, Instant modified) {
+            addString(id);
+            addLong(version != null ? version : -1);
+            addLong(modified != null ? modified.getEpochSecond() : -1);
+            addLong(modified != null ? modified.getNano() : -1);
+            touch(modified);
+            return this;
+        }
+
+        public Builder add(CacheStamp stamp) {
+            if (stamp == null) {
+                addLong(0);
+                return this;
+            }
+            addLong(stamp.hash());
+            touch(stamp.lastModified());
+            return this;
+        }
+
+        public Builder addString(String s) {
+            if (s == null) {
+                addLong(-1);
+                return this;
+            }
+            for (int i = 0, n = s.length(); i < n; i++) {
+                mix(s.charAt(i));
+            }
+            // Length as a separator so ("ab", "c") and ("a", "bc") differ
+            addLong(s.length());
+            return this;
+        }
+
+        public Builder addLong(long v) {
+            for (int shift = 0; shift < 64; shift += 16) {
+                mix((int) (v >>> shift) & 0xffff);
+            }
+            return this;
+        }
+
+        public CacheStamp build() {
+            return new CacheStamp(hash, lastModified);
+        }
+
+        private void mix(int unit) {
+            hash ^= unit & 0xff;
+            hash *= PRIME;
+            hash ^= unit >>> 8;
+            hash *= PRIME;
+        }
+
+        private void touch(Instant modified) {
+            if (modified != null && (lastModified == null || modified.isAfter(lastModified))) {
+                lastModified = modified;
+            }
+        }
+    }
+}
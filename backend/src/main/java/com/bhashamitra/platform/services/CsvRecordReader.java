@@ -0,0 +1,102 @@
+package com.bhashamitra.platform.services;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Minimal streaming RFC 4180 reader: comma separated, optional double-quoted fields
+ * ("" escapes a quote, quoted fields may span lines), CRLF or LF line endings.
+ * Good enough for spreadsheet exports without pulling in a CSV library.
+ */
+final class CsvRecordReader {
+
+    private final BufferedReader reader;
+    private int line = 1;
+    private int recordLine;
+    private boolean eof;
+
+    CsvRecordReader(BufferedReader reader) {
+        this.reader = reader;
+    }
+
+    /**
+     * Physical line on which the last returned record started (1-based).
+     */
+    int recordLine() {
+        return recordLine;
+    }
+
+    /**
+     * Next record, or null at end of input. Blank lines are skipped.
+     */
+    List<String> next() throws IOException {
+        while (!eof) {
+            recordLine = line;
+            List<String> fields = readRecord();
+            if (fields.size() > 1 || !fields.get(0).isEmpty()) {
+                return fields;
+            }
+        }
+        return null;
+    }
+
+    private List<String> readRecord() throws IOException {
+        List<String> fields = new ArrayList<>();
+        StringBuilder field = new StringBuilder();
+        boolean quoted = false;
+
+        while (true) {
+            int c = reader.read();
+            if (c < 0) {
+                if (quoted) {
+                    throw new IllegalArgumentException("Unterminated quoted field starting on line " + recordLine);
+                }
+                eof = true;
+                fields.add(field.toString());
+                return fields;
+            }
+
+            if (quoted) {
+                if (c == '"') {
+                    reader.mark(1);
+                    int n = reader.read();
+                    if (n == '"') {
+                        field.append('"');
+                    } else {
+                        quoted = false;
+                        if (n >= 0) reader.reset();
+                    }
+                } else {
+                    if (c == '\n') line++;
+                    field.append((char) c);
+                }
+                continue;
+            }
+
+            switch (c) {
+                case '"' -> {
+                    if (field.isEmpty()) {
+                        quoted = true;
+                    } else {
+                        field.append('"');
+                    }
+                }
+                case ',' -> {
+                    fields.add(field.toString());
+                    field.setLength(0);
+                }
+                case '\r' -> {
+                    // swallowed; the following \n ends the record
+                }
+                case '\n' -> {
+                    line++;
+                    fields.add(field.toString());
+                    return fields;
+                }
+                default -> field.append((char) c);
+            }
+        }
+    }
+}
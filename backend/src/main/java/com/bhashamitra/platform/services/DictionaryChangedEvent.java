@@ -0,0 +1,28 @@
+package com.bhashamitra.platform.services;
+
+import java.util.Set;
+
+/**
+ * Published by editorial write paths when published dictionary content of a language
+ * may have changed. Listeners react after the surrounding transaction commits.
+ *
+ * @param lemmaIds the lemmas whose rows (or child rows) changed, or null when any lemma of
+ *                 the language may have changed (bulk import)
+ */
+public record DictionaryChangedEvent(String language, Set<String> lemmaIds) {
+
+    public DictionaryChangedEvent {
+        lemmaIds = lemmaIds != null ? Set.copyOf(lemmaIds) : null;
+    }
+
+    /**
+     * Any lemma of the language may have changed.
+     */
+    public DictionaryChangedEvent(String language) {
+        this(language, null);
+    }
+
+    public static DictionaryChangedEvent lemma(String language, String lemmaId) {
+        return new DictionaryChangedEvent(language, Set.of(lemmaId));
+    }
+}
@@ -1,28 +1,60 @@
 package com.bhashamitra.platform.services;
 
+import com.bhashamitra.platform.models.AuditArchive;
+import com.bhashamitra.platform.models.AuditArchiveKey;
+import com.bhashamitra.platform.models.AuditArchiveKey.Kind;
 import com.bhashamitra.platform.models.EditorialAuditEvent;
+import com.bhashamitra.platform.repositories.AuditArchiveKeyRepository;
+import com.bhashamitra.platform.repositories.AuditArchiveKeyRepository.ArchiveCount;
+import com.bhashamitra.platform.repositories.EditorialAuditEventJdbcRepository;
+import com.bhashamitra.platform.repositories.EditorialAuditEventJdbcRepository.Row;
 import com.bhashamitra.platform.repositories.EditorialAuditEventRepository;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.Instant;
 import java.time.ZoneOffset;
 import java.time.ZonedDateTime;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Optional;
-
+import java.util.function.Predicate;
+
+/**
+ * Editorial audit events. Reads cover the live table and the partitions
+ * {@link AuditArchiver} has moved to the archive store: archived events are all older than
+ * live ones, so they follow the live rows in newest-first order and count in the page
+ * totals. Totals come from the archives' key counts (audit_archive_keys), and a page
+ * only opens the archives it takes rows from; window queries also scan the one or two
+ * archives straddling the window's ends to count them exactly.
+ */
 @Service
 public class EditorialAuditEventService {
 
     private final EditorialAuditEventRepository repository;
-
-    public EditorialAuditEventService(EditorialAuditEventRepository repository) {
+    private final AuditEventWriter auditEventWriter;
+    private final AuditArchiveKeyRepository archiveKeys;
+    private final AuditArchiveReader archiveReader;
+
+    public EditorialAuditEventService(EditorialAuditEventRepository repository,
+                                      AuditEventWriter auditEventWriter,
+                                      AuditArchiveKeyRepository archiveKeys,
+                                      AuditArchiveReader archiveReader) {
         this.repository = repository;
+        this.auditEventWriter = auditEventWriter;
+        this.archiveKeys = archiveKeys;
+        this.archiveReader = archiveReader;
     }
 
     /**
      * Append-only audit event write.
      * Always inserts a new row (never updates).
+     *
+     * With the async audit writer the row is queued once the caller's transaction commits
+     * and the returned event is not yet persisted; in sync mode it is saved right here.
      */
     @Transactional
     public EditorialAuditEvent recordEvent(
@@ -49,6 +81,20 @@ public class EditorialAuditEventService {
         e.setCreatedBy(actor);
         e.setLastModifiedBy(actor);
 
+        if (auditEventWriter.isAsync()) {
+            auditEventWriter.submit(new EditorialAuditEventJdbcRepository.Row(
+                    e.getId(),
+                    e.getEntityType(),
+                    e.getEntityId(),
+                    e.getEventType(),
+                    e.getActor(),
+                    e.getComment(),
+                    e.getDetails(),
+                    e.getEventTs().toInstant()
+            ));
+            return e;
+        }
+
         return repository.save(e);
     }
 
@@ -57,11 +103,12 @@ public class EditorialAuditEventService {
      */
     @Transactional(readOnly = true)
     public Page<EditorialAuditEvent> getTimeline(String entityType, String entityId, Pageable pageable) {
-        return repository.findByEntityTypeAndEntityIdOrderByEventTsDesc(
-                requireNonBlank(entityType, "entityType"),
-                requireNonBlank(entityId, "entityId"),
-                pageable
-        );
+        String type = requireNonBlank(entityType, "entityType");
+        String id = requireNonBlank(entityId, "entityId");
+
+        Page<EditorialAuditEvent> live = repository.findByEntityTypeAndEntityIdOrderByEventTsDesc(type, id, pageable);
+        return withArchived(live, pageable, archiveKeys.findArchives(Kind.ENTITY, AuditArchiveKey.entityKey(type, id)),
+                r -> r.entityType().equals(type) && r.entityId().equals(id));
     }
 
     /**
@@ -69,10 +116,15 @@ public class EditorialAuditEventService {
      */
     @Transactional(readOnly = true)
     public Optional<EditorialAuditEvent> getLatestEvent(String entityType, String entityId) {
-        return repository.findFirstByEntityTypeAndEntityIdOrderByEventTsDesc(
-                requireNonBlank(entityType, "entityType"),
-                requireNonBlank(entityId, "entityId")
-        );
+        String type = requireNonBlank(entityType, "entityType");
+        String id = requireNonBlank(entityId, "entityId");
+
+        Optional<EditorialAuditEvent> live = repository.findFirstByEntityTypeAndEntityIdOrderByEventTsDesc(type, id);
+        if (live.isPresent()) {
+            return live;
+        }
+        return archiveReader.findLatest(archiveKeys.findArchives(Kind.ENTITY, AuditArchiveKey.entityKey(type, id)),
+                r -> r.entityType().equals(type) && r.entityId().equals(id));
     }
 
     /**
@@ -85,12 +137,14 @@ public class EditorialAuditEventService {
             ZonedDateTime toUtc,
             Pageable pageable
     ) {
-        return repository.findByEventTypeAndEventTsBetweenOrderByEventTsDesc(
-                requireNonBlank(eventType, "eventType"),
-                requireNonNull(fromUtc, "fromUtc"),
-                requireNonNull(toUtc, "toUtc"),
-                pageable
-        );
+        String type = requireNonBlank(eventType, "eventType");
+        requireNonNull(fromUtc, "fromUtc");
+        requireNonNull(toUtc, "toUtc");
+
+        Page<EditorialAuditEvent> live = repository.findByEventTypeAndEventTsBetweenOrderByEventTsDesc(
+                type, fromUtc, toUtc, pageable);
+        Predicate<Row> filter = within(fromUtc, toUtc).and(r -> r.eventType().equals(type));
+        return withArchived(live, pageable, archivesWithin(Kind.EVENT_TYPE, type, fromUtc, toUtc, filter), filter);
     }
 
     /**
@@ -103,12 +157,74 @@ public class EditorialAuditEventService {
             ZonedDateTime toUtc,
             Pageable pageable
     ) {
-        return repository.findByActorAndEventTsBetweenOrderByEventTsDesc(
-                requireNonBlank(actor, "actor"),
-                requireNonNull(fromUtc, "fromUtc"),
-                requireNonNull(toUtc, "toUtc"),
-                pageable
-        );
+        String who = requireNonBlank(actor, "actor");
+        requireNonNull(fromUtc, "fromUtc");
+        requireNonNull(toUtc, "toUtc");
+
+        Page<EditorialAuditEvent> live = repository.findByActorAndEventTsBetweenOrderByEventTsDesc(
+                who, fromUtc, toUtc, pageable);
+        Predicate<Row> filter = within(fromUtc, toUtc).and(r -> r.actor().equals(who));
+        return withArchived(live, pageable, archivesWithin(Kind.ACTOR, who, fromUtc, toUtc, filter), filter);
+    }
+
+    // ---------------- archived events ----------------
+
+    /**
+     * Archives with events of this key in [from, to], with the number of them. An
+     * archive's key count covers its whole month, so the archives reaching past either
+     * end of the window are scanned for the exact number.
+     */
+    private List<ArchiveCount> archivesWithin(Kind kind, String value,
+                                              ZonedDateTime fromUtc, ZonedDateTime toUtc,
+                                              Predicate<Row> filter) {
+        List<ArchiveCount> out = new ArrayList<>();
+        for (ArchiveCount a : archiveKeys.findArchivesOverlapping(kind, value, fromUtc, toUtc)) {
+            AuditArchive archive = a.archive();
+            if (archive.getFromTs().isBefore(fromUtc) || archive.getToTs().isAfter(toUtc)) {
+                long n = archiveReader.count(archive, filter);
+                if (n > 0) {
+                    out.add(new ArchiveCount(archive, n));
+                }
+            } else {
+                out.add(a);
+            }
+        }
+        return out;
+    }
+
+    // Inclusive on both ends, like the repository's Between
+    private static Predicate<Row> within(ZonedDateTime fromUtc, ZonedDateTime toUtc) {
+        Instant from = fromUtc.toInstant();
+        Instant to = toUtc.toInstant();
+        return r -> !r.eventTs().isBefore(from) && !r.eventTs().isAfter(to);
+    }
+
+    /**
+     * The page of (live rows, then archived rows) at pageable's position. The live query
+     * already returned its share of the page and its total; archived matches fill the rest,
+     * read from only the archives that hold them. Unpaged requests read every match.
+     */
+    private Page<EditorialAuditEvent> withArchived(Page<EditorialAuditEvent> live,
+                                                   Pageable pageable,
+                                                   List<ArchiveCount> archives,
+                                                   Predicate<Row> filter) {
+        long archivedTotal = archives.stream().mapToLong(ArchiveCount::eventCount).sum();
+        if (archivedTotal == 0) {
+            return live;
+        }
+
+        long liveTotal = live.getTotalElements();
+        List<EditorialAuditEvent> content = new ArrayList<>(live.getContent());
+        if (pageable.isUnpaged()) {
+            content.addAll(archiveReader.page(archives, filter, 0, Integer.MAX_VALUE));
+        } else {
+            long skip = Math.max(0, pageable.getOffset() - liveTotal);
+            int limit = pageable.getPageSize() - content.size();
+            if (limit > 0 && skip < archivedTotal) {
+                content.addAll(archiveReader.page(archives, filter, skip, limit));
+            }
+        }
+        return new PageImpl<>(content, pageable, liveTotal + archivedTotal);
     }
 
     // ---------------- helpers ----------------
@@ -0,0 +1,196 @@
+package com.bhashamitra.platform.services;
+
+import com.bhashamitra.platform.config.ReadRouting;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.CacheMode;
+import org.hibernate.cache.spi.CacheImplementor;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.event.spi.EventType;
+import org.hibernate.event.spi.LoadEvent;
+import org.hibernate.event.spi.LoadEventListener;
+import org.hibernate.event.spi.PostCommitDeleteEventListener;
+import org.hibernate.event.spi.PostCommitInsertEventListener;
+import org.hibernate.event.spi.PostCommitUpdateEventListener;
+import org.hibernate.event.spi.PostDeleteEvent;
+import org.hibernate.event.spi.PostInsertEvent;
+import org.hibernate.event.spi.PostUpdateEvent;
+import org.hibernate.event.spi.PreLoadEvent;
+import org.hibernate.event.spi.PreLoadEventListener;
+import org.hibernate.persister.entity.EntityPersister;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * Keeps the second-level caches of all application instances in step. Every committed
+ * insert, update or delete of a cached entity is published on the
+ * {@link CacheInvalidationTransport}; what the other instances publish is evicted here.
+ *
+ * Writes that bypass Hibernate (JDBC bulk statements) call {@link #invalidate(Class)}.
+ * Every invalidation, sent or received, also tells {@link ReadRouting} which entity (or
+ * entity type) changed. While that change is recent, a load of that entity moves its
+ * transaction to the writer, so the copy cached on the miss is not a lagging replica's;
+ * if the transaction already reads from a replica, the copy is loaded but not cached.
+ * Reads of anything else stay on the replicas.
+ * A missed or late invalidation is not a correctness problem for writes - cached entities
+ * carry their version, so an update from a stale copy fails with an optimistic lock
+ * exception - but it is one for reads until the region's time-to-live.
+ */
+@Component
+public class EntityCacheInvalidator {
+
+    private static final Logger log = LoggerFactory.getLogger(EntityCacheInvalidator.class);
+
+    private final CacheImplementor cache;
+    private final CacheInvalidationTransport transport;
+    private final Counter sent;
+    private final Counter received;
+
+    public EntityCacheInvalidator(EntityManagerFactory entityManagerFactory,
+                                  CacheInvalidationTransport transport,
+                                  MeterRegistry meterRegistry) {
+        SessionFactoryImplementor sessionFactory = entityManagerFactory.unwrap(SessionFactoryImplementor.class);
+        this.cache = sessionFactory.getCache();
+        this.transport = transport;
+        this.sent = Counter.builder("cache.invalidations")
+                .description("Second-level cache invalidations exchanged with other instances")
+                .tag("direction", "sent")
+                .register(meterRegistry);
+        this.received = Counter.builder("cache.invalidations")
+                .description("Second-level cache invalidations exchanged with other instances")
+                .tag("direction", "received")
+                .register(meterRegistry);
+
+        CommitListener listener = new CommitListener();
+        sessionFactory.getEventListenerRegistry().appendListeners(EventType.POST_COMMIT_INSERT, listener);
+        sessionFactory.getEventListenerRegistry().appendListeners(EventType.POST_COMMIT_UPDATE, listener);
+        sessionFactory.getEventListenerRegistry().appendListeners(EventType.POST_COMMIT_DELETE, listener);
+        // Ahead of Hibernate's own load listener, which looks in the cache and then queries
+        ReloadListener reload = new ReloadListener();
+        sessionFactory.getEventListenerRegistry().prependListeners(EventType.LOAD, reload);
+        sessionFactory.getEventListenerRegistry().appendListeners(EventType.PRE_LOAD, reload);
+        transport.subscribe(this::apply);
+    }
+
+    /**
+     * Drops every cached instance of an entity type, here and on the other instances, after
+     * its table was written without going through Hibernate.
+     */
+    public void invalidate(Class<?> entityType) {
+        cache.evictEntityData(entityType);
+        publish(new CacheInvalidation(entityType.getName(), null));
+    }
+
+    private void publish(CacheInvalidation invalidation) {
+        ReadRouting.dataChanged(invalidation.entity(), invalidation.id());
+        transport.publish(invalidation);
+        sent.increment();
+    }
+
+    void apply(List<CacheInvalidation> invalidations) {
+        for (CacheInvalidation i : invalidations) {
+            try {
+                if (i.dictionaryLanguage() != null) {
+                    // PublishedDictionaryService's, not a cache region
+                    continue;
+                }
+                if (i.entity() == null) {
+                    ReadRouting.dataChanged();
+                    cache.evictAllRegions();
+                    continue;
+                }
+                ReadRouting.dataChanged(i.entity(), i.id());
+                if (i.id() == null) {
+                    cache.evictEntityData(i.entity());
+                } else {
+                    cache.evictEntityData(i.entity(), i.id());
+                }
+            } catch (RuntimeException e) {
+                // An entity this instance does not know (mixed versions during a deploy)
+                log.warn("Could not apply cache invalidation {}", i, e);
+            }
+        }
+        received.increment(invalidations.size());
+    }
+
+    /**
+     * Registered with Hibernate: before an entity is loaded by id, and before a row read by
+     * any query is turned into an entity (and put in the cache).
+     */
+    private static final class ReloadListener implements LoadEventListener, PreLoadEventListener {
+
+        @Override
+        public void onLoad(LoadEvent event, LoadType loadType) {
+            if (ReadRouting.changedRecently(event.getEntityClassName(), idOf(event.getEntityId()))) {
+                ReadRouting.reloadOnWriter();
+            }
+        }
+
+        @Override
+        public void onPreLoad(PreLoadEvent event) {
+            EntityPersister persister = event.getPersister();
+            if (ReadRouting.onReader()
+                    && persister.canWriteToCache()
+                    && ReadRouting.changedRecently(persister.getEntityName(), idOf(event.getId()))) {
+                // Too late to change connections; keep the replica's copy out of the cache
+                event.getSession().setCacheMode(CacheMode.GET);
+            }
+        }
+
+        private static String idOf(Object id) {
+            return id != null ? String.valueOf(id) : null;
+        }
+    }
+
+    /**
+     * Registered with Hibernate; acts on entities that have a cache region.
+     */
+    private final class CommitListener
+            implements PostCommitInsertEventListener, PostCommitUpdateEventListener, PostCommitDeleteEventListener {
+
+        @Override
+        public boolean requiresPostCommitHandling(EntityPersister persister) {
+            return persister.canWriteToCache();
+        }
+
+        private void committed(EntityPersister persister, Object id) {
+            // Hibernate fires the whole group; requiresPostCommitHandling only decides
+            // whether an action registers for after-commit at all
+            if (persister.canWriteToCache()) {
+                publish(new CacheInvalidation(persister.getEntityName(), String.valueOf(id)));
+            }
+        }
+
+        @Override
+        public void onPostInsert(PostInsertEvent event) {
+            committed(event.getPersister(), event.getId());
+        }
+
+        @Override
+        public void onPostUpdate(PostUpdateEvent event) {
+            committed(event.getPersister(), event.getId());
+        }
+
+        @Override
+        public void onPostDelete(PostDeleteEvent event) {
+            committed(event.getPersister(), event.getId());
+        }
+
+        @Override
+        public void onPostInsertCommitFailed(PostInsertEvent event) {
+            // Nothing committed, nothing to tell the others
+        }
+
+        @Override
+        public void onPostUpdateCommitFailed(PostUpdateEvent event) {
+        }
+
+        @Override
+        public void onPostDeleteCommitFailed(PostDeleteEvent event) {
+        }
+    }
+}
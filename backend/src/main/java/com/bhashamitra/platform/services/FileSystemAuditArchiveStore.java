@@ -0,0 +1,74 @@
+package com.bhashamitra.platform.services;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * Archive store on a local or mounted directory ({@code audit.archive.store=filesystem},
+ * the default), for development and single-host installs. Container filesystems do not
+ * outlive the task: production needs shared storage behind {@link AuditArchiveStore}.
+ *
+ * A blob is written to a temporary file next to its target, forced to disk and then
+ * renamed into place, so readers never see a partial archive.
+ */
+@Component
+@ConditionalOnProperty(name = "audit.archive.store", havingValue = "filesystem", matchIfMissing = true)
+public class FileSystemAuditArchiveStore implements AuditArchiveStore {
+
+    private static final String TEMP_SUFFIX = ".part";
+
+    private final Path root;
+
+    public FileSystemAuditArchiveStore(
+            @Value("${audit.archive.dir:${java.io.tmpdir}/bhashamitra-audit-archive}") String dir) {
+        this.root = Path.of(dir).toAbsolutePath().normalize();
+    }
+
+    @Override
+    public void put(String key, BlobWriter writer) throws IOException {
+        Path target = resolve(key);
+        Files.createDirectories(target.getParent());
+        Path temp = target.resolveSibling(target.getFileName() + TEMP_SUFFIX);
+
+        try (FileChannel channel = FileChannel.open(temp, StandardOpenOption.CREATE,
+                StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE)) {
+            OutputStream out = Channels.newOutputStream(channel);
+            writer.writeTo(out);
+            out.flush();
+            channel.force(true);
+        } catch (IOException | RuntimeException e) {
+            Files.deleteIfExists(temp);
+            throw e;
+        }
+        Files.move(temp, target, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+    }
+
+    @Override
+    public InputStream open(String key) throws IOException {
+        return Files.newInputStream(resolve(key));
+    }
+
+    @Override
+    public boolean exists(String key) {
+        return Files.isRegularFile(resolve(key));
+    }
+
+    private Path resolve(String key) {
+        Path path = root.resolve(key).normalize();
+        if (!path.startsWith(root) || path.equals(root)) {
+            throw new IllegalArgumentException("Invalid archive key: " + key);
+        }
+        return path;
+    }
+}
@@ -0,0 +1,244 @@
+package com.bhashamitra.platform.services;
+
+import com.bhashamitra.platform.models.Ids;
+import com.bhashamitra.platform.repositories.CacheInvalidationJdbcRepository;
+import com.bhashamitra.platform.repositories.CacheInvalidationJdbcRepository.Entry;
+import com.bhashamitra.platform.repositories.CacheInvalidationJdbcRepository.Row;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.TreeSet;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.Consumer;
+
+/**
+ * Cache invalidation transport over the shared database
+ * ({@code cache.invalidation.transport=jdbc}): no broker, every instance already talks to
+ * the same writer.
+ *
+ * Published invalidations go to a bounded outbox and are appended to cache_invalidations
+ * by a background thread every {@code cache.invalidation.poll-interval}, which then reads
+ * the rows other instances appended since the last poll. The outbox overflowing, or an
+ * append failing, turns into one "drop everything" row instead, so nothing stale survives
+ * a lost message.
+ *
+ * Rows are read in seq order. A seq can become visible after a higher one (two inserts
+ * committing out of order), so the poller only moves its watermark over consecutive seqs
+ * and waits up to {@code cache.invalidation.gap-timeout} for a missing one before skipping
+ * it. An instance that could not poll for longer than {@code cache.invalidation.retention},
+ * after which rows are purged, drops its whole cache.
+ */
+@Component
+@ConditionalOnProperty(name = "cache.invalidation.transport", havingValue = "jdbc")
+public class JdbcCacheInvalidationTransport implements CacheInvalidationTransport, SmartLifecycle {
+
+    private static final Logger log = LoggerFactory.getLogger(JdbcCacheInvalidationTransport.class);
+
+    private static final int POLL_LIMIT = 1000;
+    private static final Duration PURGE_INTERVAL = Duration.ofMinutes(5);
+
+    private final CacheInvalidationJdbcRepository repository;
+    private final Duration pollInterval;
+    private final Duration gapTimeout;
+    private final Duration retention;
+
+    private final String node = Ids.newId();
+    private final BlockingQueue<CacheInvalidation> outbox;
+    private final List<Consumer<List<CacheInvalidation>>> listeners = new CopyOnWriteArrayList<>();
+
+    private volatile boolean overflowed;
+    private volatile boolean running;
+    private volatile Thread poller;
+
+    // Poller thread only
+    private long watermark = -1;
+    private final TreeSet<Long> handled = new TreeSet<>();
+    private long gapSince;
+    private long lastPolled;
+    private long nextPurgeAt;
+
+    public JdbcCacheInvalidationTransport(CacheInvalidationJdbcRepository repository,
+                                          @Value("${cache.invalidation.poll-interval:PT1S}") Duration pollInterval,
+                                          @Value("${cache.invalidation.gap-timeout:PT10S}") Duration gapTimeout,
+                                          @Value("${cache.invalidation.retention:PT1H}") Duration retention,
+                                          @Value("${cache.invalidation.outbox-capacity:10000}") int outboxCapacity) {
+        this.repository = repository;
+        this.pollInterval = pollInterval;
+        this.gapTimeout = gapTimeout;
+        this.retention = retention;
+        this.outbox = new ArrayBlockingQueue<>(outboxCapacity);
+        this.lastPolled = System.nanoTime();
+        this.nextPurgeAt = lastPolled;
+    }
+
+    @Override
+    public void publish(CacheInvalidation invalidation) {
+        if (!outbox.offer(invalidation)) {
+            overflowed = true;
+        }
+    }
+
+    @Override
+    public void subscribe(Consumer<List<CacheInvalidation>> listener) {
+        listeners.add(listener);
+    }
+
+    // =========================================================
+    // Lifecycle
+    // =========================================================
+
+    @Override
+    public void start() {
+        running = true;
+        Thread t = new Thread(this::run, "cache-invalidation");
+        t.setDaemon(true);
+        t.start();
+        poller = t;
+        log.info("Cache invalidations shared through the database (node {}, every {})", node, pollInterval);
+    }
+
+    @Override
+    public void stop() {
+        running = false;
+        Thread t = poller;
+        if (t != null) {
+            LockSupport.unpark(t);
+            try {
+                t.join(Duration.ofSeconds(10));
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            poller = null;
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    private void run() {
+        while (running) {
+            LockSupport.parkNanos(pollInterval.toNanos());
+            try {
+                tick();
+            } catch (RuntimeException e) {
+                log.warn("Cache invalidation poll failed; will retry", e);
+            }
+        }
+        try {
+            // Last words: what this instance changed still reaches the others
+            send();
+        } catch (RuntimeException e) {
+            log.warn("Could not send the last cache invalidations", e);
+        }
+    }
+
+    void tick() {
+        send();
+        receive();
+        purgeIfDue();
+    }
+
+    // =========================================================
+    // Outbox
+    // =========================================================
+
+    void send() {
+        List<CacheInvalidation> batch = new ArrayList<>();
+        outbox.drainTo(batch);
+        if (overflowed) {
+            overflowed = false;
+            batch = List.of(CacheInvalidation.everything());
+        }
+        if (batch.isEmpty()) {
+            return;
+        }
+        try {
+            repository.insertBatch(node, batch.stream().map(i -> new Entry(i.entity(), i.id())).toList(), Instant.now());
+        } catch (RuntimeException e) {
+            overflowed = true;
+            throw e;
+        }
+    }
+
+    // =========================================================
+    // Inbox
+    // =========================================================
+
+    void receive() {
+        long now = System.nanoTime();
+        boolean missedRows = now - lastPolled > retention.toNanos();
+        if (watermark < 0) {
+            watermark = repository.maxSeq();
+        }
+
+        List<CacheInvalidation> received = new ArrayList<>();
+        if (missedRows) {
+            log.warn("No cache invalidations read for longer than {}; dropping the whole cache", retention);
+            received.add(CacheInvalidation.everything());
+        }
+        for (Row row : repository.findAfter(watermark, POLL_LIMIT)) {
+            if (handled.add(row.seq()) && !node.equals(row.node())) {
+                received.add(new CacheInvalidation(row.entry().entity(), row.entry().entityId()));
+            }
+        }
+        lastPolled = now;
+        advance(now);
+
+        if (!received.isEmpty()) {
+            for (Consumer<List<CacheInvalidation>> listener : listeners) {
+                listener.accept(received);
+            }
+        }
+    }
+
+    /**
+     * Move the watermark over consecutive handled seqs; skip a missing seq once it has been
+     * missing for the gap timeout.
+     */
+    private void advance(long now) {
+        while (!handled.isEmpty()) {
+            if (handled.first() == watermark + 1) {
+                watermark = handled.pollFirst();
+                gapSince = 0;
+            } else if (gapSince == 0) {
+                gapSince = now;
+                return;
+            } else if (now - gapSince >= gapTimeout.toNanos()) {
+                log.debug("Skipping cache invalidation seq {} to {}", watermark + 1, handled.first() - 1);
+                watermark = handled.first() - 1;
+            } else {
+                return;
+            }
+        }
+        gapSince = 0;
+    }
+
+    long watermark() {
+        return watermark;
+    }
+
+    private void purgeIfDue() {
+        long now = System.nanoTime();
+        if (now - nextPurgeAt < 0) {
+            return;
+        }
+        nextPurgeAt = now + PURGE_INTERVAL.toNanos();
+        int purged = repository.deleteOlderThan(Instant.now().minus(retention));
+        if (purged > 0) {
+            log.debug("Purged {} cache invalidations older than {}", purged, retention);
+        }
+    }
+}
@@ -0,0 +1,28 @@
+package com.bhashamitra.platform.services;
+
+import com.bhashamitra.platform.models.Language;
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+import org.springframework.context.ApplicationEventPublisher;
+
+/**
+ * JPA entity listener on {@link Language}: turns any write through JPA into a
+ * {@link LanguagesChangedEvent} so the {@link LanguageRegistry} reloads after commit.
+ * Instantiated by Hibernate through Spring, hence the constructor injection.
+ */
+public class LanguageChangeListener {
+
+    private final ApplicationEventPublisher eventPublisher;
+
+    public LanguageChangeListener(ApplicationEventPublisher eventPublisher) {
+        this.eventPublisher = eventPublisher;
+    }
+
+    @PostPersist
+    @PostUpdate
+    @PostRemove
+    void onChange(Language language) {
+        eventPublisher.publishEvent(new LanguagesChangedEvent());
+    }
+}
@@ -0,0 +1,171 @@
+package com.bhashamitra.platform.services;
+
+import com.bhashamitra.platform.repositories.LanguageExportJdbcRepository;
+import com.bhashamitra.platform.repositories.LanguageExportJdbcRepository.LemmaRow;
+import com.bhashamitra.platform.repositories.LanguageExportJdbcRepository.MeaningRow;
+import com.bhashamitra.platform.repositories.LanguageExportJdbcRepository.PronunciationRow;
+import com.bhashamitra.platform.repositories.LanguageExportJdbcRepository.SentenceRow;
+import com.bhashamitra.platform.repositories.LanguageExportJdbcRepository.SurfaceFormRow;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import tools.jackson.databind.ObjectMapper;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Streams a language's published dictionary as NDJSON: one line per PUBLISHED lemma with
+ * its meanings, surface forms, recordings and linked PUBLISHED sentences nested inside.
+ *
+ * Lemmas are walked in keyset chunks of {@link #CHUNK_SIZE}; each chunk costs one lemma
+ * query plus one IN query per child table in a short read-only transaction, and is written
+ * out before the next one is read. Memory stays bounded by the chunk size and no database
+ * connection is held while the client is downloading.
+ */
+@Service
+public class LanguageExportService {
+
+    private static final Logger log = LoggerFactory.getLogger(LanguageExportService.class);
+
+    static final int CHUNK_SIZE = 500;
+
+    private final LanguageExportJdbcRepository exportRepository;
+    private final LanguageService languageService;
+    private final ObjectMapper objectMapper;
+    private final TransactionTemplate readOnlyTx;
+
+    public LanguageExportService(LanguageExportJdbcRepository exportRepository,
+                                 LanguageService languageService,
+                                 ObjectMapper objectMapper,
+                                 PlatformTransactionManager transactionManager) {
+        this.exportRepository = exportRepository;
+        this.languageService = languageService;
+        this.objectMapper = objectMapper;
+        this.readOnlyTx = new TransactionTemplate(transactionManager);
+        this.readOnlyTx.setReadOnly(true);
+    }
+
+    /**
+     * Write the export to the given stream (not closed). Returns the number of lemmas written.
+     */
+    public long exportPublished(String language, OutputStream out) throws IOException {
+        if (language == null || language.isBlank()) {
+            throw new IllegalArgumentException("language is required");
+        }
+        String lang = language.trim();
+        if (!languageService.isLanguageEnabled(lang)) {
+            throw new IllegalArgumentException("Language is not enabled or not found: " + lang);
+        }
+
+        long started = System.nanoTime();
+        long written = 0;
+        String afterNative = null;
+        String afterId = null;
+
+        while (true) {
+            String seekNative = afterNative;
+            String seekId = afterId;
+            List<ExportedLemma> chunk = readOnlyTx.execute(status -> readChunk(lang, seekNative, seekId));
+            if (chunk == null || chunk.isEmpty()) {
+                break;
+            }
+
+            for (ExportedLemma lemma : chunk) {
+                out.write(objectMapper.writeValueAsBytes(lemma));
+                out.write('\n');
+            }
+            out.flush();
+            written += chunk.size();
+
+            if (chunk.size() < CHUNK_SIZE) {
+                break;
+            }
+            ExportedLemma last = chunk.get(chunk.size() - 1);
+            afterNative = last.lemmaNative();
+            afterId = last.id();
+        }
+
+        log.info("Exported {} published lemmas for language={} in {} ms",
+                written, lang, (System.nanoTime() - started) / 1_000_000);
+        return written;
+    }
+
+    private List<ExportedLemma> readChunk(String language, String afterNative, String afterId) {
+        List<LemmaRow> lemmas = exportRepository.findPublishedLemmasAfter(language, afterNative, afterId, CHUNK_SIZE);
+        if (lemmas.isEmpty()) {
+            return List.of();
+        }
+
+        List<String> ids = lemmas.stream().map(LemmaRow::id).toList();
+        Map<String, List<MeaningRow>> meanings = exportRepository.findMeanings(ids);
+        Map<String, List<SurfaceFormRow>> surfaceForms = exportRepository.findSurfaceForms(ids);
+        Map<String, List<PronunciationRow>> pronunciations = exportRepository.findPronunciations("LEMMA", ids);
+        Map<String, List<SentenceRow>> sentences = exportRepository.findLinkedSentences(ids);
+
+        Set<String> sentenceIds = new LinkedHashSet<>();
+        sentences.values().forEach(list -> list.forEach(s -> sentenceIds.add(s.id())));
+        Map<String, List<PronunciationRow>> sentencePronunciations =
+                exportRepository.findPronunciations("SENTENCE", sentenceIds);
+
+        List<ExportedLemma> out = new ArrayList<>(lemmas.size());
+        for (LemmaRow l : lemmas) {
+            List<ExportedSentence> linked = sentences.getOrDefault(l.id(), List.of()).stream()
+                    .map(s -> new ExportedSentence(s, sentencePronunciations.getOrDefault(s.id(), List.of())))
+                    .toList();
+            out.add(new ExportedLemma(
+                    l.id(),
+                    l.lemmaNative(),
+                    l.lemmaLatin(),
+                    l.pos(),
+                    l.notes(),
+                    meanings.getOrDefault(l.id(), List.of()),
+                    surfaceForms.getOrDefault(l.id(), List.of()),
+                    pronunciations.getOrDefault(l.id(), List.of()),
+                    linked
+            ));
+        }
+        return out;
+    }
+
+    // =========================================================
+    // Export records (one NDJSON line per ExportedLemma)
+    // =========================================================
+
+    public record ExportedLemma(
+            String id,
+            String lemmaNative,
+            String lemmaLatin,
+            String pos,
+            String notes,
+            List<MeaningRow> meanings,
+            List<SurfaceFormRow> surfaceForms,
+            List<PronunciationRow> pronunciations,
+            List<ExportedSentence> sentences
+    ) {}
+
+    public record ExportedSentence(
+            String id,
+            String linkType,
+            String surfaceFormId,
+            String sentenceNative,
+            String sentenceLatin,
+            String translation,
+            String register,
+            String explanation,
+            Integer difficulty,
+            List<PronunciationRow> pronunciations
+    ) {
+        ExportedSentence(SentenceRow s, List<PronunciationRow> pronunciations) {
+            this(s.id(), s.linkType(), s.surfaceFormId(), s.sentenceNative(), s.sentenceLatin(),
+                    s.translation(), s.register(), s.explanation(), s.difficulty(), pronunciations);
+        }
+    }
+}
@@ -0,0 +1,168 @@
+package com.bhashamitra.platform.services;
+
+import com.bhashamitra.platform.config.ReadRouting;
+import com.bhashamitra.platform.models.Language;
+import com.bhashamitra.platform.repositories.LanguageRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * In-process copy of the languages table (a handful of rows) so language checks on
+ * the request path never hit the database.
+ *
+ * Loaded at startup, reloaded after any JPA write to a {@link Language} commits, and
+ * otherwise refreshed once it is older than {@code languages.registry-ttl} to pick up
+ * changes made outside the application (Liquibase, manual SQL). Returned entities are
+ * shared between callers and must be treated as read-only.
+ */
+@Component
+public class LanguageRegistry {
+
+    private static final Logger log = LoggerFactory.getLogger(LanguageRegistry.class);
+
+    private final LanguageRepository languageRepository;
+    private final long ttlNanos;
+
+    private final ReentrantLock loadLock = new ReentrantLock();
+    private final AtomicLong generation = new AtomicLong();
+    private volatile Snapshot current;
+
+    public LanguageRegistry(LanguageRepository languageRepository,
+                            @Value("${languages.registry-ttl:PT5M}") Duration ttl) {
+        this.languageRepository = languageRepository;
+        this.ttlNanos = ttl.toNanos();
+    }
+
+    public Optional<Language> find(String code) {
+        if (code == null) {
+            return Optional.empty();
+        }
+        return Optional.ofNullable(snapshot().byCode().get(code));
+    }
+
+    public boolean isEnabled(String code) {
+        return find(code).map(Language::getEnabled).orElse(false);
+    }
+
+    public List<Language> enabled() {
+        return snapshot().enabled();
+    }
+
+    /**
+     * Validator over every language row (code, version, lastModifiedDate). Carries no
+     * Last-Modified: removing a row leaves no newer timestamp behind.
+     */
+    public CacheStamp stamp() {
+        return snapshot().stamp();
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void warmUp() {
+        try {
+            reload();
+        } catch (RuntimeException e) {
+            // Not fatal: the first request will try again
+            log.warn("Could not load languages at startup", e);
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onLanguagesChanged(LanguagesChangedEvent event) {
+        invalidate();
+    }
+
+    public void invalidate() {
+        generation.incrementAndGet();
+        current = null;
+    }
+
+    // =========================================================
+    // Loading
+    // =========================================================
+
+    private Snapshot snapshot() {
+        Snapshot snapshot = current;
+        if (snapshot != null && !snapshot.isExpired(ttlNanos)) {
+            return snapshot;
+        }
+
+        if (snapshot != null) {
+            // Expired: one caller refreshes, everyone else keeps serving the old copy
+            if (loadLock.tryLock()) {
+                try {
+                    if (current == snapshot) {
+                        return reloadLocked();
+                    }
+                } finally {
+                    loadLock.unlock();
+                }
+            }
+            Snapshot latest = current;
+            return latest != null ? latest : snapshot;
+        }
+
+        return reload();
+    }
+
+    private Snapshot reload() {
+        loadLock.lock();
+        try {
+            Snapshot snapshot = current;
+            if (snapshot != null && !snapshot.isExpired(ttlNanos)) {
+                return snapshot;
+            }
+            return reloadLocked();
+        } finally {
+            loadLock.unlock();
+        }
+    }
+
+    private Snapshot reloadLocked() {
+        long startedAt = generation.get();
+        // Served until the next change or the TTL: read from the writer, not a lagging replica
+        Snapshot loaded = Snapshot.of(ReadRouting.onWriter(languageRepository::findAll));
+        // An invalidation that raced with this load wins; the next caller loads again
+        if (generation.get() == startedAt) {
+            current = loaded;
+        }
+        log.debug("Loaded {} languages", loaded.byCode().size());
+        return loaded;
+    }
+
+    private record Snapshot(Map<String, Language> byCode, List<Language> enabled, CacheStamp stamp, long loadedAt) {
+
+        static Snapshot of(List<Language> languages) {
+            Map<String, Language> byCode = new HashMap<>();
+            for (Language l : languages) {
+                byCode.put(l.getCode(), l);
+            }
+            List<Language> enabled = languages.stream()
+                    .filter(l -> Boolean.TRUE.equals(l.getEnabled()))
+                    .toList();
+            CacheStamp.Builder stamp = CacheStamp.builder();
+            languages.stream()
+                    .sorted(Comparator.comparing(Language::getCode))
+                    .forEach(l -> stamp.add(l.getCode(), l.getVersion(),
+                            l.getLastModifiedDate() != null ? l.getLastModifiedDate().toInstant() : null));
+            return new Snapshot(Map.copyOf(byCode), enabled, new CacheStamp(stamp.build().hash(), null), System.nanoTime());
+        }
+
+        boolean isExpired(long ttlNanos) {
+            return System.nanoTime() - loadedAt >= ttlNanos;
+        }
+    }
+}
@@ -2,6 +2,8 @@ package com.bhashamitra.platform.services;
 
 import com.bhashamitra.platform.models.Language;
 import com.bhashamitra.platform.repositories.LanguageRepository;
+import com.bhashamitra.platform.text.TransliterationScheme;
+import com.bhashamitra.platform.text.Transliterator;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.server.ResponseStatusException;
@@ -13,21 +15,24 @@ import java.util.List;
 public class LanguageService {
 
     private final LanguageRepository languageRepository;
+    private final LanguageRegistry languageRegistry;
 
-    public LanguageService(LanguageRepository languageRepository) {
+    public LanguageService(LanguageRepository languageRepository, LanguageRegistry languageRegistry) {
         this.languageRepository = languageRepository;
+        this.languageRegistry = languageRegistry;
     }
 
+    /**
+     * Served from the in-memory {@link LanguageRegistry}; called on nearly every request.
+     */
     public boolean isLanguageEnabled(String code) {
-        return languageRepository.findByCode(code)
-                .map(Language::getEnabled)
-                .orElse(false);
+        return languageRegistry.isEnabled(code);
     }
 
 
     /**
      * Return all languages (enabled + disabled).
-     * Used by admin/editor UI.
+     * Used by admin/editor UI; always read from the database.
      */
     public List<Language> getAllLanguages() {
         return languageRepository.findAll();
@@ -39,17 +44,37 @@ public class LanguageService {
      */
 
     public List<Language> getEnabledLanguages() {
-        return languageRepository.findByEnabledTrue();
+        return languageRegistry.enabled();
+    }
+
+    /**
+     * HTTP validator for the public language endpoints.
+     */
+    public CacheStamp languagesStamp() {
+        return languageRegistry.stamp();
     }
 
     public Language getEnabledByCode(String code) {
-        return languageRepository.findByCodeAndEnabledTrue(code)
+        return languageRegistry.find(code)
+                .filter(l -> Boolean.TRUE.equals(l.getEnabled()))
                 .orElseThrow(() -> new ResponseStatusException(
                         NOT_FOUND, "Enabled language not found for code: " + code
                 ));
     }
 
 
+    /**
+     * Romanize native text with the language's transliteration scheme. Returns null when
+     * the language has no (known) scheme or the text is blank, so callers can use it as a
+     * default for an empty Latin field.
+     */
+    public String transliterate(String code, String nativeText) {
+        TransliterationScheme scheme = languageRegistry.find(code)
+                .map(l -> TransliterationScheme.fromCode(l.getTransliterationScheme()))
+                .orElse(null);
+        return scheme != null ? Transliterator.of(scheme).toLatin(nativeText) : null;
+    }
+
     /**
      * Fetch a language by ISO 639-1 code.
      */
@@ -0,0 +1,7 @@
+package com.bhashamitra.platform.services;
+
+/**
+ * Published when a row of the languages table is inserted, updated or removed.
+ * Listeners react after the surrounding transaction commits.
+ */
+public record LanguagesChangedEvent() {}
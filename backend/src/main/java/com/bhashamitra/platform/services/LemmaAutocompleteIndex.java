@@ -0,0 +1,173 @@
+package com.bhashamitra.platform.services;
+
+import com.bhashamitra.platform.services.PublishedDictionary.LemmaEntry;
+import com.bhashamitra.platform.services.PublishedDictionary.SurfaceFormEntry;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Function;
+
+/**
+ * Prefix index over one language's published lemmas: lemma native/latin spellings and
+ * surface form native/latin spellings, folded to search keys and kept in one sorted array.
+ * A lookup is a binary search to the first key with the prefix followed by a short scan,
+ * so top-k suggestions never touch more than the matching slice.
+ *
+ * Immutable; a {@link PublishedDictionary} patched for a few lemmas derives its index with
+ * {@link #withLemmas} instead of sorting every key again.
+ */
+public final class LemmaAutocompleteIndex {
+
+    public enum MatchField { LEMMA_NATIVE, LEMMA_LATIN, FORM_NATIVE, FORM_LATIN }
+
+    private static final MatchField[] FIELDS = MatchField.values();
+
+    // Lemma spellings before form spellings for the same key, then snapshot order
+    private static final Comparator<Key> KEY_ORDER = Comparator.comparing(Key::key)
+            .thenComparingInt(Key::field)
+            .thenComparing(Key::lemma, PublishedDictionary.LEMMA_ORDER);
+
+    private final String[] keys;
+    private final String[] texts;
+    private final LemmaEntry[] owners;
+    private final byte[] fields;
+
+    LemmaAutocompleteIndex(List<LemmaEntry> lemmas, Function<String, List<SurfaceFormEntry>> surfaceForms) {
+        List<Key> all = keysOf(lemmas, surfaceForms);
+
+        int n = all.size();
+        this.keys = new String[n];
+        this.texts = new String[n];
+        this.owners = new LemmaEntry[n];
+        this.fields = new byte[n];
+        for (int i = 0; i < n; i++) {
+            set(i, all.get(i));
+        }
+    }
+
+    private LemmaAutocompleteIndex(int n) {
+        this.keys = new String[n];
+        this.texts = new String[n];
+        this.owners = new LemmaEntry[n];
+        this.fields = new byte[n];
+    }
+
+    /**
+     * A copy without the keys of the given lemma ids and with those of {@code lemmas}
+     * merged in: one pass over this index, with only the new keys sorted.
+     */
+    LemmaAutocompleteIndex withLemmas(Set<String> lemmaIds,
+                                      List<LemmaEntry> lemmas,
+                                      Function<String, List<SurfaceFormEntry>> surfaceForms) {
+        List<Key> added = keysOf(lemmas, surfaceForms);
+
+        int kept = 0;
+        for (LemmaEntry owner : owners) {
+            if (!lemmaIds.contains(owner.id())) {
+                kept++;
+            }
+        }
+
+        LemmaAutocompleteIndex out = new LemmaAutocompleteIndex(kept + added.size());
+        int i = 0;
+        int j = 0;
+        int k = 0;
+        while (i < keys.length || j < added.size()) {
+            if (i < keys.length && lemmaIds.contains(owners[i].id())) {
+                i++;
+            } else if (j == added.size() || (i < keys.length && KEY_ORDER.compare(key(i), added.get(j)) <= 0)) {
+                out.keys[k] = keys[i];
+                out.texts[k] = texts[i];
+                out.owners[k] = owners[i];
+                out.fields[k++] = fields[i++];
+            } else {
+                out.set(k++, added.get(j++));
+            }
+        }
+        return out;
+    }
+
+    public int size() {
+        return keys.length;
+    }
+
+    /**
+     * Up to {@code limit} distinct lemmas having a spelling that starts with the prefix,
+     * ordered by the matching key. Empty for a blank prefix.
+     */
+    public List<Suggestion> suggest(String prefix, int limit) {
+        String p = SearchText.fold(prefix);
+        if (p.isEmpty() || limit < 1) {
+            return List.of();
+        }
+
+        List<Suggestion> out = new ArrayList<>(Math.min(limit, 16));
+        Set<String> seen = new HashSet<>();
+        for (int i = lowerBound(p); i < keys.length && out.size() < limit && keys[i].startsWith(p); i++) {
+            if (seen.add(owners[i].id())) {
+                out.add(new Suggestion(owners[i], texts[i], FIELDS[fields[i]]));
+            }
+        }
+        return out;
+    }
+
+    private int lowerBound(String p) {
+        int lo = 0;
+        int hi = keys.length;
+        while (lo < hi) {
+            int mid = (lo + hi) >>> 1;
+            if (keys[mid].compareTo(p) < 0) {
+                lo = mid + 1;
+            } else {
+                hi = mid;
+            }
+        }
+        return lo;
+    }
+
+    private Key key(int i) {
+        return new Key(keys[i], texts[i], owners[i], fields[i]);
+    }
+
+    private void set(int i, Key k) {
+        keys[i] = k.key();
+        texts[i] = k.text();
+        owners[i] = k.lemma();
+        fields[i] = (byte) k.field();
+    }
+
+    /**
+     * The keys of the given lemmas and their surface forms, in index order.
+     */
+    private static List<Key> keysOf(List<LemmaEntry> lemmas, Function<String, List<SurfaceFormEntry>> surfaceForms) {
+        List<Key> out = new ArrayList<>(lemmas.size() * 3);
+        for (LemmaEntry l : lemmas) {
+            add(out, l.lemmaNative(), l, MatchField.LEMMA_NATIVE);
+            add(out, l.lemmaLatin(), l, MatchField.LEMMA_LATIN);
+            for (SurfaceFormEntry sf : surfaceForms.apply(l.id())) {
+                add(out, sf.formNative(), l, MatchField.FORM_NATIVE);
+                add(out, sf.formLatin(), l, MatchField.FORM_LATIN);
+            }
+        }
+        out.sort(KEY_ORDER);
+        return out;
+    }
+
+    private static void add(List<Key> out, String text, LemmaEntry lemma, MatchField field) {
+        String key = SearchText.fold(text);
+        if (!key.isEmpty()) {
+            out.add(new Key(key, text, lemma, field.ordinal()));
+        }
+    }
+
+    private record Key(String key, String text, LemmaEntry lemma, int field) {}
+
+    public record Suggestion(
+            LemmaEntry lemma,
+            String matchedText,
+            MatchField matchedField
+    ) {}
+}
@@ -0,0 +1,618 @@
+package com.bhashamitra.platform.services;
+
+import com.bhashamitra.platform.models.Ids;
+import com.bhashamitra.platform.models.LemmaSentenceLinkType;
+import com.bhashamitra.platform.models.LemmaStatus;
+import com.bhashamitra.platform.repositories.LemmaImportJdbcRepository;
+import com.bhashamitra.platform.repositories.LemmaImportJdbcRepository.LemmaRow;
+import com.bhashamitra.platform.repositories.LemmaImportJdbcRepository.LinkRow;
+import com.bhashamitra.platform.repositories.LemmaImportJdbcRepository.MeaningRow;
+import com.bhashamitra.platform.repositories.LemmaImportJdbcRepository.SurfaceFormRow;
+import com.bhashamitra.platform.text.TextCanonicalizer;
+import com.bhashamitra.platform.text.Transliterator;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataAccessException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import tools.jackson.core.JacksonException;
+import tools.jackson.databind.ObjectMapper;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Streaming bulk import of lemmas with their meanings, surface forms and sentence links.
+ *
+ * Input is read row by row and processed in chunks of {@link #CHUNK_SIZE}. Each chunk
+ * validates uniqueness with one set-based query, inserts with JDBC batches in its own
+ * transaction and records a single summarizing audit event. Bad rows are reported back
+ * with their line number and never block the rest of the chunk.
+ */
+@Service
+public class LemmaImportService {
+
+    private static final Logger log = LoggerFactory.getLogger(LemmaImportService.class);
+
+    static final int CHUNK_SIZE = 1000;
+    static final int MAX_REPORTED_ERRORS = 1000;
+
+    private static final String ENTITY_TYPE = "LEMMA_IMPORT";
+
+    public enum Format { NDJSON, CSV }
+
+    private final LemmaImportJdbcRepository importRepository;
+    private final LanguageService languageService;
+    private final AuditService auditService;
+    private final LemmaSummaryService lemmaSummaryService;
+    private final ApplicationEventPublisher eventPublisher;
+    private final ObjectMapper objectMapper;
+    private final TransactionTemplate chunkTx;
+
+    public LemmaImportService(LemmaImportJdbcRepository importRepository,
+                              LanguageService languageService,
+                              AuditService auditService,
+                              LemmaSummaryService lemmaSummaryService,
+                              ApplicationEventPublisher eventPublisher,
+                              ObjectMapper objectMapper,
+                              PlatformTransactionManager transactionManager) {
+        this.importRepository = importRepository;
+        this.languageService = languageService;
+        this.auditService = auditService;
+        this.lemmaSummaryService = lemmaSummaryService;
+        this.eventPublisher = eventPublisher;
+        this.objectMapper = objectMapper;
+        this.chunkTx = new TransactionTemplate(transactionManager);
+    }
+
+    /**
+     * Import every row of the stream into the given language.
+     *
+     * @throws IllegalArgumentException if the language is not enabled or the input cannot be
+     *                                  read at all (e.g. a CSV without a lemmaNative header)
+     */
+    public ImportResult importLemmas(String language, Format format, InputStream in, String actor) throws IOException {
+        String lang = requireEnabledLanguage(language);
+        String safeActor = (actor == null || actor.isBlank()) ? "system" : actor;
+
+        ImportContext ctx = new ImportContext(Ids.newId(), lang, safeActor);
+        BufferedReader reader = new BufferedReader(new InputStreamReader(in, StandardCharsets.UTF_8));
+        RowSource source = format == Format.CSV ? new CsvRowSource(reader) : new NdjsonRowSource(reader);
+
+        List<ParsedRow> chunk = new ArrayList<>(CHUNK_SIZE);
+        ParsedRow row;
+        while ((row = source.next()) != null) {
+            chunk.add(row);
+            if (chunk.size() == CHUNK_SIZE) {
+                processChunk(ctx, chunk);
+                chunk.clear();
+            }
+        }
+        if (!chunk.isEmpty()) {
+            processChunk(ctx, chunk);
+        }
+
+        log.info("Lemma import {} language={} rows={} lemmas={} failed={}",
+                ctx.importId, lang, ctx.totalRows, ctx.lemmas, ctx.failedRows);
+        return ctx.toResult();
+    }
+
+    // =========================================================
+    // Chunk processing
+    // =========================================================
+
+    private void processChunk(ImportContext ctx, List<ParsedRow> chunk) {
+        ctx.chunks++;
+        ctx.totalRows += chunk.size();
+
+        // 1) Row-local validation
+        List<PreparedLemma> prepared = new ArrayList<>(chunk.size());
+        for (ParsedRow parsed : chunk) {
+            if (parsed.error() != null) {
+                ctx.fail(parsed.line(), null, parsed.error());
+                continue;
+            }
+            try {
+                PreparedLemma p = prepare(ctx.language, parsed);
+                if (!ctx.seenKeys.add(p.lemma().lemmaKey())) {
+                    ctx.fail(parsed.line(), p.lemma().lemmaNative(), "Duplicate lemmaNative within this import");
+                    continue;
+                }
+                prepared.add(p);
+            } catch (IllegalArgumentException e) {
+                ctx.fail(parsed.line(), parsed.row().lemmaNative(), e.getMessage());
+            }
+        }
+        if (prepared.isEmpty()) {
+            return;
+        }
+
+        // 2) Set-based checks + batch insert, one transaction per chunk
+        try {
+            ChunkOutcome outcome = chunkTx.execute(status -> insertChunk(ctx, prepared));
+            if (outcome != null) {
+                ctx.apply(outcome);
+            }
+        } catch (DataAccessException e) {
+            log.warn("Lemma import {} chunk {} rejected by the database", ctx.importId, ctx.chunks, e);
+            String message = "Chunk rejected by the database: " + e.getMostSpecificCause().getMessage();
+            for (PreparedLemma p : prepared) {
+                ctx.fail(p.line(), p.lemma().lemmaNative(), message);
+            }
+        }
+    }
+
+    private ChunkOutcome insertChunk(ImportContext ctx, List<PreparedLemma> prepared) {
+        Set<String> existingKeys = importRepository.findExistingLemmaKeys(
+                ctx.language, prepared.stream().map(p -> p.lemma().lemmaKey()).toList());
+
+        Set<String> sentenceIds = new HashSet<>();
+        for (PreparedLemma p : prepared) {
+            for (LinkRow l : p.links()) sentenceIds.add(l.sentenceId());
+        }
+        Set<String> existingSentences = importRepository.findExistingSentenceIds(sentenceIds);
+
+        List<LemmaRow> lemmas = new ArrayList<>();
+        List<MeaningRow> meanings = new ArrayList<>();
+        List<SurfaceFormRow> surfaceForms = new ArrayList<>();
+        List<LinkRow> links = new ArrayList<>();
+        List<Integer> acceptedLines = new ArrayList<>();
+        List<RowError> rejected = new ArrayList<>();
+
+        for (PreparedLemma p : prepared) {
+            String lemmaNative = p.lemma().lemmaNative();
+            if (existingKeys.contains(p.lemma().lemmaKey())) {
+                rejected.add(new RowError(p.line(), lemmaNative,
+                        "Lemma already exists for language=" + ctx.language + " lemmaNative=" + lemmaNative));
+                continue;
+            }
+            String missing = p.links().stream()
+                    .map(LinkRow::sentenceId)
+                    .filter(id -> !existingSentences.contains(id))
+                    .findFirst()
+                    .orElse(null);
+            if (missing != null) {
+                rejected.add(new RowError(p.line(), lemmaNative, "UsageSentence not found: " + missing));
+                continue;
+            }
+
+            lemmas.add(p.lemma());
+            meanings.addAll(p.meanings());
+            surfaceForms.addAll(p.surfaceForms());
+            links.addAll(p.links());
+            acceptedLines.add(p.line());
+        }
+
+        if (lemmas.isEmpty()) {
+            return new ChunkOutcome(0, 0, 0, 0, rejected);
+        }
+
+        Instant now = Instant.now();
+        importRepository.insertLemmas(lemmas, ctx.actor, now);
+        importRepository.insertMeanings(meanings, ctx.actor, now);
+        importRepository.insertSurfaceForms(surfaceForms, ctx.actor, now);
+        importRepository.insertLinks(links, ctx.actor, now);
+        // New lemmas only, so their rows are counted from what was just inserted
+        lemmaSummaryService.rebuild(lemmas.stream().map(LemmaRow::id).toList());
+
+        // --- one audit event per chunk instead of one per row ---
+        Map<String, Object> details = new LinkedHashMap<>();
+        details.put("language", ctx.language);
+        details.put("chunk", ctx.chunks);
+        details.put("firstLine", acceptedLines.get(0));
+        details.put("lastLine", acceptedLines.get(acceptedLines.size() - 1));
+        details.put("lemmas", lemmas.size());
+        details.put("meanings", meanings.size());
+        details.put("surfaceForms", surfaceForms.size());
+        details.put("links", links.size());
+
+        auditService.record(
+                ENTITY_TYPE,
+                ctx.importId,
+                "LEMMA_IMPORT_CHUNK",
+                ctx.actor,
+                null,
+                details
+        );
+
+        if (lemmas.stream().anyMatch(l -> LemmaStatus.PUBLISHED.name().equals(l.status()))) {
+            eventPublisher.publishEvent(new DictionaryChangedEvent(ctx.language));
+        }
+
+        return new ChunkOutcome(lemmas.size(), meanings.size(), surfaceForms.size(), links.size(), rejected);
+    }
+
+    // =========================================================
+    // Row validation (same rules as the single-row services)
+    // =========================================================
+
+    private PreparedLemma prepare(String language, ParsedRow parsed) {
+        ImportRow row = parsed.row();
+
+        String lemmaNative = requireCanonical(row.lemmaNative(), "lemmaNative");
+        requireMaxLength(lemmaNative, 255, "lemmaNative");
+        String lemmaLatin = requireMaxLength(latinOrDefault(row.lemmaLatin(), language, lemmaNative), 255, "lemmaLatin");
+        String pos = requireMaxLength(normalizeNullable(row.pos()), 50, "pos");
+        LemmaStatus status = row.status() == null || row.status().isBlank()
+                ? LemmaStatus.DRAFT
+                : parseEnum(LemmaStatus.class, row.status(), "status");
+
+        String lemmaId = Ids.newId();
+        LemmaRow lemma = new LemmaRow(lemmaId, language, lemmaNative, TextCanonicalizer.canonicalKey(lemmaNative),
+                Transliterator.latinKey(lemmaNative), lemmaLatin, pos, row.notes(), status.name());
+
+        // Meanings: unique (meaningLanguage, priority); priority defaults to the next free slot
+        List<MeaningRow> meanings = new ArrayList<>();
+        Map<String, Set<Integer>> priorities = new HashMap<>();
+        for (ImportMeaning m : nullToEmpty(row.meanings())) {
+            String meaningLanguage = requireNonBlank(m.meaningLanguage(), "meaningLanguage").toLowerCase(Locale.ROOT);
+            requireMaxLength(meaningLanguage, 10, "meaningLanguage");
+            String meaningText = requireNonBlank(m.meaningText(), "meaningText");
+            requireMaxLength(meaningText, 1024, "meaningText");
+
+            Set<Integer> used = priorities.computeIfAbsent(meaningLanguage, k -> new HashSet<>());
+            int priority = m.priority() != null ? m.priority() : used.size() + 1;
+            if (!used.add(priority)) {
+                throw new IllegalArgumentException(
+                        "Duplicate meaning priority " + priority + " for meaningLanguage=" + meaningLanguage);
+            }
+            meanings.add(new MeaningRow(Ids.newId(), lemmaId, meaningLanguage, meaningText, priority));
+        }
+
+        // Surface forms: unique form key per lemma
+        List<SurfaceFormRow> surfaceForms = new ArrayList<>();
+        Map<String, String> surfaceFormIds = new HashMap<>();
+        for (ImportSurfaceForm sf : nullToEmpty(row.surfaceForms())) {
+            String formNative = requireCanonical(sf.formNative(), "formNative");
+            requireMaxLength(formNative, 255, "formNative");
+            String formKey = TextCanonicalizer.canonicalKey(formNative);
+            String id = Ids.newId();
+            if (surfaceFormIds.putIfAbsent(formKey, id) != null) {
+                throw new IllegalArgumentException("Duplicate surface form formNative=" + formNative);
+            }
+            surfaceForms.add(new SurfaceFormRow(
+                    id,
+                    lemmaId,
+                    formNative,
+                    formKey,
+                    Transliterator.latinKey(formNative),
+                    requireMaxLength(latinOrDefault(sf.formLatin(), language, formNative), 255, "formLatin"),
+                    requireMaxLength(normalizeNullable(sf.formType()), 50, "formType"),
+                    sf.notes()
+            ));
+        }
+
+        // Links: unique sentenceId per lemma; may point at one of this row's surface forms
+        List<LinkRow> links = new ArrayList<>();
+        Set<String> linkedSentences = new HashSet<>();
+        for (ImportLink l : nullToEmpty(row.links())) {
+            String sentenceId = requireNonBlank(l.sentenceId(), "sentenceId");
+            if (!linkedSentences.add(sentenceId)) {
+                throw new IllegalArgumentException("Duplicate link to sentenceId=" + sentenceId);
+            }
+            String surfaceFormId = null;
+            String formNative = normalizeNullable(l.surfaceFormNative());
+            if (formNative != null) {
+                surfaceFormId = surfaceFormIds.get(TextCanonicalizer.canonicalKey(formNative));
+                if (surfaceFormId == null) {
+                    throw new IllegalArgumentException("Link refers to unknown surface form formNative=" + formNative);
+                }
+            }
+            LemmaSentenceLinkType linkType = l.linkType() == null || l.linkType().isBlank()
+                    ? LemmaSentenceLinkType.EXACT
+                    : parseEnum(LemmaSentenceLinkType.class, l.linkType(), "linkType");
+            links.add(new LinkRow(Ids.newId(), lemmaId, sentenceId, surfaceFormId, linkType.name()));
+        }
+
+        return new PreparedLemma(parsed.line(), lemma, meanings, surfaceForms, links);
+    }
+
+    // =========================================================
+    // Input formats
+    // =========================================================
+
+    private interface RowSource {
+        ParsedRow next() throws IOException;
+    }
+
+    /**
+     * One JSON object per line, shaped like {@link ImportRow}.
+     */
+    private final class NdjsonRowSource implements RowSource {
+
+        private final BufferedReader reader;
+        private int line;
+
+        NdjsonRowSource(BufferedReader reader) {
+            this.reader = reader;
+        }
+
+        @Override
+        public ParsedRow next() throws IOException {
+            String text;
+            while ((text = reader.readLine()) != null) {
+                line++;
+                if (text.isBlank()) continue;
+                try {
+                    return new ParsedRow(line, objectMapper.readValue(text, ImportRow.class), null);
+                } catch (JacksonException e) {
+                    return new ParsedRow(line, null, "Invalid JSON: " + e.getOriginalMessage());
+                }
+            }
+            return null;
+        }
+    }
+
+    /**
+     * Header row required. Columns: lemmaNative (required), lemmaLatin, pos, notes, status,
+     * meaningLanguage + meaningText (one meaning), surfaceForms ('|'-separated formNative values).
+     */
+    private static final class CsvRowSource implements RowSource {
+
+        private static final Set<String> COLUMNS = Set.of(
+                "lemmanative", "lemmalatin", "pos", "notes", "status",
+                "meaninglanguage", "meaningtext", "surfaceforms"
+        );
+
+        private final CsvRecordReader csv;
+        private final Map<String, Integer> columns = new HashMap<>();
+
+        CsvRowSource(BufferedReader reader) throws IOException {
+            this.csv = new CsvRecordReader(reader);
+            List<String> header = csv.next();
+            if (header == null) {
+                return;
+            }
+            for (int i = 0; i < header.size(); i++) {
+                String name = header.get(i).replace("\uFEFF", "").trim().toLowerCase(Locale.ROOT);
+                if (!COLUMNS.contains(name)) {
+                    throw new IllegalArgumentException("Unknown CSV column: " + header.get(i).trim());
+                }
+                columns.put(name, i);
+            }
+            if (!columns.containsKey("lemmanative")) {
+                throw new IllegalArgumentException("CSV header must contain lemmaNative");
+            }
+        }
+
+        @Override
+        public ParsedRow next() throws IOException {
+            if (columns.isEmpty()) return null;
+
+            List<String> fields;
+            try {
+                fields = csv.next();
+            } catch (IllegalArgumentException e) {
+                return new ParsedRow(csv.recordLine(), null, e.getMessage());
+            }
+            if (fields == null) return null;
+
+            List<ImportMeaning> meanings = null;
+            String meaningText = field(fields, "meaningtext");
+            if (meaningText != null) {
+                meanings = List.of(new ImportMeaning(field(fields, "meaninglanguage"), meaningText, null));
+            }
+
+            List<ImportSurfaceForm> surfaceForms = null;
+            String forms = field(fields, "surfaceforms");
+            if (forms != null) {
+                surfaceForms = new ArrayList<>();
+                for (String f : forms.split("\\|")) {
+                    if (!f.isBlank()) surfaceForms.add(new ImportSurfaceForm(f.trim(), null, null, null));
+                }
+            }
+
+            return new ParsedRow(csv.recordLine(), new ImportRow(
+                    field(fields, "lemmanative"),
+                    field(fields, "lemmalatin"),
+                    field(fields, "pos"),
+                    field(fields, "notes"),
+                    field(fields, "status"),
+                    meanings,
+                    surfaceForms,
+                    null
+            ), null);
+        }
+
+        private String field(List<String> fields, String column) {
+            Integer idx = columns.get(column);
+            if (idx == null || idx >= fields.size()) return null;
+            String v = fields.get(idx);
+            return v.isBlank() ? null : v;
+        }
+    }
+
+    // =========================================================
+    // Helpers
+    // =========================================================
+
+    private String requireEnabledLanguage(String language) {
+        if (language == null || language.isBlank()) {
+            throw new IllegalArgumentException("language is required");
+        }
+        String lang = language.trim();
+        if (!languageService.isLanguageEnabled(lang)) {
+            throw new IllegalArgumentException("Language is not enabled or not found: " + lang);
+        }
+        return lang;
+    }
+
+    private static String requireNonBlank(String v, String field) {
+        if (v == null || v.trim().isEmpty()) {
+            throw new IllegalArgumentException(field + " must be provided");
+        }
+        return v.trim();
+    }
+
+    /**
+     * Supplied romanization, or the language scheme's transliteration when left blank.
+     */
+    private String latinOrDefault(String latin, String language, String nativeText) {
+        String out = normalizeNullable(latin);
+        return out != null ? out : languageService.transliterate(language, nativeText);
+    }
+
+    /**
+     * Trimmed NFC text; rejects values that are empty once invisible characters are dropped.
+     */
+    private static String requireCanonical(String v, String field) {
+        String text = TextCanonicalizer.canonicalText(v);
+        if (TextCanonicalizer.canonicalKey(text) == null) {
+            throw new IllegalArgumentException(field + " must be provided");
+        }
+        return text;
+    }
+
+    private static String requireMaxLength(String v, int max, String field) {
+        if (v != null && v.length() > max) {
+            throw new IllegalArgumentException(field + " must be at most " + max + " characters");
+        }
+        return v;
+    }
+
+    private static String normalizeNullable(String s) {
+        if (s == null) return null;
+        String out = s.trim();
+        return out.isEmpty() ? null : out;
+    }
+
+    private static <E extends Enum<E>> E parseEnum(Class<E> type, String v, String field) {
+        try {
+            return Enum.valueOf(type, v.trim().toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("Invalid " + field + ": " + v.trim());
+        }
+    }
+
+    private static <T> List<T> nullToEmpty(List<T> list) {
+        return list == null ? List.of() : list;
+    }
+
+    /**
+     * Running totals for one import call.
+     */
+    private static final class ImportContext {
+
+        final String importId;
+        final String language;
+        final String actor;
+        final Set<String> seenKeys = new HashSet<>();
+        final List<RowError> errors = new ArrayList<>();
+
+        int chunks;
+        int totalRows;
+        int failedRows;
+        int lemmas;
+        int meanings;
+        int surfaceForms;
+        int links;
+
+        ImportContext(String importId, String language, String actor) {
+            this.importId = importId;
+            this.language = language;
+            this.actor = actor;
+        }
+
+        void fail(int line, String lemmaNative, String message) {
+            failedRows++;
+            if (errors.size() < MAX_REPORTED_ERRORS) {
+                errors.add(new RowError(line, lemmaNative, message));
+            }
+        }
+
+        // Applied only after the chunk committed, so a rolled-back chunk never counts as imported
+        void apply(ChunkOutcome outcome) {
+            lemmas += outcome.lemmas();
+            meanings += outcome.meanings();
+            surfaceForms += outcome.surfaceForms();
+            links += outcome.links();
+            for (RowError e : outcome.rejected()) {
+                fail(e.line(), e.lemmaNative(), e.message());
+            }
+        }
+
+        ImportResult toResult() {
+            return new ImportResult(importId, language, totalRows, lemmas, meanings, surfaceForms, links,
+                    failedRows, List.copyOf(errors), failedRows > errors.size());
+        }
+    }
+
+    private record ChunkOutcome(int lemmas, int meanings, int surfaceForms, int links, List<RowError> rejected) {}
+
+    private record ParsedRow(int line, ImportRow row, String error) {}
+
+    private record PreparedLemma(
+            int line,
+            LemmaRow lemma,
+            List<MeaningRow> meanings,
+            List<SurfaceFormRow> surfaceForms,
+            List<LinkRow> links
+    ) {}
+
+    // =========================================================
+    // Import records (NDJSON shape)
+    // =========================================================
+
+    public record ImportRow(
+            String lemmaNative,
+            String lemmaLatin,
+            String pos,
+            String notes,
+            String status,
+            List<ImportMeaning> meanings,
+            List<ImportSurfaceForm> surfaceForms,
+            List<ImportLink> links
+    ) {}
+
+    public record ImportMeaning(
+            String meaningLanguage,
+            String meaningText,
+            Integer priority
+    ) {}
+
+    public record ImportSurfaceForm(
+            String formNative,
+            String formLatin,
+            String formType,
+            String notes
+    ) {}
+
+    public record ImportLink(
+            String sentenceId,
+            String linkType,
+            String surfaceFormNative
+    ) {}
+
+    public record ImportResult(
+            String importId,
+            String language,
+            int totalRows,
+            int importedLemmas,
+            int importedMeanings,
+            int importedSurfaceForms,
+            int importedLinks,
+            int failedRows,
+            List<RowError> errors,
+            boolean errorsTruncated
+    ) {}
+
+    public record RowError(
+            int line,
+            String lemmaNative,
+            String message
+    ) {}
+}
@@ -0,0 +1,157 @@
+package com.bhashamitra.platform.services;
+
+import com.bhashamitra.platform.services.LemmaAutocompleteIndex.MatchField;
+import com.bhashamitra.platform.services.PublishedDictionary.LemmaEntry;
+import com.bhashamitra.platform.services.PublishedDictionary.SurfaceFormEntry;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+
+/**
+ * Exact-match reverse lookup for one language's published lemmas: any spelling (surface
+ * form native/latin, lemma native/latin) folded with {@link SearchText} maps to the lemmas
+ * it may be a form of. One hash probe per token.
+ *
+ * Never mutated: {@link #withLemmas} returns a copy that differs only in the keys the
+ * changed lemmas spell.
+ */
+public final class LemmaReverseIndex {
+
+    // Lemma spellings before surface forms, then snapshot order
+    private static final Comparator<Candidate> CANDIDATE_ORDER = Comparator
+            .comparingInt((Candidate c) -> c.matchedField().ordinal())
+            .thenComparing(Candidate::lemma, PublishedDictionary.LEMMA_ORDER);
+
+    private final Map<String, List<Candidate>> byKey;
+
+    LemmaReverseIndex(List<LemmaEntry> lemmas, Function<String, List<SurfaceFormEntry>> surfaceForms) {
+        Map<String, List<Candidate>> grouped = new HashMap<>(lemmas.size() * 4);
+        for (LemmaEntry l : lemmas) {
+            candidatesOf(l, surfaceForms).forEach((key, c) -> grouped.computeIfAbsent(key, k -> new ArrayList<>(1)).add(c));
+        }
+
+        Map<String, List<Candidate>> compact = new HashMap<>(grouped.size() * 2);
+        grouped.forEach((key, list) -> compact.put(key, sorted(list)));
+        this.byKey = Collections.unmodifiableMap(compact);
+    }
+
+    private LemmaReverseIndex(Map<String, List<Candidate>> byKey) {
+        this.byKey = Collections.unmodifiableMap(byKey);
+    }
+
+    /**
+     * A copy with the candidates of the given lemma ids replaced by those of
+     * {@code lemmas}; only the keys either version spells are touched.
+     *
+     * @param previous the lemmas being replaced, as this index has them
+     * @param previousSurfaceForms their surface forms, as this index has them
+     */
+    LemmaReverseIndex withLemmas(Set<String> lemmaIds,
+                                 List<LemmaEntry> previous,
+                                 Function<String, List<SurfaceFormEntry>> previousSurfaceForms,
+                                 List<LemmaEntry> lemmas,
+                                 Function<String, List<SurfaceFormEntry>> surfaceForms) {
+        Map<String, List<Candidate>> added = new HashMap<>();
+        for (LemmaEntry l : lemmas) {
+            candidatesOf(l, surfaceForms).forEach((key, c) -> added.computeIfAbsent(key, k -> new ArrayList<>(1)).add(c));
+        }
+        Set<String> touched = new HashSet<>(added.keySet());
+        for (LemmaEntry l : previous) {
+            touched.addAll(candidatesOf(l, previousSurfaceForms).keySet());
+        }
+
+        Map<String, List<Candidate>> next = new HashMap<>(byKey);
+        for (String key : touched) {
+            List<Candidate> list = new ArrayList<>(added.getOrDefault(key, List.of()));
+            for (Candidate c : byKey.getOrDefault(key, List.of())) {
+                if (!lemmaIds.contains(c.lemma().id())) {
+                    list.add(c);
+                }
+            }
+            if (list.isEmpty()) {
+                next.remove(key);
+            } else {
+                next.put(key, sorted(list));
+            }
+        }
+        return new LemmaReverseIndex(next);
+    }
+
+    public int size() {
+        return byKey.size();
+    }
+
+    /**
+     * Lemmas the word may belong to, one candidate per lemma: lemma spellings before
+     * surface forms, then in snapshot order. Empty when nothing matches.
+     */
+    public List<Candidate> lookup(String word) {
+        return byKey.getOrDefault(key(word), List.of());
+    }
+
+    /**
+     * Every word token of the text with its candidates, in text order.
+     */
+    public List<TokenMatch> resolve(String text) {
+        List<String> tokens = SearchText.tokens(text);
+        List<TokenMatch> out = new ArrayList<>(tokens.size());
+        for (String token : tokens) {
+            out.add(new TokenMatch(token, byKey.getOrDefault(token, List.of())));
+        }
+        return out;
+    }
+
+    static String key(String text) {
+        return String.join(" ", SearchText.tokens(text));
+    }
+
+    /**
+     * The best candidate of one lemma for each key it spells.
+     */
+    private static Map<String, Candidate> candidatesOf(LemmaEntry l, Function<String, List<SurfaceFormEntry>> surfaceForms) {
+        Map<String, Candidate> out = new HashMap<>(8);
+        add(out, l.lemmaNative(), new Candidate(l, MatchField.LEMMA_NATIVE, null));
+        add(out, l.lemmaLatin(), new Candidate(l, MatchField.LEMMA_LATIN, null));
+        for (SurfaceFormEntry sf : surfaceForms.apply(l.id())) {
+            add(out, sf.formNative(), new Candidate(l, MatchField.FORM_NATIVE, sf));
+            add(out, sf.formLatin(), new Candidate(l, MatchField.FORM_LATIN, sf));
+        }
+        return out;
+    }
+
+    private static void add(Map<String, Candidate> out, String text, Candidate candidate) {
+        String key = key(text);
+        if (!key.isEmpty()) {
+            out.merge(key, candidate, (existing, c) ->
+                    c.matchedField().ordinal() < existing.matchedField().ordinal() ? c : existing);
+        }
+    }
+
+    private static List<Candidate> sorted(List<Candidate> list) {
+        if (list.size() > 1) {
+            list.sort(CANDIDATE_ORDER);
+        }
+        return List.copyOf(list);
+    }
+
+    public record TokenMatch(
+            String token,
+            List<Candidate> candidates
+    ) {}
+
+    /**
+     * surfaceForm is set when the match came from a surface form spelling.
+     */
+    public record Candidate(
+            LemmaEntry lemma,
+            MatchField matchedField,
+            SurfaceFormEntry surfaceForm
+    ) {}
+}
@@ -3,18 +3,26 @@ package com.bhashamitra.platform.services;
 import com.bhashamitra.platform.models.Lemma;
 import com.bhashamitra.platform.models.LemmaSentenceLink;
 import com.bhashamitra.platform.models.LemmaSentenceLinkType;
+import com.bhashamitra.platform.models.LemmaStatus;
 import com.bhashamitra.platform.models.UsageSentence;
+import com.bhashamitra.platform.models.UsageSentenceStatus;
 import com.bhashamitra.platform.repositories.LemmaRepository;
 import com.bhashamitra.platform.repositories.LemmaSentenceLinkRepository;
+import com.bhashamitra.platform.repositories.LemmaSentenceLinkRepository.LinkedLemma;
+import com.bhashamitra.platform.repositories.LemmaSentenceLinkRepository.LinkedSentence;
 import com.bhashamitra.platform.repositories.UsageSentenceRepository;
+import io.micrometer.core.annotation.Timed;
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.ZonedDateTime;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 
 @Service
+@Timed("service.method")
 public class LemmaSentenceLinkService {
 
     private static final String ENTITY_TYPE = "LEMMA_SENTENCE_LINK";
@@ -23,15 +31,18 @@ public class LemmaSentenceLinkService {
     private final LemmaRepository lemmaRepository;
     private final UsageSentenceRepository usageSentenceRepository;
     private final AuditService auditService;
+    private final LemmaSummaryService lemmaSummaryService;
 
     public LemmaSentenceLinkService(LemmaSentenceLinkRepository repository,
                                     LemmaRepository lemmaRepository,
                                     UsageSentenceRepository usageSentenceRepository,
-                                    AuditService auditService) {
+                                    AuditService auditService,
+                                    LemmaSummaryService lemmaSummaryService) {
         this.repository = repository;
         this.lemmaRepository = lemmaRepository;
         this.usageSentenceRepository = usageSentenceRepository;
         this.auditService = auditService;
+        this.lemmaSummaryService = lemmaSummaryService;
     }
 
     // =========================================================
@@ -56,6 +67,54 @@ public class LemmaSentenceLinkService {
         return repository.findBySentence_IdOrderByCreatedDateDescIdDesc(sentenceId);
     }
 
+    // =========================================================
+    // Public use-cases (published on both ends)
+    // =========================================================
+
+    /**
+     * Examples for a word: published sentences linked to a published lemma, newest link
+     * first, one keyset page at a time on (link created date, link id). Pass null
+     * afterCreated/afterLinkId for the first page.
+     */
+    @Transactional(readOnly = true)
+    public LinkPage<LinkedSentence> listPublishedSentencesForLemma(String lemmaId, ZonedDateTime afterCreated,
+                                                                   String afterLinkId, int limit) {
+        String id = requireNonBlank(lemmaId, "lemmaId");
+        requirePositive(limit);
+        if (!lemmaRepository.existsByIdAndStatus(id, LemmaStatus.PUBLISHED)) {
+            throw new IllegalArgumentException("Published lemma not found: " + id);
+        }
+
+        Limit fetch = Limit.of(limit + 1);
+        List<LinkedSentence> rows = (afterCreated == null || afterLinkId == null)
+                ? repository.findSentencesForLemma(id, LemmaStatus.PUBLISHED, UsageSentenceStatus.PUBLISHED, fetch)
+                : repository.findSentencesForLemmaAfter(
+                        id, LemmaStatus.PUBLISHED, UsageSentenceStatus.PUBLISHED, afterCreated, afterLinkId, fetch);
+        return LinkPage.of(rows, limit);
+    }
+
+    /**
+     * Words in a sentence: published lemmas linked to a published sentence, newest link
+     * first, one keyset page at a time on (link created date, link id). Pass null
+     * afterCreated/afterLinkId for the first page.
+     */
+    @Transactional(readOnly = true)
+    public LinkPage<LinkedLemma> listPublishedLemmasForSentence(String sentenceId, ZonedDateTime afterCreated,
+                                                                String afterLinkId, int limit) {
+        String id = requireNonBlank(sentenceId, "sentenceId");
+        requirePositive(limit);
+        if (!usageSentenceRepository.existsByIdAndStatus(id, UsageSentenceStatus.PUBLISHED)) {
+            throw new IllegalArgumentException("Published usage sentence not found: " + id);
+        }
+
+        Limit fetch = Limit.of(limit + 1);
+        List<LinkedLemma> rows = (afterCreated == null || afterLinkId == null)
+                ? repository.findLemmasForSentence(id, UsageSentenceStatus.PUBLISHED, LemmaStatus.PUBLISHED, fetch)
+                : repository.findLemmasForSentenceAfter(
+                        id, UsageSentenceStatus.PUBLISHED, LemmaStatus.PUBLISHED, afterCreated, afterLinkId, fetch);
+        return LinkPage.of(rows, limit);
+    }
+
     // =========================================================
     // CREATE
     // =========================================================
@@ -89,6 +148,10 @@ public class LemmaSentenceLinkService {
         }
 
         LemmaSentenceLink saved = repository.save(link);
+        // The summary counts examples, i.e. links to published sentences
+        if (sentence.getStatus() == UsageSentenceStatus.PUBLISHED) {
+            lemmaSummaryService.add(lemmaId, LemmaSummaryService.Count.EXAMPLES, 1);
+        }
 
         Map<String, Object> details = new LinkedHashMap<>();
         details.put("lemmaId", lemmaId);
@@ -173,6 +236,9 @@ public class LemmaSentenceLinkService {
         details.put("linkType", existing.getLinkType().name());
 
         repository.delete(existing);
+        if (existing.getSentence().getStatus() == UsageSentenceStatus.PUBLISHED) {
+            lemmaSummaryService.add(existing.getLemma().getId(), LemmaSummaryService.Count.EXAMPLES, -1);
+        }
 
         auditService.record(
                 ENTITY_TYPE,
@@ -200,10 +266,29 @@ public class LemmaSentenceLinkService {
             String linkType
     ) {}
 
+    /**
+     * One keyset page; fetched with one extra row to tell whether another page exists.
+     */
+    public record LinkPage<T>(
+            List<T> items,
+            boolean hasMore
+    ) {
+        static <T> LinkPage<T> of(List<T> rows, int limit) {
+            boolean hasMore = rows.size() > limit;
+            return new LinkPage<>(hasMore ? rows.subList(0, limit) : rows, hasMore);
+        }
+    }
+
     // =========================================================
     // Helpers
     // =========================================================
 
+    private static void requirePositive(int limit) {
+        if (limit < 1) {
+            throw new IllegalArgumentException("limit must be positive");
+        }
+    }
+
     private static String requireNonBlank(String v, String field) {
         if (v == null || v.trim().isEmpty()) {
             throw new IllegalArgumentException(field + " must be provided");
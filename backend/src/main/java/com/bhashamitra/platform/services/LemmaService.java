@@ -3,26 +3,48 @@ package com.bhashamitra.platform.services;
 import com.bhashamitra.platform.models.Lemma;
 import com.bhashamitra.platform.models.LemmaStatus;
 import com.bhashamitra.platform.repositories.LemmaRepository;
+import com.bhashamitra.platform.repositories.LemmaRepository.LatinKeyMatch;
+import com.bhashamitra.platform.repositories.LemmaRepository.LemmaView;
+import com.bhashamitra.platform.repositories.SurfaceFormRepository;
+import com.bhashamitra.platform.text.TextCanonicalizer;
+import com.bhashamitra.platform.text.Transliterator;
+import io.micrometer.core.annotation.Timed;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashSet;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 
 @Service
+@Timed("service.method")
 public class LemmaService {
 
     private final LemmaRepository lemmaRepository;
+    private final SurfaceFormRepository surfaceFormRepository;
     private final LanguageService languageService;
     private final AuditService auditService;
+    private final LemmaSummaryService lemmaSummaryService;
+    private final ApplicationEventPublisher eventPublisher;
 
     public LemmaService(LemmaRepository lemmaRepository,
+                        SurfaceFormRepository surfaceFormRepository,
                         LanguageService languageService,
-                        AuditService auditService) {
+                        AuditService auditService,
+                        LemmaSummaryService lemmaSummaryService,
+                        ApplicationEventPublisher eventPublisher) {
         this.lemmaRepository = lemmaRepository;
+        this.surfaceFormRepository = surfaceFormRepository;
         this.languageService = languageService;
         this.auditService = auditService;
+        this.lemmaSummaryService = lemmaSummaryService;
+        this.eventPublisher = eventPublisher;
     }
 
     // =========================================================
@@ -47,18 +69,69 @@ public class LemmaService {
         return lemmaRepository.findByLanguageAndStatusOrderByLemmaNativeAsc(language, status);
     }
 
+    /**
+     * Cross-script search: the query (Devanagari, IAST or a learner's spelling) is folded
+     * with {@link Transliterator#latinKey} and matched as a prefix of the lemma and surface
+     * form latin keys, two index seeks. Exact key matches come first, then closer
+     * (shorter) keys; each lemma appears once. status null means all statuses.
+     * Read as views: search results are only ever rendered, never edited.
+     */
+    @Transactional(readOnly = true)
+    public List<LemmaView> searchByLatin(String language, String query, LemmaStatus status, int limit) {
+        requireEnabledLanguage(language);
+        if (limit < 1) {
+            throw new IllegalArgumentException("limit must be positive");
+        }
+        String key = Transliterator.latinKey(query);
+        if (key == null) {
+            return List.of();
+        }
+
+        Limit fetch = Limit.of(limit);
+        List<LatinKeyMatch> lemmas = lemmaRepository.findLatinKeyMatches(language, status, key, fetch);
+        List<LatinKeyMatch> forms = surfaceFormRepository.findLatinKeyMatches(language, status, key, fetch);
+
+        List<LatinMatch> matches = new ArrayList<>(lemmas.size() + forms.size());
+        for (LatinKeyMatch m : lemmas) {
+            matches.add(new LatinMatch(m.lemma(), m.latinKey(), false));
+        }
+        for (LatinKeyMatch m : forms) {
+            matches.add(new LatinMatch(m.lemma(), m.latinKey(), true));
+        }
+        matches.sort(Comparator
+                .comparing((LatinMatch m) -> !m.latinKey().equals(key))
+                .thenComparingInt(m -> m.latinKey().length())
+                .thenComparing(LatinMatch::fromSurfaceForm)
+                .thenComparing(m -> m.lemma().lemmaNative()));
+
+        List<LemmaView> out = new ArrayList<>(Math.min(limit, matches.size()));
+        Set<String> seen = new HashSet<>();
+        for (LatinMatch m : matches) {
+            if (out.size() == limit) break;
+            if (seen.add(m.lemma().id())) {
+                out.add(m.lemma());
+            }
+        }
+        return out;
+    }
+
     /**
      * Create a lemma (default DRAFT unless request explicitly sets status).
-     * Enforces uniqueness: (language, lemma_native)
+     * Enforces uniqueness: (language, lemma_key), i.e. spellings that only differ in
+     * normalization form, invisible joiners, nukta encoding or case count as the same lemma.
      */
     @Transactional
     public Lemma create(LemmaCreateRequest req, String actor) {
         String language = normalize(req.language());
-        String lemmaNative = normalize(req.lemmaNative());
+        String lemmaNative = TextCanonicalizer.canonicalText(req.lemmaNative());
+        String lemmaKey = TextCanonicalizer.canonicalKey(lemmaNative);
 
         requireEnabledLanguage(language);
 
-        if (lemmaRepository.existsByLanguageAndLemmaNative(language, lemmaNative)) {
+        if (lemmaKey == null) {
+            throw new IllegalArgumentException("lemmaNative must be provided");
+        }
+        if (lemmaRepository.existsByLanguageAndLemmaKey(language, lemmaKey)) {
             throw new IllegalArgumentException(
                     "Lemma already exists for language=" + language + " lemmaNative=" + lemmaNative
             );
@@ -67,7 +140,7 @@ public class LemmaService {
         Lemma lemma = new Lemma();
         lemma.setLanguage(language);
         lemma.setLemmaNative(lemmaNative);
-        lemma.setLemmaLatin(normalizeNullable(req.lemmaLatin()));
+        lemma.setLemmaLatin(latinOrDefault(req.lemmaLatin(), language, lemmaNative));
         lemma.setPos(normalizeNullable(req.pos()));
         lemma.setNotes(req.notes()); // keep notes as-is (TEXT)
         lemma.setStatus(req.status() != null ? req.status() : LemmaStatus.DRAFT);
@@ -78,6 +151,7 @@ public class LemmaService {
         }
 
         Lemma saved = lemmaRepository.save(lemma);
+        lemmaSummaryService.lemmaCreated(saved.getId());
 
         // --- audit (Object details; AuditService serializes to JSON via tools.jackson ObjectMapper) ---
         Map<String, Object> details = new LinkedHashMap<>();
@@ -94,6 +168,10 @@ public class LemmaService {
                 details
         );
 
+        if (saved.getStatus() == LemmaStatus.PUBLISHED) {
+            eventPublisher.publishEvent(DictionaryChangedEvent.lemma(saved.getLanguage(), saved.getId()));
+        }
+
         return saved;
     }
 
@@ -114,13 +192,19 @@ public class LemmaService {
         String newLanguage = req.language() != null ? normalize(req.language()) : existing.getLanguage();
         requireEnabledLanguage(newLanguage);
 
-        String newLemmaNative = req.lemmaNative() != null ? normalize(req.lemmaNative()) : existing.getLemmaNative();
+        String newLemmaNative = req.lemmaNative() != null
+                ? TextCanonicalizer.canonicalText(req.lemmaNative())
+                : existing.getLemmaNative();
+        String newLemmaKey = TextCanonicalizer.canonicalKey(newLemmaNative);
+        if (newLemmaKey == null) {
+            throw new IllegalArgumentException("lemmaNative cannot be blank");
+        }
 
-        // Uniqueness check only if language/native changed
+        // Uniqueness check only if language/key changed (a respelling of the same key is not a clash)
         boolean languageChanged = !existing.getLanguage().equals(newLanguage);
-        boolean nativeChanged = !existing.getLemmaNative().equals(newLemmaNative);
-        if (languageChanged || nativeChanged) {
-            if (lemmaRepository.existsByLanguageAndLemmaNative(newLanguage, newLemmaNative)) {
+        boolean keyChanged = !newLemmaKey.equals(existing.getLemmaKey());
+        if (languageChanged || keyChanged) {
+            if (lemmaRepository.existsByLanguageAndLemmaKey(newLanguage, newLemmaKey)) {
                 throw new IllegalArgumentException(
                         "Lemma already exists for language=" + newLanguage + " lemmaNative=" + newLemmaNative
                 );
@@ -130,7 +214,15 @@ public class LemmaService {
         existing.setLanguage(newLanguage);
         existing.setLemmaNative(newLemmaNative);
 
-        if (req.lemmaLatin() != null) existing.setLemmaLatin(normalizeNullable(req.lemmaLatin()));
+        if (req.lemmaLatin() != null) {
+            existing.setLemmaLatin(normalizeNullable(req.lemmaLatin()));
+        } else if (languageChanged || !newLemmaNative.equals(beforeLemmaNative)) {
+            // The stored latin spelled the old text; regenerate rather than keep a mismatch
+            existing.setLemmaLatin(null);
+        }
+        if (existing.getLemmaLatin() == null) {
+            existing.setLemmaLatin(languageService.transliterate(newLanguage, newLemmaNative));
+        }
         if (req.pos() != null) existing.setPos(normalizeNullable(req.pos()));
         if (req.notes() != null) existing.setNotes(req.notes());
 
@@ -168,6 +260,13 @@ public class LemmaService {
                 details
         );
 
+        if (saved.getStatus() == LemmaStatus.PUBLISHED) {
+            eventPublisher.publishEvent(DictionaryChangedEvent.lemma(saved.getLanguage(), saved.getId()));
+            if (!beforeLanguage.equals(saved.getLanguage())) {
+                eventPublisher.publishEvent(DictionaryChangedEvent.lemma(beforeLanguage, saved.getId()));
+            }
+        }
+
         return saved;
     }
 
@@ -219,23 +318,11 @@ public class LemmaService {
                 details
         );
 
-        return saved;
-    }
-
-    // =========================================================
-    // Public use-cases (published only)
-    // =========================================================
-
-    @Transactional(readOnly = true)
-    public List<Lemma> listPublishedByLanguage(String language) {
-        requireEnabledLanguage(language);
-        return lemmaRepository.findByLanguageAndStatusOrderByLemmaNativeAsc(language, LemmaStatus.PUBLISHED);
-    }
+        if (oldStatus == LemmaStatus.PUBLISHED || saved.getStatus() == LemmaStatus.PUBLISHED) {
+            eventPublisher.publishEvent(DictionaryChangedEvent.lemma(saved.getLanguage(), saved.getId()));
+        }
 
-    @Transactional(readOnly = true)
-    public Lemma getPublishedById(String id) {
-        return lemmaRepository.findByIdAndStatus(id, LemmaStatus.PUBLISHED)
-                .orElseThrow(() -> new IllegalArgumentException("Published lemma not found: " + id));
+        return saved;
     }
 
     // =========================================================
@@ -251,7 +338,15 @@ public class LemmaService {
         }
     }
 
-    private static String normalize(String s) {
+    /**
+     * Editor-supplied romanization, or the language scheme's transliteration when left blank.
+     */
+    private String latinOrDefault(String latin, String language, String nativeText) {
+        String out = normalizeNullable(latin);
+        return out != null ? out : languageService.transliterate(language, nativeText);
+    }
+
+    static String normalize(String s) {
         if (s == null) return null;
         String out = s.trim();
         if (out.isEmpty()) return null;
@@ -277,6 +372,12 @@ public class LemmaService {
             LemmaStatus status
     ) {}
 
+    private record LatinMatch(
+            LemmaView lemma,
+            String latinKey,
+            boolean fromSurfaceForm
+    ) {}
+
     public record LemmaUpdateRequest(
             String language,
             String lemmaNative,
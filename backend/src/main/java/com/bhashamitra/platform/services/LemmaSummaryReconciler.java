@@ -0,0 +1,165 @@
+package com.bhashamitra.platform.services;
+
+import com.bhashamitra.platform.repositories.LemmaSummaryRepository;
+import com.bhashamitra.platform.repositories.NamedLockJdbcRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Recounts lemma_summary from the tables it counts, in keyset batches of lemma ids with
+ * one transaction per batch: one set-based upsert per batch, however many rows.
+ * Runs every {@code lemma-summary.reconcile-interval} on a background thread (zero turns
+ * that off), also right after startup when {@code lemma-summary.reconcile-on-startup} is
+ * set, and on demand from the admin API.
+ *
+ * Scheduled runs hold a MySQL user lock, so while one instance recounts the others skip
+ * their turn instead of recounting the same rows alongside it.
+ *
+ * The upsert also creates rows missing for lemmas that were written around the services.
+ * Edits committed while a batch runs are not lost: their counter update waits for the
+ * batch's row locks and then applies to the recounted row.
+ */
+@Service
+public class LemmaSummaryReconciler implements SmartLifecycle {
+
+    private static final Logger log = LoggerFactory.getLogger(LemmaSummaryReconciler.class);
+
+    private static final String LOCK_NAME = "bhashamitra.lemma-summary-reconciler";
+
+    private final LemmaSummaryRepository repository;
+    private final LemmaSummaryService summaryService;
+    private final NamedLockJdbcRepository locks;
+    private final TransactionTemplate batchTx;
+    private final boolean onStartup;
+    private final int batchSize;
+    private final Duration interval;
+
+    private volatile boolean running;
+    private volatile Thread worker;
+
+    public LemmaSummaryReconciler(LemmaSummaryRepository repository,
+                                  LemmaSummaryService summaryService,
+                                  NamedLockJdbcRepository locks,
+                                  PlatformTransactionManager transactionManager,
+                                  @Value("${lemma-summary.reconcile-on-startup:false}") boolean onStartup,
+                                  @Value("${lemma-summary.reconcile-batch-size:1000}") int batchSize,
+                                  @Value("${lemma-summary.reconcile-interval:PT24H}") Duration interval) {
+        this.repository = repository;
+        this.summaryService = summaryService;
+        this.locks = locks;
+        this.batchTx = new TransactionTemplate(transactionManager);
+        this.onStartup = onStartup;
+        this.batchSize = batchSize;
+        this.interval = interval;
+    }
+
+    // =========================================================
+    // Lifecycle
+    // =========================================================
+
+    @Override
+    public void start() {
+        running = true;
+        boolean periodic = !interval.isZero() && !interval.isNegative();
+        if (!periodic && !onStartup) {
+            return;
+        }
+        Thread t = new Thread(this::run, "lemma-summary-reconciler");
+        t.setDaemon(true);
+        t.start();
+        worker = t;
+        if (periodic) {
+            log.info("Lemma summary reconciliation scheduled every {}", interval);
+        }
+    }
+
+    @Override
+    public void stop() {
+        running = false;
+        Thread t = worker;
+        if (t != null) {
+            LockSupport.unpark(t);
+            try {
+                t.join(Duration.ofSeconds(10));
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            worker = null;
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    private void run() {
+        boolean periodic = !interval.isZero() && !interval.isNegative();
+        if (!onStartup) {
+            LockSupport.parkNanos(interval.toNanos());
+        }
+        while (running) {
+            try {
+                reconcileExclusively();
+            } catch (RuntimeException e) {
+                log.warn("Lemma summary reconciliation stopped early; will retry", e);
+            }
+            if (!periodic) {
+                return;
+            }
+            LockSupport.parkNanos(interval.toNanos());
+        }
+    }
+
+    // =========================================================
+    // Reconciliation
+    // =========================================================
+
+    /**
+     * {@link #reconcile} under the user lock; skipped when another instance holds it.
+     * Without user locks (H2) there is only the one instance and it just runs.
+     */
+    void reconcileExclusively() {
+        if (!locks.isSupported()) {
+            reconcile();
+        } else if (!locks.runExclusively(LOCK_NAME, this::reconcile)) {
+            log.info("Lemma summary reconciliation running on another instance; skipped");
+        }
+    }
+
+    /**
+     * Returns the number of lemmas recounted.
+     */
+    public int reconcile() {
+        long started = System.nanoTime();
+        int lemmas = 0;
+        int batches = 0;
+        String afterId = null;
+
+        List<String> ids;
+        while (!(ids = afterId == null
+                ? repository.findLemmaIds(Limit.of(batchSize))
+                : repository.findLemmaIdsAfter(afterId, Limit.of(batchSize))).isEmpty()) {
+            afterId = ids.get(ids.size() - 1);
+
+            List<String> batch = ids;
+            batchTx.executeWithoutResult(status -> summaryService.rebuild(batch));
+            lemmas += batch.size();
+            batches++;
+        }
+
+        log.info("Lemma summary reconciled: lemmas={} batches={} in {} ms",
+                lemmas, batches, (System.nanoTime() - started) / 1_000_000);
+        return lemmas;
+    }
+}
@@ -0,0 +1,127 @@
+package com.bhashamitra.platform.services;
+
+import com.bhashamitra.platform.models.LemmaStatus;
+import com.bhashamitra.platform.models.UsageSentenceStatus;
+import com.bhashamitra.platform.repositories.LemmaSummaryRepository;
+import com.bhashamitra.platform.repositories.LemmaSummaryRepository.LemmaSummaryView;
+import io.micrometer.core.annotation.Timed;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Keeps lemma_summary in step with the tables it counts. The writing services call in
+ * from their own transaction, so a count moves exactly when its row commits.
+ *
+ * A lemma without a summary row (one written around the services, say) gets one counted
+ * from the source tables on its next change. Counts that drift anyway - a sentence
+ * unpublished while a link to it is created - are put right by the periodic
+ * {@link LemmaSummaryReconciler}.
+ */
+@Service
+@Timed("service.method")
+public class LemmaSummaryService {
+
+    public enum Count { MEANINGS, SURFACE_FORMS, EXAMPLES, PRONUNCIATIONS }
+
+    private final LemmaSummaryRepository repository;
+
+    public LemmaSummaryService(LemmaSummaryRepository repository) {
+        this.repository = repository;
+    }
+
+    // =========================================================
+    // Maintenance (joins the caller's transaction)
+    // =========================================================
+
+    /**
+     * A new lemma starts with a row of its own.
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void lemmaCreated(String lemmaId) {
+        rebuild(List.of(lemmaId));
+    }
+
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void add(String lemmaId, Count count, int delta) {
+        int updated = switch (count) {
+            case MEANINGS -> repository.addMeanings(lemmaId, delta);
+            case SURFACE_FORMS -> repository.addSurfaceForms(lemmaId, delta);
+            case EXAMPLES -> repository.addExamples(lemmaId, delta);
+            case PRONUNCIATIONS -> repository.addPronunciations(lemmaId, delta);
+        };
+        if (updated == 0) {
+            // Counted after this transaction's own change, so no delta to apply
+            rebuild(List.of(lemmaId));
+        }
+    }
+
+    /**
+     * A sentence moved into or out of PUBLISHED; no-op for other status changes.
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void sentenceStatusChanged(String sentenceId, UsageSentenceStatus from, UsageSentenceStatus to) {
+        boolean wasPublished = from == UsageSentenceStatus.PUBLISHED;
+        boolean isPublished = to == UsageSentenceStatus.PUBLISHED;
+        if (wasPublished != isPublished) {
+            repository.addExamplesForSentence(sentenceId, isPublished ? 1 : -1);
+        }
+    }
+
+    /**
+     * Sets the rows of the given lemmas to counts taken from the source tables, creating
+     * missing rows (bulk import, reconciliation).
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void rebuild(Collection<String> lemmaIds) {
+        if (lemmaIds.isEmpty()) return;
+        repository.upsertCounted(lemmaIds);
+    }
+
+    // =========================================================
+    // Public use-cases (published only)
+    // =========================================================
+
+    /**
+     * One page of a language's published lemmas with their counts, most examples first.
+     * Rows strictly after (afterExamples, afterId); both null for the first page.
+     */
+    @Transactional(readOnly = true)
+    public SummaryPage listPublishedByExamples(String language, Integer afterExamples, String afterId, int limit) {
+        String lang = requireNonBlank(language, "language").toLowerCase();
+        if (limit < 1) {
+            throw new IllegalArgumentException("limit must be positive");
+        }
+        if ((afterExamples == null) != (afterId == null)) {
+            throw new IllegalArgumentException("afterExamples and afterId go together");
+        }
+
+        // One extra row tells whether another page exists
+        List<LemmaSummaryView> rows = afterId == null
+                ? repository.findByExamples(lang, LemmaStatus.PUBLISHED, Limit.of(limit + 1))
+                : repository.findByExamplesAfter(lang, LemmaStatus.PUBLISHED, afterExamples, afterId, Limit.of(limit + 1));
+
+        boolean hasMore = rows.size() > limit;
+        return new SummaryPage(hasMore ? rows.subList(0, limit) : rows, hasMore);
+    }
+
+    public record SummaryPage(
+            List<LemmaSummaryView> items,
+            boolean hasMore
+    ) {}
+
+    // =========================================================
+    // Helpers
+    // =========================================================
+
+    private static String requireNonBlank(String v, String field) {
+        if (v == null || v.trim().isEmpty()) {
+            throw new IllegalArgumentException(field + " must be provided");
+        }
+        return v.trim();
+    }
+}
@@ -0,0 +1,25 @@
+package com.bhashamitra.platform.services;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * Stand-in transport for a single instance ({@code cache.invalidation.transport=local},
+ * the default): there is nobody else to tell, so publishing drops the invalidation and
+ * nothing is ever delivered. The local cache is already current after a write.
+ */
+@Component
+@ConditionalOnProperty(name = "cache.invalidation.transport", havingValue = "local", matchIfMissing = true)
+public class LocalCacheInvalidationTransport implements CacheInvalidationTransport {
+
+    @Override
+    public void publish(CacheInvalidation invalidation) {
+    }
+
+    @Override
+    public void subscribe(Consumer<List<CacheInvalidation>> listener) {
+    }
+}
@@ -1,9 +1,12 @@
 package com.bhashamitra.platform.services;
 
 import com.bhashamitra.platform.models.Lemma;
+import com.bhashamitra.platform.models.LemmaStatus;
 import com.bhashamitra.platform.models.Meaning;
 import com.bhashamitra.platform.repositories.LemmaRepository;
 import com.bhashamitra.platform.repositories.MeaningRepository;
+import io.micrometer.core.annotation.Timed;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -12,18 +15,25 @@ import java.util.List;
 import java.util.Map;
 
 @Service
+@Timed("service.method")
 public class MeaningService {
 
     private final MeaningRepository meaningRepository;
     private final LemmaRepository lemmaRepository;
     private final AuditService auditService;
+    private final LemmaSummaryService lemmaSummaryService;
+    private final ApplicationEventPublisher eventPublisher;
 
     public MeaningService(MeaningRepository meaningRepository,
                           LemmaRepository lemmaRepository,
-                          AuditService auditService) {
+                          AuditService auditService,
+                          LemmaSummaryService lemmaSummaryService,
+                          ApplicationEventPublisher eventPublisher) {
         this.meaningRepository = meaningRepository;
         this.lemmaRepository = lemmaRepository;
         this.auditService = auditService;
+        this.lemmaSummaryService = lemmaSummaryService;
+        this.eventPublisher = eventPublisher;
     }
 
     // =========================================================
@@ -76,6 +86,7 @@ public class MeaningService {
         }
 
         Meaning saved = meaningRepository.save(m);
+        lemmaSummaryService.add(lemmaId, LemmaSummaryService.Count.MEANINGS, 1);
 
         // --- audit (Object details; AuditService serializes via tools.jackson ObjectMapper) ---
         Map<String, Object> details = new LinkedHashMap<>();
@@ -92,6 +103,8 @@ public class MeaningService {
                 details
         );
 
+        publishIfPublished(lemma);
+
         return saved;
     }
 
@@ -171,6 +184,8 @@ public class MeaningService {
                 details
         );
 
+        publishIfPublished(saved.getLemma());
+
         return saved;
     }
 
@@ -183,11 +198,13 @@ public class MeaningService {
         Meaning existing = meaningRepository.findById(id)
                 .orElseThrow(() -> new IllegalArgumentException("Meaning not found: " + id));
 
-        String lemmaId = existing.getLemma().getId();
+        Lemma lemma = existing.getLemma();
+        String lemmaId = lemma.getId();
         String lang = existing.getMeaningLanguage();
         Integer priority = existing.getPriority();
 
         meaningRepository.delete(existing);
+        lemmaSummaryService.add(lemmaId, LemmaSummaryService.Count.MEANINGS, -1);
 
         // --- audit (Object details) ---
         Map<String, Object> details = new LinkedHashMap<>();
@@ -203,6 +220,8 @@ public class MeaningService {
                 null,
                 details
         );
+
+        publishIfPublished(lemma);
     }
 
     // =========================================================
@@ -227,6 +246,12 @@ public class MeaningService {
     // Helpers
     // =========================================================
 
+    private void publishIfPublished(Lemma lemma) {
+        if (lemma.getStatus() == LemmaStatus.PUBLISHED) {
+            eventPublisher.publishEvent(DictionaryChangedEvent.lemma(lemma.getLanguage(), lemma.getId()));
+        }
+    }
+
     private static String requireNonBlank(String v, String field) {
         if (v == null || v.trim().isEmpty()) {
             throw new IllegalArgumentException(field + " must be provided");
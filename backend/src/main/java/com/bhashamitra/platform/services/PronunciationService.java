@@ -1,8 +1,11 @@
 package com.bhashamitra.platform.services;
 
+import com.bhashamitra.platform.models.Lemma;
+import com.bhashamitra.platform.models.LemmaStatus;
 import com.bhashamitra.platform.models.Pronunciation;
-import com.bhashamitra.platform.models.UsageSentenceStatus;
 import com.bhashamitra.platform.repositories.PronunciationRepository;
+import io.micrometer.core.annotation.Timed;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -11,6 +14,7 @@ import java.util.List;
 import java.util.Map;
 
 @Service
+@Timed("service.method")
 public class PronunciationService {
 
     private static final String ENTITY_TYPE = "PRONUNCIATION";
@@ -19,15 +23,24 @@ public class PronunciationService {
     private final LemmaService lemmaService;
     private final UsageSentenceService usageSentenceService;
     private final AuditService auditService;
+    private final PublishedDictionaryService publishedDictionaryService;
+    private final LemmaSummaryService lemmaSummaryService;
+    private final ApplicationEventPublisher eventPublisher;
 
     public PronunciationService(PronunciationRepository pronunciationRepository,
                                 LemmaService lemmaService,
                                 UsageSentenceService usageSentenceService,
-                                AuditService auditService) {
+                                AuditService auditService,
+                                PublishedDictionaryService publishedDictionaryService,
+                                LemmaSummaryService lemmaSummaryService,
+                                ApplicationEventPublisher eventPublisher) {
         this.pronunciationRepository = pronunciationRepository;
         this.lemmaService = lemmaService;
         this.usageSentenceService = usageSentenceService;
         this.auditService = auditService;
+        this.publishedDictionaryService = publishedDictionaryService;
+        this.lemmaSummaryService = lemmaSummaryService;
+        this.eventPublisher = eventPublisher;
     }
 
     // =========================================================
@@ -80,6 +93,9 @@ public class PronunciationService {
         }
 
         Pronunciation saved = pronunciationRepository.save(p);
+        if ("LEMMA".equals(ownerType)) {
+            lemmaSummaryService.add(ownerId, LemmaSummaryService.Count.PRONUNCIATIONS, 1);
+        }
 
         Map<String, Object> details = new LinkedHashMap<>();
         details.put("ownerType", saved.getOwnerType());
@@ -98,6 +114,8 @@ public class PronunciationService {
                 details
         );
 
+        publishIfPublishedLemma(saved.getOwnerType(), saved.getOwnerId());
+
         return saved;
     }
 
@@ -152,6 +170,8 @@ public class PronunciationService {
                 details
         );
 
+        publishIfPublishedLemma(saved.getOwnerType(), saved.getOwnerId());
+
         return saved;
     }
 
@@ -169,6 +189,9 @@ public class PronunciationService {
         details.put("audioUri", existing.getAudioUri());
 
         pronunciationRepository.delete(existing);
+        if ("LEMMA".equals(existing.getOwnerType())) {
+            lemmaSummaryService.add(existing.getOwnerId(), LemmaSummaryService.Count.PRONUNCIATIONS, -1);
+        }
 
         auditService.record(
                 ENTITY_TYPE,
@@ -178,6 +201,8 @@ public class PronunciationService {
                 null,
                 details
         );
+
+        publishIfPublishedLemma(existing.getOwnerType(), existing.getOwnerId());
     }
 
     // =========================================================
@@ -186,23 +211,33 @@ public class PronunciationService {
 
     /**
      * For public access:
-     * - LEMMA owner must be PUBLISHED
+     * - LEMMA owner must be PUBLISHED (served from the published dictionary snapshot)
      * - SENTENCE owner must be PUBLISHED
      */
-    @Transactional(readOnly = true)
-    public List<Pronunciation> listPublicByOwner(String ownerType, String ownerId) {
+    public List<PublishedDictionary.PronunciationEntry> listPublicByOwner(String ownerType, String ownerId) {
         String ot = normalizeOwnerType(ownerType);
         String oid = requireNonBlank(ownerId, "ownerId");
 
         if ("LEMMA".equals(ot)) {
-            lemmaService.getPublishedById(oid); // throws if not published/not found
-        } else if ("SENTENCE".equals(ot)) {
+            return publishedDictionaryService.pronunciationsForPublishedLemma(oid); // throws if not published/not found
+        }
+        if ("SENTENCE".equals(ot)) {
             usageSentenceService.getPublishedById(oid); // throws if not published/not found
-        } else {
-            throw new IllegalArgumentException("Unsupported ownerType for public access: " + ot);
+            return pronunciationRepository.findViewsByOwner(ot, oid).stream()
+                    .map(PublishedDictionaryService::toEntry)
+                    .toList();
         }
+        throw new IllegalArgumentException("Unsupported ownerType for public access: " + ot);
+    }
 
-        return pronunciationRepository.findByOwnerTypeAndOwnerIdOrderByCreatedDateDescIdDesc(ot, oid);
+    /**
+     * Validator for {@link #listPublicByOwner}: the published lemma's stamp for LEMMA
+     * owners, null (no validator) for SENTENCE owners, whose recordings are read live.
+     */
+    public CacheStamp publicStamp(String ownerType, String ownerId) {
+        String ot = normalizeOwnerType(ownerType);
+        String oid = requireNonBlank(ownerId, "ownerId");
+        return "LEMMA".equals(ot) ? publishedDictionaryService.publishedLemmaStamp(oid) : null;
     }
 
     // =========================================================
@@ -229,6 +264,16 @@ public class PronunciationService {
     // Helpers
     // =========================================================
 
+    private void publishIfPublishedLemma(String ownerType, String ownerId) {
+        if (!"LEMMA".equals(ownerType)) {
+            return;
+        }
+        Lemma lemma = lemmaService.getById(ownerId);
+        if (lemma.getStatus() == LemmaStatus.PUBLISHED) {
+            eventPublisher.publishEvent(DictionaryChangedEvent.lemma(lemma.getLanguage(), lemma.getId()));
+        }
+    }
+
     private void requireOwnerExists(String ownerType, String ownerId) {
         if ("LEMMA".equals(ownerType)) {
             lemmaService.getById(ownerId); // admin may attach to DRAFT/REVIEW
@@ -0,0 +1,351 @@
+package com.bhashamitra.platform.services;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+
+/**
+ * Immutable, read-only snapshot of one language's published dictionary:
+ * PUBLISHED lemmas with their meanings, surface forms and lemma recordings.
+ * Built by {@link PublishedDictionaryService}; never mutated after construction.
+ */
+public final class PublishedDictionary {
+
+    static final Comparator<LemmaEntry> LEMMA_ORDER =
+            Comparator.comparing(LemmaEntry::lemmaNative).thenComparing(LemmaEntry::id);
+
+    private final String language;
+    private final List<LemmaEntry> lemmas;
+    private final Map<String, LemmaEntry> lemmasById;
+    private final Map<String, List<MeaningEntry>> meaningsByLemma;
+    private final Map<String, List<SurfaceFormEntry>> surfaceFormsByLemma;
+    private final Map<String, List<PronunciationEntry>> pronunciationsByLemma;
+    private final Map<String, CacheStamp> stampsByLemma;
+    private final CacheStamp stamp;
+    private final LemmaAutocompleteIndex autocompleteIndex;
+    private final LemmaReverseIndex reverseIndex;
+
+    PublishedDictionary(String language,
+                        List<LemmaEntry> lemmas,
+                        List<MeaningEntry> meanings,
+                        List<SurfaceFormEntry> surfaceForms,
+                        List<PronunciationEntry> pronunciations) {
+        this(language, lemmas, meanings, surfaceForms, pronunciations, Map.of());
+    }
+
+    /**
+     * @param stamps per-lemma validators (see {@link #stamp(String)}); their lastModified
+     *               is expected to be the snapshot build time, which is never earlier than
+     *               the change (insert, update or delete) that caused the rebuild
+     */
+    PublishedDictionary(String language,
+                        List<LemmaEntry> lemmas,
+                        List<MeaningEntry> meanings,
+                        List<SurfaceFormEntry> surfaceForms,
+                        List<PronunciationEntry> pronunciations,
+                        Map<String, CacheStamp> stamps) {
+        this(language, lemmas, meanings, surfaceForms, pronunciations, stamps, null);
+    }
+
+    private PublishedDictionary(String language,
+                                List<LemmaEntry> lemmas,
+                                List<MeaningEntry> meanings,
+                                List<SurfaceFormEntry> surfaceForms,
+                                List<PronunciationEntry> pronunciations,
+                                Map<String, CacheStamp> stamps,
+                                Instant modifiedAt) {
+        this.language = language;
+
+        List<LemmaEntry> sorted = new ArrayList<>(lemmas);
+        sorted.sort(LEMMA_ORDER);
+        this.lemmas = List.copyOf(sorted);
+
+        Map<String, LemmaEntry> byId = new HashMap<>(sorted.size() * 2);
+        for (LemmaEntry l : sorted) {
+            byId.put(l.id(), l);
+        }
+        this.lemmasById = Collections.unmodifiableMap(byId);
+
+        // Input lists arrive in display order; grouping keeps that order per lemma
+        this.meaningsByLemma = groupByLemma(meanings, MeaningEntry::lemmaId);
+        this.surfaceFormsByLemma = groupByLemma(surfaceForms, SurfaceFormEntry::lemmaId);
+        this.pronunciationsByLemma = groupByLemma(pronunciations, PronunciationEntry::ownerId);
+
+        this.stampsByLemma = Map.copyOf(stamps);
+        this.stamp = stamp(language, this.lemmas, stampsByLemma, modifiedAt);
+
+        this.autocompleteIndex = new LemmaAutocompleteIndex(this.lemmas, this::surfaceForms);
+        this.reverseIndex = new LemmaReverseIndex(this.lemmas, this::surfaceForms);
+    }
+
+    /**
+     * See {@link #withLemmas}. The unchanged part is carried over rather than rebuilt: the
+     * new lemmas are sorted on their own and merged into the ordered list, the per-lemma
+     * maps are copied with just those keys replaced, and the search indexes are patched
+     * the same way. A refresh costs a linear copy of the snapshot, not a re-sort and
+     * re-index of the whole language.
+     */
+    private PublishedDictionary(PublishedDictionary base,
+                                Set<String> lemmaIds,
+                                List<LemmaEntry> lemmas,
+                                List<MeaningEntry> meanings,
+                                List<SurfaceFormEntry> surfaceForms,
+                                List<PronunciationEntry> pronunciations,
+                                Map<String, CacheStamp> stamps,
+                                Instant refreshedAt) {
+        this.language = base.language;
+
+        List<LemmaEntry> added = new ArrayList<>(lemmas);
+        added.sort(LEMMA_ORDER);
+        List<LemmaEntry> previous = new ArrayList<>(lemmaIds.size());
+        List<LemmaEntry> merged = new ArrayList<>(base.lemmas.size() + added.size());
+        int j = 0;
+        for (LemmaEntry l : base.lemmas) {
+            if (lemmaIds.contains(l.id())) {
+                previous.add(l);
+                continue;
+            }
+            while (j < added.size() && LEMMA_ORDER.compare(added.get(j), l) < 0) {
+                merged.add(added.get(j++));
+            }
+            merged.add(l);
+        }
+        merged.addAll(added.subList(j, added.size()));
+        this.lemmas = Collections.unmodifiableList(merged);
+
+        Map<String, LemmaEntry> byId = new HashMap<>(base.lemmasById);
+        byId.keySet().removeAll(lemmaIds);
+        for (LemmaEntry l : added) {
+            byId.put(l.id(), l);
+        }
+        this.lemmasById = Collections.unmodifiableMap(byId);
+
+        this.meaningsByLemma = patch(base.meaningsByLemma, lemmaIds, groupByLemma(meanings, MeaningEntry::lemmaId));
+        this.surfaceFormsByLemma = patch(base.surfaceFormsByLemma, lemmaIds, groupByLemma(surfaceForms, SurfaceFormEntry::lemmaId));
+        this.pronunciationsByLemma = patch(base.pronunciationsByLemma, lemmaIds, groupByLemma(pronunciations, PronunciationEntry::ownerId));
+
+        Map<String, CacheStamp> nextStamps = new HashMap<>(base.stampsByLemma);
+        nextStamps.keySet().removeAll(lemmaIds);
+        nextStamps.putAll(stamps);
+        this.stampsByLemma = Collections.unmodifiableMap(nextStamps);
+        this.stamp = stamp(language, this.lemmas, stampsByLemma, refreshedAt);
+
+        this.autocompleteIndex = base.autocompleteIndex.withLemmas(lemmaIds, added, this::surfaceForms);
+        this.reverseIndex = base.reverseIndex.withLemmas(lemmaIds, previous, base::surfaceForms, added, this::surfaceForms);
+    }
+
+    /**
+     * A copy with the given lemmas, and everything under them, replaced by freshly read
+     * rows. Ids with no row in {@code lemmas} drop out (unpublished or moved to another
+     * language); the rest of the snapshot, search indexes included, is patched rather
+     * than rebuilt.
+     *
+     * @param refreshedAt when the rows were read; the snapshot's Last-Modified from then on
+     */
+    PublishedDictionary withLemmas(Set<String> lemmaIds,
+                                   List<LemmaEntry> lemmas,
+                                   List<MeaningEntry> meanings,
+                                   List<SurfaceFormEntry> surfaceForms,
+                                   List<PronunciationEntry> pronunciations,
+                                   Map<String, CacheStamp> stamps,
+                                   Instant refreshedAt) {
+        return new PublishedDictionary(this, lemmaIds, lemmas, meanings, surfaceForms, pronunciations, stamps, refreshedAt);
+    }
+
+    public String language() {
+        return language;
+    }
+
+    public int size() {
+        return lemmas.size();
+    }
+
+    /**
+     * Validator for everything in this snapshot; changes whenever any published lemma or
+     * one of its children is added, edited or removed.
+     */
+    public CacheStamp stamp() {
+        return stamp;
+    }
+
+    /**
+     * Validator for one lemma and its meanings, surface forms and recordings, or null when
+     * the lemma is not in this snapshot (or the snapshot was built without stamps).
+     */
+    public CacheStamp stamp(String lemmaId) {
+        return stampsByLemma.get(lemmaId);
+    }
+
+    /**
+     * All published lemmas ordered by (lemmaNative, id).
+     */
+    public List<LemmaEntry> lemmas() {
+        return lemmas;
+    }
+
+    public LemmaEntry lemma(String id) {
+        return lemmasById.get(id);
+    }
+
+    public List<MeaningEntry> meanings(String lemmaId) {
+        return meaningsByLemma.getOrDefault(lemmaId, List.of());
+    }
+
+    public List<SurfaceFormEntry> surfaceForms(String lemmaId) {
+        return surfaceFormsByLemma.getOrDefault(lemmaId, List.of());
+    }
+
+    public List<PronunciationEntry> pronunciations(String lemmaId) {
+        return pronunciationsByLemma.getOrDefault(lemmaId, List.of());
+    }
+
+    /**
+     * The complete public view of one lemma, or null when it is not in this snapshot.
+     */
+    public LemmaDetail detail(String lemmaId) {
+        LemmaEntry lemma = lemmasById.get(lemmaId);
+        if (lemma == null) {
+            return null;
+        }
+        return new LemmaDetail(lemma, meanings(lemmaId), surfaceForms(lemmaId), pronunciations(lemmaId));
+    }
+
+    /**
+     * Top-k lemmas with a native or latin spelling (of the lemma or one of its surface
+     * forms) starting with the given prefix.
+     */
+    public List<LemmaAutocompleteIndex.Suggestion> autocomplete(String prefix, int limit) {
+        return autocompleteIndex.suggest(prefix, limit);
+    }
+
+    /**
+     * Lemmas an (inflected) word may be a form of, by exact folded match on surface form
+     * and lemma spellings.
+     */
+    public List<LemmaReverseIndex.Candidate> lookup(String word) {
+        return reverseIndex.lookup(word);
+    }
+
+    /**
+     * {@link #lookup} for every word of a text, in order.
+     */
+    public List<LemmaReverseIndex.TokenMatch> resolve(String text) {
+        return reverseIndex.resolve(text);
+    }
+
+    /**
+     * Keyset page ordered by (lemmaNative, id): up to {@code limit} lemmas strictly after
+     * the given key, or from the start when either part of the key is null. hasMore tells
+     * whether lemmas remain after the page.
+     */
+    public Page page(String afterNative, String afterId, int limit) {
+        if (limit < 1) {
+            throw new IllegalArgumentException("limit must be positive");
+        }
+
+        int from = 0;
+        if (afterNative != null && afterId != null) {
+            int idx = Collections.binarySearch(lemmas, new LemmaEntry(afterId, language, afterNative, null, null, null), LEMMA_ORDER);
+            from = idx >= 0 ? idx + 1 : -(idx + 1);
+        }
+
+        int to = Math.min(from + limit, lemmas.size());
+        return new Page(lemmas.subList(from, to), to < lemmas.size());
+    }
+
+    /**
+     * Folds the per-lemma stamps in list order. A lemma dropping out leaves only older
+     * stamps behind, so {@code modifiedAt} (when set) is the floor for Last-Modified.
+     */
+    private static CacheStamp stamp(String language, List<LemmaEntry> lemmas,
+                                    Map<String, CacheStamp> stamps, Instant modifiedAt) {
+        CacheStamp.Builder all = CacheStamp.builder().addString(language);
+        for (LemmaEntry l : lemmas) {
+            CacheStamp s = stamps.get(l.id());
+            if (s != null) {
+                all.add(s);
+            } else {
+                all.addString(l.id());
+            }
+        }
+        CacheStamp built = all.build();
+        return modifiedAt != null && (built.lastModified() == null || modifiedAt.isAfter(built.lastModified()))
+                ? new CacheStamp(built.hash(), modifiedAt)
+                : built;
+    }
+
+    private static <T> Map<String, List<T>> patch(Map<String, List<T>> base, Set<String> lemmaIds,
+                                                  Map<String, List<T>> replacements) {
+        Map<String, List<T>> out = new HashMap<>(base);
+        out.keySet().removeAll(lemmaIds);
+        out.putAll(replacements);
+        return Collections.unmodifiableMap(out);
+    }
+
+    private static <T> Map<String, List<T>> groupByLemma(List<T> rows, Function<T, String> key) {
+        Map<String, List<T>> grouped = new HashMap<>();
+        for (T row : rows) {
+            grouped.computeIfAbsent(key.apply(row), k -> new ArrayList<>()).add(row);
+        }
+        Map<String, List<T>> out = new HashMap<>(grouped.size() * 2);
+        grouped.forEach((k, v) -> out.put(k, List.copyOf(v)));
+        return Collections.unmodifiableMap(out);
+    }
+
+    // =========================================================
+    // Snapshot records
+    // =========================================================
+
+    public record LemmaEntry(
+            String id,
+            String language,
+            String lemmaNative,
+            String lemmaLatin,
+            String pos,
+            String notes
+    ) {}
+
+    public record MeaningEntry(
+            String id,
+            String lemmaId,
+            String meaningLanguage,
+            String meaningText,
+            Integer priority
+    ) {}
+
+    public record SurfaceFormEntry(
+            String id,
+            String lemmaId,
+            String formNative,
+            String formLatin,
+            String formType,
+            String notes
+    ) {}
+
+    public record PronunciationEntry(
+            String id,
+            String ownerId,
+            String speaker,
+            String region,
+            String audioUri,
+            Integer durationMs
+    ) {}
+
+    public record Page(
+            List<LemmaEntry> items,
+            boolean hasMore
+    ) {}
+
+    public record LemmaDetail(
+            LemmaEntry lemma,
+            List<MeaningEntry> meanings,
+            List<SurfaceFormEntry> surfaceForms,
+            List<PronunciationEntry> pronunciations
+    ) {}
+}
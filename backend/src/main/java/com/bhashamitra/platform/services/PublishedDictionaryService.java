@@ -0,0 +1,496 @@
+package com.bhashamitra.platform.services;
+
+import com.bhashamitra.platform.config.ReadRouting;
+import com.bhashamitra.platform.models.Language;
+import com.bhashamitra.platform.models.LemmaStatus;
+import com.bhashamitra.platform.repositories.LemmaRepository;
+import com.bhashamitra.platform.repositories.LemmaRepository.LemmaView;
+import com.bhashamitra.platform.repositories.MeaningRepository;
+import com.bhashamitra.platform.repositories.MeaningRepository.MeaningView;
+import com.bhashamitra.platform.repositories.PronunciationRepository;
+import com.bhashamitra.platform.repositories.PronunciationRepository.PronunciationView;
+import com.bhashamitra.platform.repositories.SurfaceFormRepository;
+import com.bhashamitra.platform.repositories.SurfaceFormRepository.SurfaceFormView;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Instant;
+import java.time.ZonedDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Serves public dictionary reads from per-language {@link PublishedDictionary} snapshots
+ * held in memory, so public traffic does not touch the database.
+ *
+ * A snapshot is built on first use with a handful of set-based queries. A committed
+ * {@link DictionaryChangedEvent} marks the lemmas it names as changed (or, after a bulk
+ * import, the whole language as stale); the next read re-reads just those lemmas and their
+ * children and swaps in a patched copy, or rebuilds the language when it is stale or too
+ * many lemmas changed at once. Reads that arrive meanwhile get the previous snapshot.
+ * Every change is also published on the {@link CacheInvalidationTransport}, and what the
+ * other instances publish is applied the same way, so their snapshots follow within the
+ * transport's poll interval.
+ */
+@Service
+public class PublishedDictionaryService {
+
+    private static final Logger log = LoggerFactory.getLogger(PublishedDictionaryService.class);
+
+    // Beyond this many changed lemmas a full rebuild is cheaper than the IN lists
+    static final int MAX_REFRESH_LEMMAS = 500;
+
+    private final LemmaRepository lemmaRepository;
+    private final MeaningRepository meaningRepository;
+    private final SurfaceFormRepository surfaceFormRepository;
+    private final PronunciationRepository pronunciationRepository;
+    private final LanguageService languageService;
+    private final CacheInvalidationTransport transport;
+    private final TransactionTemplate readOnlyTx;
+
+    private final Map<String, Slot> slots = new ConcurrentHashMap<>();
+
+    public PublishedDictionaryService(LemmaRepository lemmaRepository,
+                                      MeaningRepository meaningRepository,
+                                      SurfaceFormRepository surfaceFormRepository,
+                                      PronunciationRepository pronunciationRepository,
+                                      LanguageService languageService,
+                                      CacheInvalidationTransport transport,
+                                      PlatformTransactionManager transactionManager) {
+        this.lemmaRepository = lemmaRepository;
+        this.meaningRepository = meaningRepository;
+        this.surfaceFormRepository = surfaceFormRepository;
+        this.pronunciationRepository = pronunciationRepository;
+        this.languageService = languageService;
+        this.transport = transport;
+        this.readOnlyTx = new TransactionTemplate(transactionManager);
+        this.readOnlyTx.setReadOnly(true);
+        transport.subscribe(this::apply);
+    }
+
+    // =========================================================
+    // Reads
+    // =========================================================
+
+    /**
+     * Snapshot for an enabled language (built on first use).
+     */
+    public PublishedDictionary snapshot(String language) {
+        if (language == null || language.isBlank()) {
+            throw new IllegalArgumentException("language is required");
+        }
+        String lang = language.trim();
+        if (!languageService.isLanguageEnabled(lang)) {
+            throw new IllegalArgumentException("Language is not enabled or not found: " + lang);
+        }
+        return slots.computeIfAbsent(lang, Slot::new).get();
+    }
+
+    /**
+     * Published lemma by id, searched across all enabled languages.
+     * Throws IllegalArgumentException when the id is missing or no enabled language
+     * publishes it.
+     */
+    public PublishedDictionary.LemmaEntry getPublishedLemma(String id) {
+        return findSnapshotFor(id).lemma(id);
+    }
+
+    public List<PublishedDictionary.MeaningEntry> meaningsForPublishedLemma(String lemmaId) {
+        return findSnapshotFor(lemmaId).meanings(lemmaId);
+    }
+
+    public List<PublishedDictionary.SurfaceFormEntry> surfaceFormsForPublishedLemma(String lemmaId) {
+        return findSnapshotFor(lemmaId).surfaceForms(lemmaId);
+    }
+
+    public List<PublishedDictionary.PronunciationEntry> pronunciationsForPublishedLemma(String lemmaId) {
+        return findSnapshotFor(lemmaId).pronunciations(lemmaId);
+    }
+
+    /**
+     * Validator for a published lemma and its children; throws like {@link #getPublishedLemma}.
+     */
+    public CacheStamp publishedLemmaStamp(String lemmaId) {
+        return findSnapshotFor(lemmaId).stamp(lemmaId);
+    }
+
+    public PublishedDictionary.LemmaDetail getPublishedLemmaDetail(String lemmaId) {
+        return findSnapshotFor(lemmaId).detail(lemmaId);
+    }
+
+    /**
+     * Details for a batch of lemma ids, in request order. Ids that are not published
+     * (or repeated) are skipped.
+     */
+    public List<PublishedDictionary.LemmaDetail> getPublishedLemmaDetails(Collection<String> lemmaIds) {
+        Set<String> ids = distinctIds(lemmaIds);
+
+        List<PublishedDictionary.LemmaDetail> out = new ArrayList<>(ids.size());
+        for (String id : ids) {
+            PublishedDictionary snapshot = locate(id);
+            if (snapshot != null) {
+                out.add(snapshot.detail(id));
+            }
+        }
+        return out;
+    }
+
+    /**
+     * Validator for {@link #getPublishedLemmaDetails} with the same ids. Folds the stamp of
+     * each published id in request order; if any id is not published, the stamps of all
+     * snapshots built so far are folded in too, since publishing it would change the response.
+     */
+    public CacheStamp publishedLemmaDetailsStamp(Collection<String> lemmaIds) {
+        Set<String> ids = distinctIds(lemmaIds);
+
+        CacheStamp.Builder out = CacheStamp.builder();
+        boolean missing = false;
+        for (String lemmaId : ids) {
+            PublishedDictionary snapshot = locate(lemmaId);
+            CacheStamp found = snapshot != null ? snapshot.stamp(lemmaId) : null;
+            out.addString(lemmaId).add(found);
+            missing |= found == null;
+        }
+        if (missing) {
+            for (Language language : languageService.getEnabledLanguages()) {
+                Slot slot = slots.get(language.getCode());
+                if (slot != null && slot.built()) {
+                    out.add(slot.get().stamp());
+                }
+            }
+        }
+        return out.build();
+    }
+
+    private static Set<String> distinctIds(Collection<String> lemmaIds) {
+        Set<String> ids = new LinkedHashSet<>();
+        for (String id : lemmaIds) {
+            if (id != null && !id.isBlank()) {
+                ids.add(id.trim());
+            }
+        }
+        if (ids.isEmpty()) {
+            throw new IllegalArgumentException("ids must be provided");
+        }
+        return ids;
+    }
+
+    private PublishedDictionary findSnapshotFor(String lemmaId) {
+        if (lemmaId == null || lemmaId.isBlank()) {
+            throw new IllegalArgumentException("lemmaId must be provided");
+        }
+        PublishedDictionary snapshot = locate(lemmaId);
+        if (snapshot == null) {
+            throw new IllegalArgumentException("Published lemma not found: " + lemmaId);
+        }
+        return snapshot;
+    }
+
+    /**
+     * The snapshot holding a published lemma, or null. Snapshots already built are searched
+     * first; only when some enabled language has none yet is the lemma's language looked up
+     * by primary key, so a lookup builds at most that one language.
+     */
+    private PublishedDictionary locate(String lemmaId) {
+        boolean allBuilt = true;
+        for (Language language : languageService.getEnabledLanguages()) {
+            Slot slot = slots.get(language.getCode());
+            if (slot == null || !slot.built()) {
+                allBuilt = false;
+                continue;
+            }
+            PublishedDictionary snapshot = slot.get();
+            if (snapshot.lemma(lemmaId) != null) {
+                return snapshot;
+            }
+        }
+        if (allBuilt) {
+            return null;
+        }
+
+        String language = lemmaRepository.findLanguageByIdAndStatus(lemmaId, LemmaStatus.PUBLISHED).orElse(null);
+        if (language == null || !languageService.isLanguageEnabled(language)) {
+            return null;
+        }
+        PublishedDictionary snapshot = snapshot(language);
+        return snapshot.lemma(lemmaId) != null ? snapshot : null;
+    }
+
+    // =========================================================
+    // Invalidation
+    // =========================================================
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onDictionaryChanged(DictionaryChangedEvent event) {
+        String language = event.language();
+        if (language == null) {
+            return;
+        }
+        invalidate(language, event.lemmaIds());
+        if (event.lemmaIds() == null) {
+            transport.publish(CacheInvalidation.dictionary(language, null));
+        } else {
+            event.lemmaIds().forEach(id -> transport.publish(CacheInvalidation.dictionary(language, id)));
+        }
+    }
+
+    /**
+     * Marks the whole language stale.
+     */
+    public void invalidate(String language) {
+        invalidate(language, null);
+    }
+
+    /**
+     * Marks the given lemmas (null: the whole language) changed; the next read of the
+     * language picks the change up.
+     */
+    public void invalidate(String language, Set<String> lemmaIds) {
+        // Recorded even before the first build: that build may have read the rows already
+        slots.computeIfAbsent(language, Slot::new).invalidate(lemmaIds);
+    }
+
+    /**
+     * What the other instances changed.
+     */
+    void apply(List<CacheInvalidation> invalidations) {
+        for (CacheInvalidation i : invalidations) {
+            if (i.entity() == null) {
+                // Lost messages somewhere: nothing can be trusted
+                slots.values().forEach(slot -> slot.invalidate(null));
+                continue;
+            }
+            String language = i.dictionaryLanguage();
+            if (language != null) {
+                invalidate(language, i.id() != null ? Set.of(i.id()) : null);
+            }
+        }
+    }
+
+    // =========================================================
+    // Build
+    // =========================================================
+
+    private PublishedDictionary build(String language) {
+        long started = System.nanoTime();
+
+        // Kept until the next change: read from the writer, never from a lagging replica
+        PublishedDictionary snapshot = ReadRouting.onWriter(() -> readOnlyTx.execute(status -> {
+            // Views, not entities: a whole language would otherwise sit in the persistence
+            // context (with a dirty-checking snapshot per row) until the transaction ends
+            List<LemmaView> lemmas = lemmaRepository.findViewsByLanguageAndStatus(language, LemmaStatus.PUBLISHED);
+            List<MeaningView> meanings = meaningRepository.findViewsByLemmaLanguageAndStatus(language, LemmaStatus.PUBLISHED);
+            List<SurfaceFormView> surfaceForms = surfaceFormRepository.findViewsByLemmaLanguageAndStatus(language, LemmaStatus.PUBLISHED);
+            List<PronunciationView> pronunciations = pronunciationRepository.findLemmaViewsByLanguageAndStatus(language, LemmaStatus.PUBLISHED);
+
+            return new PublishedDictionary(
+                    language,
+                    lemmas.stream().map(PublishedDictionaryService::toEntry).toList(),
+                    meanings.stream().map(PublishedDictionaryService::toEntry).toList(),
+                    surfaceForms.stream().map(PublishedDictionaryService::toEntry).toList(),
+                    pronunciations.stream().map(PublishedDictionaryService::toEntry).toList(),
+                    stamps(lemmas, meanings, surfaceForms, pronunciations, Instant.now())
+            );
+        }));
+
+        log.info("Built published dictionary snapshot language={} lemmas={} in {} ms",
+                language, snapshot.size(), (System.nanoTime() - started) / 1_000_000);
+        return snapshot;
+    }
+
+    /**
+     * Re-reads the given lemmas, with the same queries restricted to their ids, and patches
+     * them into the snapshot. Lemmas no longer published in the language drop out.
+     */
+    private PublishedDictionary refresh(PublishedDictionary snapshot, Set<String> lemmaIds) {
+        String language = snapshot.language();
+
+        PublishedDictionary refreshed = ReadRouting.onWriter(() -> readOnlyTx.execute(status -> {
+            List<LemmaView> lemmas = lemmaRepository.findViewsByIdInAndLanguageAndStatus(lemmaIds, language, LemmaStatus.PUBLISHED);
+            List<MeaningView> meanings = meaningRepository.findViewsByLemmaIdInAndLanguageAndStatus(lemmaIds, language, LemmaStatus.PUBLISHED);
+            List<SurfaceFormView> surfaceForms = surfaceFormRepository.findViewsByLemmaIdInAndLanguageAndStatus(lemmaIds, language, LemmaStatus.PUBLISHED);
+            List<PronunciationView> pronunciations = pronunciationRepository.findLemmaViewsByIdInAndLanguageAndStatus(lemmaIds, language, LemmaStatus.PUBLISHED);
+
+            Instant now = Instant.now();
+            return snapshot.withLemmas(
+                    lemmaIds,
+                    lemmas.stream().map(PublishedDictionaryService::toEntry).toList(),
+                    meanings.stream().map(PublishedDictionaryService::toEntry).toList(),
+                    surfaceForms.stream().map(PublishedDictionaryService::toEntry).toList(),
+                    pronunciations.stream().map(PublishedDictionaryService::toEntry).toList(),
+                    stamps(lemmas, meanings, surfaceForms, pronunciations, now),
+                    now
+            );
+        }));
+
+        log.debug("Refreshed published dictionary snapshot language={} lemmas={}", language, lemmaIds.size());
+        return refreshed;
+    }
+
+    /**
+     * Per-lemma validators: each folds the lemma row and its child rows in snapshot order.
+     * Last-Modified is the build time rather than the newest row, because deleting a child
+     * row changes the content without leaving a newer timestamp behind.
+     */
+    private static Map<String, CacheStamp> stamps(List<LemmaView> lemmas,
+                                                  List<MeaningView> meanings,
+                                                  List<SurfaceFormView> surfaceForms,
+                                                  List<PronunciationView> pronunciations,
+                                                  Instant builtAt) {
+        Map<String, CacheStamp.Builder> builders = new HashMap<>(lemmas.size() * 2);
+        for (LemmaView l : lemmas) {
+            builders.put(l.id(), CacheStamp.builder().add(l.id(), l.version(), toInstant(l.lastModifiedDate())));
+        }
+        for (MeaningView m : meanings) {
+            fold(builders, m.lemmaId(), m.id(), m.version(), m.lastModifiedDate());
+        }
+        for (SurfaceFormView sf : surfaceForms) {
+            fold(builders, sf.lemmaId(), sf.id(), sf.version(), sf.lastModifiedDate());
+        }
+        for (PronunciationView p : pronunciations) {
+            fold(builders, p.ownerId(), p.id(), p.version(), p.lastModifiedDate());
+        }
+
+        Map<String, CacheStamp> out = new HashMap<>(builders.size() * 2);
+        builders.forEach((id, b) -> out.put(id, new CacheStamp(b.build().hash(), builtAt)));
+        return out;
+    }
+
+    private static void fold(Map<String, CacheStamp.Builder> builders, String lemmaId,
+                             String id, Long version, ZonedDateTime modified) {
+        CacheStamp.Builder b = builders.get(lemmaId);
+        if (b != null) {
+            b.add(id, version, toInstant(modified));
+        }
+    }
+
+    private static Instant toInstant(ZonedDateTime t) {
+        return t != null ? t.toInstant() : null;
+    }
+
+    private static PublishedDictionary.LemmaEntry toEntry(LemmaView l) {
+        return new PublishedDictionary.LemmaEntry(
+                l.id(),
+                l.language(),
+                l.lemmaNative(),
+                l.lemmaLatin(),
+                l.pos(),
+                l.notes()
+        );
+    }
+
+    private static PublishedDictionary.MeaningEntry toEntry(MeaningView m) {
+        return new PublishedDictionary.MeaningEntry(
+                m.id(),
+                m.lemmaId(),
+                m.meaningLanguage(),
+                m.meaningText(),
+                m.priority()
+        );
+    }
+
+    private static PublishedDictionary.SurfaceFormEntry toEntry(SurfaceFormView sf) {
+        return new PublishedDictionary.SurfaceFormEntry(
+                sf.id(),
+                sf.lemmaId(),
+                sf.formNative(),
+                sf.formLatin(),
+                sf.formType(),
+                sf.notes()
+        );
+    }
+
+    static PublishedDictionary.PronunciationEntry toEntry(PronunciationView p) {
+        return new PublishedDictionary.PronunciationEntry(
+                p.id(),
+                p.ownerId(),
+                p.speaker(),
+                p.region(),
+                p.audioUri(),
+                p.durationMs()
+        );
+    }
+
+    /**
+     * Holds one language's current snapshot and what changed since it was read. Readers
+     * take the snapshot as it is unless something changed; then one of them patches (or
+     * rebuilds) it under the lock while the others keep reading the previous snapshot.
+     * Only the first build makes readers wait. Changes recorded while a refresh runs stay
+     * for the next read.
+     */
+    private final class Slot {
+
+        private final String language;
+        private final ReentrantLock buildLock = new ReentrantLock();
+        private final Set<String> changed = ConcurrentHashMap.newKeySet();
+        private volatile boolean stale;
+        private volatile PublishedDictionary current;
+
+        Slot(String language) {
+            this.language = language;
+        }
+
+        boolean built() {
+            return current != null;
+        }
+
+        PublishedDictionary get() {
+            PublishedDictionary snapshot = current;
+            if (snapshot != null && !stale && changed.isEmpty()) {
+                return snapshot;
+            }
+
+            if (snapshot == null) {
+                buildLock.lock();
+            } else if (!buildLock.tryLock()) {
+                // Another reader is bringing it up to date
+                return snapshot;
+            }
+            try {
+                if (current == null || stale || changed.size() > MAX_REFRESH_LEMMAS) {
+                    stale = false;
+                    changed.clear();
+                    try {
+                        current = build(language);
+                    } catch (RuntimeException e) {
+                        stale = current != null;
+                        throw e;
+                    }
+                } else if (!changed.isEmpty()) {
+                    Set<String> lemmaIds = new HashSet<>(changed);
+                    changed.removeAll(lemmaIds);
+                    try {
+                        current = refresh(current, lemmaIds);
+                    } catch (RuntimeException e) {
+                        // Keep serving what we have; the next read tries again
+                        changed.addAll(lemmaIds);
+                        log.warn("Could not refresh published dictionary snapshot language={}", language, e);
+                    }
+                }
+                return current;
+            } finally {
+                buildLock.unlock();
+            }
+        }
+
+        void invalidate(Set<String> lemmaIds) {
+            if (lemmaIds == null) {
+                stale = true;
+            } else {
+                changed.addAll(lemmaIds);
+            }
+        }
+    }
+}
@@ -0,0 +1,127 @@
+package com.bhashamitra.platform.services;
+
+import com.bhashamitra.platform.models.Lemma;
+import com.bhashamitra.platform.models.SurfaceForm;
+import com.bhashamitra.platform.repositories.SearchKeyJdbcRepository;
+import com.bhashamitra.platform.repositories.SearchKeyJdbcRepository.KeyUpdate;
+import com.bhashamitra.platform.repositories.SearchKeyJdbcRepository.Row;
+import com.bhashamitra.platform.repositories.SearchKeyJdbcRepository.Target;
+import com.bhashamitra.platform.text.TextCanonicalizer;
+import com.bhashamitra.platform.text.Transliterator;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Fills the derived search keys (canonical lemma_key / form_key, fuzzy latin_key) for rows
+ * written before those columns existed. Runs once at startup in keyset batches by id; a
+ * no-op query once everything has a key.
+ *
+ * Rows whose canonical key collides with another row (two spellings of the same word that
+ * were distinct before canonicalization) are logged and left NULL for an editor to merge;
+ * NULL keys never clash in the unique constraints. Latin keys are not unique.
+ */
+@Service
+public class SearchKeyBackfill {
+
+    private static final Logger log = LoggerFactory.getLogger(SearchKeyBackfill.class);
+
+    private final SearchKeyJdbcRepository repository;
+    private final EntityCacheInvalidator cacheInvalidator;
+    private final TransactionTemplate batchTx;
+    private final int batchSize;
+
+    public SearchKeyBackfill(SearchKeyJdbcRepository repository,
+                             EntityCacheInvalidator cacheInvalidator,
+                             PlatformTransactionManager transactionManager,
+                             @Value("${text.search-keys.backfill-batch-size:1000}") int batchSize) {
+        this.repository = repository;
+        this.cacheInvalidator = cacheInvalidator;
+        this.batchTx = new TransactionTemplate(transactionManager);
+        this.batchSize = batchSize;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void backfillOnStartup() {
+        for (Target target : Target.values()) {
+            try {
+                backfill(target);
+            } catch (RuntimeException e) {
+                log.warn("Search key backfill for {} stopped early", target, e);
+            }
+        }
+    }
+
+    /**
+     * Returns the number of rows that got a key.
+     */
+    public int backfill(Target target) {
+        int updated = 0;
+        int conflicts = 0;
+        String afterId = null;
+
+        List<Row> rows;
+        while (!(rows = repository.findWithoutKey(target, afterId, batchSize)).isEmpty()) {
+            afterId = rows.get(rows.size() - 1).id();
+
+            List<KeyUpdate> updates = new ArrayList<>(rows.size());
+            for (Row r : rows) {
+                String key = keyOf(target, r.text());
+                if (key != null) {
+                    updates.add(new KeyUpdate(r.id(), key));
+                }
+            }
+            if (updates.isEmpty()) {
+                continue;
+            }
+
+            try {
+                // One transaction per batch, so a conflict rolls back the whole batch
+                batchTx.executeWithoutResult(status -> repository.updateKeys(target, updates));
+                updated += updates.size();
+            } catch (DataIntegrityViolationException e) {
+                // Some key in the batch is taken; redo row by row to isolate it
+                for (KeyUpdate u : updates) {
+                    try {
+                        updated += repository.updateKey(target, u);
+                    } catch (DataIntegrityViolationException conflict) {
+                        conflicts++;
+                        log.warn("Search key conflict on {} id={} key={}; left NULL", target, u.id(), u.key());
+                    }
+                }
+            }
+        }
+
+        if (updated > 0 || conflicts > 0) {
+            log.info("Search key backfill {}: updated={} conflicts={}", target, updated, conflicts);
+        }
+        if (updated > 0) {
+            // Written with JDBC, so cached copies still have the old (NULL) key
+            cacheInvalidator.invalidate(entityOf(target));
+        }
+        return updated;
+    }
+
+    private static Class<?> entityOf(Target target) {
+        return switch (target) {
+            case LEMMA_KEY, LEMMA_LATIN_KEY -> Lemma.class;
+            case SURFACE_FORM_KEY, SURFACE_FORM_LATIN_KEY -> SurfaceForm.class;
+        };
+    }
+
+    private static String keyOf(Target target, String text) {
+        return switch (target) {
+            case LEMMA_KEY, SURFACE_FORM_KEY -> TextCanonicalizer.canonicalKey(text);
+            case LEMMA_LATIN_KEY, SURFACE_FORM_LATIN_KEY -> Transliterator.latinKey(text);
+        };
+    }
+}
@@ -0,0 +1,83 @@
+package com.bhashamitra.platform.services;
+
+import com.bhashamitra.platform.text.TextCanonicalizer;
+
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Text folding and tokenization shared by the in-memory search indexes.
+ */
+final class SearchText {
+
+    private static final char ZWNJ = '\u200c';
+    private static final char ZWJ = '\u200d';
+
+    private SearchText() {
+    }
+
+    /**
+     * Search key for a spelling: the {@link TextCanonicalizer#canonicalKey canonical key}
+     * with Latin combining accents dropped so "pāṇī" and "pani" meet. Devanagari vowel signs
+     * and nukta are outside U+0300..U+036F and are kept. Empty for null/blank input.
+     */
+    static String fold(String s) {
+        if (s == null) {
+            return "";
+        }
+        String decomposed = Normalizer.normalize(s, Normalizer.Form.NFD);
+        StringBuilder sb = new StringBuilder(decomposed.length());
+        for (int i = 0; i < decomposed.length(); i++) {
+            char c = decomposed.charAt(i);
+            if (c < '\u0300' || c > '\u036f') {
+                sb.append(c);
+            }
+        }
+        String key = TextCanonicalizer.canonicalKey(sb.toString());
+        return key != null ? key : "";
+    }
+
+    /**
+     * Folded word tokens of a text. A token is a run of letters, digits and combining marks,
+     * so Devanagari matras and virama stay attached to their consonant; ZWJ/ZWNJ inside a
+     * word are dropped rather than splitting it. Everything else (spaces, punctuation,
+     * danda) separates tokens.
+     */
+    static List<String> tokens(String text) {
+        List<String> out = new ArrayList<>();
+        if (text == null || text.isEmpty()) {
+            return out;
+        }
+
+        StringBuilder word = new StringBuilder();
+        int i = 0;
+        while (i < text.length()) {
+            int cp = text.codePointAt(i);
+            i += Character.charCount(cp);
+
+            if (isWordChar(cp)) {
+                word.appendCodePoint(cp);
+            } else if (cp == ZWJ || cp == ZWNJ) {
+                // joiners only affect rendering and never split a word
+            } else if (!word.isEmpty()) {
+                out.add(fold(word.toString()));
+                word.setLength(0);
+            }
+        }
+        if (!word.isEmpty()) {
+            out.add(fold(word.toString()));
+        }
+        return out;
+    }
+
+    private static boolean isWordChar(int cp) {
+        if (Character.isLetterOrDigit(cp)) {
+            return true;
+        }
+        int type = Character.getType(cp);
+        return type == Character.NON_SPACING_MARK
+                || type == Character.COMBINING_SPACING_MARK
+                || type == Character.ENCLOSING_MARK;
+    }
+}
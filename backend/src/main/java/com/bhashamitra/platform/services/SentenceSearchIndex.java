@@ -0,0 +1,450 @@
+package com.bhashamitra.platform.services;
+
+import com.bhashamitra.platform.models.UsageSentenceStatus;
+
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * Inverted index over one language's usage sentences (all statuses), ranked with BM25.
+ *
+ * Each sentence is one document whose terms are the {@link SearchText} tokens of its native
+ * text, transliteration, translation and explanation. Postings are append-only: an update
+ * marks the old ordinal removed and appends the sentence again, and the index compacts
+ * itself once removed ordinals pile up. Reads and writes are guarded by a read/write lock.
+ *
+ * The whole index can be written to and read back from a compact binary file, so a
+ * restart does not have to re-read and re-tokenize the table.
+ */
+public final class SentenceSearchIndex {
+
+    static final double K1 = 1.2;
+    static final double B = 0.75;
+
+    private static final int MAGIC = 0x424d3235; // "BM25"
+    private static final int FORMAT_VERSION = 1;
+    private static final int COMPACT_MIN_REMOVED = 1024;
+
+    private final String language;
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+
+    // Indexed by ordinal; a null doc is a removed ordinal
+    private final List<Doc> docs = new ArrayList<>();
+    private int[] lengths = new int[64];
+    private final Map<String, Integer> ordinalById = new HashMap<>();
+    private final Map<String, Postings> postings = new HashMap<>();
+
+    private long totalLength;
+    private int live;
+    private int removed;
+    private Instant maxLastModified;
+
+    SentenceSearchIndex(String language) {
+        this.language = language;
+    }
+
+    public String language() {
+        return language;
+    }
+
+    /**
+     * Number of sentences in the index.
+     */
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return live;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Newest lastModified seen by this index (null when empty); with {@link #size()} this
+     * is compared against the table to decide whether the index is current.
+     */
+    public Instant maxLastModified() {
+        lock.readLock().lock();
+        try {
+            return maxLastModified;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // =========================================================
+    // Writes
+    // =========================================================
+
+    void upsert(Doc doc) {
+        lock.writeLock().lock();
+        try {
+            removeLocked(doc.id());
+            addLocked(doc);
+            if (maxLastModified == null || (doc.lastModified() != null && doc.lastModified().isAfter(maxLastModified))) {
+                maxLastModified = doc.lastModified();
+            }
+            compactIfNeeded();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    void remove(String id) {
+        lock.writeLock().lock();
+        try {
+            removeLocked(id);
+            compactIfNeeded();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private void addLocked(Doc doc) {
+        int ord = docs.size();
+        docs.add(doc);
+
+        Map<String, Integer> tf = termFrequencies(doc);
+        int length = 0;
+        for (Map.Entry<String, Integer> e : tf.entrySet()) {
+            postings.computeIfAbsent(e.getKey(), k -> new Postings()).add(ord, e.getValue());
+            length += e.getValue();
+        }
+
+        if (ord == lengths.length) {
+            lengths = Arrays.copyOf(lengths, lengths.length * 2);
+        }
+        lengths[ord] = length;
+        totalLength += length;
+        ordinalById.put(doc.id(), ord);
+        live++;
+    }
+
+    private void removeLocked(String id) {
+        Integer ord = ordinalById.remove(id);
+        if (ord == null) {
+            return;
+        }
+        Doc old = docs.set(ord, null);
+        for (String term : termFrequencies(old).keySet()) {
+            Postings p = postings.get(term);
+            if (p != null) {
+                p.liveDocs--;
+            }
+        }
+        totalLength -= lengths[ord];
+        live--;
+        removed++;
+    }
+
+    private void compactIfNeeded() {
+        if (removed >= COMPACT_MIN_REMOVED && removed >= live / 4) {
+            compact();
+        }
+    }
+
+    private void compact() {
+        List<Doc> keep = docs.stream().filter(d -> d != null).toList();
+        docs.clear();
+        ordinalById.clear();
+        postings.clear();
+        lengths = new int[Math.max(64, keep.size())];
+        totalLength = 0;
+        live = 0;
+        removed = 0;
+        keep.forEach(this::addLocked);
+    }
+
+    private static Map<String, Integer> termFrequencies(Doc doc) {
+        Map<String, Integer> tf = new HashMap<>();
+        for (String text : new String[]{doc.sentenceNative(), doc.sentenceLatin(), doc.translation(), doc.explanation()}) {
+            for (String token : SearchText.tokens(text)) {
+                tf.merge(token, 1, Integer::sum);
+            }
+        }
+        return tf;
+    }
+
+    // =========================================================
+    // Search
+    // =========================================================
+
+    /**
+     * Top sentences for the query terms (any term may match), best BM25 score first.
+     */
+    public List<Hit> search(String query, Filter filter, int limit) {
+        Set<String> terms = new LinkedHashSet<>(SearchText.tokens(query));
+        if (terms.isEmpty() || limit < 1) {
+            return List.of();
+        }
+
+        lock.readLock().lock();
+        try {
+            if (live == 0) {
+                return List.of();
+            }
+            double avgLength = Math.max(1.0, (double) totalLength / live);
+            double[] scores = new double[docs.size()];
+            int[] touched = new int[16];
+            int touchedCount = 0;
+
+            for (String term : terms) {
+                Postings p = postings.get(term);
+                if (p == null || p.liveDocs <= 0) {
+                    continue;
+                }
+                double idf = Math.log(1 + (live - p.liveDocs + 0.5) / (p.liveDocs + 0.5));
+
+                for (int i = 0; i < p.size; i++) {
+                    int ord = p.ords[i];
+                    Doc doc = docs.get(ord);
+                    if (doc == null || !filter.accepts(doc)) {
+                        continue;
+                    }
+                    int tf = p.tfs[i];
+                    double norm = tf * (K1 + 1) / (tf + K1 * (1 - B + B * lengths[ord] / avgLength));
+                    if (scores[ord] == 0) {
+                        if (touchedCount == touched.length) {
+                            touched = Arrays.copyOf(touched, touchedCount * 2);
+                        }
+                        touched[touchedCount++] = ord;
+                    }
+                    scores[ord] += idf * norm;
+                }
+            }
+
+            // Min-heap of the best `limit` ordinals
+            PriorityQueue<Integer> best = new PriorityQueue<>(Math.min(limit, touchedCount) + 1,
+                    (a, b) -> Double.compare(scores[a], scores[b]));
+            for (int i = 0; i < touchedCount; i++) {
+                best.add(touched[i]);
+                if (best.size() > limit) {
+                    best.poll();
+                }
+            }
+
+            Hit[] out = new Hit[best.size()];
+            for (int i = out.length - 1; i >= 0; i--) {
+                int ord = best.poll();
+                out[i] = new Hit(docs.get(ord), scores[ord]);
+            }
+            return List.of(out);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // =========================================================
+    // Persistence
+    // =========================================================
+
+    /**
+     * Write the index (compacted) to the stream; the stream is not closed.
+     */
+    void writeTo(DataOutputStream out) throws IOException {
+        lock.writeLock().lock();
+        try {
+            if (removed > 0) {
+                compact();
+            }
+
+            out.writeInt(MAGIC);
+            out.writeInt(FORMAT_VERSION);
+            writeString(out, language);
+            writeInstant(out, maxLastModified);
+
+            out.writeInt(docs.size());
+            for (int ord = 0; ord < docs.size(); ord++) {
+                Doc d = docs.get(ord);
+                writeString(out, d.id());
+                writeString(out, d.status() != null ? d.status().name() : null);
+                writeString(out, d.register());
+                out.writeInt(d.difficulty() != null ? d.difficulty() : Integer.MIN_VALUE);
+                writeInstant(out, d.lastModified());
+                writeString(out, d.sentenceNative());
+                writeString(out, d.sentenceLatin());
+                writeString(out, d.translation());
+                writeString(out, d.explanation());
+                out.writeInt(lengths[ord]);
+            }
+
+            out.writeInt(postings.size());
+            for (Map.Entry<String, Postings> e : postings.entrySet()) {
+                Postings p = e.getValue();
+                writeString(out, e.getKey());
+                out.writeInt(p.size);
+                for (int i = 0; i < p.size; i++) {
+                    out.writeInt(p.ords[i]);
+                    out.writeInt(p.tfs[i]);
+                }
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Read an index written by {@link #writeTo}. Throws IOException when the stream is not
+     * an index file of the current format for the expected language.
+     */
+    static SentenceSearchIndex readFrom(DataInputStream in, String expectedLanguage) throws IOException {
+        if (in.readInt() != MAGIC || in.readInt() != FORMAT_VERSION) {
+            throw new IOException("Not a sentence index file of format " + FORMAT_VERSION);
+        }
+        String language = readString(in);
+        if (!expectedLanguage.equals(language)) {
+            throw new IOException("Index file is for language " + language + ", expected " + expectedLanguage);
+        }
+
+        SentenceSearchIndex index = new SentenceSearchIndex(language);
+        index.maxLastModified = readInstant(in);
+
+        int docCount = in.readInt();
+        index.lengths = new int[Math.max(64, docCount)];
+        for (int ord = 0; ord < docCount; ord++) {
+            String id = readString(in);
+            String status = readString(in);
+            String register = readString(in);
+            int difficulty = in.readInt();
+            Doc d = new Doc(
+                    id,
+                    status != null ? UsageSentenceStatus.valueOf(status) : null,
+                    register,
+                    difficulty != Integer.MIN_VALUE ? difficulty : null,
+                    readInstant(in),
+                    readString(in),
+                    readString(in),
+                    readString(in),
+                    readString(in)
+            );
+            index.docs.add(d);
+            index.ordinalById.put(id, ord);
+            index.lengths[ord] = in.readInt();
+            index.totalLength += index.lengths[ord];
+        }
+        index.live = docCount;
+
+        int termCount = in.readInt();
+        for (int t = 0; t < termCount; t++) {
+            String term = readString(in);
+            int n = in.readInt();
+            Postings p = new Postings(n);
+            for (int i = 0; i < n; i++) {
+                p.add(in.readInt(), in.readInt());
+            }
+            index.postings.put(term, p);
+        }
+        return index;
+    }
+
+    private static void writeString(DataOutputStream out, String s) throws IOException {
+        if (s == null) {
+            out.writeInt(-1);
+            return;
+        }
+        byte[] bytes = s.getBytes(StandardCharsets.UTF_8);
+        out.writeInt(bytes.length);
+        out.write(bytes);
+    }
+
+    private static String readString(DataInputStream in) throws IOException {
+        int n = in.readInt();
+        if (n < 0) {
+            return null;
+        }
+        byte[] bytes = new byte[n];
+        in.readFully(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    private static void writeInstant(DataOutputStream out, Instant instant) throws IOException {
+        out.writeBoolean(instant != null);
+        if (instant != null) {
+            out.writeLong(instant.getEpochSecond());
+            out.writeInt(instant.getNano());
+        }
+    }
+
+    private static Instant readInstant(DataInputStream in) throws IOException {
+        if (!in.readBoolean()) {
+            return null;
+        }
+        return Instant.ofEpochSecond(in.readLong(), in.readInt());
+    }
+
+    // =========================================================
+    // Records
+    // =========================================================
+
+    private static final class Postings {
+
+        int[] ords;
+        int[] tfs;
+        int size;
+        int liveDocs;
+
+        Postings() {
+            this(4);
+        }
+
+        Postings(int capacity) {
+            ords = new int[Math.max(1, capacity)];
+            tfs = new int[ords.length];
+        }
+
+        void add(int ord, int tf) {
+            if (size == ords.length) {
+                ords = Arrays.copyOf(ords, size * 2);
+                tfs = Arrays.copyOf(tfs, size * 2);
+            }
+            ords[size] = ord;
+            tfs[size] = tf;
+            size++;
+            liveDocs++;
+        }
+    }
+
+    public record Doc(
+            String id,
+            UsageSentenceStatus status,
+            String register,
+            Integer difficulty,
+            Instant lastModified,
+            String sentenceNative,
+            String sentenceLatin,
+            String translation,
+            String explanation
+    ) {}
+
+    /**
+     * Optional restrictions; null fields match anything.
+     */
+    public record Filter(
+            UsageSentenceStatus status,
+            String register,
+            Integer minDifficulty,
+            Integer maxDifficulty
+    ) {
+        boolean accepts(Doc d) {
+            if (status != null && status != d.status()) return false;
+            if (register != null && !register.equalsIgnoreCase(d.register())) return false;
+            if (minDifficulty != null && (d.difficulty() == null || d.difficulty() < minDifficulty)) return false;
+            if (maxDifficulty != null && (d.difficulty() == null || d.difficulty() > maxDifficulty)) return false;
+            return true;
+        }
+    }
+
+    public record Hit(Doc doc, double score) {}
+}
@@ -0,0 +1,295 @@
+package com.bhashamitra.platform.services;
+
+import com.bhashamitra.platform.models.Language;
+import com.bhashamitra.platform.models.UsageSentenceStatus;
+import com.bhashamitra.platform.repositories.SentenceSearchJdbcRepository;
+import com.bhashamitra.platform.repositories.SentenceSearchJdbcRepository.Row;
+import com.bhashamitra.platform.repositories.SentenceSearchJdbcRepository.Watermark;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Full-text search over usage sentences, one {@link SentenceSearchIndex} per language.
+ *
+ * An index is loaded from {@code search.sentences.index-dir} when a file exists (otherwise
+ * built from the table) and then kept current by comparing a cheap watermark, row count and
+ * newest last_modified_date, against the table: after every committed
+ * {@link UsageSentenceChangedEvent}, and on reads once {@code search.sentences.refresh-interval}
+ * has passed so writes made by other instances are picked up too. Only rows modified since
+ * the index watermark are re-read; a count that still disagrees triggers a full rebuild.
+ * Indexes are written back to disk after a rebuild and on shutdown.
+ */
+@Service
+public class SentenceSearchService {
+
+    private static final Logger log = LoggerFactory.getLogger(SentenceSearchService.class);
+
+    private static final String FILE_SUFFIX = ".bm25";
+
+    private final SentenceSearchJdbcRepository searchRepository;
+    private final LanguageService languageService;
+    private final Path indexDir;
+    private final long refreshNanos;
+
+    private final Map<String, Slot> slots = new ConcurrentHashMap<>();
+
+    public SentenceSearchService(SentenceSearchJdbcRepository searchRepository,
+                                 LanguageService languageService,
+                                 @Value("${search.sentences.index-dir:${java.io.tmpdir}/bhashamitra-sentence-index}") String indexDir,
+                                 @Value("${search.sentences.refresh-interval:PT1M}") Duration refreshInterval) {
+        this.searchRepository = searchRepository;
+        this.languageService = languageService;
+        this.indexDir = Path.of(indexDir);
+        this.refreshNanos = refreshInterval.toNanos();
+    }
+
+    // =========================================================
+    // Reads
+    // =========================================================
+
+    public List<SentenceSearchIndex.Hit> search(String language, String query, SentenceSearchIndex.Filter filter, int limit) {
+        if (language == null || language.isBlank()) {
+            throw new IllegalArgumentException("language is required");
+        }
+        String lang = language.trim();
+        if (!languageService.isLanguageEnabled(lang)) {
+            throw new IllegalArgumentException("Language is not enabled or not found: " + lang);
+        }
+        if (query == null || query.isBlank()) {
+            throw new IllegalArgumentException("q must be provided");
+        }
+        return slots.computeIfAbsent(lang, Slot::new).index().search(query, filter, limit);
+    }
+
+    /**
+     * Same as {@link #search} restricted to PUBLISHED sentences.
+     */
+    public List<SentenceSearchIndex.Hit> searchPublished(String language, String query, String register,
+                                                         Integer minDifficulty, Integer maxDifficulty, int limit) {
+        SentenceSearchIndex.Filter filter = new SentenceSearchIndex.Filter(
+                UsageSentenceStatus.PUBLISHED, register, minDifficulty, maxDifficulty);
+        return search(language, query, filter, limit);
+    }
+
+    // =========================================================
+    // Lifecycle and change tracking
+    // =========================================================
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void warmUp() {
+        for (Language language : languageService.getEnabledLanguages()) {
+            try {
+                slots.computeIfAbsent(language.getCode(), Slot::new).index();
+            } catch (RuntimeException e) {
+                // Not fatal: the first search for the language will try again
+                log.warn("Could not load sentence index for language={}", language.getCode(), e);
+            }
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onSentenceChanged(UsageSentenceChangedEvent event) {
+        if (event.previousLanguage() != null && !event.previousLanguage().equals(event.language())) {
+            Slot previous = slots.get(event.previousLanguage());
+            if (previous != null) {
+                previous.remove(event.sentenceId());
+            }
+        }
+        Slot slot = slots.get(event.language());
+        if (slot != null) {
+            try {
+                slot.catchUp();
+            } catch (RuntimeException e) {
+                // The next read past the refresh interval catches up instead
+                log.warn("Could not update sentence index for language={}", event.language(), e);
+            }
+        }
+    }
+
+    @PreDestroy
+    public void flush() {
+        slots.values().forEach(Slot::persistIfDirty);
+    }
+
+    // =========================================================
+    // Per-language slot
+    // =========================================================
+
+    private static SentenceSearchIndex.Doc toDoc(Row r) {
+        return new SentenceSearchIndex.Doc(
+                r.id(),
+                r.status() != null ? UsageSentenceStatus.valueOf(r.status()) : null,
+                r.register(),
+                r.difficulty(),
+                r.lastModified(),
+                r.sentenceNative(),
+                r.sentenceLatin(),
+                r.translation(),
+                r.explanation()
+        );
+    }
+
+    private final class Slot {
+
+        private final String language;
+        private final Path file;
+        private final ReentrantLock lock = new ReentrantLock();
+        private volatile SentenceSearchIndex index;
+        private volatile long checkedAt;
+        private volatile boolean dirty;
+
+        Slot(String language) {
+            this.language = language;
+            this.file = indexDir.resolve(language + FILE_SUFFIX);
+        }
+
+        SentenceSearchIndex index() {
+            SentenceSearchIndex current = index;
+            if (current == null) {
+                lock.lock();
+                try {
+                    if (index == null) {
+                        index = loadOrBuild();
+                    }
+                    return index;
+                } finally {
+                    lock.unlock();
+                }
+            }
+
+            // Periodic check: one caller catches up, everyone else keeps searching
+            if (System.nanoTime() - checkedAt >= refreshNanos && lock.tryLock()) {
+                try {
+                    catchUpLocked();
+                } catch (RuntimeException e) {
+                    log.warn("Could not refresh sentence index for language={}", language, e);
+                } finally {
+                    lock.unlock();
+                }
+            }
+            return index;
+        }
+
+        void catchUp() {
+            lock.lock();
+            try {
+                if (index != null) {
+                    catchUpLocked();
+                }
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        void remove(String sentenceId) {
+            SentenceSearchIndex current = index;
+            if (current != null) {
+                current.remove(sentenceId);
+                dirty = true;
+            }
+        }
+
+        private SentenceSearchIndex loadOrBuild() {
+            SentenceSearchIndex loaded = readFile();
+            if (loaded == null) {
+                return rebuildLocked();
+            }
+            index = loaded;
+            catchUpLocked();
+            return index;
+        }
+
+        private SentenceSearchIndex readFile() {
+            if (!Files.isRegularFile(file)) {
+                return null;
+            }
+            long started = System.nanoTime();
+            try (DataInputStream in = new DataInputStream(new BufferedInputStream(Files.newInputStream(file), 1 << 16))) {
+                SentenceSearchIndex loaded = SentenceSearchIndex.readFrom(in, language);
+                log.info("Loaded sentence index language={} sentences={} from {} in {} ms",
+                        language, loaded.size(), file, (System.nanoTime() - started) / 1_000_000);
+                return loaded;
+            } catch (IOException | RuntimeException e) {
+                log.warn("Discarding unreadable sentence index {}: {}", file, e.toString());
+                return null;
+            }
+        }
+
+        private void catchUpLocked() {
+            Watermark db = searchRepository.watermark(language);
+            SentenceSearchIndex current = index;
+            checkedAt = System.nanoTime();
+
+            if (current.size() == db.count() && Objects.equals(current.maxLastModified(), db.maxLastModified())) {
+                return;
+            }
+
+            if (current.maxLastModified() != null) {
+                List<Row> changed = searchRepository.findModifiedSince(language, current.maxLastModified());
+                changed.forEach(r -> current.upsert(toDoc(r)));
+                dirty = true;
+                if (current.size() == db.count()) {
+                    log.debug("Sentence index language={} caught up {} rows", language, changed.size());
+                    return;
+                }
+            }
+
+            // Rows removed or moved elsewhere: the delta cannot tell, rebuild
+            rebuildLocked();
+        }
+
+        private SentenceSearchIndex rebuildLocked() {
+            long started = System.nanoTime();
+            SentenceSearchIndex built = new SentenceSearchIndex(language);
+            searchRepository.forEachSentence(language, r -> built.upsert(toDoc(r)));
+            index = built;
+            checkedAt = System.nanoTime();
+            log.info("Built sentence index language={} sentences={} in {} ms",
+                    language, built.size(), (System.nanoTime() - started) / 1_000_000);
+            dirty = true;
+            persistIfDirty();
+            return built;
+        }
+
+        void persistIfDirty() {
+            SentenceSearchIndex current = index;
+            if (!dirty || current == null) {
+                return;
+            }
+            dirty = false;
+            try {
+                Files.createDirectories(indexDir);
+                Path tmp = indexDir.resolve(language + FILE_SUFFIX + ".tmp");
+                try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(tmp), 1 << 16))) {
+                    current.writeTo(out);
+                }
+                Files.move(tmp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            } catch (IOException e) {
+                dirty = true;
+                // The in-memory index keeps working; the next start rebuilds from the table
+                log.warn("Could not write sentence index {}", file, e);
+            }
+        }
+    }
+}
@@ -1,9 +1,13 @@
 package com.bhashamitra.platform.services;
 
 import com.bhashamitra.platform.models.Lemma;
+import com.bhashamitra.platform.models.LemmaStatus;
 import com.bhashamitra.platform.models.SurfaceForm;
 import com.bhashamitra.platform.repositories.LemmaRepository;
 import com.bhashamitra.platform.repositories.SurfaceFormRepository;
+import com.bhashamitra.platform.text.TextCanonicalizer;
+import io.micrometer.core.annotation.Timed;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -12,6 +16,7 @@ import java.util.List;
 import java.util.Map;
 
 @Service
+@Timed("service.method")
 public class SurfaceFormService {
 
     private static final String ENTITY_TYPE = "SURFACE_FORM";
@@ -20,15 +25,21 @@ public class SurfaceFormService {
     private final LemmaRepository lemmaRepository;
     private final LanguageService languageService;
     private final AuditService auditService;
+    private final LemmaSummaryService lemmaSummaryService;
+    private final ApplicationEventPublisher eventPublisher;
 
     public SurfaceFormService(SurfaceFormRepository surfaceFormRepository,
                               LemmaRepository lemmaRepository,
                               LanguageService languageService,
-                              AuditService auditService) {
+                              AuditService auditService,
+                              LemmaSummaryService lemmaSummaryService,
+                              ApplicationEventPublisher eventPublisher) {
         this.surfaceFormRepository = surfaceFormRepository;
         this.lemmaRepository = lemmaRepository;
         this.languageService = languageService;
         this.auditService = auditService;
+        this.lemmaSummaryService = lemmaSummaryService;
+        this.eventPublisher = eventPublisher;
     }
 
     // =========================================================
@@ -54,8 +65,9 @@ public class SurfaceFormService {
     @Transactional
     public SurfaceForm create(SurfaceFormCreateRequest req, String actor) {
         String lemmaId = requireNonBlank(req.lemmaId(), "lemmaId");
-        String formNative = normalize(req.formNative());
-        if (formNative == null) throw new IllegalArgumentException("formNative must be provided");
+        String formNative = TextCanonicalizer.canonicalText(req.formNative());
+        String formKey = TextCanonicalizer.canonicalKey(formNative);
+        if (formKey == null) throw new IllegalArgumentException("formNative must be provided");
 
         Lemma lemma = lemmaRepository.findById(lemmaId)
                 .orElseThrow(() -> new IllegalArgumentException("Lemma not found: " + lemmaId));
@@ -63,7 +75,7 @@ public class SurfaceFormService {
         // Ensure lemma language is enabled (same spirit as your other services)
         requireEnabledLanguage(lemma.getLanguage());
 
-        if (surfaceFormRepository.existsByLemma_IdAndFormNative(lemmaId, formNative)) {
+        if (surfaceFormRepository.existsByLemma_IdAndFormKey(lemmaId, formKey)) {
             throw new IllegalArgumentException(
                     "SurfaceForm already exists for lemmaId=" + lemmaId + " formNative=" + formNative
             );
@@ -72,7 +84,8 @@ public class SurfaceFormService {
         SurfaceForm sf = new SurfaceForm();
         sf.setLemma(lemma);
         sf.setFormNative(formNative);
-        sf.setFormLatin(normalizeNullable(req.formLatin()));
+        String formLatin = normalizeNullable(req.formLatin());
+        sf.setFormLatin(formLatin != null ? formLatin : languageService.transliterate(lemma.getLanguage(), formNative));
         sf.setFormType(normalizeNullable(req.formType()));
         sf.setNotes(req.notes());
 
@@ -82,6 +95,7 @@ public class SurfaceFormService {
         }
 
         SurfaceForm saved = surfaceFormRepository.save(sf);
+        lemmaSummaryService.add(lemmaId, LemmaSummaryService.Count.SURFACE_FORMS, 1);
 
         Map<String, Object> details = new LinkedHashMap<>();
         details.put("lemmaId", lemmaId);
@@ -97,6 +111,8 @@ public class SurfaceFormService {
                 details
         );
 
+        publishIfPublished(lemma);
+
         return saved;
     }
 
@@ -114,13 +130,14 @@ public class SurfaceFormService {
         String beforeType = existing.getFormType();
         String beforeNotes = existing.getNotes();
 
-        // Optional uniqueness check if native changes
+        // Uniqueness check only if the canonical key changes
         if (req.formNative() != null) {
-            String newNative = normalize(req.formNative());
-            if (newNative == null) throw new IllegalArgumentException("formNative cannot be blank");
+            String newNative = TextCanonicalizer.canonicalText(req.formNative());
+            String newKey = TextCanonicalizer.canonicalKey(newNative);
+            if (newKey == null) throw new IllegalArgumentException("formNative cannot be blank");
 
-            if (!beforeNative.equals(newNative)
-                    && surfaceFormRepository.existsByLemma_IdAndFormNative(lemmaId, newNative)) {
+            if (!newKey.equals(existing.getFormKey())
+                    && surfaceFormRepository.existsByLemma_IdAndFormKey(lemmaId, newKey)) {
                 throw new IllegalArgumentException(
                         "SurfaceForm already exists for lemmaId=" + lemmaId + " formNative=" + newNative
                 );
@@ -128,7 +145,14 @@ public class SurfaceFormService {
             existing.setFormNative(newNative);
         }
 
-        if (req.formLatin() != null) existing.setFormLatin(normalizeNullable(req.formLatin()));
+        if (req.formLatin() != null) {
+            existing.setFormLatin(normalizeNullable(req.formLatin()));
+        } else if (!existing.getFormNative().equals(beforeNative)) {
+            existing.setFormLatin(null);
+        }
+        if (existing.getFormLatin() == null) {
+            existing.setFormLatin(languageService.transliterate(existing.getLemma().getLanguage(), existing.getFormNative()));
+        }
         if (req.formType() != null) existing.setFormType(normalizeNullable(req.formType()));
         if (req.notes() != null) existing.setNotes(req.notes());
 
@@ -164,6 +188,8 @@ public class SurfaceFormService {
                 details
         );
 
+        publishIfPublished(saved.getLemma());
+
         return saved;
     }
 
@@ -174,13 +200,15 @@ public class SurfaceFormService {
     @Transactional
     public void delete(String id, String actor) {
         SurfaceForm existing = getById(id);
+        Lemma lemma = existing.getLemma();
 
         Map<String, Object> details = new LinkedHashMap<>();
-        details.put("lemmaId", existing.getLemma().getId());
+        details.put("lemmaId", lemma.getId());
         details.put("formNative", existing.getFormNative());
         details.put("formType", existing.getFormType());
 
         surfaceFormRepository.delete(existing);
+        lemmaSummaryService.add(lemma.getId(), LemmaSummaryService.Count.SURFACE_FORMS, -1);
 
         auditService.record(
                 ENTITY_TYPE,
@@ -190,6 +218,8 @@ public class SurfaceFormService {
                 null,
                 details
         );
+
+        publishIfPublished(lemma);
     }
 
     // =========================================================
@@ -215,6 +245,12 @@ public class SurfaceFormService {
     // Helpers
     // =========================================================
 
+    private void publishIfPublished(Lemma lemma) {
+        if (lemma.getStatus() == LemmaStatus.PUBLISHED) {
+            eventPublisher.publishEvent(DictionaryChangedEvent.lemma(lemma.getLanguage(), lemma.getId()));
+        }
+    }
+
     private void requireEnabledLanguage(String language) {
         if (language == null || language.isBlank()) {
             throw new IllegalArgumentException("language is required");
@@ -231,12 +267,6 @@ public class SurfaceFormService {
         return v.trim();
     }
 
-    private static String normalize(String s) {
-        if (s == null) return null;
-        String out = s.trim();
-        return out.isEmpty() ? null : out;
-    }
-
     private static String normalizeNullable(String s) {
         if (s == null) return null;
         String out = s.trim();
@@ -0,0 +1,8 @@
+package com.bhashamitra.platform.services;
+
+/**
+ * Published by {@link UsageSentenceService} after a sentence is created, edited or changes
+ * status. previousLanguage is set only when the edit moved the sentence to another language.
+ * Listeners react after the surrounding transaction commits.
+ */
+public record UsageSentenceChangedEvent(String sentenceId, String language, String previousLanguage) {}
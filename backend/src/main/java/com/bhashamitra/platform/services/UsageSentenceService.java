@@ -2,7 +2,11 @@ package com.bhashamitra.platform.services;
 
 import com.bhashamitra.platform.models.UsageSentence;
 import com.bhashamitra.platform.models.UsageSentenceStatus;
+import com.bhashamitra.platform.repositories.SentenceSearchJdbcRepository;
 import com.bhashamitra.platform.repositories.UsageSentenceRepository;
+import com.bhashamitra.platform.repositories.UsageSentenceRepository.UsageSentenceView;
+import io.micrometer.core.annotation.Timed;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -11,6 +15,7 @@ import java.util.List;
 import java.util.Map;
 
 @Service
+@Timed("service.method")
 public class UsageSentenceService {
 
     private static final String ENTITY_TYPE = "USAGE_SENTENCE";
@@ -18,13 +23,22 @@ public class UsageSentenceService {
     private final UsageSentenceRepository usageSentenceRepository;
     private final LanguageService languageService;
     private final AuditService auditService;
+    private final ApplicationEventPublisher eventPublisher;
+    private final SentenceSearchJdbcRepository sentenceSearchRepository;
+    private final LemmaSummaryService lemmaSummaryService;
 
     public UsageSentenceService(UsageSentenceRepository usageSentenceRepository,
                                 LanguageService languageService,
-                                AuditService auditService) {
+                                AuditService auditService,
+                                ApplicationEventPublisher eventPublisher,
+                                SentenceSearchJdbcRepository sentenceSearchRepository,
+                                LemmaSummaryService lemmaSummaryService) {
         this.usageSentenceRepository = usageSentenceRepository;
         this.languageService = languageService;
         this.auditService = auditService;
+        this.eventPublisher = eventPublisher;
+        this.sentenceSearchRepository = sentenceSearchRepository;
+        this.lemmaSummaryService = lemmaSummaryService;
     }
 
     // =========================================================
@@ -65,7 +79,10 @@ public class UsageSentenceService {
         s.setLanguage(language);
 
         s.setSentenceNative(requireNonBlank(req.sentenceNative(), "sentenceNative"));
-        s.setSentenceLatin(normalizeNullable(req.sentenceLatin()));
+        String sentenceLatin = normalizeNullable(req.sentenceLatin());
+        s.setSentenceLatin(sentenceLatin != null
+                ? sentenceLatin
+                : languageService.transliterate(language, s.getSentenceNative()));
         s.setTranslation(normalizeNullable(req.translation()));
 
         s.setRegister(normalizeRegister(req.register()));
@@ -96,6 +113,8 @@ public class UsageSentenceService {
                 details
         );
 
+        eventPublisher.publishEvent(new UsageSentenceChangedEvent(saved.getId(), saved.getLanguage(), null));
+
         return saved;
     }
 
@@ -124,6 +143,12 @@ public class UsageSentenceService {
         }
         if (req.sentenceLatin() != null) {
             existing.setSentenceLatin(normalizeNullable(req.sentenceLatin()));
+        } else if (!newLanguage.equals(beforeLanguage) || !existing.getSentenceNative().equals(beforeSentenceNative)) {
+            // Latin of the previous text (or language) would no longer match
+            existing.setSentenceLatin(null);
+        }
+        if (existing.getSentenceLatin() == null) {
+            existing.setSentenceLatin(languageService.transliterate(newLanguage, existing.getSentenceNative()));
         }
         if (req.translation() != null) {
             existing.setTranslation(normalizeNullable(req.translation()));
@@ -177,6 +202,12 @@ public class UsageSentenceService {
                 details
         );
 
+        eventPublisher.publishEvent(new UsageSentenceChangedEvent(
+                saved.getId(),
+                saved.getLanguage(),
+                beforeLanguage.equals(saved.getLanguage()) ? null : beforeLanguage
+        ));
+
         return saved;
     }
 
@@ -206,6 +237,8 @@ public class UsageSentenceService {
         }
 
         UsageSentence saved = usageSentenceRepository.save(s);
+        // Linked lemmas gain or lose an example when the sentence is (un)published
+        lemmaSummaryService.sentenceStatusChanged(saved.getId(), oldStatus, saved.getStatus());
 
         Map<String, Object> details = new LinkedHashMap<>();
         details.put("from", oldStatus != null ? oldStatus.name() : null);
@@ -220,6 +253,8 @@ public class UsageSentenceService {
                 details
         );
 
+        eventPublisher.publishEvent(new UsageSentenceChangedEvent(saved.getId(), saved.getLanguage(), null));
+
         return saved;
     }
 
@@ -228,22 +263,33 @@ public class UsageSentenceService {
     // =========================================================
 
     @Transactional(readOnly = true)
-    public List<UsageSentence> listPublishedByLanguage(String language) {
+    public List<UsageSentenceView> listPublishedByLanguage(String language) {
         String lang = normalize(language);
         requireEnabledLanguage(lang);
-        return usageSentenceRepository.findByLanguageAndStatusOrderBySentenceNativeAsc(
-                lang,
-                UsageSentenceStatus.PUBLISHED
-        );
+        return usageSentenceRepository.findViewsByLanguageAndStatus(lang, UsageSentenceStatus.PUBLISHED);
     }
 
+    /**
+     * Validator for {@link #listPublishedByLanguage}: the language's row count and newest
+     * lastModifiedDate (one indexed query). Any insert, edit, status change or delete moves
+     * one of the two. No Last-Modified, as a delete does not advance the newest timestamp.
+     */
     @Transactional(readOnly = true)
-    public UsageSentence getPublishedById(String id) {
-        UsageSentence s = getById(id);
-        if (s.getStatus() != UsageSentenceStatus.PUBLISHED) {
-            throw new IllegalArgumentException("Published usage sentence not found: " + id);
-        }
-        return s;
+    public CacheStamp publishedListStamp(String language) {
+        String lang = normalize(language);
+        requireEnabledLanguage(lang);
+        SentenceSearchJdbcRepository.Watermark w = sentenceSearchRepository.watermark(lang);
+        CacheStamp stamp = CacheStamp.builder()
+                .addString(lang)
+                .add(null, w.count(), w.maxLastModified())
+                .build();
+        return new CacheStamp(stamp.hash(), null);
+    }
+
+    @Transactional(readOnly = true)
+    public UsageSentenceView getPublishedById(String id) {
+        return usageSentenceRepository.findViewByIdAndStatus(id, UsageSentenceStatus.PUBLISHED)
+                .orElseThrow(() -> new IllegalArgumentException("Published usage sentence not found: " + id));
     }
 
     // =========================================================
@@ -0,0 +1,132 @@
+package com.bhashamitra.platform.text;
+
+import java.text.Normalizer;
+
+/**
+ * Canonical forms of editor- and learner-entered text.
+ *
+ * {@link #canonicalText} is what we store for display: trimmed and NFC, nothing else changed.
+ * {@link #canonicalKey} is what we compare: two spellings that render the same get the same
+ * key. On top of NFC it
+ * <ul>
+ *     <li>drops invisible format characters (ZWJ, ZWNJ, zero-width space, word joiner, BOM,
+ *     soft hyphen), which only influence conjunct rendering;</li>
+ *     <li>writes every Devanagari nukta letter as base consonant + U+093C. NFC leaves
+ *     क़..य़ (U+0958..U+095F) decomposed but composes ऩ ऱ ऴ, so without this step the same
+ *     letter has two keys depending on how it was typed;</li>
+ *     <li>collapses whitespace runs (including no-break space) to one space and trims;</li>
+ *     <li>lower-cases.</li>
+ * </ul>
+ *
+ * Both run in one pass over a per-thread buffer without regular expressions, skip the
+ * normalizer when the input is already NFC, and return the input string itself when
+ * nothing changes, so the common case allocates nothing.
+ */
+public final class TextCanonicalizer {
+
+    private static final char NUKTA = '\u093c';
+    private static final int MAX_RETAINED_BUFFER = 1024;
+
+    private static final ThreadLocal<StringBuilder> BUFFER = ThreadLocal.withInitial(() -> new StringBuilder(64));
+
+    private TextCanonicalizer() {
+    }
+
+    /**
+     * Trimmed NFC text, or null when null/blank.
+     */
+    public static String canonicalText(String s) {
+        if (s == null) {
+            return null;
+        }
+        String trimmed = s.strip();
+        if (trimmed.isEmpty()) {
+            return null;
+        }
+        return Normalizer.isNormalized(trimmed, Normalizer.Form.NFC)
+                ? trimmed
+                : Normalizer.normalize(trimmed, Normalizer.Form.NFC);
+    }
+
+    /**
+     * Equality key (see class comment), or null when null/blank.
+     */
+    public static String canonicalKey(String s) {
+        if (s == null) {
+            return null;
+        }
+        String nfc = Normalizer.isNormalized(s, Normalizer.Form.NFC) ? s : Normalizer.normalize(s, Normalizer.Form.NFC);
+
+        StringBuilder out = BUFFER.get();
+        out.setLength(0);
+        boolean pendingSpace = false;
+
+        for (int i = 0, n = nfc.length(); i < n; i++) {
+            char c = nfc.charAt(i);
+
+            if (isIgnorable(c)) {
+                continue;
+            }
+            if (Character.isWhitespace(c) || Character.isSpaceChar(c)) {
+                // Emitted lazily so leading and trailing runs disappear
+                pendingSpace = !out.isEmpty();
+                continue;
+            }
+            if (pendingSpace) {
+                out.append(' ');
+                pendingSpace = false;
+            }
+
+            char base = nuktaBase(c);
+            if (base != 0) {
+                out.append(base).append(NUKTA);
+            } else if (c < 0x80) {
+                out.append(c >= 'A' && c <= 'Z' ? (char) (c + ('a' - 'A')) : c);
+            } else if (Character.isHighSurrogate(c) && i + 1 < n && Character.isLowSurrogate(nfc.charAt(i + 1))) {
+                out.appendCodePoint(Character.toLowerCase(Character.toCodePoint(c, nfc.charAt(++i))));
+            } else {
+                out.append(Character.toLowerCase(c));
+            }
+        }
+
+        String key;
+        if (out.isEmpty()) {
+            key = null;
+        } else {
+            key = nfc.contentEquals(out) ? nfc : out.toString();
+        }
+        if (out.capacity() > MAX_RETAINED_BUFFER) {
+            BUFFER.remove();
+        }
+        return key;
+    }
+
+    private static boolean isIgnorable(char c) {
+        return c == '\u200b' // zero-width space
+                || c == '\u200c' // ZWNJ
+                || c == '\u200d' // ZWJ
+                || c == '\u2060' // word joiner
+                || c == '\ufeff' // BOM / zero-width no-break space
+                || c == '\u00ad'; // soft hyphen
+    }
+
+    /**
+     * Base consonant of a precomposed Devanagari nukta letter, or 0.
+     */
+    private static char nuktaBase(char c) {
+        return switch (c) {
+            case '\u0929' -> '\u0928'; // NNNA -> NA
+            case '\u0931' -> '\u0930'; // RRA -> RA
+            case '\u0934' -> '\u0933'; // LLLA -> LLA
+            case '\u0958' -> '\u0915'; // QA -> KA
+            case '\u0959' -> '\u0916'; // KHHA -> KHA
+            case '\u095a' -> '\u0917'; // GHHA -> GA
+            case '\u095b' -> '\u091c'; // ZA -> JA
+            case '\u095c' -> '\u0921'; // DDDHA -> DDA
+            case '\u095d' -> '\u0922'; // RHA -> DDHA
+            case '\u095e' -> '\u092b'; // FA -> PHA
+            case '\u095f' -> '\u092f'; // YYA -> YA
+            default -> 0;
+        };
+    }
+}
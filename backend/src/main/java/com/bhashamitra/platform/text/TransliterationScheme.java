@@ -0,0 +1,47 @@
+package com.bhashamitra.platform.text;
+
+import java.util.Locale;
+
+/**
+ * Romanization schemes understood by {@link Transliterator}, keyed by the value stored in
+ * languages.transliteration_scheme.
+ */
+public enum TransliterationScheme {
+
+    /**
+     * IAST with the ISO 15919 additions for nukta and Dravidian letters (q, z, f, ṉ, ṟ, ḻ).
+     */
+    IAST("IAST"),
+
+    /**
+     * Plain ASCII as learners type it: aa/ee/oo for long vowels, sh, ch/chh, no diacritics,
+     * word-final inherent vowel dropped (घर -> ghar).
+     */
+    LEARNERS_PHONETIC_V1("learners-phonetic-v1");
+
+    private final String code;
+
+    TransliterationScheme(String code) {
+        this.code = code;
+    }
+
+    public String code() {
+        return code;
+    }
+
+    /**
+     * Scheme for a stored code (case-insensitive), or null when blank or unknown.
+     */
+    public static TransliterationScheme fromCode(String code) {
+        if (code == null || code.isBlank()) {
+            return null;
+        }
+        String c = code.trim().toLowerCase(Locale.ROOT);
+        for (TransliterationScheme s : values()) {
+            if (s.code.toLowerCase(Locale.ROOT).equals(c)) {
+                return s;
+            }
+        }
+        return null;
+    }
+}
@@ -0,0 +1,556 @@
+package com.bhashamitra.platform.text;
+
+import java.text.Normalizer;
+
+/**
+ * Table-driven native script -> Latin transliteration, plus the fuzzy Latin search key
+ * that lets learners find a word whichever way they romanize it.
+ *
+ * The tables are indexed by the offset of a code point inside its 128-character Unicode
+ * block. The Indic blocks from Devanagari (U+0900) to Malayalam (U+0D7F) share the
+ * ISCII-derived layout, so one table covers Marathi, Hindi, Gujarati, Tamil and the rest;
+ * letters a script does not have simply never occur. Text outside those blocks is copied
+ * through unchanged.
+ *
+ * {@link #appendLatin} writes into a caller-supplied buffer and allocates nothing of its
+ * own; {@link #latinKey} reuses per-thread buffers and allocates only the result.
+ */
+public final class Transliterator {
+
+    /**
+     * Longest key we return; matches the latin_key columns.
+     */
+    public static final int MAX_KEY_LENGTH = 300;
+
+    private static final int BLOCK_START = 0x0900;
+    private static final int BLOCK_END = 0x0d80;
+    private static final int MAX_RETAINED_BUFFER = 1024;
+
+    private static final byte NONE = 0;
+    private static final byte CONSONANT = 1;
+    private static final byte VOWEL = 2;
+    private static final byte VOWEL_SIGN = 3;
+    private static final byte VIRAMA = 4;
+    private static final byte NUKTA = 5;
+    private static final byte MODIFIER = 6;
+    private static final byte SYMBOL = 7;
+    private static final byte SKIP = 8;
+
+    private static final byte[] KIND = new byte[128];
+    private static final String[] IAST_TEXT = new String[128];
+    private static final String[] LEARNERS_TEXT = new String[128];
+    private static final byte[] NUKTA_FORM = new byte[128];
+
+    // Malayalam chillu letters U+0D7A..U+0D7F: a consonant with no inherent vowel
+    private static final String[] CHILLU_IAST = {"\u1e47", "n", "r", "l", "\u1e37", "k"};
+    private static final String[] CHILLU_LEARNERS = {"n", "n", "r", "l", "l", "k"};
+
+    // ASCII base letter of precomposed Latin letters in U+00C0..U+024F and U+1E00..U+1EFF, or 0
+    private static final char[] LATIN_EXT_BASE = latinBaseTable(0x00c0, 0x0250);
+    private static final char[] LATIN_ADDITIONAL_BASE = latinBaseTable(0x1e00, 0x1f00);
+
+    static {
+        modifier(0x00, "m\u0310", "n");
+        modifier(0x01, "m\u0310", "n");
+        modifier(0x02, "\u1e43", "n");
+        modifier(0x03, "\u1e25", "h");
+
+        vowel(0x04, "a", "a");
+        vowel(0x05, "a", "a");
+        vowel(0x06, "\u0101", "aa");
+        vowel(0x07, "i", "i");
+        vowel(0x08, "\u012b", "ee");
+        vowel(0x09, "u", "u");
+        vowel(0x0a, "\u016b", "oo");
+        vowel(0x0b, "\u1e5b", "ri");
+        vowel(0x0c, "\u1e37", "lri");
+        vowel(0x0d, "\u00ea", "e");
+        vowel(0x0e, "e", "e");
+        vowel(0x0f, "e", "e");
+        vowel(0x10, "ai", "ai");
+        vowel(0x11, "\u00f4", "o");
+        vowel(0x12, "o", "o");
+        vowel(0x13, "o", "o");
+        vowel(0x14, "au", "au");
+        vowel(0x60, "\u1e5d", "ree");
+        vowel(0x61, "\u1e39", "lree");
+
+        consonant(0x15, "k", "k");
+        consonant(0x16, "kh", "kh");
+        consonant(0x17, "g", "g");
+        consonant(0x18, "gh", "gh");
+        consonant(0x19, "\u1e45", "n");
+        consonant(0x1a, "c", "ch");
+        consonant(0x1b, "ch", "chh");
+        consonant(0x1c, "j", "j");
+        consonant(0x1d, "jh", "jh");
+        consonant(0x1e, "\u00f1", "n");
+        consonant(0x1f, "\u1e6d", "t");
+        consonant(0x20, "\u1e6dh", "th");
+        consonant(0x21, "\u1e0d", "d");
+        consonant(0x22, "\u1e0dh", "dh");
+        consonant(0x23, "\u1e47", "n");
+        consonant(0x24, "t", "t");
+        consonant(0x25, "th", "th");
+        consonant(0x26, "d", "d");
+        consonant(0x27, "dh", "dh");
+        consonant(0x28, "n", "n");
+        consonant(0x29, "\u1e49", "n");
+        consonant(0x2a, "p", "p");
+        consonant(0x2b, "ph", "ph");
+        consonant(0x2c, "b", "b");
+        consonant(0x2d, "bh", "bh");
+        consonant(0x2e, "m", "m");
+        consonant(0x2f, "y", "y");
+        consonant(0x30, "r", "r");
+        consonant(0x31, "\u1e5f", "r");
+        consonant(0x32, "l", "l");
+        consonant(0x33, "\u1e37", "l");
+        consonant(0x34, "\u1e3b", "zh");
+        consonant(0x35, "v", "v");
+        consonant(0x36, "\u015b", "sh");
+        consonant(0x37, "\u1e63", "sh");
+        consonant(0x38, "s", "s");
+        consonant(0x39, "h", "h");
+
+        // Precomposed nukta letters (Devanagari U+0958..U+095F, Bengali/Gurmukhi equivalents)
+        consonant(0x58, "q", "q");
+        consonant(0x59, "\u1e35h", "kh");
+        consonant(0x5a, "\u0121", "gh");
+        consonant(0x5b, "z", "z");
+        consonant(0x5c, "\u1e5b", "r");
+        consonant(0x5d, "\u1e5bh", "rh");
+        consonant(0x5e, "f", "f");
+        consonant(0x5f, "\u1e8f", "y");
+
+        // Base consonant + U+093C spells the same letters
+        nuktaForm(0x15, 0x58);
+        nuktaForm(0x16, 0x59);
+        nuktaForm(0x17, 0x5a);
+        nuktaForm(0x1c, 0x5b);
+        nuktaForm(0x21, 0x5c);
+        nuktaForm(0x22, 0x5d);
+        nuktaForm(0x2b, 0x5e);
+        nuktaForm(0x2f, 0x5f);
+        nuktaForm(0x28, 0x29);
+        nuktaForm(0x30, 0x31);
+        nuktaForm(0x33, 0x34);
+
+        vowelSign(0x3e, "\u0101", "aa");
+        vowelSign(0x3f, "i", "i");
+        vowelSign(0x40, "\u012b", "ee");
+        vowelSign(0x41, "u", "u");
+        vowelSign(0x42, "\u016b", "oo");
+        vowelSign(0x43, "\u1e5b", "ri");
+        vowelSign(0x44, "\u1e5d", "ree");
+        vowelSign(0x45, "\u00ea", "e");
+        vowelSign(0x46, "e", "e");
+        vowelSign(0x47, "e", "e");
+        vowelSign(0x48, "ai", "ai");
+        vowelSign(0x49, "\u00f4", "o");
+        vowelSign(0x4a, "o", "o");
+        vowelSign(0x4b, "o", "o");
+        vowelSign(0x4c, "au", "au");
+        vowelSign(0x62, "\u1e37", "lri");
+        vowelSign(0x63, "\u1e39", "lree");
+
+        KIND[0x3c] = NUKTA;
+        KIND[0x4d] = VIRAMA;
+
+        symbol(0x3d, "'", "'");
+        symbol(0x50, "o\u1e43", "om");
+        symbol(0x64, ".", ".");
+        symbol(0x65, ".", ".");
+        for (int d = 0; d < 10; d++) {
+            String digit = String.valueOf((char) ('0' + d));
+            symbol(0x66 + d, digit, digit);
+        }
+
+        // Marks that vary between blocks (accents, length marks, tippi/addak) carry no sound
+        // we romanize; dropping them keeps the word together
+        for (int off : new int[]{0x3a, 0x3b, 0x4e, 0x4f, 0x51, 0x52, 0x53, 0x54, 0x55, 0x56, 0x57, 0x70, 0x71}) {
+            KIND[off] = SKIP;
+        }
+    }
+
+    private static final Transliterator IAST = new Transliterator(IAST_TEXT, CHILLU_IAST, false);
+    private static final Transliterator LEARNERS = new Transliterator(LEARNERS_TEXT, CHILLU_LEARNERS, true);
+
+    private static final ThreadLocal<StringBuilder> ROMAN_BUFFER = ThreadLocal.withInitial(() -> new StringBuilder(64));
+    private static final ThreadLocal<StringBuilder> KEY_BUFFER = ThreadLocal.withInitial(() -> new StringBuilder(64));
+
+    private final String[] text;
+    private final String[] chillu;
+    private final boolean dropFinalSchwa;
+
+    private Transliterator(String[] text, String[] chillu, boolean dropFinalSchwa) {
+        this.text = text;
+        this.chillu = chillu;
+        this.dropFinalSchwa = dropFinalSchwa;
+    }
+
+    public static Transliterator of(TransliterationScheme scheme) {
+        return switch (scheme) {
+            case IAST -> IAST;
+            case LEARNERS_PHONETIC_V1 -> LEARNERS;
+        };
+    }
+
+    /**
+     * Latin spelling of the text, or null when null/blank.
+     */
+    public String toLatin(CharSequence nativeText) {
+        if (nativeText == null) {
+            return null;
+        }
+        StringBuilder out = ROMAN_BUFFER.get();
+        out.setLength(0);
+        appendLatin(nativeText, 0, nativeText.length(), out);
+        String latin = out.toString().strip();
+        release(ROMAN_BUFFER, out);
+        return latin.isEmpty() ? null : latin;
+    }
+
+    /**
+     * Appends the Latin spelling of the text to out and returns out.
+     */
+    public StringBuilder appendLatin(CharSequence nativeText, StringBuilder out) {
+        return appendLatin(nativeText, 0, nativeText.length(), out);
+    }
+
+    private StringBuilder appendLatin(CharSequence s, int from, int to, StringBuilder out) {
+        boolean pending = false;   // last consonant still owes its inherent vowel
+        boolean joined = false;    // a virama was just seen
+        boolean cluster = false;   // the pending consonant ends a conjunct
+        int vowels = 0;            // vowels written in the current word
+        int consonantAt = -1;
+        int consonantOffset = 0;
+
+        for (int i = from; i < to; i++) {
+            char c = s.charAt(i);
+            byte kind = kindOf(c);
+            int off = c & 0x7f;
+
+            switch (kind) {
+                case CONSONANT -> {
+                    if (pending) {
+                        out.append('a');
+                        vowels++;
+                    }
+                    cluster = joined;
+                    joined = false;
+                    consonantAt = out.length();
+                    consonantOffset = off;
+                    out.append(text[off]);
+                    pending = true;
+                }
+                case NUKTA -> {
+                    if (pending && NUKTA_FORM[consonantOffset] != 0) {
+                        consonantOffset = NUKTA_FORM[consonantOffset];
+                        out.setLength(consonantAt);
+                        out.append(text[consonantOffset]);
+                    }
+                }
+                case VOWEL_SIGN -> {
+                    out.append(text[off]);
+                    vowels++;
+                    pending = false;
+                    joined = false;
+                }
+                case VIRAMA -> {
+                    pending = false;
+                    joined = true;
+                }
+                case VOWEL -> {
+                    if (pending) {
+                        out.append('a');
+                        vowels++;
+                    }
+                    out.append(text[off]);
+                    vowels++;
+                    pending = false;
+                    joined = false;
+                }
+                case MODIFIER -> {
+                    if (pending) {
+                        out.append('a');
+                        vowels++;
+                        pending = false;
+                    }
+                    out.append(text[off]);
+                    joined = false;
+                }
+                case SKIP -> {
+                }
+                default -> {
+                    if (c >= 0x0d7a && c <= 0x0d7f) {
+                        // Malayalam chillu: vowel-less consonant inside the word
+                        if (pending) {
+                            out.append('a');
+                            vowels++;
+                        }
+                        out.append(chillu[c - 0x0d7a]);
+                        pending = false;
+                        joined = false;
+                        continue;
+                    }
+                    if (c == '\u200c' || c == '\u200d') {
+                        continue;
+                    }
+                    // Anything else ends the word
+                    if (pending) {
+                        finishWord(out, vowels, cluster);
+                        pending = false;
+                    }
+                    joined = false;
+                    vowels = 0;
+                    if (kind == SYMBOL) {
+                        out.append(text[off]);
+                    } else {
+                        out.append(c);
+                    }
+                }
+            }
+        }
+        if (pending) {
+            finishWord(out, vowels, cluster);
+        }
+        return out;
+    }
+
+    /**
+     * Inherent vowel of a word-final consonant. Learner spelling drops it unless the word
+     * has no other vowel (न -> na) or ends in a conjunct (सत्य -> satya).
+     */
+    private void finishWord(StringBuilder out, int vowels, boolean cluster) {
+        if (!dropFinalSchwa || vowels == 0 || cluster) {
+            out.append('a');
+        }
+    }
+
+    // =========================================================
+    // Search key
+    // =========================================================
+
+    /**
+     * Fuzzy search key of native or Latin text (or a mix), or null when it has no letters.
+     *
+     * Native text is romanized first, then both sides are folded the way learner spellings
+     * drift: diacritics dropped and lower-cased, aspiration "h" after a consonant dropped
+     * (kh/k, sh/s, chh/ch/c), ee -> i and oo -> u, doubled letters collapsed (aa, tt),
+     * w -> v, z -> j, q -> k, f -> p, and a word-final "a" after a consonant dropped. Words
+     * are joined by single spaces; everything that is not a letter or digit separates words.
+     * So पाणी, pāṇī, paani and pani share a key, as do घर, ghar and ghara.
+     */
+    public static String latinKey(CharSequence s) {
+        if (s == null) {
+            return null;
+        }
+        StringBuilder letters = ROMAN_BUFFER.get();
+        letters.setLength(0);
+        lowerAsciiLetters(s, letters);
+
+        StringBuilder out = KEY_BUFFER.get();
+        out.setLength(0);
+        fold(letters, out);
+        if (out.length() > MAX_KEY_LENGTH) {
+            out.setLength(MAX_KEY_LENGTH);
+        }
+        int end = out.length();
+        while (end > 0 && out.charAt(end - 1) == ' ') {
+            end--;
+        }
+        String key = end == 0 ? null : out.substring(0, end);
+
+        release(ROMAN_BUFFER, letters);
+        release(KEY_BUFFER, out);
+        return key;
+    }
+
+    /**
+     * Stage 1: romanize native runs, strip Latin diacritics, lower-case, and turn every
+     * other character into a space.
+     */
+    private static void lowerAsciiLetters(CharSequence s, StringBuilder out) {
+        for (int i = 0, n = s.length(); i < n; i++) {
+            char c = s.charAt(i);
+
+            if (c >= BLOCK_START && c < BLOCK_END) {
+                int end = i + 1;
+                while (end < n && isNativeRun(s.charAt(end))) {
+                    end++;
+                }
+                int start = out.length();
+                LEARNERS.appendLatin(s, i, end, out);
+                // Danda, avagraha and friends come out as punctuation
+                for (int j = start; j < out.length(); j++) {
+                    if (!isAsciiLetterOrDigit(out.charAt(j))) {
+                        out.setCharAt(j, ' ');
+                    }
+                }
+                i = end - 1;
+                continue;
+            }
+
+            if (c < 0x80) {
+                if (c >= 'A' && c <= 'Z') {
+                    out.append((char) (c + ('a' - 'A')));
+                } else {
+                    out.append(isAsciiLetterOrDigit(c) ? c : ' ');
+                }
+                continue;
+            }
+
+            switch (c) {
+                // Learners write anusvara as n and vocalic r as ri
+                case '\u1e43', '\u1e41' -> out.append('n');
+                case '\u1e5b', '\u1e5d', '\u1e5a', '\u1e5c' -> out.append("ri");
+                default -> {
+                    if (c >= '\u0300' && c <= '\u036f') {
+                        continue; // combining mark, e.g. the candrabindu in m̐
+                    }
+                    char base = latinBase(c);
+                    if (base != 0) {
+                        out.append(base);
+                    } else if (Character.isLetterOrDigit(c)) {
+                        out.append(Character.toLowerCase(c));
+                    } else {
+                        out.append(' ');
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * Stage 2: phonetic folding over lower-case ASCII words separated by spaces.
+     */
+    private static void fold(CharSequence s, StringBuilder out) {
+        int wordStart = out.length();
+        for (int i = 0, n = s.length(); i < n; i++) {
+            char c = s.charAt(i);
+
+            if (c == ' ') {
+                if (out.length() > wordStart) {
+                    endWord(out, wordStart);
+                    out.append(' ');
+                    wordStart = out.length();
+                }
+                continue;
+            }
+
+            char next = i + 1 < n ? s.charAt(i + 1) : 0;
+            if (c == 'e' && next == 'e') {
+                c = 'i';
+                i++;
+            } else if (c == 'o' && next == 'o') {
+                c = 'u';
+                i++;
+            }
+            c = switch (c) {
+                case 'w' -> 'v';
+                case 'z' -> 'j';
+                case 'q' -> 'k';
+                case 'f' -> 'p';
+                default -> c;
+            };
+
+            char prev = out.length() > wordStart ? out.charAt(out.length() - 1) : 0;
+            if (c == 'h' && isConsonant(prev)) {
+                continue;
+            }
+            if (c == prev) {
+                continue;
+            }
+            out.append(c);
+        }
+        if (out.length() > wordStart) {
+            endWord(out, wordStart);
+        }
+    }
+
+    private static void endWord(StringBuilder out, int wordStart) {
+        int len = out.length() - wordStart;
+        if (len > 2 && out.charAt(out.length() - 1) == 'a' && isConsonant(out.charAt(out.length() - 2))) {
+            out.setLength(out.length() - 1);
+        }
+    }
+
+    // =========================================================
+    // Helpers
+    // =========================================================
+
+    private static byte kindOf(char c) {
+        return c >= BLOCK_START && c < BLOCK_END ? KIND[c & 0x7f] : NONE;
+    }
+
+    private static boolean isNativeRun(char c) {
+        return (c >= BLOCK_START && c < BLOCK_END) || c == '\u200c' || c == '\u200d';
+    }
+
+    private static boolean isAsciiLetterOrDigit(char c) {
+        return (c >= 'a' && c <= 'z') || (c >= '0' && c <= '9');
+    }
+
+    private static boolean isConsonant(char c) {
+        return c >= 'a' && c <= 'z' && c != 'a' && c != 'e' && c != 'i' && c != 'o' && c != 'u';
+    }
+
+    private static char latinBase(char c) {
+        if (c >= 0x00c0 && c < 0x0250) {
+            return LATIN_EXT_BASE[c - 0x00c0];
+        }
+        if (c >= 0x1e00 && c < 0x1f00) {
+            return LATIN_ADDITIONAL_BASE[c - 0x1e00];
+        }
+        return 0;
+    }
+
+    private static char[] latinBaseTable(int from, int to) {
+        char[] table = new char[to - from];
+        for (int c = from; c < to; c++) {
+            String d = Normalizer.normalize(String.valueOf((char) c), Normalizer.Form.NFD);
+            char first = Character.toLowerCase(d.charAt(0));
+            if (first >= 'a' && first <= 'z') {
+                table[c - from] = first;
+            }
+        }
+        return table;
+    }
+
+    private static void release(ThreadLocal<StringBuilder> holder, StringBuilder buffer) {
+        if (buffer.capacity() > MAX_RETAINED_BUFFER) {
+            holder.remove();
+        }
+    }
+
+    private static void consonant(int off, String iast, String learners) {
+        define(off, CONSONANT, iast, learners);
+    }
+
+    private static void vowel(int off, String iast, String learners) {
+        define(off, VOWEL, iast, learners);
+    }
+
+    private static void vowelSign(int off, String iast, String learners) {
+        define(off, VOWEL_SIGN, iast, learners);
+    }
+
+    private static void modifier(int off, String iast, String learners) {
+        define(off, MODIFIER, iast, learners);
+    }
+
+    private static void symbol(int off, String iast, String learners) {
+        define(off, SYMBOL, iast, learners);
+    }
+
+    private static void define(int off, byte kind, String iast, String learners) {
+        KIND[off] = kind;
+        IAST_TEXT[off] = iast;
+        LEARNERS_TEXT[off] = learners;
+    }
+
+    private static void nuktaForm(int base, int form) {
+        NUKTA_FORM[base] = (byte) form;
+    }
+}
@@ -0,0 +1,232 @@
+package com.bhashamitra.platform.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.jdbc.datasource.ConnectionProxy;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.SQLTransientConnectionException;
+import java.sql.Statement;
+import java.time.Duration;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("ReadWriteDataSource Tests")
+class ReadWriteDataSourceTest {
+
+    private static final String LEMMA = "com.bhashamitra.platform.models.Lemma";
+
+    @Mock
+    private HikariDataSource writer;
+
+    @Mock
+    private HikariDataSource reader1;
+
+    @Mock
+    private HikariDataSource reader2;
+
+    @Mock
+    private Connection writerConnection;
+
+    @Mock
+    private Connection reader1Connection;
+
+    @Mock
+    private Connection reader2Connection;
+
+    @BeforeEach
+    void setUp() throws SQLException {
+        lenient().when(writer.getConnection()).thenReturn(writerConnection);
+        lenient().when(reader1.getConnection()).thenReturn(reader1Connection);
+        lenient().when(reader2.getConnection()).thenReturn(reader2Connection);
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    @DisplayName("getConnection - Read-only work should go round-robin over the readers, the rest to the writer")
+    void getConnection_ShouldSplitReadsFromWrites() throws SQLException {
+        // Given
+        ReadWriteDataSource dataSource = dataSource(null);
+
+        // When / Then
+        assertSame(reader1Connection, readOnly(dataSource));
+        assertSame(reader2Connection, readOnly(dataSource));
+        assertSame(reader1Connection, readOnly(dataSource));
+        assertSame(writerConnection, readWrite(dataSource));
+    }
+
+    @Test
+    @DisplayName("getConnection - Rebuilds inside onWriter should read from the writer")
+    void getConnection_OnWriterShouldUseWriter() throws SQLException {
+        // Given
+        ReadWriteDataSource dataSource = dataSource(null);
+
+        // When
+        Connection pinned = ReadRouting.onWriter(() -> readOnlyUnchecked(dataSource));
+
+        // Then
+        assertSame(writerConnection, pinned);
+        assertSame(reader1Connection, readOnly(dataSource));
+    }
+
+    @Test
+    @DisplayName("getConnection - An entity change should only move the transaction reloading it to the writer")
+    void getConnection_EntityChangeShouldPinOnlyItsReload() throws SQLException {
+        // Given
+        ReadWriteDataSource dataSource = dataSource(null);
+        ReadRouting.dataChanged(LEMMA, "lemma-1");
+
+        // When
+        Connection unrelated = readOnly(dataSource);
+        TransactionSynchronizationManager.initSynchronization();
+        if (ReadRouting.changedRecently(LEMMA, "lemma-1")) {
+            ReadRouting.reloadOnWriter();
+        }
+        Connection reload = readOnly(dataSource);
+        complete();
+        Connection after = readOnly(dataSource);
+
+        // Then
+        assertSame(reader1Connection, unrelated);
+        assertSame(writerConnection, reload);
+        assertSame(reader2Connection, after);
+        assertFalse(ReadRouting.changedRecently(LEMMA, "lemma-2"));
+    }
+
+    @Test
+    @DisplayName("getConnection - A transaction already on a reader should stay there and say so")
+    void getConnection_ReloadAfterReaderTakenShouldStayOnReader() throws SQLException {
+        // Given
+        ReadWriteDataSource dataSource = dataSource(null);
+        TransactionSynchronizationManager.initSynchronization();
+        assertSame(reader1Connection, readOnly(dataSource));
+
+        // When
+        ReadRouting.reloadOnWriter();
+
+        // Then
+        assertTrue(ReadRouting.onReader());
+        assertFalse(ReadRouting.isWriterPinned());
+        complete();
+        assertFalse(ReadRouting.onReader());
+    }
+
+    @Test
+    @DisplayName("getConnection - After the whole cache was dropped every read should use the writer for the window")
+    void getConnection_EverythingChangedShouldUseWriter() throws SQLException {
+        // Given
+        ReadWriteDataSource dataSource = dataSource(null);
+
+        // When
+        ReadRouting.dataChanged();
+
+        // Then
+        assertSame(writerConnection, readOnly(dataSource));
+        assertTrue(ReadRouting.changedRecently(LEMMA, "any"));
+        verifyNoInteractions(reader1, reader2);
+    }
+
+    @Test
+    @DisplayName("getConnection - A reader refusing connections should be skipped for the cooldown")
+    void getConnection_DownReaderShouldBeSkipped() throws SQLException {
+        // Given
+        when(reader1.getConnection()).thenThrow(new SQLTransientConnectionException("refused"));
+        ReadWriteDataSource dataSource = dataSource(null);
+
+        // When
+        Connection first = readOnly(dataSource);
+        Connection second = readOnly(dataSource);
+        Connection third = readOnly(dataSource);
+
+        // Then
+        assertSame(reader2Connection, first);
+        assertSame(reader2Connection, second);
+        assertSame(reader2Connection, third);
+        verify(reader1, times(1)).getConnection();
+    }
+
+    @Test
+    @DisplayName("getConnection - A reader behind by more than max-lag should be skipped")
+    void getConnection_LaggingReaderShouldBeSkipped() throws SQLException {
+        // Given
+        lagging(reader1Connection, 5_000);
+        lagging(reader2Connection, 5_000);
+        ReadWriteDataSource dataSource = dataSource("SELECT lag");
+
+        // When
+        Connection con = readOnly(dataSource);
+
+        // Then
+        assertSame(writerConnection, con);
+        verify(reader1Connection).close();
+        verify(reader2Connection).close();
+    }
+
+    private ReadWriteDataSource dataSource(String lagQuery) {
+        return new ReadWriteDataSource(writer, List.of(reader1, reader2), new ReadWriteDataSource.Settings(
+                Duration.ofSeconds(5),
+                Duration.ofMinutes(1),
+                Duration.ofMinutes(1),
+                lagQuery,
+                Duration.ofSeconds(1),
+                Duration.ofMinutes(1)
+        ));
+    }
+
+    private static void lagging(Connection con, long lagMillis) throws SQLException {
+        Statement st = mock(Statement.class);
+        ResultSet rs = mock(ResultSet.class);
+        when(con.createStatement()).thenReturn(st);
+        when(st.executeQuery("SELECT lag")).thenReturn(rs);
+        when(rs.next()).thenReturn(true);
+        when(rs.getLong(1)).thenReturn(lagMillis);
+    }
+
+    /**
+     * The physical connection behind a read-only connection, fetched as the first
+     * statement would.
+     */
+    private static Connection readOnly(ReadWriteDataSource dataSource) throws SQLException {
+        Connection con = dataSource.getConnection();
+        con.setReadOnly(true);
+        return ((ConnectionProxy) con).getTargetConnection();
+    }
+
+    private static Connection readOnlyUnchecked(ReadWriteDataSource dataSource) {
+        try {
+            return readOnly(dataSource);
+        } catch (SQLException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static Connection readWrite(ReadWriteDataSource dataSource) throws SQLException {
+        return ((ConnectionProxy) dataSource.getConnection()).getTargetConnection();
+    }
+
+    private static void complete() {
+        for (TransactionSynchronization s : TransactionSynchronizationManager.getSynchronizations()) {
+            s.afterCompletion(TransactionSynchronization.STATUS_COMMITTED);
+        }
+        TransactionSynchronizationManager.clearSynchronization();
+    }
+}
@@ -0,0 +1,46 @@
+package com.bhashamitra.platform.config;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("StaticBundle Tests")
+class StaticBundleTest {
+
+    @Test
+    @DisplayName("qValue - q=0 should refuse a coding even though its name appears in the header")
+    void qValue_ZeroShouldRefuseCoding() {
+        // Given
+        String header = "br;q=0, gzip;q=0.0, identity";
+
+        // Then
+        assertEquals(0, StaticBundle.qValue(header, "br"));
+        assertEquals(0, StaticBundle.qValue(header, "gzip"));
+    }
+
+    @Test
+    @DisplayName("qValue - Should match whole tokens, not substrings")
+    void qValue_ShouldMatchWholeTokens() {
+        // Given: neither header names br or gzip as a coding of its own
+        String header = "brotli-ish, x-gzipped";
+
+        // Then
+        assertEquals(0, StaticBundle.qValue(header, "br"));
+        assertEquals(0, StaticBundle.qValue(header, "gzip"));
+        assertEquals(1, StaticBundle.qValue("deflate, x-gzip", "gzip"));
+    }
+
+    @Test
+    @DisplayName("qValue - Should read weights and fall back to the wildcard for unlisted codings")
+    void qValue_ShouldReadWeightsAndWildcard() {
+        // Given
+        String header = "gzip ; Q=0.8, *;q=0.5, br;q=0";
+
+        // Then
+        assertEquals(0.8, StaticBundle.qValue(header, "gzip"));
+        assertEquals(0, StaticBundle.qValue(header, "br"));
+        assertEquals(0.5, StaticBundle.qValue(header, "zstd"));
+        assertEquals(0, StaticBundle.qValue("gzip;q=high", "gzip"));
+    }
+}
@@ -2,23 +2,39 @@ package com.bhashamitra.platform.controllers;
 
 import com.bhashamitra.platform.controllers.dto.LanguageDto;
 import com.bhashamitra.platform.models.Language;
+import com.bhashamitra.platform.services.LanguageExportService;
 import com.bhashamitra.platform.services.LanguageService;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
-import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.context.request.ServletWebRequest;
+import org.springframework.web.context.request.async.AsyncWebRequest;
+import org.springframework.web.context.request.async.WebAsyncUtils;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 import org.springframework.web.server.ResponseStatusException;
 
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
+import java.util.zip.GZIPInputStream;
 
 import static org.junit.jupiter.api.Assertions.*;
-import static org.mockito.Mockito.when;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
 import static org.springframework.http.HttpStatus.NOT_FOUND;
 
 @ExtendWith(MockitoExtension.class)
@@ -28,7 +44,9 @@ class PublicLanguageControllerTest {
     @Mock
     private LanguageService languageService;
 
-    @InjectMocks
+    @Mock
+    private LanguageExportService languageExportService;
+
     private PublicLanguageController publicLanguageController;
 
     private Language marathiLanguage;
@@ -38,6 +56,8 @@ class PublicLanguageControllerTest {
 
     @BeforeEach
     void setUp() {
+        publicLanguageController = new PublicLanguageController(languageService, languageExportService, Duration.ofMinutes(30));
+
         marathiLanguage = createLanguage("mr", "Marathi", "Devanagari", "learners-phonetic-v1", true);
         hindiLanguage = createLanguage("hi", "Hindi", "Devanagari", "IAST", true);
         gujaratiLanguage = createLanguage("gu", "Gujarati", "Gujarati", null, true);
@@ -52,7 +72,7 @@ class PublicLanguageControllerTest {
         when(languageService.getEnabledLanguages()).thenReturn(enabledLanguages);
 
         // When
-        List<LanguageDto> result = publicLanguageController.getEnabledLanguages();
+        List<LanguageDto> result = publicLanguageController.getEnabledLanguages(request());
 
         // Then
         assertNotNull(result);
@@ -90,7 +110,7 @@ class PublicLanguageControllerTest {
         when(languageService.getEnabledLanguages()).thenReturn(Collections.emptyList());
 
         // When
-        List<LanguageDto> result = publicLanguageController.getEnabledLanguages();
+        List<LanguageDto> result = publicLanguageController.getEnabledLanguages(request());
 
         // Then
         assertNotNull(result);
@@ -104,7 +124,7 @@ class PublicLanguageControllerTest {
         when(languageService.getEnabledByCode("mr")).thenReturn(marathiLanguage);
 
         // When
-        ResponseEntity<LanguageDto> response = publicLanguageController.getEnabledByCode("mr");
+        ResponseEntity<LanguageDto> response = publicLanguageController.getEnabledByCode("mr", request());
 
         // Then
         assertNotNull(response);
@@ -126,7 +146,7 @@ class PublicLanguageControllerTest {
         when(languageService.getEnabledByCode("gu")).thenReturn(gujaratiLanguage);
 
         // When
-        ResponseEntity<LanguageDto> response = publicLanguageController.getEnabledByCode("gu");
+        ResponseEntity<LanguageDto> response = publicLanguageController.getEnabledByCode("gu", request());
 
         // Then
         assertNotNull(response);
@@ -151,7 +171,7 @@ class PublicLanguageControllerTest {
         // When & Then
         ResponseStatusException exception = assertThrows(
                 ResponseStatusException.class,
-                () -> publicLanguageController.getEnabledByCode("ta")
+                () -> publicLanguageController.getEnabledByCode("ta", request())
         );
         
         assertEquals(NOT_FOUND, exception.getStatusCode());
@@ -166,7 +186,7 @@ class PublicLanguageControllerTest {
         // When & Then
         RuntimeException exception = assertThrows(
                 RuntimeException.class,
-                () -> publicLanguageController.getEnabledLanguages()
+                () -> publicLanguageController.getEnabledLanguages(request())
         );
         
         assertEquals("Database connection error", exception.getMessage());
@@ -179,7 +199,7 @@ class PublicLanguageControllerTest {
         when(languageService.getEnabledByCode("hi")).thenReturn(hindiLanguage);
 
         // When
-        ResponseEntity<LanguageDto> response = publicLanguageController.getEnabledByCode("hi");
+        ResponseEntity<LanguageDto> response = publicLanguageController.getEnabledByCode("hi", request());
 
         // Then
         assertNotNull(response);
@@ -203,15 +223,15 @@ class PublicLanguageControllerTest {
         when(languageService.getEnabledByCode("hi")).thenReturn(hindiLanguage);
 
         // When & Then - Simulate concurrent requests
-        List<LanguageDto> allLanguages = publicLanguageController.getEnabledLanguages();
+        List<LanguageDto> allLanguages = publicLanguageController.getEnabledLanguages(request());
         assertNotNull(allLanguages);
         assertEquals(2, allLanguages.size());
 
-        ResponseEntity<LanguageDto> marathiResponse = publicLanguageController.getEnabledByCode("mr");
+        ResponseEntity<LanguageDto> marathiResponse = publicLanguageController.getEnabledByCode("mr", request());
         assertNotNull(marathiResponse.getBody());
         assertEquals("mr", marathiResponse.getBody().code());
 
-        ResponseEntity<LanguageDto> hindiResponse = publicLanguageController.getEnabledByCode("hi");
+        ResponseEntity<LanguageDto> hindiResponse = publicLanguageController.getEnabledByCode("hi", request());
         assertNotNull(hindiResponse.getBody());
         assertEquals("hi", hindiResponse.getBody().code());
     }
@@ -233,7 +253,7 @@ class PublicLanguageControllerTest {
         when(languageService.getEnabledLanguages()).thenReturn(onlyEnabledLanguages);
 
         // When
-        List<LanguageDto> result = publicLanguageController.getEnabledLanguages();
+        List<LanguageDto> result = publicLanguageController.getEnabledLanguages(request());
 
         // Then
         assertNotNull(result);
@@ -266,7 +286,7 @@ class PublicLanguageControllerTest {
         // When & Then
         ResponseStatusException exception = assertThrows(
                 ResponseStatusException.class,
-                () -> publicLanguageController.getEnabledByCode("ta")
+                () -> publicLanguageController.getEnabledByCode("ta", request())
         );
         
         assertEquals(NOT_FOUND, exception.getStatusCode());
@@ -289,12 +309,12 @@ class PublicLanguageControllerTest {
         // When & Then - Both should return 404 (public API shouldn't reveal if language exists but is disabled)
         ResponseStatusException nonExistentException = assertThrows(
                 ResponseStatusException.class,
-                () -> publicLanguageController.getEnabledByCode("xx")
+                () -> publicLanguageController.getEnabledByCode("xx", request())
         );
         
         ResponseStatusException disabledException = assertThrows(
                 ResponseStatusException.class,
-                () -> publicLanguageController.getEnabledByCode("ta")
+                () -> publicLanguageController.getEnabledByCode("ta", request())
         );
         
         // Both should return the same status code (security through consistency)
@@ -304,6 +324,65 @@ class PublicLanguageControllerTest {
         // This ensures the public API doesn't leak information about disabled languages
     }
 
+    @Test
+    @DisplayName("GET /api/public/languages/{code}/export - gzip format should stream the compressed export")
+    void export_GzipFormatShouldStreamCompressedExport() throws Exception {
+        // Given
+        when(languageService.getEnabledByCode("mr")).thenReturn(marathiLanguage);
+        when(languageExportService.exportPublished(eq("mr"), any(OutputStream.class))).thenAnswer(inv -> {
+            OutputStream out = inv.getArgument(1);
+            out.write("{\"lemmaNative\":\"घर\"}\n".getBytes(StandardCharsets.UTF_8));
+            return 1L;
+        });
+
+        // When
+        ResponseEntity<StreamingResponseBody> response = publicLanguageController.export("mr", "gzip", new ServletWebRequest(new MockHttpServletRequest()));
+        ByteArrayOutputStream buffer = new ByteArrayOutputStream();
+        response.getBody().writeTo(buffer);
+
+        // Then
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        assertEquals("application/gzip", response.getHeaders().getContentType().toString());
+        assertTrue(response.getHeaders().getFirst(HttpHeaders.CONTENT_DISPOSITION).contains("mr-published.ndjson.gz"));
+        try (GZIPInputStream in = new GZIPInputStream(new ByteArrayInputStream(buffer.toByteArray()))) {
+            assertEquals("{\"lemmaNative\":\"घर\"}\n", new String(in.readAllBytes(), StandardCharsets.UTF_8));
+        }
+    }
+
+    @Test
+    @DisplayName("GET /api/public/languages/{code}/export - Should give the async request the export's own timeout")
+    void export_ShouldSetExportTimeoutOnAsyncRequest() {
+        // Given
+        when(languageService.getEnabledByCode("mr")).thenReturn(marathiLanguage);
+        ServletWebRequest request = new ServletWebRequest(new MockHttpServletRequest());
+        AsyncWebRequest asyncRequest = mock(AsyncWebRequest.class);
+        WebAsyncUtils.getAsyncManager(request).setAsyncWebRequest(asyncRequest);
+
+        // When
+        publicLanguageController.export("mr", "ndjson", request);
+
+        // Then
+        verify(asyncRequest).setTimeout(Duration.ofMinutes(30).toMillis());
+    }
+
+    @Test
+    @DisplayName("GET /api/public/languages/{code}/export - Unknown format should return 400")
+    void export_UnknownFormatShouldReturnBadRequest() {
+        // Given
+        when(languageService.getEnabledByCode("mr")).thenReturn(marathiLanguage);
+
+        // When
+        ResponseEntity<StreamingResponseBody> response = publicLanguageController.export("mr", "xml", new ServletWebRequest(new MockHttpServletRequest()));
+
+        // Then
+        assertEquals(HttpStatus.BAD_REQUEST, response.getStatusCode());
+        verifyNoInteractions(languageExportService);
+    }
+
+    private static ServletWebRequest request() {
+        return new ServletWebRequest(new MockHttpServletRequest("GET", "/api/public/languages"), new MockHttpServletResponse());
+    }
+
     /**
      * Helper method to create Language test objects
      */
@@ -0,0 +1,219 @@
+package com.bhashamitra.platform.controllers;
+
+import com.bhashamitra.platform.controllers.dto.LemmaDetailDto;
+import com.bhashamitra.platform.controllers.dto.LemmaPageDto;
+import com.bhashamitra.platform.services.CacheStamp;
+import com.bhashamitra.platform.services.PublishedDictionary;
+import com.bhashamitra.platform.services.PublishedDictionaryService;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.context.request.ServletWebRequest;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("PublicLemmaController Tests")
+class PublicLemmaControllerTest {
+
+    @Mock
+    private PublishedDictionaryService publishedDictionaryService;
+
+    @Mock
+    private PublishedDictionary snapshot;
+
+    @InjectMocks
+    private PublicLemmaController publicLemmaController;
+
+    @Test
+    @DisplayName("GET /api/public/lemmas - First page should return items and a cursor when more rows exist")
+    void listPublishedByLanguage_FirstPageShouldReturnCursorWhenMoreRowsExist() {
+        // Given
+        PublishedDictionary.LemmaEntry ghar = createEntry("lemma-1", "घर", "ghar");
+        PublishedDictionary.LemmaEntry pani = createEntry("lemma-2", "पाणी", "pani");
+        when(publishedDictionaryService.snapshot("mr")).thenReturn(snapshot);
+        when(snapshot.page(null, null, 2))
+                .thenReturn(new PublishedDictionary.Page(List.of(ghar, pani), true));
+
+        // When
+        ResponseEntity<LemmaPageDto> response = publicLemmaController.listPublishedByLanguage("mr", null, 2, request());
+
+        // Then
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        LemmaPageDto body = response.getBody();
+        assertNotNull(body);
+        assertEquals(2, body.items().size());
+        assertEquals("घर", body.items().get(0).lemmaNative());
+        assertEquals("PUBLISHED", body.items().get(0).status());
+        assertNotNull(body.nextCursor());
+
+        String[] key = ContinuationToken.decode(body.nextCursor(), 2);
+        assertEquals("पाणी", key[0]);
+        assertEquals("lemma-2", key[1]);
+    }
+
+    @Test
+    @DisplayName("GET /api/public/lemmas - Cursor should be decoded into the keyset of the previous page")
+    void listPublishedByLanguage_CursorShouldSeekAfterPreviousKey() {
+        // Given
+        PublishedDictionary.LemmaEntry pani = createEntry("lemma-2", "पाणी", "pani");
+        String cursor = ContinuationToken.encode("घर", "lemma-1");
+        when(publishedDictionaryService.snapshot("mr")).thenReturn(snapshot);
+        when(snapshot.page("घर", "lemma-1", PublicLemmaController.DEFAULT_PAGE_SIZE))
+                .thenReturn(new PublishedDictionary.Page(List.of(pani), false));
+
+        // When
+        ResponseEntity<LemmaPageDto> response = publicLemmaController.listPublishedByLanguage("mr", cursor, null, request());
+
+        // Then
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        assertEquals(1, response.getBody().items().size());
+        assertNull(response.getBody().nextCursor());
+    }
+
+    @Test
+    @DisplayName("GET /api/public/lemmas - Page size should be capped")
+    void listPublishedByLanguage_PageSizeShouldBeCapped() {
+        // Given
+        when(publishedDictionaryService.snapshot("mr")).thenReturn(snapshot);
+        when(snapshot.page(isNull(), isNull(), anyInt()))
+                .thenReturn(new PublishedDictionary.Page(List.of(), false));
+
+        // When
+        publicLemmaController.listPublishedByLanguage("mr", null, 10_000, request());
+
+        // Then
+        verify(snapshot).page(null, null, PublicLemmaController.MAX_PAGE_SIZE);
+    }
+
+    @Test
+    @DisplayName("GET /api/public/lemmas - Malformed cursor should return 400")
+    void listPublishedByLanguage_MalformedCursorShouldReturnBadRequest() {
+        // When
+        ResponseEntity<LemmaPageDto> response = publicLemmaController.listPublishedByLanguage("mr", "%%%", null, request());
+
+        // Then
+        assertEquals(HttpStatus.BAD_REQUEST, response.getStatusCode());
+        verifyNoInteractions(publishedDictionaryService);
+    }
+
+    @Test
+    @DisplayName("GET /api/public/lemmas - Disabled language should return 400")
+    void listPublishedByLanguage_DisabledLanguageShouldReturnBadRequest() {
+        // Given
+        when(publishedDictionaryService.snapshot("xx"))
+                .thenThrow(new IllegalArgumentException("Language is not enabled or not found: xx"));
+
+        // When
+        ResponseEntity<LemmaPageDto> response = publicLemmaController.listPublishedByLanguage("xx", null, null, request());
+
+        // Then
+        assertEquals(HttpStatus.BAD_REQUEST, response.getStatusCode());
+    }
+
+    @Test
+    @DisplayName("GET /api/public/lemmas/{id} - Unknown lemma should return 404")
+    void getPublishedById_UnknownLemmaShouldReturnNotFound() {
+        // Given
+        when(publishedDictionaryService.getPublishedLemma("missing"))
+                .thenThrow(new IllegalArgumentException("Published lemma not found: missing"));
+
+        // When
+        var response = publicLemmaController.getPublishedById("missing", request());
+
+        // Then
+        assertEquals(HttpStatus.NOT_FOUND, response.getStatusCode());
+    }
+
+    @Test
+    @DisplayName("GET /api/public/lemmas/details - Should map batched details with nested children")
+    void getPublishedDetails_ShouldMapNestedChildren() {
+        // Given
+        PublishedDictionary.LemmaEntry ghar = createEntry("lemma-1", "घर", "ghar");
+        PublishedDictionary.LemmaDetail detail = new PublishedDictionary.LemmaDetail(
+                ghar,
+                List.of(new PublishedDictionary.MeaningEntry("m-1", "lemma-1", "en", "house", 1)),
+                List.of(new PublishedDictionary.SurfaceFormEntry("sf-1", "lemma-1", "घरे", "ghare", "plural", null)),
+                List.of(new PublishedDictionary.PronunciationEntry("p-1", "lemma-1", "A", "Pune", "s3://a.mp3", 800))
+        );
+        when(publishedDictionaryService.getPublishedLemmaDetails(List.of("lemma-1", "missing")))
+                .thenReturn(List.of(detail));
+
+        // When
+        ResponseEntity<List<LemmaDetailDto>> response =
+                publicLemmaController.getPublishedDetails(List.of("lemma-1", "missing"), request());
+
+        // Then
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        assertEquals(1, response.getBody().size());
+        LemmaDetailDto dto = response.getBody().get(0);
+        assertEquals("घर", dto.lemma().lemmaNative());
+        assertEquals("house", dto.meanings().get(0).meaningText());
+        assertEquals("घरे", dto.surfaceForms().get(0).formNative());
+        assertEquals("LEMMA", dto.pronunciations().get(0).ownerType());
+    }
+
+    @Test
+    @DisplayName("GET /api/public/lemmas/details - Too many ids should return 400")
+    void getPublishedDetails_TooManyIdsShouldReturnBadRequest() {
+        // Given
+        List<String> ids = IntStream.rangeClosed(0, PublicLemmaController.MAX_PAGE_SIZE)
+                .mapToObj(i -> "lemma-" + i)
+                .toList();
+
+        // When
+        ResponseEntity<List<LemmaDetailDto>> response = publicLemmaController.getPublishedDetails(ids, request());
+
+        // Then
+        assertEquals(HttpStatus.BAD_REQUEST, response.getStatusCode());
+        verifyNoInteractions(publishedDictionaryService);
+    }
+
+    @Test
+    @DisplayName("GET /api/public/lemmas - Matching If-None-Match should return 304 without reading the page")
+    void listPublishedByLanguage_MatchingEtagShouldReturnNotModified() {
+        // Given
+        CacheStamp stamp = CacheStamp.builder().add("lemma-1", 3L, Instant.parse("2026-01-01T00:00:00Z")).build();
+        when(publishedDictionaryService.snapshot("mr")).thenReturn(snapshot);
+        when(snapshot.stamp()).thenReturn(stamp);
+        MockHttpServletRequest servletRequest = new MockHttpServletRequest("GET", "/api/public/lemmas");
+        servletRequest.addHeader(HttpHeaders.IF_NONE_MATCH, stamp.etag());
+        MockHttpServletResponse servletResponse = new MockHttpServletResponse();
+
+        // When
+        ResponseEntity<LemmaPageDto> response = publicLemmaController.listPublishedByLanguage(
+                "mr", null, null, new ServletWebRequest(servletRequest, servletResponse));
+
+        // Then
+        assertNull(response);
+        assertEquals(HttpStatus.NOT_MODIFIED.value(), servletResponse.getStatus());
+        assertEquals(stamp.etag(), servletResponse.getHeader(HttpHeaders.ETAG));
+        assertEquals(CachePolicy.DICTIONARY.cacheControl().getHeaderValue(), servletResponse.getHeader(HttpHeaders.CACHE_CONTROL));
+        verify(snapshot, never()).page(any(), any(), anyInt());
+    }
+
+    private static ServletWebRequest request() {
+        return new ServletWebRequest(new MockHttpServletRequest("GET", "/api/public/lemmas"), new MockHttpServletResponse());
+    }
+
+    /**
+     * Helper method to create snapshot lemma entries
+     */
+    private PublishedDictionary.LemmaEntry createEntry(String id, String lemmaNative, String lemmaLatin) {
+        return new PublishedDictionary.LemmaEntry(id, "mr", lemmaNative, lemmaLatin, "noun", null);
+    }
+}
@@ -0,0 +1,174 @@
+package com.bhashamitra.platform.controllers;
+
+import com.bhashamitra.platform.controllers.dto.SentenceExamplePageDto;
+import com.bhashamitra.platform.controllers.dto.SentenceLemmaPageDto;
+import com.bhashamitra.platform.models.Ids;
+import com.bhashamitra.platform.models.LemmaSentenceLinkType;
+import com.bhashamitra.platform.models.LemmaStatus;
+import com.bhashamitra.platform.models.UsageSentenceStatus;
+import com.bhashamitra.platform.repositories.LemmaRepository.LemmaView;
+import com.bhashamitra.platform.repositories.LemmaSentenceLinkRepository.LinkedLemma;
+import com.bhashamitra.platform.repositories.LemmaSentenceLinkRepository.LinkedSentence;
+import com.bhashamitra.platform.repositories.UsageSentenceRepository.UsageSentenceView;
+import com.bhashamitra.platform.services.LemmaSentenceLinkService;
+import com.bhashamitra.platform.services.LemmaSentenceLinkService.LinkPage;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("PublicLemmaSentenceLinkController Tests")
+class PublicLemmaSentenceLinkControllerTest {
+
+    private static final ZonedDateTime CREATED = ZonedDateTime.of(2024, 3, 1, 10, 15, 30, 0, ZoneOffset.UTC);
+
+    @Mock
+    private LemmaSentenceLinkService service;
+
+    @InjectMocks
+    private PublicLemmaSentenceLinkController controller;
+
+    // =========================================================
+    // GET /sentences
+    // =========================================================
+
+    @Test
+    @DisplayName("GET /sentences - Cursor of a full page should seek after its last link's created date and id")
+    void sentencesForLemma_CursorShouldRoundTripLastLinkKey() {
+        // Given
+        String lemmaId = Ids.newId();
+        LinkedSentence newer = linkedSentence(Ids.newId(), CREATED.plusMinutes(1));
+        LinkedSentence older = linkedSentence(Ids.newId(), CREATED);
+        when(service.listPublishedSentencesForLemma(lemmaId, null, null, 2))
+                .thenReturn(new LinkPage<>(List.of(newer, older), true));
+        when(service.listPublishedSentencesForLemma(lemmaId, CREATED, older.linkId(), 2))
+                .thenReturn(new LinkPage<>(List.of(), false));
+
+        // When
+        ResponseEntity<SentenceExamplePageDto> first = controller.sentencesForLemma(lemmaId, null, 2);
+        ResponseEntity<SentenceExamplePageDto> second = controller.sentencesForLemma(lemmaId, first.getBody().nextCursor(), 2);
+
+        // Then
+        assertEquals(HttpStatus.OK, first.getStatusCode());
+        assertEquals(List.of(newer.linkId(), older.linkId()),
+                first.getBody().items().stream().map(i -> i.linkId()).toList());
+        assertEquals("EXACT", first.getBody().items().get(0).linkType());
+        assertNotNull(first.getBody().nextCursor());
+        assertEquals(HttpStatus.OK, second.getStatusCode());
+        assertNull(second.getBody().nextCursor());
+    }
+
+    @Test
+    @DisplayName("GET /sentences - Malformed cursor should return 400")
+    void sentencesForLemma_MalformedCursorShouldReturnBadRequest() {
+        // Given
+        List<String> cursors = List.of(
+                "%%%",
+                ContinuationToken.encode(Ids.newId()),
+                ContinuationToken.encode("yesterday", Ids.newId()),
+                ContinuationToken.encode(CREATED.toInstant().toString(), "not-an-id"));
+
+        // When / Then
+        for (String cursor : cursors) {
+            assertEquals(HttpStatus.BAD_REQUEST, controller.sentencesForLemma(Ids.newId(), cursor, null).getStatusCode(), cursor);
+        }
+        verifyNoInteractions(service);
+    }
+
+    @Test
+    @DisplayName("GET /sentences - Unpublished or unknown lemma should return 404")
+    void sentencesForLemma_UnpublishedLemmaShouldReturnNotFound() {
+        // Given
+        String lemmaId = Ids.newId();
+        when(service.listPublishedSentencesForLemma(lemmaId, null, null, PublicLemmaSentenceLinkController.DEFAULT_PAGE_SIZE))
+                .thenThrow(new IllegalArgumentException("Published lemma not found: " + lemmaId));
+
+        // When
+        ResponseEntity<SentenceExamplePageDto> response = controller.sentencesForLemma(lemmaId, null, null);
+
+        // Then
+        assertEquals(HttpStatus.NOT_FOUND, response.getStatusCode());
+    }
+
+    // =========================================================
+    // GET /lemmas
+    // =========================================================
+
+    @Test
+    @DisplayName("GET /lemmas - Cursor of a full page should seek after its last link's created date and id")
+    void lemmasForSentence_CursorShouldRoundTripLastLinkKey() {
+        // Given
+        String sentenceId = Ids.newId();
+        LinkedLemma only = linkedLemma(Ids.newId(), CREATED);
+        when(service.listPublishedLemmasForSentence(sentenceId, null, null, 1))
+                .thenReturn(new LinkPage<>(List.of(only), true));
+        when(service.listPublishedLemmasForSentence(sentenceId, CREATED, only.linkId(), 1))
+                .thenReturn(new LinkPage<>(List.of(), false));
+
+        // When
+        ResponseEntity<SentenceLemmaPageDto> first = controller.lemmasForSentence(sentenceId, null, 1);
+        ResponseEntity<SentenceLemmaPageDto> second = controller.lemmasForSentence(sentenceId, first.getBody().nextCursor(), 1);
+
+        // Then
+        assertEquals(HttpStatus.OK, first.getStatusCode());
+        assertEquals(only.linkId(), first.getBody().items().get(0).linkId());
+        assertEquals("घर", first.getBody().items().get(0).lemma().lemmaNative());
+        assertNotNull(first.getBody().nextCursor());
+        assertEquals(HttpStatus.OK, second.getStatusCode());
+        assertNull(second.getBody().nextCursor());
+    }
+
+    @Test
+    @DisplayName("GET /lemmas - Malformed cursor should return 400")
+    void lemmasForSentence_MalformedCursorShouldReturnBadRequest() {
+        // Given
+        String oldLinkIdCursor = ContinuationToken.encode(Ids.newId());
+
+        // When
+        ResponseEntity<SentenceLemmaPageDto> garbled = controller.lemmasForSentence(Ids.newId(), "%%%", null);
+        ResponseEntity<SentenceLemmaPageDto> idOnly = controller.lemmasForSentence(Ids.newId(), oldLinkIdCursor, null);
+
+        // Then
+        assertEquals(HttpStatus.BAD_REQUEST, garbled.getStatusCode());
+        assertEquals(HttpStatus.BAD_REQUEST, idOnly.getStatusCode());
+        verifyNoInteractions(service);
+    }
+
+    @Test
+    @DisplayName("GET /lemmas - Unpublished or unknown sentence should return 404")
+    void lemmasForSentence_UnpublishedSentenceShouldReturnNotFound() {
+        // Given
+        String sentenceId = Ids.newId();
+        when(service.listPublishedLemmasForSentence(sentenceId, null, null, PublicLemmaSentenceLinkController.MAX_PAGE_SIZE))
+                .thenThrow(new IllegalArgumentException("Published usage sentence not found: " + sentenceId));
+
+        // When
+        ResponseEntity<SentenceLemmaPageDto> response = controller.lemmasForSentence(sentenceId, null, 10_000);
+
+        // Then
+        assertEquals(HttpStatus.NOT_FOUND, response.getStatusCode());
+    }
+
+    private static LinkedSentence linkedSentence(String linkId, ZonedDateTime created) {
+        return new LinkedSentence(linkId, created, null, LemmaSentenceLinkType.EXACT, new UsageSentenceView(
+                Ids.newId(), "mr", "हे माझे घर आहे", "he maajhe ghar aahe", "This is my house", null, null, 1,
+                UsageSentenceStatus.PUBLISHED, 0L, created));
+    }
+
+    private static LinkedLemma linkedLemma(String linkId, ZonedDateTime created) {
+        return new LinkedLemma(linkId, created, null, LemmaSentenceLinkType.EXACT, new LemmaView(
+                Ids.newId(), "mr", "घर", "ghar", "noun", null, LemmaStatus.PUBLISHED, 0L, created));
+    }
+}
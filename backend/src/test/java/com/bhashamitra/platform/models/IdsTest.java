@@ -0,0 +1,85 @@
+package com.bhashamitra.platform.models;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("Ids Tests")
+class IdsTest {
+
+    @Test
+    @DisplayName("newId - Should be a version 7 UUID whose bytes round-trip")
+    void newId_ShouldBeVersion7AndRoundTrip() {
+        // When
+        String id = Ids.newId();
+        UUID uuid = UUID.fromString(id);
+
+        // Then
+        assertEquals(7, uuid.version());
+        assertEquals(2, uuid.variant());
+        assertEquals(uuid.toString(), id);
+        assertEquals(Ids.BYTES, Ids.toBytes(id).length);
+        assertEquals(id, Ids.fromBytes(Ids.toBytes(id)));
+    }
+
+    @Test
+    @DisplayName("newId - Consecutive ids should be strictly increasing as strings")
+    void newId_ShouldBeStrictlyIncreasing() {
+        // Given
+        List<String> ids = new ArrayList<>();
+
+        // When: far more ids than fit in one millisecond's sequence
+        for (int i = 0; i < 20_000; i++) {
+            ids.add(Ids.newId());
+        }
+
+        // Then
+        for (int i = 1; i < ids.size(); i++) {
+            assertTrue(ids.get(i - 1).compareTo(ids.get(i)) < 0, "at " + i);
+        }
+    }
+
+    @Test
+    @DisplayName("toBytes - Existing v4 ids should convert and malformed ids should be rejected")
+    void toBytes_ShouldAcceptAnyUuidAndRejectGarbage() {
+        // Given
+        String legacy = "11111111-1111-1111-1111-111111111111";
+        String upper = UUID.randomUUID().toString().toUpperCase();
+
+        // Then
+        assertEquals(legacy, Ids.fromBytes(Ids.toBytes(legacy)));
+        assertEquals(upper.toLowerCase(), Ids.fromBytes(Ids.toBytes(upper)));
+        assertNull(Ids.toBytes(null));
+        assertFalse(Ids.isValid("not-an-id"));
+        assertThrows(IllegalArgumentException.class, () -> Ids.toBytes("1111111111111111111111111111111111ab"));
+    }
+
+    @Test
+    @DisplayName("toJdbc / fromBytes - Should bind the layout in use and read back either layout")
+    void toJdbc_ShouldFollowStorageAndFromBytesShouldReadBothLayouts() {
+        // Given
+        String id = Ids.newId();
+        byte[] text = id.toUpperCase().getBytes(StandardCharsets.US_ASCII);
+
+        try {
+            // When: ids still CHAR(36)
+            Ids.setStorage(Ids.Storage.TEXT);
+
+            // Then
+            assertEquals(id, Ids.toJdbc(id.toUpperCase()));
+            assertNull(Ids.toJdbc(null));
+            assertThrows(IllegalArgumentException.class, () -> Ids.toJdbc("not-an-id"));
+        } finally {
+            Ids.setStorage(Ids.Storage.BINARY);
+        }
+        assertArrayEquals(Ids.toBytes(id), (byte[]) Ids.toJdbc(id));
+        assertEquals(id, Ids.fromBytes(text));
+        assertThrows(IllegalArgumentException.class, () -> Ids.fromBytes(new byte[36]));
+    }
+}
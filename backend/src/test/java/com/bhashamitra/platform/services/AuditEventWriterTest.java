@@ -0,0 +1,222 @@
+package com.bhashamitra.platform.services;
+
+import com.bhashamitra.platform.repositories.EditorialAuditEventJdbcRepository;
+import com.bhashamitra.platform.repositories.EditorialAuditEventJdbcRepository.Row;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import tools.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("AuditEventWriter Tests")
+class AuditEventWriterTest {
+
+    @Mock
+    private EditorialAuditEventJdbcRepository jdbcRepository;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    @TempDir
+    Path spoolDir;
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    private AuditEventWriter writer;
+
+    @AfterEach
+    void tearDown() {
+        if (writer != null && writer.isRunning()) {
+            writer.stop();
+        }
+    }
+
+    @Test
+    @DisplayName("submit - Async mode should batch-insert queued events in the background")
+    void submit_AsyncModeShouldBatchInsertInBackground() {
+        // Given
+        writer = createWriter("async", 100);
+        writer.start();
+
+        // When
+        writer.submit(createRow("e1"));
+        writer.submit(createRow("e2"));
+
+        // Then
+        verify(jdbcRepository, timeout(5_000).atLeastOnce()).insertBatch(anyList());
+        writer.stop();
+        assertEquals(0, writer.spooledCount());
+    }
+
+    @Test
+    @DisplayName("submit - Full queue should spool events to disk instead of blocking")
+    void submit_FullQueueShouldSpoolToDisk() throws Exception {
+        // Given - not started, so nothing drains the queue
+        writer = createWriter("async", 1);
+
+        // When
+        writer.submit(createRow("e1"));
+
+        // Then
+        assertEquals(1, writer.spooledCount());
+        assertTrue(Files.readString(spoolDir.resolve("audit-spool.ndjson")).contains("\"id\":\"e1\""));
+        verifyNoInteractions(jdbcRepository);
+    }
+
+    @Test
+    @DisplayName("flush - Failed batch should be spooled and replayed once the database is back")
+    @SuppressWarnings("unchecked")
+    void flush_FailedBatchShouldBeSpooledAndReplayed() throws Exception {
+        // Given
+        writer = createWriter("async", 100);
+        doThrow(new DataAccessResourceFailureException("db down"))
+                .doNothing()
+                .when(jdbcRepository).insertBatch(anyList());
+
+        // When
+        writer.flush(List.of(createRow("e1"), createRow("e2")));
+        writer.replaySpool();
+
+        // Then
+        ArgumentCaptor<List<Row>> captor = ArgumentCaptor.forClass(List.class);
+        verify(jdbcRepository, times(2)).insertBatch(captor.capture());
+        assertEquals(List.of("e1", "e2"), captor.getValue().stream().map(Row::id).toList());
+        assertEquals(1, meterRegistry.get("audit.write").tag("outcome", "failure").timer().count());
+        assertEquals(2, meterRegistry.get("audit.spooled").tag("reason", "write-failed").counter().count());
+        try (var files = Files.list(spoolDir)) {
+            assertEquals(0, files.count());
+        }
+    }
+
+    @Test
+    @DisplayName("replaySpool - Unparsable lines should be set aside and the rest replayed")
+    @SuppressWarnings("unchecked")
+    void replaySpool_UnparsableLinesShouldBeQuarantined() throws Exception {
+        // Given
+        writer = createWriter("async", 100);
+        ObjectMapper mapper = new ObjectMapper();
+        Files.writeString(spoolDir.resolve("audit-spool.ndjson"),
+                mapper.writeValueAsString(createRow("e1")) + "\n{\"id\":\n" + mapper.writeValueAsString(createRow("e2")) + "\n");
+
+        // When
+        writer.replaySpool();
+
+        // Then
+        ArgumentCaptor<List<Row>> captor = ArgumentCaptor.forClass(List.class);
+        verify(jdbcRepository).insertBatch(captor.capture());
+        assertEquals(List.of("e1", "e2"), captor.getValue().stream().map(Row::id).toList());
+        List<Path> left = listSpool();
+        assertEquals(1, left.size());
+        assertTrue(left.get(0).getFileName().toString().endsWith(".replay.failed"));
+        assertEquals("{\"id\":\n", Files.readString(left.get(0)));
+        assertEquals(1, meterRegistry.get("audit.spool.quarantined").counter().count());
+    }
+
+    @Test
+    @DisplayName("replaySpool - A file the database refuses should be quarantined and the next one replayed")
+    void replaySpool_RefusedFileShouldBeQuarantined() throws Exception {
+        // Given
+        writer = createWriter("async", 100);
+        ObjectMapper mapper = new ObjectMapper();
+        Files.writeString(spoolDir.resolve("audit-spool.ndjson.1.replay"), mapper.writeValueAsString(createRow("bad")) + "\n");
+        Files.writeString(spoolDir.resolve("audit-spool.ndjson.2.replay"), mapper.writeValueAsString(createRow("good")) + "\n");
+        doThrow(new DataIntegrityViolationException("too long"))
+                .doNothing()
+                .when(jdbcRepository).insertBatch(anyList());
+
+        // When
+        writer.replaySpool();
+
+        // Then
+        verify(jdbcRepository, times(2)).insertBatch(anyList());
+        assertEquals(List.of(spoolDir.resolve("audit-spool.ndjson.1.replay.failed")), listSpool());
+        assertEquals(1, meterRegistry.get("audit.spool.quarantined").counter().count());
+    }
+
+    @Test
+    @DisplayName("replaySpool - Files should wait for the next pass while the database is unavailable")
+    void replaySpool_DatabaseUnavailableShouldKeepFiles() throws Exception {
+        // Given
+        writer = createWriter("async", 100);
+        ObjectMapper mapper = new ObjectMapper();
+        Files.writeString(spoolDir.resolve("audit-spool.ndjson.1.replay"), mapper.writeValueAsString(createRow("e1")) + "\n");
+        Files.writeString(spoolDir.resolve("audit-spool.ndjson.2.replay"), mapper.writeValueAsString(createRow("e2")) + "\n");
+        doThrow(new DataAccessResourceFailureException("db down")).when(jdbcRepository).insertBatch(anyList());
+
+        // When / Then
+        assertThrows(DataAccessResourceFailureException.class, () -> writer.replaySpool());
+        verify(jdbcRepository, times(1)).insertBatch(anyList());
+        assertEquals(List.of(spoolDir.resolve("audit-spool.ndjson.1.replay"), spoolDir.resolve("audit-spool.ndjson.2.replay")),
+                listSpool());
+    }
+
+    @Test
+    @DisplayName("constructor - Async mode should refuse to start without a spool directory")
+    void constructor_AsyncModeShouldRequireSpoolDir() {
+        assertThrows(IllegalStateException.class, () -> createWriter("async", 100, ""));
+        assertFalse(createWriter("sync", 100, "").isAsync());
+    }
+
+    @Test
+    @DisplayName("start - Sync mode should not start a background writer")
+    void start_SyncModeShouldNotStartBackgroundWriter() {
+        // Given
+        writer = createWriter("sync", 100);
+
+        // When
+        writer.start();
+
+        // Then
+        assertFalse(writer.isAsync());
+        assertFalse(writer.isRunning());
+    }
+
+    private AuditEventWriter createWriter(String mode, int capacity) {
+        return createWriter(mode, capacity, spoolDir.toString());
+    }
+
+    private AuditEventWriter createWriter(String mode, int capacity, String dir) {
+        return new AuditEventWriter(
+                jdbcRepository,
+                new ObjectMapper(),
+                transactionManager,
+                meterRegistry,
+                mode,
+                capacity,
+                50,
+                Duration.ofMillis(20),
+                Duration.ofMillis(1),
+                dir
+        );
+    }
+
+    private List<Path> listSpool() throws Exception {
+        try (Stream<Path> files = Files.list(spoolDir)) {
+            return files.sorted().toList();
+        }
+    }
+
+    private Row createRow(String id) {
+        return new Row(id, "LEMMA", "lemma-1", "CREATED", "editor@example.com", null, "{}", Instant.now());
+    }
+}
@@ -0,0 +1,228 @@
+package com.bhashamitra.platform.services;
+
+import com.bhashamitra.platform.models.AuditArchive;
+import com.bhashamitra.platform.models.AuditArchiveKey;
+import com.bhashamitra.platform.models.AuditArchiveKey.Kind;
+import com.bhashamitra.platform.models.EditorialAuditEvent;
+import com.bhashamitra.platform.models.Ids;
+import com.bhashamitra.platform.repositories.AuditArchiveKeyRepository;
+import com.bhashamitra.platform.repositories.AuditArchiveKeyRepository.ArchiveCount;
+import com.bhashamitra.platform.repositories.EditorialAuditEventJdbcRepository.Row;
+import com.bhashamitra.platform.repositories.EditorialAuditEventRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import tools.jackson.databind.ObjectMapper;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.zip.GZIPOutputStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("EditorialAuditEventService archived reads")
+class EditorialAuditEventServiceTest {
+
+    private static final String LEMMA_ID = Ids.newId();
+    private static final Instant NOW = Instant.parse("2026-10-15T12:00:00Z");
+
+    @Mock
+    private EditorialAuditEventRepository repository;
+
+    @Mock
+    private AuditEventWriter auditEventWriter;
+
+    @Mock
+    private AuditArchiveKeyRepository archiveKeys;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final Map<String, byte[]> blobs = new HashMap<>();
+    private final List<String> opened = new ArrayList<>();
+    private final String entityKey = AuditArchiveKey.entityKey("Lemma", LEMMA_ID);
+    private EditorialAuditEventService service;
+
+    @BeforeEach
+    void setUp() {
+        AuditArchiveStore store = new AuditArchiveStore() {
+            @Override
+            public void put(String key, BlobWriter writer) throws IOException {
+                ByteArrayOutputStream out = new ByteArrayOutputStream();
+                writer.writeTo(out);
+                blobs.put(key, out.toByteArray());
+            }
+
+            @Override
+            public InputStream open(String key) {
+                opened.add(key);
+                return new ByteArrayInputStream(blobs.get(key));
+            }
+
+            @Override
+            public boolean exists(String key) {
+                return blobs.containsKey(key);
+            }
+        };
+        service = new EditorialAuditEventService(repository, auditEventWriter, archiveKeys,
+                new AuditArchiveReader(store, objectMapper));
+    }
+
+    @Test
+    @DisplayName("getTimeline - Should return live rows unchanged when nothing is archived")
+    void getTimeline_ShouldReturnLivePageWhenNothingArchived() {
+        Page<EditorialAuditEvent> live = new PageImpl<>(List.of(liveEvent(1)), PageRequest.of(0, 10), 1);
+        when(repository.findByEntityTypeAndEntityIdOrderByEventTsDesc("Lemma", LEMMA_ID, PageRequest.of(0, 10)))
+                .thenReturn(live);
+        when(archiveKeys.findArchives(Kind.ENTITY, entityKey)).thenReturn(List.of());
+
+        assertSame(live, service.getTimeline("Lemma", LEMMA_ID, PageRequest.of(0, 10)));
+    }
+
+    @Test
+    @DisplayName("getTimeline - Should continue with archived events, newest first, across pages")
+    void getTimeline_ShouldAppendArchivedEventsAfterLiveRows() throws IOException {
+        // 2 live events; 3 + 2 matching archived ones (plus one for another lemma)
+        List<EditorialAuditEvent> liveEvents = List.of(liveEvent(1), liveEvent(2));
+        AuditArchive newer = archive("p202409", List.of(
+                row(LEMMA_ID, 400), row(LEMMA_ID, 300), row(Ids.newId(), 350), row(LEMMA_ID, 380)));
+        AuditArchive older = archive("p202408", List.of(row(LEMMA_ID, 420), row(LEMMA_ID, 410)));
+        when(archiveKeys.findArchives(Kind.ENTITY, entityKey))
+                .thenReturn(List.of(new ArchiveCount(newer, 3), new ArchiveCount(older, 2)));
+
+        Pageable first = PageRequest.of(0, 3);
+        when(repository.findByEntityTypeAndEntityIdOrderByEventTsDesc("Lemma", LEMMA_ID, first))
+                .thenReturn(new PageImpl<>(liveEvents, first, 2));
+        Pageable second = PageRequest.of(1, 3);
+        when(repository.findByEntityTypeAndEntityIdOrderByEventTsDesc("Lemma", LEMMA_ID, second))
+                .thenReturn(new PageImpl<>(List.of(), second, 2));
+        Pageable third = PageRequest.of(2, 3);
+        when(repository.findByEntityTypeAndEntityIdOrderByEventTsDesc("Lemma", LEMMA_ID, third))
+                .thenReturn(new PageImpl<>(List.of(), third, 2));
+
+        Page<EditorialAuditEvent> page1 = service.getTimeline("Lemma", LEMMA_ID, first);
+        assertEquals(List.of(newer.getBlobKey()), opened);
+        Page<EditorialAuditEvent> page2 = service.getTimeline("Lemma", LEMMA_ID, second);
+        opened.clear();
+        Page<EditorialAuditEvent> page3 = service.getTimeline("Lemma", LEMMA_ID, third);
+
+        assertEquals(7, page1.getTotalElements());
+        assertEquals(List.of(daysAgo(1), daysAgo(2), daysAgo(300)), eventTimes(page1));
+        assertEquals(7, page2.getTotalElements());
+        assertEquals(List.of(daysAgo(380), daysAgo(400), daysAgo(410)), eventTimes(page2));
+        assertEquals(LEMMA_ID, page2.getContent().get(0).getEntityId());
+        assertEquals("editor@example.com", page2.getContent().get(0).getCreatedBy());
+        assertEquals(List.of(daysAgo(420)), eventTimes(page3));
+        // The newer archive's 3 matches are skipped by count, without opening it
+        assertEquals(List.of(older.getBlobKey()), opened);
+    }
+
+    @Test
+    @DisplayName("getActivityByActor - Should count archives straddling the window by scanning them")
+    void getActivityByActor_ShouldCountArchivesStraddlingTheWindow() throws IOException {
+        ZonedDateTime from = daysAgo(420);
+        ZonedDateTime to = daysAgo(380);
+        AuditArchive inside = archive("p202409", List.of(row(LEMMA_ID, 390), row(LEMMA_ID, 400)));
+        AuditArchive straddling = archive("p202408", List.of(row(LEMMA_ID, 410), row(LEMMA_ID, 450)));
+        when(archiveKeys.findArchivesOverlapping(Kind.ACTOR, "editor@example.com", from, to))
+                .thenReturn(List.of(new ArchiveCount(inside, 2), new ArchiveCount(straddling, 2)));
+        Pageable pageable = PageRequest.of(0, 10);
+        when(repository.findByActorAndEventTsBetweenOrderByEventTsDesc("editor@example.com", from, to, pageable))
+                .thenReturn(new PageImpl<>(List.of(), pageable, 0));
+
+        Page<EditorialAuditEvent> page = service.getActivityByActor("editor@example.com", from, to, pageable);
+
+        assertEquals(3, page.getTotalElements());
+        assertEquals(List.of(daysAgo(390), daysAgo(400), daysAgo(410)), eventTimes(page));
+    }
+
+    @Test
+    @DisplayName("getLatestEvent - Should fall back to the newest archived event when no live row exists")
+    void getLatestEvent_ShouldFallBackToArchive() throws IOException {
+        when(repository.findFirstByEntityTypeAndEntityIdOrderByEventTsDesc("Lemma", LEMMA_ID))
+                .thenReturn(Optional.empty());
+        AuditArchive newer = archive("p202409", List.of(row(LEMMA_ID, 450), row(LEMMA_ID, 400)));
+        AuditArchive older = archive("p202408", List.of(row(LEMMA_ID, 480)));
+        when(archiveKeys.findArchives(Kind.ENTITY, entityKey))
+                .thenReturn(List.of(new ArchiveCount(newer, 2), new ArchiveCount(older, 1)));
+
+        Optional<EditorialAuditEvent> latest = service.getLatestEvent("Lemma", LEMMA_ID);
+
+        assertTrue(latest.isPresent());
+        assertEquals(daysAgo(400), latest.get().getEventTs());
+        assertEquals(List.of(newer.getBlobKey()), opened);
+        verify(archiveKeys, never()).findArchivesOverlapping(any(), any(), any(), any());
+    }
+
+    // ---------------- helpers ----------------
+
+    private static ZonedDateTime daysAgo(int days) {
+        return NOW.minusSeconds(days * 86_400L).atZone(ZoneOffset.UTC);
+    }
+
+    private static EditorialAuditEvent liveEvent(int daysAgo) {
+        EditorialAuditEvent e = new EditorialAuditEvent();
+        e.setEntityType("Lemma");
+        e.setEntityId(LEMMA_ID);
+        e.setEventType("UPDATED");
+        e.setActor("editor@example.com");
+        e.setEventTs(daysAgo(daysAgo));
+        return e;
+    }
+
+    private static Row row(String entityId, int daysAgo) {
+        return new Row(Ids.newId(), "Lemma", entityId, "UPDATED", "editor@example.com", null, null,
+                daysAgo(daysAgo).toInstant());
+    }
+
+    // Written the way AuditArchiver writes them: gzipped NDJSON, newest first
+    private AuditArchive archive(String partition, List<Row> rows) throws IOException {
+        List<Row> sorted = rows.stream().sorted(Comparator.comparing(Row::eventTs).reversed()).toList();
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (Writer w = new OutputStreamWriter(new GZIPOutputStream(bytes), StandardCharsets.UTF_8)) {
+            for (Row r : sorted) {
+                w.write(objectMapper.writeValueAsString(r));
+                w.write('\n');
+            }
+        }
+        String key = "editorial_audit_events/" + partition + ".ndjson.gz";
+        blobs.put(key, bytes.toByteArray());
+
+        AuditArchive archive = new AuditArchive();
+        archive.setPartitionName(partition);
+        archive.setBlobKey(key);
+        archive.setFromTs(sorted.get(sorted.size() - 1).eventTs().atZone(ZoneOffset.UTC));
+        archive.setToTs(sorted.get(0).eventTs().atZone(ZoneOffset.UTC));
+        archive.setRowCount(rows.size());
+        archive.setDropped(true);
+        return archive;
+    }
+
+    private static List<ZonedDateTime> eventTimes(Page<EditorialAuditEvent> page) {
+        List<ZonedDateTime> out = new ArrayList<>();
+        page.forEach(e -> out.add(e.getEventTs()));
+        return out;
+    }
+}
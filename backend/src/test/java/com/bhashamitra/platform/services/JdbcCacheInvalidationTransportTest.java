@@ -0,0 +1,119 @@
+package com.bhashamitra.platform.services;
+
+import com.bhashamitra.platform.repositories.CacheInvalidationJdbcRepository;
+import com.bhashamitra.platform.repositories.CacheInvalidationJdbcRepository.Entry;
+import com.bhashamitra.platform.repositories.CacheInvalidationJdbcRepository.Row;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataAccessResourceFailureException;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("JdbcCacheInvalidationTransport Tests")
+class JdbcCacheInvalidationTransportTest {
+
+    private static final String LEMMA = "com.bhashamitra.platform.models.Lemma";
+
+    @Mock
+    private CacheInvalidationJdbcRepository repository;
+
+    private final List<CacheInvalidation> received = new ArrayList<>();
+
+    @Test
+    @DisplayName("receive - Watermark should stop at a missing seq until the gap timeout")
+    void receive_WatermarkShouldWaitForMissingSeq() {
+        // Given
+        JdbcCacheInvalidationTransport transport = createTransport(Duration.ofHours(1));
+        when(repository.maxSeq()).thenReturn(10L);
+        when(repository.findAfter(eq(10L), anyInt())).thenReturn(List.of(row(11, "a"), row(13, "b")));
+
+        // When
+        transport.receive();
+
+        // Then - 12 may still commit
+        assertEquals(11, transport.watermark());
+        assertEquals(List.of(invalidation("a"), invalidation("b")), received);
+
+        // When - 12 shows up, 13 is returned again
+        when(repository.findAfter(eq(11L), anyInt())).thenReturn(List.of(row(12, "c"), row(13, "b")));
+        transport.receive();
+
+        // Then - 13 is not delivered twice
+        assertEquals(13, transport.watermark());
+        assertEquals(List.of(invalidation("a"), invalidation("b"), invalidation("c")), received);
+    }
+
+    @Test
+    @DisplayName("receive - Seq missing past the gap timeout should be skipped")
+    void receive_MissingSeqPastTimeoutShouldBeSkipped() {
+        // Given
+        JdbcCacheInvalidationTransport transport = createTransport(Duration.ZERO);
+        when(repository.maxSeq()).thenReturn(10L);
+        when(repository.findAfter(anyLong(), anyInt())).thenReturn(List.of(row(13, "b")));
+
+        // When
+        transport.receive();
+        transport.receive();
+
+        // Then
+        assertEquals(13, transport.watermark());
+        assertEquals(List.of(invalidation("b")), received);
+    }
+
+    @Test
+    @DisplayName("send - Failed insert should be followed by an evict-everything row")
+    void send_FailedInsertShouldSendEverything() {
+        // Given
+        JdbcCacheInvalidationTransport transport = createTransport(Duration.ofHours(1));
+        doThrow(new DataAccessResourceFailureException("down"))
+                .doNothing()
+                .when(repository).insertBatch(anyString(), anyList(), any());
+        transport.publish(invalidation("a"));
+
+        // When
+        assertThrows(DataAccessResourceFailureException.class, transport::send);
+        transport.publish(invalidation("b"));
+        transport.send();
+
+        // Then
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<Entry>> entries = ArgumentCaptor.forClass(List.class);
+        verify(repository, times(2)).insertBatch(anyString(), entries.capture(), any());
+        assertEquals(List.of(new Entry(null, null)), entries.getAllValues().get(1));
+    }
+
+    // =========================================================
+    // Helpers
+    // =========================================================
+
+    private JdbcCacheInvalidationTransport createTransport(Duration gapTimeout) {
+        JdbcCacheInvalidationTransport transport = new JdbcCacheInvalidationTransport(
+                repository, Duration.ofSeconds(1), gapTimeout, Duration.ofHours(1), 100);
+        transport.subscribe(received::addAll);
+        return transport;
+    }
+
+    private static Row row(long seq, String id) {
+        return new Row(seq, "other-node", new Entry(LEMMA, id));
+    }
+
+    private static CacheInvalidation invalidation(String id) {
+        return new CacheInvalidation(LEMMA, id);
+    }
+}
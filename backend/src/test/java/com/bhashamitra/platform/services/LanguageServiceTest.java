@@ -6,11 +6,11 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
-import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.web.server.ResponseStatusException;
 
+import java.time.Duration;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
@@ -27,7 +27,6 @@ class LanguageServiceTest {
     @Mock
     private LanguageRepository languageRepository;
 
-    @InjectMocks
     private LanguageService languageService;
 
     private Language marathiLanguage;
@@ -41,48 +40,103 @@ class LanguageServiceTest {
         hindiLanguage = createLanguage("hi", "Hindi", "Devanagari", "IAST", true);
         gujaratiLanguage = createLanguage("gu", "Gujarati", "Gujarati", null, true);
         disabledTamilLanguage = createLanguage("ta", "Tamil", "Tamil", "ISO 15919", false);
+
+        LanguageRegistry languageRegistry = new LanguageRegistry(languageRepository, Duration.ofMinutes(5));
+        languageService = new LanguageService(languageRepository, languageRegistry);
     }
 
     @Test
     @DisplayName("isLanguageEnabled - Should return true for enabled language")
     void isLanguageEnabled_ShouldReturnTrueForEnabledLanguage() {
         // Given
-        when(languageRepository.findByCode("mr")).thenReturn(Optional.of(marathiLanguage));
+        when(languageRepository.findAll()).thenReturn(List.of(marathiLanguage, disabledTamilLanguage));
 
         // When
         boolean result = languageService.isLanguageEnabled("mr");
 
         // Then
         assertTrue(result);
-        verify(languageRepository).findByCode("mr");
+        verify(languageRepository).findAll();
     }
 
     @Test
     @DisplayName("isLanguageEnabled - Should return false for disabled language")
     void isLanguageEnabled_ShouldReturnFalseForDisabledLanguage() {
         // Given
-        when(languageRepository.findByCode("ta")).thenReturn(Optional.of(disabledTamilLanguage));
+        when(languageRepository.findAll()).thenReturn(List.of(marathiLanguage, disabledTamilLanguage));
 
         // When
         boolean result = languageService.isLanguageEnabled("ta");
 
         // Then
         assertFalse(result);
-        verify(languageRepository).findByCode("ta");
+        verify(languageRepository).findAll();
     }
 
     @Test
     @DisplayName("isLanguageEnabled - Should return false for non-existent language")
     void isLanguageEnabled_ShouldReturnFalseForNonExistentLanguage() {
         // Given
-        when(languageRepository.findByCode("xx")).thenReturn(Optional.empty());
+        when(languageRepository.findAll()).thenReturn(List.of(marathiLanguage, disabledTamilLanguage));
 
         // When
         boolean result = languageService.isLanguageEnabled("xx");
 
         // Then
         assertFalse(result);
-        verify(languageRepository).findByCode("xx");
+        verify(languageRepository).findAll();
+    }
+
+    @Test
+    @DisplayName("isLanguageEnabled - Repeated lookups should be served from memory")
+    void isLanguageEnabled_RepeatedLookupsShouldBeServedFromMemory() {
+        // Given
+        when(languageRepository.findAll()).thenReturn(List.of(marathiLanguage, hindiLanguage));
+
+        // When
+        for (int i = 0; i < 10; i++) {
+            assertTrue(languageService.isLanguageEnabled("mr"));
+            assertTrue(languageService.isLanguageEnabled("hi"));
+        }
+
+        // Then
+        verify(languageRepository, times(1)).findAll();
+        verifyNoMoreInteractions(languageRepository);
+    }
+
+    @Test
+    @DisplayName("isLanguageEnabled - Languages change event should reload the registry")
+    void isLanguageEnabled_LanguagesChangedEventShouldReloadRegistry() {
+        // Given
+        LanguageRegistry languageRegistry = new LanguageRegistry(languageRepository, Duration.ofMinutes(5));
+        languageService = new LanguageService(languageRepository, languageRegistry);
+        Language tamilEnabled = createLanguage("ta", "Tamil", "Tamil", "ISO 15919", true);
+        when(languageRepository.findAll())
+                .thenReturn(List.of(marathiLanguage, disabledTamilLanguage))
+                .thenReturn(List.of(marathiLanguage, tamilEnabled));
+        assertFalse(languageService.isLanguageEnabled("ta"));
+
+        // When
+        languageRegistry.onLanguagesChanged(new LanguagesChangedEvent());
+
+        // Then
+        assertTrue(languageService.isLanguageEnabled("ta"));
+        verify(languageRepository, times(2)).findAll();
+    }
+
+    @Test
+    @DisplayName("isLanguageEnabled - Expired registry should be reloaded")
+    void isLanguageEnabled_ExpiredRegistryShouldBeReloaded() {
+        // Given - a zero TTL expires the registry immediately
+        languageService = new LanguageService(languageRepository, new LanguageRegistry(languageRepository, Duration.ZERO));
+        when(languageRepository.findAll()).thenReturn(List.of(marathiLanguage));
+
+        // When
+        languageService.isLanguageEnabled("mr");
+        languageService.isLanguageEnabled("mr");
+
+        // Then
+        verify(languageRepository, times(2)).findAll();
     }
 
     @Test
@@ -124,8 +178,8 @@ class LanguageServiceTest {
     @DisplayName("getEnabledLanguages - Should return only enabled languages")
     void getEnabledLanguages_ShouldReturnOnlyEnabledLanguages() {
         // Given
-        List<Language> enabledLanguages = Arrays.asList(marathiLanguage, hindiLanguage, gujaratiLanguage);
-        when(languageRepository.findByEnabledTrue()).thenReturn(enabledLanguages);
+        List<Language> allLanguages = Arrays.asList(marathiLanguage, hindiLanguage, gujaratiLanguage, disabledTamilLanguage);
+        when(languageRepository.findAll()).thenReturn(allLanguages);
 
         // When
         List<Language> result = languageService.getEnabledLanguages();
@@ -140,14 +194,14 @@ class LanguageServiceTest {
         assertFalse(result.contains(disabledTamilLanguage));
         // Verify all returned languages are enabled
         assertTrue(result.stream().allMatch(Language::getEnabled));
-        verify(languageRepository).findByEnabledTrue();
+        verify(languageRepository).findAll();
     }
 
     @Test
     @DisplayName("getEnabledLanguages - Should return empty list when no enabled languages exist")
     void getEnabledLanguages_ShouldReturnEmptyListWhenNoEnabledLanguagesExist() {
         // Given
-        when(languageRepository.findByEnabledTrue()).thenReturn(Collections.emptyList());
+        when(languageRepository.findAll()).thenReturn(List.of(disabledTamilLanguage));
 
         // When
         List<Language> result = languageService.getEnabledLanguages();
@@ -155,14 +209,14 @@ class LanguageServiceTest {
         // Then
         assertNotNull(result);
         assertTrue(result.isEmpty());
-        verify(languageRepository).findByEnabledTrue();
+        verify(languageRepository).findAll();
     }
 
     @Test
     @DisplayName("getEnabledByCode - Should return enabled language by code")
     void getEnabledByCode_ShouldReturnEnabledLanguageByCode() {
         // Given
-        when(languageRepository.findByCodeAndEnabledTrue("mr")).thenReturn(Optional.of(marathiLanguage));
+        when(languageRepository.findAll()).thenReturn(List.of(marathiLanguage, disabledTamilLanguage));
 
         // When
         Language result = languageService.getEnabledByCode("mr");
@@ -174,14 +228,14 @@ class LanguageServiceTest {
         assertEquals("Devanagari", result.getScript());
         assertEquals("learners-phonetic-v1", result.getTransliterationScheme());
         assertTrue(result.getEnabled());
-        verify(languageRepository).findByCodeAndEnabledTrue("mr");
+        verify(languageRepository).findAll();
     }
 
     @Test
     @DisplayName("getEnabledByCode - Should throw exception for disabled language")
     void getEnabledByCode_ShouldThrowExceptionForDisabledLanguage() {
         // Given
-        when(languageRepository.findByCodeAndEnabledTrue("ta")).thenReturn(Optional.empty());
+        when(languageRepository.findAll()).thenReturn(List.of(marathiLanguage, disabledTamilLanguage));
 
         // When & Then
         ResponseStatusException exception = assertThrows(
@@ -191,14 +245,14 @@ class LanguageServiceTest {
 
         assertEquals(NOT_FOUND, exception.getStatusCode());
         assertTrue(exception.getReason().contains("Enabled language not found for code: ta"));
-        verify(languageRepository).findByCodeAndEnabledTrue("ta");
+        verify(languageRepository).findAll();
     }
 
     @Test
     @DisplayName("getEnabledByCode - Should throw exception for non-existent language")
     void getEnabledByCode_ShouldThrowExceptionForNonExistentLanguage() {
         // Given
-        when(languageRepository.findByCodeAndEnabledTrue("xx")).thenReturn(Optional.empty());
+        when(languageRepository.findAll()).thenReturn(List.of(marathiLanguage, disabledTamilLanguage));
 
         // When & Then
         ResponseStatusException exception = assertThrows(
@@ -208,7 +262,7 @@ class LanguageServiceTest {
 
         assertEquals(NOT_FOUND, exception.getStatusCode());
         assertTrue(exception.getReason().contains("Enabled language not found for code: xx"));
-        verify(languageRepository).findByCodeAndEnabledTrue("xx");
+        verify(languageRepository).findAll();
     }
 
     @Test
@@ -269,8 +323,7 @@ class LanguageServiceTest {
         // Given
         when(languageRepository.findByCode(null)).thenReturn(Optional.empty());
         when(languageRepository.findByCode("")).thenReturn(Optional.empty());
-        when(languageRepository.findByCodeAndEnabledTrue(null)).thenReturn(Optional.empty());
-        when(languageRepository.findByCodeAndEnabledTrue("")).thenReturn(Optional.empty());
+        when(languageRepository.findAll()).thenReturn(List.of(marathiLanguage));
 
         // When & Then - isLanguageEnabled with null/empty
         assertFalse(languageService.isLanguageEnabled(null));
@@ -290,7 +343,7 @@ class LanguageServiceTest {
     void serviceShouldDistinguishBetweenGetByCodeAndGetEnabledByCodeBehavior() {
         // Given - Tamil exists but is disabled
         when(languageRepository.findByCode("ta")).thenReturn(Optional.of(disabledTamilLanguage));
-        when(languageRepository.findByCodeAndEnabledTrue("ta")).thenReturn(Optional.empty());
+        when(languageRepository.findAll()).thenReturn(List.of(marathiLanguage, disabledTamilLanguage));
 
         // When & Then - getByCode should return disabled language
         Language disabledResult = languageService.getByCode("ta");
@@ -307,7 +360,7 @@ class LanguageServiceTest {
 
         // Verify correct repository methods were called
         verify(languageRepository).findByCode("ta");
-        verify(languageRepository).findByCodeAndEnabledTrue("ta");
+        verify(languageRepository).findAll();
     }
 
     @Test
@@ -315,7 +368,6 @@ class LanguageServiceTest {
     void serviceShouldHandleRepositoryExceptionsGracefully() {
         // Given
         when(languageRepository.findAll()).thenThrow(new RuntimeException("Database connection error"));
-        when(languageRepository.findByEnabledTrue()).thenThrow(new RuntimeException("Database connection error"));
         when(languageRepository.findByCode("mr")).thenThrow(new RuntimeException("Database connection error"));
 
         // When & Then
@@ -0,0 +1,169 @@
+package com.bhashamitra.platform.services;
+
+import com.bhashamitra.platform.repositories.LemmaImportJdbcRepository;
+import com.bhashamitra.platform.repositories.LemmaImportJdbcRepository.LemmaRow;
+import com.bhashamitra.platform.repositories.LemmaImportJdbcRepository.MeaningRow;
+import com.bhashamitra.platform.repositories.LemmaImportJdbcRepository.SurfaceFormRow;
+import tools.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("LemmaImportService Tests")
+class LemmaImportServiceTest {
+
+    @Mock
+    private LemmaImportJdbcRepository importRepository;
+
+    @Mock
+    private LanguageService languageService;
+
+    @Mock
+    private AuditService auditService;
+
+    @Mock
+    private LemmaSummaryService lemmaSummaryService;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private LemmaImportService importService;
+
+    @BeforeEach
+    void setUp() {
+        importService = new LemmaImportService(
+                importRepository, languageService, auditService, lemmaSummaryService, eventPublisher, new ObjectMapper(),
+                transactionManager);
+    }
+
+    @Test
+    @DisplayName("importLemmas NDJSON - Should batch-insert rows and record one audit event per chunk")
+    @SuppressWarnings("unchecked")
+    void importLemmasNdjson_ShouldBatchInsertAndAuditOncePerChunk() throws Exception {
+        // Given
+        when(languageService.isLanguageEnabled("mr")).thenReturn(true);
+        when(importRepository.findExistingLemmaKeys(eq("mr"), anyCollection())).thenReturn(Set.of());
+        when(importRepository.findExistingSentenceIds(anyCollection())).thenReturn(Set.of());
+        String ndjson = """
+                {"lemmaNative":"घर","lemmaLatin":"ghar","meanings":[{"meaningLanguage":"EN","meaningText":"house"},{"meaningLanguage":"en","meaningText":"home"}],"surfaceForms":[{"formNative":"घरे","formType":"plural"}]}
+                {"lemmaNative":"पाणी","status":"published"}
+                """;
+
+        // When
+        LemmaImportService.ImportResult result = importService.importLemmas("mr", LemmaImportService.Format.NDJSON, stream(ndjson), "editor");
+
+        // Then
+        assertEquals(2, result.totalRows());
+        assertEquals(2, result.importedLemmas());
+        assertEquals(2, result.importedMeanings());
+        assertEquals(1, result.importedSurfaceForms());
+        assertEquals(0, result.failedRows());
+
+        ArgumentCaptor<List<LemmaRow>> lemmas = ArgumentCaptor.forClass(List.class);
+        ArgumentCaptor<List<MeaningRow>> meanings = ArgumentCaptor.forClass(List.class);
+        verify(importRepository).insertLemmas(lemmas.capture(), eq("editor"), any());
+        verify(importRepository).insertMeanings(meanings.capture(), eq("editor"), any());
+        assertEquals(List.of(1, 2), meanings.getValue().stream().map(MeaningRow::priority).toList());
+        assertEquals("en", meanings.getValue().get(0).meaningLanguage());
+        verify(lemmaSummaryService).rebuild(lemmas.getValue().stream().map(LemmaRow::id).toList());
+
+        verify(auditService, times(1)).record(eq("LEMMA_IMPORT"), eq(result.importId()), eq("LEMMA_IMPORT_CHUNK"),
+                eq("editor"), isNull(), any(Object.class));
+        verify(eventPublisher).publishEvent(new DictionaryChangedEvent("mr"));
+    }
+
+    @Test
+    @DisplayName("importLemmas NDJSON - Should report existing, duplicate and malformed rows with line numbers")
+    void importLemmasNdjson_ShouldReportRowErrorsWithLineNumbers() throws Exception {
+        // Given
+        when(languageService.isLanguageEnabled("mr")).thenReturn(true);
+        when(importRepository.findExistingLemmaKeys(eq("mr"), anyCollection())).thenReturn(Set.of("आई"));
+        when(importRepository.findExistingSentenceIds(anyCollection())).thenReturn(Set.of());
+        String ndjson = """
+                {"lemmaNative":"घर"}
+                {"lemmaNative":"आई"}
+                {"lemmaNative":"घर"}
+                {not json
+                {"lemmaNative":"बाबा","status":"BOGUS"}
+                """;
+
+        // When
+        LemmaImportService.ImportResult result = importService.importLemmas("mr", LemmaImportService.Format.NDJSON, stream(ndjson), "editor");
+
+        // Then
+        assertEquals(5, result.totalRows());
+        assertEquals(1, result.importedLemmas());
+        assertEquals(4, result.failedRows());
+        assertEquals(List.of(2, 3, 4, 5), result.errors().stream().map(LemmaImportService.RowError::line).sorted().toList());
+        assertTrue(result.errors().stream().anyMatch(e -> e.message().startsWith("Lemma already exists")));
+        assertTrue(result.errors().stream().anyMatch(e -> e.message().equals("Invalid status: BOGUS")));
+        verifyNoInteractions(eventPublisher);
+    }
+
+    @Test
+    @DisplayName("importLemmas CSV - Should read quoted fields and pipe-separated surface forms")
+    @SuppressWarnings("unchecked")
+    void importLemmasCsv_ShouldReadQuotedFieldsAndSurfaceForms() throws Exception {
+        // Given
+        when(languageService.isLanguageEnabled("mr")).thenReturn(true);
+        when(importRepository.findExistingLemmaKeys(eq("mr"), anyCollection())).thenReturn(Set.of());
+        when(importRepository.findExistingSentenceIds(anyCollection())).thenReturn(Set.of());
+        String csv = "lemmaNative,lemmaLatin,meaningLanguage,meaningText,surfaceForms\r\n"
+                + "घर,ghar,en,\"house, home\",घरे|घरात\r\n"
+                + "\r\n"
+                + "पाणी,pani,en,\"water \"\"paani\"\"\",\r\n";
+
+        // When
+        LemmaImportService.ImportResult result = importService.importLemmas("mr", LemmaImportService.Format.CSV, stream(csv), "editor");
+
+        // Then
+        assertEquals(2, result.importedLemmas());
+        ArgumentCaptor<List<LemmaRow>> lemmas = ArgumentCaptor.forClass(List.class);
+        ArgumentCaptor<List<MeaningRow>> meanings = ArgumentCaptor.forClass(List.class);
+        ArgumentCaptor<List<SurfaceFormRow>> forms = ArgumentCaptor.forClass(List.class);
+        verify(importRepository).insertLemmas(lemmas.capture(), any(), any());
+        verify(importRepository).insertMeanings(meanings.capture(), any(), any());
+        verify(importRepository).insertSurfaceForms(forms.capture(), any(), any());
+
+        assertEquals("DRAFT", lemmas.getValue().get(0).status());
+        assertEquals("house, home", meanings.getValue().get(0).meaningText());
+        assertEquals("water \"paani\"", meanings.getValue().get(1).meaningText());
+        assertEquals(List.of("घरे", "घरात"), forms.getValue().stream().map(SurfaceFormRow::formNative).toList());
+    }
+
+    @Test
+    @DisplayName("importLemmas - Should reject disabled language before reading the body")
+    void importLemmas_ShouldRejectDisabledLanguage() {
+        // Given
+        when(languageService.isLanguageEnabled("xx")).thenReturn(false);
+
+        // When & Then
+        assertThrows(IllegalArgumentException.class,
+                () -> importService.importLemmas("xx", LemmaImportService.Format.NDJSON, stream("{}"), "editor"));
+        verifyNoInteractions(importRepository);
+    }
+
+    private static InputStream stream(String s) {
+        return new ByteArrayInputStream(s.getBytes(StandardCharsets.UTF_8));
+    }
+}
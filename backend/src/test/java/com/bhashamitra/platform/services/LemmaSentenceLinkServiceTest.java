@@ -0,0 +1,131 @@
+package com.bhashamitra.platform.services;
+
+import com.bhashamitra.platform.models.Ids;
+import com.bhashamitra.platform.models.LemmaSentenceLinkType;
+import com.bhashamitra.platform.models.LemmaStatus;
+import com.bhashamitra.platform.models.UsageSentenceStatus;
+import com.bhashamitra.platform.repositories.LemmaRepository;
+import com.bhashamitra.platform.repositories.LemmaRepository.LemmaView;
+import com.bhashamitra.platform.repositories.LemmaSentenceLinkRepository;
+import com.bhashamitra.platform.repositories.LemmaSentenceLinkRepository.LinkedLemma;
+import com.bhashamitra.platform.repositories.LemmaSentenceLinkRepository.LinkedSentence;
+import com.bhashamitra.platform.repositories.UsageSentenceRepository;
+import com.bhashamitra.platform.services.LemmaSentenceLinkService.LinkPage;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Limit;
+
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("LemmaSentenceLinkService Tests")
+class LemmaSentenceLinkServiceTest {
+
+    private static final ZonedDateTime CREATED = ZonedDateTime.of(2024, 3, 1, 10, 15, 30, 0, ZoneOffset.UTC);
+
+    @Mock
+    private LemmaSentenceLinkRepository repository;
+
+    @Mock
+    private LemmaRepository lemmaRepository;
+
+    @Mock
+    private UsageSentenceRepository usageSentenceRepository;
+
+    @Mock
+    private AuditService auditService;
+
+    @Mock
+    private LemmaSummaryService lemmaSummaryService;
+
+    private LemmaSentenceLinkService service;
+
+    @BeforeEach
+    void setUp() {
+        service = new LemmaSentenceLinkService(
+                repository, lemmaRepository, usageSentenceRepository, auditService, lemmaSummaryService);
+    }
+
+    @Test
+    @DisplayName("listPublishedSentencesForLemma - Should seek after the given (created date, link id) and trim the extra row")
+    void listPublishedSentencesForLemma_ShouldSeekAfterKey() {
+        // Given
+        String lemmaId = Ids.newId();
+        String afterLinkId = Ids.newId();
+        List<LinkedSentence> rows = List.of(linkedSentence(), linkedSentence(), linkedSentence());
+        when(lemmaRepository.existsByIdAndStatus(lemmaId, LemmaStatus.PUBLISHED)).thenReturn(true);
+        when(repository.findSentencesForLemmaAfter(lemmaId, LemmaStatus.PUBLISHED, UsageSentenceStatus.PUBLISHED,
+                CREATED, afterLinkId, Limit.of(3))).thenReturn(rows);
+
+        // When
+        LinkPage<LinkedSentence> page = service.listPublishedSentencesForLemma(lemmaId, CREATED, afterLinkId, 2);
+
+        // Then
+        assertEquals(rows.subList(0, 2), page.items());
+        assertTrue(page.hasMore());
+        verify(repository, never()).findSentencesForLemma(any(), any(), any(), any());
+    }
+
+    @Test
+    @DisplayName("listPublishedSentencesForLemma - Unpublished lemma should throw without reading its links")
+    void listPublishedSentencesForLemma_UnpublishedLemmaShouldThrow() {
+        // Given
+        String lemmaId = Ids.newId();
+        when(lemmaRepository.existsByIdAndStatus(lemmaId, LemmaStatus.PUBLISHED)).thenReturn(false);
+
+        // When / Then
+        assertThrows(IllegalArgumentException.class,
+                () -> service.listPublishedSentencesForLemma(lemmaId, null, null, 20));
+        verifyNoInteractions(repository);
+    }
+
+    @Test
+    @DisplayName("listPublishedLemmasForSentence - First page should not seek and report no more rows when short")
+    void listPublishedLemmasForSentence_FirstPageShouldNotSeek() {
+        // Given
+        String sentenceId = Ids.newId();
+        List<LinkedLemma> rows = List.of(linkedLemma());
+        when(usageSentenceRepository.existsByIdAndStatus(sentenceId, UsageSentenceStatus.PUBLISHED)).thenReturn(true);
+        when(repository.findLemmasForSentence(sentenceId, UsageSentenceStatus.PUBLISHED, LemmaStatus.PUBLISHED,
+                Limit.of(21))).thenReturn(rows);
+
+        // When
+        LinkPage<LinkedLemma> page = service.listPublishedLemmasForSentence(sentenceId, null, null, 20);
+
+        // Then
+        assertEquals(rows, page.items());
+        assertFalse(page.hasMore());
+        verify(repository, never()).findLemmasForSentenceAfter(any(), any(), any(), any(), any(), any());
+    }
+
+    @Test
+    @DisplayName("listPublishedLemmasForSentence - Unpublished sentence should throw without reading its links")
+    void listPublishedLemmasForSentence_UnpublishedSentenceShouldThrow() {
+        // Given
+        String sentenceId = Ids.newId();
+        when(usageSentenceRepository.existsByIdAndStatus(sentenceId, UsageSentenceStatus.PUBLISHED)).thenReturn(false);
+
+        // When / Then
+        assertThrows(IllegalArgumentException.class,
+                () -> service.listPublishedLemmasForSentence(sentenceId, CREATED, Ids.newId(), 20));
+        verifyNoInteractions(repository);
+    }
+
+    private static LinkedSentence linkedSentence() {
+        return new LinkedSentence(Ids.newId(), CREATED, null, LemmaSentenceLinkType.EXACT, null);
+    }
+
+    private static LinkedLemma linkedLemma() {
+        return new LinkedLemma(Ids.newId(), CREATED, null, LemmaSentenceLinkType.EXACT, new LemmaView(
+                Ids.newId(), "mr", "घर", "ghar", "noun", null, LemmaStatus.PUBLISHED, 0L, CREATED));
+    }
+}
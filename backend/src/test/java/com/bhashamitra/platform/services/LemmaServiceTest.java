@@ -0,0 +1,88 @@
+package com.bhashamitra.platform.services;
+
+import com.bhashamitra.platform.models.Lemma;
+import com.bhashamitra.platform.models.LemmaStatus;
+import com.bhashamitra.platform.repositories.LemmaRepository;
+import com.bhashamitra.platform.repositories.SurfaceFormRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("LemmaService Tests")
+class LemmaServiceTest {
+
+    @Mock
+    private LemmaRepository lemmaRepository;
+
+    @Mock
+    private SurfaceFormRepository surfaceFormRepository;
+
+    @Mock
+    private LanguageService languageService;
+
+    @Mock
+    private AuditService auditService;
+
+    @Mock
+    private LemmaSummaryService lemmaSummaryService;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    private LemmaService lemmaService;
+    private Lemma lemma;
+
+    @BeforeEach
+    void setUp() {
+        lemmaService = new LemmaService(
+                lemmaRepository, surfaceFormRepository, languageService, auditService, lemmaSummaryService, eventPublisher);
+
+        lemma = new Lemma();
+        lemma.setLanguage("mr");
+        lemma.setLemmaNative("घर");
+        lemma.setLemmaLatin("ghar");
+        lemma.setStatus(LemmaStatus.DRAFT);
+
+        when(lemmaRepository.findById(lemma.getId())).thenReturn(Optional.of(lemma));
+        when(languageService.isLanguageEnabled("mr")).thenReturn(true);
+        when(lemmaRepository.save(any(Lemma.class))).thenAnswer(inv -> inv.getArgument(0));
+    }
+
+    @Test
+    @DisplayName("update - New native text without latin should regenerate the latin")
+    void update_NativeChangedWithoutLatinShouldRegenerateLatin() {
+        // Given
+        when(languageService.transliterate("mr", "घाट")).thenReturn("ghāṭa");
+
+        // When
+        Lemma saved = lemmaService.update(lemma.getId(), new LemmaService.LemmaUpdateRequest(null, "घाट", null, null, null), "editor");
+
+        // Then
+        assertEquals("घाट", saved.getLemmaNative());
+        assertEquals("ghāṭa", saved.getLemmaLatin());
+    }
+
+    @Test
+    @DisplayName("update - Supplied latin, or unchanged native text, should keep the editor's latin")
+    void update_SuppliedLatinOrSameNativeShouldKeepLatin() {
+        // When
+        Lemma withLatin = lemmaService.update(lemma.getId(), new LemmaService.LemmaUpdateRequest(null, "घाट", "ghat", null, null), "editor");
+        Lemma notesOnly = lemmaService.update(lemma.getId(), new LemmaService.LemmaUpdateRequest(null, null, null, null, "common"), "editor");
+
+        // Then
+        assertEquals("ghat", withLatin.getLemmaLatin());
+        assertEquals("ghat", notesOnly.getLemmaLatin());
+        verify(languageService, never()).transliterate(anyString(), anyString());
+    }
+}
@@ -0,0 +1,93 @@
+package com.bhashamitra.platform.services;
+
+import com.bhashamitra.platform.repositories.LemmaSummaryRepository;
+import com.bhashamitra.platform.repositories.NamedLockJdbcRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Limit;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.time.Duration;
+import java.util.List;
+
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("LemmaSummaryReconciler Tests")
+class LemmaSummaryReconcilerTest {
+
+    @Mock
+    private LemmaSummaryRepository repository;
+
+    @Mock
+    private LemmaSummaryService summaryService;
+
+    @Mock
+    private NamedLockJdbcRepository locks;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private LemmaSummaryReconciler reconciler;
+
+    @BeforeEach
+    void setUp() {
+        reconciler = new LemmaSummaryReconciler(repository, summaryService, locks, transactionManager,
+                false, 2, Duration.ZERO);
+    }
+
+    @Test
+    @DisplayName("reconcileExclusively - Should recount in batches while holding the lock")
+    void reconcileExclusively_ShouldRecountUnderLock() {
+        // Given
+        when(locks.isSupported()).thenReturn(true);
+        when(locks.runExclusively(anyString(), any())).thenAnswer(invocation -> {
+            invocation.<Runnable>getArgument(1).run();
+            return true;
+        });
+        when(repository.findLemmaIds(Limit.of(2))).thenReturn(List.of("lemma-1", "lemma-2"));
+        when(repository.findLemmaIdsAfter("lemma-2", Limit.of(2))).thenReturn(List.of("lemma-3"));
+        when(repository.findLemmaIdsAfter("lemma-3", Limit.of(2))).thenReturn(List.of());
+
+        // When
+        reconciler.reconcileExclusively();
+
+        // Then
+        verify(summaryService).rebuild(List.of("lemma-1", "lemma-2"));
+        verify(summaryService).rebuild(List.of("lemma-3"));
+    }
+
+    @Test
+    @DisplayName("reconcileExclusively - Should skip the run while another instance holds the lock")
+    void reconcileExclusively_ShouldSkipWhenLockIsHeld() {
+        // Given
+        when(locks.isSupported()).thenReturn(true);
+        when(locks.runExclusively(anyString(), any())).thenReturn(false);
+
+        // When
+        reconciler.reconcileExclusively();
+
+        // Then
+        verifyNoInteractions(repository, summaryService);
+    }
+
+    @Test
+    @DisplayName("reconcileExclusively - Should run without a lock on a database that has none")
+    void reconcileExclusively_ShouldRunWithoutLockSupport() {
+        // Given
+        when(locks.isSupported()).thenReturn(false);
+        when(repository.findLemmaIds(Limit.of(2))).thenReturn(List.of());
+
+        // When
+        reconciler.reconcileExclusively();
+
+        // Then
+        verify(locks, never()).runExclusively(anyString(), any());
+        verify(repository).findLemmaIds(Limit.of(2));
+    }
+}
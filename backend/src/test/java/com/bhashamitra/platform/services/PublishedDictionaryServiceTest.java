@@ -0,0 +1,187 @@
+package com.bhashamitra.platform.services;
+
+import com.bhashamitra.platform.models.Language;
+import com.bhashamitra.platform.models.LemmaStatus;
+import com.bhashamitra.platform.repositories.LemmaRepository;
+import com.bhashamitra.platform.repositories.LemmaRepository.LemmaView;
+import com.bhashamitra.platform.repositories.MeaningRepository;
+import com.bhashamitra.platform.repositories.MeaningRepository.MeaningView;
+import com.bhashamitra.platform.repositories.PronunciationRepository;
+import com.bhashamitra.platform.repositories.SurfaceFormRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.time.ZonedDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("PublishedDictionaryService Tests")
+class PublishedDictionaryServiceTest {
+
+    @Mock
+    private LemmaRepository lemmaRepository;
+
+    @Mock
+    private MeaningRepository meaningRepository;
+
+    @Mock
+    private SurfaceFormRepository surfaceFormRepository;
+
+    @Mock
+    private PronunciationRepository pronunciationRepository;
+
+    @Mock
+    private LanguageService languageService;
+
+    @Mock
+    private CacheInvalidationTransport transport;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private PublishedDictionaryService service;
+    private Consumer<List<CacheInvalidation>> remote;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        service = new PublishedDictionaryService(
+                lemmaRepository, meaningRepository, surfaceFormRepository, pronunciationRepository,
+                languageService, transport, transactionManager);
+
+        ArgumentCaptor<Consumer<List<CacheInvalidation>>> listener = ArgumentCaptor.forClass(Consumer.class);
+        verify(transport).subscribe(listener.capture());
+        remote = listener.getValue();
+
+        lenient().when(languageService.isLanguageEnabled(anyString())).thenReturn(true);
+        lenient().when(languageService.getEnabledLanguages()).thenReturn(List.of(language("mr"), language("hi")));
+    }
+
+    @Test
+    @DisplayName("onDictionaryChanged - Should re-read only the changed lemma and tell the other instances")
+    void onDictionaryChanged_ShouldRefreshOnlyChangedLemma() {
+        // Given
+        when(lemmaRepository.findViewsByLanguageAndStatus("mr", LemmaStatus.PUBLISHED))
+                .thenReturn(List.of(lemma("lemma-1", "घर"), lemma("lemma-2", "पाणी")));
+        assertEquals(2, service.snapshot("mr").size());
+        when(lemmaRepository.findViewsByIdInAndLanguageAndStatus(Set.of("lemma-2"), "mr", LemmaStatus.PUBLISHED))
+                .thenReturn(List.of(lemma("lemma-2", "पाणी")));
+        when(meaningRepository.findViewsByLemmaIdInAndLanguageAndStatus(Set.of("lemma-2"), "mr", LemmaStatus.PUBLISHED))
+                .thenReturn(List.of(new MeaningView("m-1", "lemma-2", "en", "water", 1, 0L, null)));
+
+        // When
+        service.onDictionaryChanged(DictionaryChangedEvent.lemma("mr", "lemma-2"));
+        PublishedDictionary snapshot = service.snapshot("mr");
+
+        // Then
+        assertEquals(2, snapshot.size());
+        assertEquals("water", snapshot.meanings("lemma-2").get(0).meaningText());
+        verify(lemmaRepository, times(1)).findViewsByLanguageAndStatus("mr", LemmaStatus.PUBLISHED);
+        verify(transport).publish(CacheInvalidation.dictionary("mr", "lemma-2"));
+    }
+
+    @Test
+    @DisplayName("remote invalidation - Should drop a lemma another instance unpublished, and rebuild on a whole-language change")
+    void remoteInvalidation_ShouldApplyOtherInstancesChanges() {
+        // Given
+        when(lemmaRepository.findViewsByLanguageAndStatus("mr", LemmaStatus.PUBLISHED))
+                .thenReturn(List.of(lemma("lemma-1", "घर"), lemma("lemma-2", "पाणी")));
+        service.snapshot("mr");
+
+        // When
+        remote.accept(List.of(CacheInvalidation.dictionary("mr", "lemma-1"), new CacheInvalidation("Lemma", "lemma-1")));
+        PublishedDictionary afterUnpublish = service.snapshot("mr");
+        remote.accept(List.of(CacheInvalidation.dictionary("mr", null)));
+        service.snapshot("mr");
+
+        // Then
+        assertNull(afterUnpublish.lemma("lemma-1"));
+        assertNotNull(afterUnpublish.lemma("lemma-2"));
+        verify(lemmaRepository, times(2)).findViewsByLanguageAndStatus("mr", LemmaStatus.PUBLISHED);
+        verify(transport, never()).publish(any());
+    }
+
+    @Test
+    @DisplayName("snapshot - Should serve the current snapshot while another reader refreshes it")
+    void snapshot_ShouldServeCurrentSnapshotDuringRefresh() throws Exception {
+        // Given
+        when(lemmaRepository.findViewsByLanguageAndStatus("mr", LemmaStatus.PUBLISHED))
+                .thenReturn(List.of(lemma("lemma-1", "घर")));
+        PublishedDictionary before = service.snapshot("mr");
+        CountDownLatch refreshing = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        when(lemmaRepository.findViewsByIdInAndLanguageAndStatus(Set.of("lemma-1"), "mr", LemmaStatus.PUBLISHED))
+                .thenAnswer(invocation -> {
+                    refreshing.countDown();
+                    release.await();
+                    return List.of(lemma("lemma-1", "घरे"));
+                });
+        service.invalidate("mr", Set.of("lemma-1"));
+        CompletableFuture<PublishedDictionary> refresher = CompletableFuture.supplyAsync(() -> service.snapshot("mr"));
+        assertTrue(refreshing.await(5, TimeUnit.SECONDS));
+
+        // When
+        PublishedDictionary during = service.snapshot("mr");
+        release.countDown();
+        PublishedDictionary after = refresher.get(5, TimeUnit.SECONDS);
+
+        // Then
+        assertSame(before, during);
+        assertEquals("घरे", after.lemma("lemma-1").lemmaNative());
+        assertSame(after, service.snapshot("mr"));
+    }
+
+    @Test
+    @DisplayName("getPublishedLemma - Should look the language up by id instead of building every language")
+    void getPublishedLemma_ShouldBuildOnlyTheLemmasLanguage() {
+        // Given
+        when(lemmaRepository.findLanguageByIdAndStatus("lemma-9", LemmaStatus.PUBLISHED)).thenReturn(Optional.of("hi"));
+        when(lemmaRepository.findViewsByLanguageAndStatus("hi", LemmaStatus.PUBLISHED))
+                .thenReturn(List.of(lemma("lemma-9", "पानी")));
+
+        // When
+        PublishedDictionary.LemmaEntry found = service.getPublishedLemma("lemma-9");
+
+        // Then
+        assertEquals("पानी", found.lemmaNative());
+        verify(lemmaRepository, never()).findViewsByLanguageAndStatus(eq("mr"), any());
+    }
+
+    @Test
+    @DisplayName("getPublishedLemma - Should answer a miss from built snapshots without querying")
+    void getPublishedLemma_MissWithAllSnapshotsBuiltShouldNotQuery() {
+        // Given
+        service.snapshot("mr");
+        service.snapshot("hi");
+
+        // When / Then
+        assertThrows(IllegalArgumentException.class, () -> service.getPublishedLemma("missing"));
+        verify(lemmaRepository, never()).findLanguageByIdAndStatus(any(), any());
+    }
+
+    private static Language language(String code) {
+        Language language = new Language();
+        language.setCode(code);
+        return language;
+    }
+
+    private static LemmaView lemma(String id, String lemmaNative) {
+        return new LemmaView(id, "mr", lemmaNative, null, "noun", null, LemmaStatus.PUBLISHED, 0L, ZonedDateTime.now());
+    }
+}
@@ -0,0 +1,160 @@
+package com.bhashamitra.platform.services;
+
+import com.bhashamitra.platform.services.PublishedDictionary.LemmaEntry;
+import com.bhashamitra.platform.services.PublishedDictionary.SurfaceFormEntry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("PublishedDictionary Tests")
+class PublishedDictionaryTest {
+
+    private PublishedDictionary dictionary;
+
+    @BeforeEach
+    void setUp() {
+        dictionary = new PublishedDictionary(
+                "mr",
+                List.of(
+                        new LemmaEntry("lemma-1", "mr", "घर", "ghar", "noun", null),
+                        new LemmaEntry("lemma-2", "mr", "पाणी", "pāṇī", "noun", null),
+                        new LemmaEntry("lemma-3", "mr", "घाट", "ghat", "noun", null),
+                        new LemmaEntry("lemma-4", "mr", "घरे", null, "verb", null)
+                ),
+                List.of(),
+                List.of(
+                        new SurfaceFormEntry("sf-1", "lemma-1", "घरात", "gharat", "locative", null),
+                        new SurfaceFormEntry("sf-2", "lemma-1", "घरे", "ghare", "plural", null)
+                ),
+                List.of()
+        );
+    }
+
+    @Test
+    @DisplayName("autocomplete - Devanagari prefix should match lemmas and surface forms once per lemma")
+    void autocomplete_DevanagariPrefixShouldMatchOncePerLemma() {
+        // When
+        List<LemmaAutocompleteIndex.Suggestion> out = dictionary.autocomplete("घ", 10);
+
+        // Then
+        assertEquals(List.of("lemma-1", "lemma-4", "lemma-3"), out.stream().map(s -> s.lemma().id()).toList());
+        assertEquals(LemmaAutocompleteIndex.MatchField.LEMMA_NATIVE, out.get(0).matchedField());
+    }
+
+    @Test
+    @DisplayName("autocomplete - Latin prefix should ignore case and diacritics")
+    void autocomplete_LatinPrefixShouldFoldCaseAndDiacritics() {
+        // When
+        List<LemmaAutocompleteIndex.Suggestion> pani = dictionary.autocomplete("PAN", 10);
+        List<LemmaAutocompleteIndex.Suggestion> gharat = dictionary.autocomplete("ghara", 10);
+
+        // Then
+        assertEquals("lemma-2", pani.get(0).lemma().id());
+        assertEquals("pāṇī", pani.get(0).matchedText());
+        assertEquals(1, gharat.size());
+        assertEquals(LemmaAutocompleteIndex.MatchField.FORM_LATIN, gharat.get(0).matchedField());
+    }
+
+    @Test
+    @DisplayName("autocomplete - Should honour the limit and return nothing for a blank prefix")
+    void autocomplete_ShouldHonourLimitAndIgnoreBlankPrefix() {
+        // Then
+        assertEquals(1, dictionary.autocomplete("gh", 1).size());
+        assertTrue(dictionary.autocomplete("  ", 10).isEmpty());
+        assertTrue(dictionary.autocomplete("zzz", 10).isEmpty());
+    }
+
+    @Test
+    @DisplayName("lookup - Inflected form should resolve to its lemma, lemma spellings first")
+    void lookup_InflectedFormShouldResolveToLemma() {
+        // When
+        List<LemmaReverseIndex.Candidate> gharat = dictionary.lookup("घरात");
+        List<LemmaReverseIndex.Candidate> ghare = dictionary.lookup("घरे");
+
+        // Then
+        assertEquals(1, gharat.size());
+        assertEquals("lemma-1", gharat.get(0).lemma().id());
+        assertEquals("sf-1", gharat.get(0).surfaceForm().id());
+        assertEquals(List.of("lemma-4", "lemma-1"), ghare.stream().map(c -> c.lemma().id()).toList());
+        assertTrue(dictionary.lookup("घ").isEmpty());
+    }
+
+    @Test
+    @DisplayName("resolve - Should resolve every word of a sentence in order")
+    void resolve_ShouldResolveEveryToken() {
+        // When
+        List<LemmaReverseIndex.TokenMatch> out = dictionary.resolve("घरात पाणी आहे।");
+
+        // Then
+        assertEquals(List.of("घरात", "पाणी", "आहे"), out.stream().map(LemmaReverseIndex.TokenMatch::token).toList());
+        assertEquals("lemma-1", out.get(0).candidates().get(0).lemma().id());
+        assertEquals("lemma-2", out.get(1).candidates().get(0).lemma().id());
+        assertTrue(out.get(2).candidates().isEmpty());
+    }
+
+    @Test
+    @DisplayName("withLemmas - Should replace changed lemmas with their children and drop unpublished ones")
+    void withLemmas_ShouldReplaceChangedLemmasAndDropMissingOnes() {
+        // When
+        PublishedDictionary next = dictionary.withLemmas(
+                Set.of("lemma-1", "lemma-3"),
+                List.of(new LemmaEntry("lemma-1", "mr", "घर", "ghar", "noun", "edited")),
+                List.of(),
+                List.of(new SurfaceFormEntry("sf-3", "lemma-1", "घरांत", "gharant", "locative", null)),
+                List.of(),
+                Map.of(),
+                Instant.parse("2026-01-01T00:00:00Z"));
+
+        // Then
+        assertEquals(List.of("lemma-1", "lemma-4", "lemma-2"), next.lemmas().stream().map(LemmaEntry::id).toList());
+        assertEquals("edited", next.lemma("lemma-1").notes());
+        assertNull(next.lemma("lemma-3"));
+        assertEquals(List.of("sf-3"), next.surfaceForms("lemma-1").stream().map(SurfaceFormEntry::id).toList());
+        assertTrue(next.lookup("घरात").isEmpty());
+        assertEquals("lemma-1", next.lookup("घरांत").get(0).lemma().id());
+        assertEquals(Instant.parse("2026-01-01T00:00:00Z"), next.stamp().lastModified());
+        assertNotNull(dictionary.lemma("lemma-3"));
+    }
+
+    @Test
+    @DisplayName("withLemmas - Patched snapshot should order and index like one built from scratch")
+    void withLemmas_ShouldMatchFullBuild() {
+        // Given
+        List<LemmaEntry> lemmas = List.of(
+                new LemmaEntry("lemma-1", "mr", "घर", "ghar", "noun", null),
+                new LemmaEntry("lemma-2", "mr", "पाणी", "pāṇī", "noun", null),
+                new LemmaEntry("lemma-4", "mr", "घरे", null, "verb", null),
+                new LemmaEntry("lemma-5", "mr", "घरटे", "gharte", "noun", null));
+        List<SurfaceFormEntry> surfaceForms = List.of(
+                new SurfaceFormEntry("sf-2", "lemma-1", "घरे", "ghare", "plural", null),
+                new SurfaceFormEntry("sf-4", "lemma-5", "घरट्यात", "gharatyat", "locative", null));
+        PublishedDictionary built = new PublishedDictionary("mr", lemmas, List.of(), surfaceForms, List.of());
+
+        // When
+        PublishedDictionary patched = dictionary.withLemmas(
+                Set.of("lemma-1", "lemma-3", "lemma-5"),
+                List.of(lemmas.get(3), lemmas.get(0)),
+                List.of(),
+                List.of(surfaceForms.get(1), surfaceForms.get(0)),
+                List.of(),
+                Map.of(),
+                null);
+
+        // Then
+        assertEquals(built.lemmas(), patched.lemmas());
+        for (String prefix : List.of("घ", "घर", "gh", "ghar", "p", "घरा")) {
+            assertEquals(built.autocomplete(prefix, 10), patched.autocomplete(prefix, 10), prefix);
+        }
+        for (String word : List.of("घर", "घरे", "ghare", "घरात", "gharat", "घरट्यात", "घाट")) {
+            assertEquals(built.lookup(word), patched.lookup(word), word);
+        }
+        assertEquals(built.stamp(), patched.stamp());
+    }
+}
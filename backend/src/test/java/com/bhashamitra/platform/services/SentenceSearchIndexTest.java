@@ -0,0 +1,92 @@
+package com.bhashamitra.platform.services;
+
+import com.bhashamitra.platform.models.UsageSentenceStatus;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.time.Instant;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("SentenceSearchIndex Tests")
+class SentenceSearchIndexTest {
+
+    private static final SentenceSearchIndex.Filter ANY = new SentenceSearchIndex.Filter(null, null, null, null);
+
+    private SentenceSearchIndex index;
+
+    @BeforeEach
+    void setUp() {
+        index = new SentenceSearchIndex("mr");
+        index.upsert(doc("s-1", UsageSentenceStatus.PUBLISHED, "neutral", 1, "माझं घर मोठं आहे.", "My house is big."));
+        index.upsert(doc("s-2", UsageSentenceStatus.PUBLISHED, "spoken", 2, "घर जवळ आहे, घर छान आहे।", "Come home, the house is near."));
+        index.upsert(doc("s-3", UsageSentenceStatus.DRAFT, "neutral", 3, "पाणी दे.", "Give water."));
+    }
+
+    @Test
+    @DisplayName("search - Should rank sentences by BM25 and tokenize Devanagari with matras intact")
+    void search_ShouldRankByBm25() {
+        // When
+        List<SentenceSearchIndex.Hit> hits = index.search("घर", ANY, 10);
+
+        // Then
+        assertEquals(List.of("s-2", "s-1"), hits.stream().map(h -> h.doc().id()).toList());
+        assertTrue(hits.get(0).score() > hits.get(1).score());
+        assertTrue(index.search("घ", ANY, 10).isEmpty());
+        assertEquals("s-3", index.search("WATER", ANY, 10).get(0).doc().id());
+    }
+
+    @Test
+    @DisplayName("search - Should apply status, register and difficulty filters")
+    void search_ShouldApplyFilters() {
+        // Then
+        assertTrue(index.search("water", new SentenceSearchIndex.Filter(UsageSentenceStatus.PUBLISHED, null, null, null), 10).isEmpty());
+        assertEquals(List.of("s-2"), index.search("house", new SentenceSearchIndex.Filter(null, "SPOKEN", null, null), 10)
+                .stream().map(h -> h.doc().id()).toList());
+        assertEquals(List.of("s-1"), index.search("house", new SentenceSearchIndex.Filter(null, null, null, 1), 10)
+                .stream().map(h -> h.doc().id()).toList());
+    }
+
+    @Test
+    @DisplayName("upsert - Re-indexing a sentence should replace its old terms")
+    void upsert_ShouldReplaceOldTerms() {
+        // When
+        index.upsert(doc("s-3", UsageSentenceStatus.PUBLISHED, "neutral", 3, "दूध दे.", "Give milk."));
+
+        // Then
+        assertEquals(3, index.size());
+        assertTrue(index.search("water", ANY, 10).isEmpty());
+        assertEquals("s-3", index.search("milk", ANY, 10).get(0).doc().id());
+    }
+
+    @Test
+    @DisplayName("writeTo/readFrom - Persisted index should answer the same queries")
+    void persistence_ShouldRoundTrip() throws Exception {
+        // Given
+        index.remove("s-1");
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        index.writeTo(new DataOutputStream(bytes));
+
+        // When
+        SentenceSearchIndex loaded = SentenceSearchIndex.readFrom(
+                new DataInputStream(new ByteArrayInputStream(bytes.toByteArray())), "mr");
+
+        // Then
+        assertEquals(2, loaded.size());
+        assertEquals(index.maxLastModified(), loaded.maxLastModified());
+        assertEquals(List.of("s-2"), loaded.search("house", ANY, 10).stream().map(h -> h.doc().id()).toList());
+        assertEquals(index.search("घर", ANY, 10).get(0).score(), loaded.search("घर", ANY, 10).get(0).score(), 1e-9);
+    }
+
+    private static SentenceSearchIndex.Doc doc(String id, UsageSentenceStatus status, String register,
+                                               Integer difficulty, String sentenceNative, String translation) {
+        return new SentenceSearchIndex.Doc(id, status, register, difficulty,
+                Instant.parse("2026-01-01T00:00:00Z"), sentenceNative, null, translation, null);
+    }
+}
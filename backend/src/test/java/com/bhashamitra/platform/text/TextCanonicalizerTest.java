@@ -0,0 +1,49 @@
+package com.bhashamitra.platform.text;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("TextCanonicalizer Tests")
+class TextCanonicalizerTest {
+
+    @Test
+    @DisplayName("canonicalKey - Precomposed and decomposed nukta letters should share a key")
+    void canonicalKey_NuktaEncodingsShouldMatch() {
+        // Given: \u095b (ZA) vs \u091c + \u093c, and \u0929 (NNNA) vs \u0928 + \u093c
+        String za = "\u095b\u0930\u093e";
+        String jaNukta = "\u091c\u093c\u0930\u093e";
+        String nnna = "\u0929";
+        String naNukta = "\u0928\u093c";
+
+        // Then
+        assertEquals(TextCanonicalizer.canonicalKey(jaNukta), TextCanonicalizer.canonicalKey(za));
+        assertEquals(TextCanonicalizer.canonicalKey(naNukta), TextCanonicalizer.canonicalKey(nnna));
+    }
+
+    @Test
+    @DisplayName("canonicalKey - Should drop joiners, collapse whitespace and lower-case")
+    void canonicalKey_ShouldDropJoinersCollapseWhitespaceAndLowerCase() {
+        // Given: \u0915\u094d\u200d\u0937 is a ZWJ-forced half form of \u0915\u094d\u0937
+        String withZwj = "  \u0915\u094d\u200d\u0937\u0923\u00a0\t GHAR\u200b ";
+
+        // Then
+        assertEquals("\u0915\u094d\u0937\u0923 ghar", TextCanonicalizer.canonicalKey(withZwj));
+        assertNull(TextCanonicalizer.canonicalKey(" \u200c\u200d "));
+        assertNull(TextCanonicalizer.canonicalKey(null));
+    }
+
+    @Test
+    @DisplayName("canonicalKey / canonicalText - Should return the input itself when already canonical")
+    void canonical_ShouldReturnSameInstanceWhenUnchanged() {
+        // Given
+        String ghar = "\u0918\u0930";
+
+        // Then
+        assertSame(ghar, TextCanonicalizer.canonicalKey(ghar));
+        assertSame(ghar, TextCanonicalizer.canonicalText(ghar));
+        assertEquals(ghar, TextCanonicalizer.canonicalText("  " + ghar + "\n"));
+        assertNull(TextCanonicalizer.canonicalText("   "));
+    }
+}
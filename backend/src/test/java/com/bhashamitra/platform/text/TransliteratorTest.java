@@ -0,0 +1,54 @@
+package com.bhashamitra.platform.text;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("Transliterator Tests")
+class TransliteratorTest {
+
+    private final Transliterator iast = Transliterator.of(TransliterationScheme.IAST);
+    private final Transliterator learners = Transliterator.of(TransliterationScheme.LEARNERS_PHONETIC_V1);
+
+    @Test
+    @DisplayName("toLatin - IAST should keep the inherent vowel and use diacritics")
+    void toLatin_Iast() {
+        assertEquals("ghara", iast.toLatin("घर"));
+        assertEquals("pāṇī", iast.toLatin("पाणी"));
+        assertEquals("saṃskṛta", iast.toLatin("संस्कृत"));
+        assertEquals("śāḷā.", iast.toLatin("शाळा।"));
+    }
+
+    @Test
+    @DisplayName("toLatin - Learner spelling should drop the final inherent vowel except after a conjunct")
+    void toLatin_LearnersPhonetic() {
+        assertEquals("ghar", learners.toLatin("घर"));
+        assertEquals("paanee", learners.toLatin("पाणी"));
+        assertEquals("na", learners.toLatin("न"));
+        assertEquals("satya", learners.toLatin("सत्य"));
+        // Decomposed and precomposed nukta letters read the same
+        assertEquals("zaraa", learners.toLatin("\u095b\u0930\u093e"));
+        assertEquals("zaraa", learners.toLatin("\u091c\u093c\u0930\u093e"));
+        assertEquals("maajhe ghar", learners.toLatin("माझे घर"));
+        assertNull(learners.toLatin(" "));
+    }
+
+    @Test
+    @DisplayName("latinKey - Native, IAST and learner spellings of a word should share a key")
+    void latinKey_ShouldMatchAcrossScriptsAndRomanizations() {
+        String pani = Transliterator.latinKey("पाणी");
+        assertEquals(pani, Transliterator.latinKey("pāṇī"));
+        assertEquals(pani, Transliterator.latinKey("Paani"));
+        assertEquals(pani, Transliterator.latinKey("pani"));
+
+        String ghar = Transliterator.latinKey("घर");
+        assertEquals(ghar, Transliterator.latinKey("ghara"));
+        assertEquals(ghar, Transliterator.latinKey("GHAR"));
+
+        assertEquals(Transliterator.latinKey("शाळा"), Transliterator.latinKey("shaala"));
+        assertEquals(Transliterator.latinKey("संस्कृत"), Transliterator.latinKey("saṃskṛta"));
+        assertEquals(Transliterator.latinKey("माझे घर"), Transliterator.latinKey("maze, ghar!"));
+        assertNull(Transliterator.latinKey("?!"));
+    }
+}
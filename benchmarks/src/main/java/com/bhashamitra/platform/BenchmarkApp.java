@@ -0,0 +1,145 @@
+package com.bhashamitra.platform;
+
+import com.bhashamitra.platform.models.Language;
+import com.bhashamitra.platform.repositories.LanguageRepository;
+import com.bhashamitra.platform.services.LanguageRegistry;
+import com.bhashamitra.platform.services.LemmaImportService;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * The full application on an in-memory H2 database (MySQL mode), seeded with a generated
+ * Hindi dictionary through the bulk import, for benchmarks that go through the service
+ * layer, JPA and JDBC. H2 stands in for Aurora: numbers are for comparing releases
+ * against each other, not for predicting production latency.
+ *
+ * The load test ({@code loadtest.LoadTest}) boots the same application, optionally on a
+ * local MySQL instead, and loads its own corpus.
+ */
+public final class BenchmarkApp {
+
+    static final String LANGUAGE = "hi";
+
+    // Consonants the generated words are spelled from; 33^3 distinct three-letter words
+    private static final String CONSONANTS =
+            "\u0915\u0916\u0917\u0918\u091a\u091b\u091c\u091d\u091f\u0920\u0921\u0922\u0923"
+                    + "\u0924\u0925\u0926\u0927\u0928\u092a\u092b\u092c\u092d\u092e\u092f\u0930"
+                    + "\u0932\u0935\u0936\u0937\u0938\u0939\u0933\u0919";
+    private static final String OBLIQUE_PLURAL = "\u094b\u0902";
+    private static final String OBLIQUE = "\u0947";
+
+    private BenchmarkApp() {
+    }
+
+    static ConfigurableApplicationContext start(String database) {
+        return start(h2(database));
+    }
+
+    /**
+     * Datasource settings for a fresh in-memory H2 database; the schema comes from the
+     * entities since the Liquibase changelog targets MySQL.
+     */
+    public static Map<String, String> h2(String database) {
+        return Map.of(
+                "spring.datasource.url", "jdbc:h2:mem:" + database + ";DB_CLOSE_DELAY=-1;MODE=MySQL",
+                "spring.datasource.driver-class-name", "org.h2.Driver",
+                "spring.datasource.username", "sa",
+                "spring.datasource.password", "",
+                "spring.datasource.hikari.connection-init-sql", "SELECT 1",
+                "spring.jpa.hibernate.ddl-auto", "create-drop",
+                "spring.liquibase.enabled", "false"
+        );
+    }
+
+    /**
+     * Starts the application on a random port with the given datasource settings on top of
+     * application.properties.
+     */
+    public static ConfigurableApplicationContext start(Map<String, String> datasource) {
+        String indexDir;
+        String spoolDir;
+        try {
+            indexDir = Files.createTempDirectory("bench-sentence-index").toString();
+            spoolDir = Files.createTempDirectory("bench-audit-spool").toString();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        // As command-line arguments, so they win over application.properties
+        Map<String, String> properties = new LinkedHashMap<>(datasource);
+        properties.putAll(Map.ofEntries(
+                Map.entry("server.port", "0"),
+                Map.entry("search.sentences.index-dir", indexDir),
+                Map.entry("audit.writer.spool-dir", spoolDir),
+                Map.entry("logging.level.root", "WARN"),
+                // Login is never exercised; point the registration at a provider without an
+                // issuer-uri so startup does not fetch the Cognito discovery document
+                Map.entry("COGNITO_CLIENT_ID", "benchmark"),
+                Map.entry("COGNITO_USER_POOL_ID", "benchmark"),
+                Map.entry("spring.security.oauth2.client.registration.cognito.provider", "benchmark"),
+                Map.entry("spring.security.oauth2.client.provider.benchmark.authorization-uri", "http://localhost/authorize"),
+                Map.entry("spring.security.oauth2.client.provider.benchmark.token-uri", "http://localhost/token"),
+                Map.entry("spring.security.oauth2.client.provider.benchmark.jwk-set-uri", "http://localhost/jwks"),
+                Map.entry("spring.security.oauth2.client.provider.benchmark.user-info-uri", "http://localhost/userinfo"),
+                Map.entry("spring.security.oauth2.client.provider.benchmark.user-name-attribute", "sub")
+        ));
+        String[] args = properties.entrySet().stream()
+                .map(e -> "--" + e.getKey() + "=" + e.getValue())
+                .toArray(String[]::new);
+        return new SpringApplicationBuilder(BhashaMitraApplication.class).run(args);
+    }
+
+    /**
+     * Seeds {@code lemmas} published lemmas, each with two meanings and two surface forms.
+     */
+    static void seed(ConfigurableApplicationContext ctx, int lemmas) throws IOException {
+        Language hindi = new Language();
+        hindi.setCode(LANGUAGE);
+        hindi.setName("Hindi");
+        hindi.setScript("Devanagari");
+        hindi.setTransliterationScheme("IAST");
+        ctx.getBean(LanguageRepository.class).save(hindi);
+        ctx.getBean(LanguageRegistry.class).invalidate();
+
+        StringBuilder ndjson = new StringBuilder();
+        for (int i = 0; i < lemmas; i++) {
+            String word = word(i);
+            ndjson.append("{\"lemmaNative\":\"").append(word)
+                    .append("\",\"pos\":\"noun\",\"status\":\"PUBLISHED\",\"meanings\":[")
+                    .append("{\"meaningLanguage\":\"en\",\"meaningText\":\"word ").append(i).append("\"},")
+                    .append("{\"meaningLanguage\":\"en\",\"meaningText\":\"sense ").append(i).append("\"}")
+                    .append("],\"surfaceForms\":[")
+                    .append("{\"formNative\":\"").append(word).append(OBLIQUE_PLURAL).append("\",\"formType\":\"oblique_plural\"},")
+                    .append("{\"formNative\":\"").append(word).append(OBLIQUE).append("\",\"formType\":\"oblique\"}")
+                    .append("]}\n");
+        }
+        ctx.getBean(LemmaImportService.class).importLemmas(
+                LANGUAGE,
+                LemmaImportService.Format.NDJSON,
+                new ByteArrayInputStream(ndjson.toString().getBytes(StandardCharsets.UTF_8)),
+                "benchmark");
+    }
+
+    /**
+     * The i-th generated word (three consonants with inherent vowels).
+     */
+    static String word(int i) {
+        int n = CONSONANTS.length();
+        return new String(new char[]{
+                CONSONANTS.charAt(i % n),
+                CONSONANTS.charAt((i / n) % n),
+                CONSONANTS.charAt((i / (n * n)) % n)
+        });
+    }
+
+    static String obliquePlural(int i) {
+        return word(i) + OBLIQUE_PLURAL;
+    }
+}
@@ -0,0 +1,107 @@
+package com.bhashamitra.platform;
+
+import com.bhashamitra.platform.models.LemmaStatus;
+import com.bhashamitra.platform.repositories.LemmaRepository.LemmaView;
+import com.bhashamitra.platform.services.LemmaAutocompleteIndex;
+import com.bhashamitra.platform.services.LemmaReverseIndex;
+import com.bhashamitra.platform.services.LemmaService;
+import com.bhashamitra.platform.services.PublishedDictionary;
+import com.bhashamitra.platform.services.PublishedDictionaryService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Public read paths end to end below the controllers: Spring proxies, transactions,
+ * JPA / JDBC against H2, and the in-memory published snapshot. See {@link BenchmarkApp}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ServiceCallBenchmark {
+
+    @Param({"5000"})
+    public int lemmas;
+
+    private ConfigurableApplicationContext ctx;
+    private LemmaService lemmaService;
+    private PublishedDictionaryService dictionaryService;
+    private List<String> detailIds;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        ctx = BenchmarkApp.start("bench");
+        BenchmarkApp.seed(ctx, lemmas);
+        lemmaService = ctx.getBean(LemmaService.class);
+        dictionaryService = ctx.getBean(PublishedDictionaryService.class);
+
+        detailIds = dictionaryService.snapshot(BenchmarkApp.LANGUAGE).page(null, null, 20).items().stream()
+                .map(PublishedDictionary.LemmaEntry::id)
+                .toList();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        ctx.close();
+    }
+
+    /**
+     * First page of the published keyset listing, served from the snapshot.
+     */
+    @Benchmark
+    public PublishedDictionary.Page publishedPage() {
+        return dictionaryService.snapshot(BenchmarkApp.LANGUAGE).page(null, null, 50);
+    }
+
+    /**
+     * Cross-script prefix search over the indexed latin keys.
+     */
+    @Benchmark
+    public List<LemmaView> latinPrefixSearch() {
+        return lemmaService.searchByLatin(BenchmarkApp.LANGUAGE, "ka", LemmaStatus.PUBLISHED, 10);
+    }
+
+    /**
+     * Batch detail fetch for one page of ids, served from the snapshot.
+     */
+    @Benchmark
+    public List<PublishedDictionary.LemmaDetail> lemmaDetails() {
+        return dictionaryService.getPublishedLemmaDetails(detailIds);
+    }
+
+    /**
+     * Reverse lookup of a random inflected form.
+     */
+    @Benchmark
+    public List<LemmaReverseIndex.Candidate> reverseLookup() {
+        String form = BenchmarkApp.obliquePlural(ThreadLocalRandom.current().nextInt(lemmas));
+        return dictionaryService.snapshot(BenchmarkApp.LANGUAGE).lookup(form);
+    }
+
+    /**
+     * Autocomplete on a two-letter prefix.
+     */
+    @Benchmark
+    public List<LemmaAutocompleteIndex.Suggestion> autocomplete() {
+        return dictionaryService.snapshot(BenchmarkApp.LANGUAGE).autocomplete("ka", 10);
+    }
+}
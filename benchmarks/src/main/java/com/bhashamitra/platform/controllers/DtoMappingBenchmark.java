@@ -0,0 +1,82 @@
+package com.bhashamitra.platform.controllers;
+
+import com.bhashamitra.platform.controllers.dto.LemmaDetailDto;
+import com.bhashamitra.platform.controllers.dto.LemmaDto;
+import com.bhashamitra.platform.controllers.dto.UsageSentenceDto;
+import com.bhashamitra.platform.models.Ids;
+import com.bhashamitra.platform.models.UsageSentenceStatus;
+import com.bhashamitra.platform.repositories.UsageSentenceRepository.UsageSentenceView;
+import com.bhashamitra.platform.services.PublishedDictionary;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Repository view / snapshot record to response DTO mapping in the public controllers, per item
+ * as it runs for every row of a list or page response.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class DtoMappingBenchmark {
+
+    private PublishedDictionary.LemmaEntry lemma;
+    private PublishedDictionary.LemmaDetail detail;
+    private UsageSentenceView sentence;
+
+    @Setup
+    public void setUp() {
+        lemma = new PublishedDictionary.LemmaEntry(
+                Ids.newId(), "hi", "\u0918\u0930", "ghar", "noun", "masculine");
+
+        List<PublishedDictionary.MeaningEntry> meanings = new ArrayList<>();
+        List<PublishedDictionary.SurfaceFormEntry> forms = new ArrayList<>();
+        List<PublishedDictionary.PronunciationEntry> pronunciations = new ArrayList<>();
+        for (int i = 0; i < 3; i++) {
+            meanings.add(new PublishedDictionary.MeaningEntry(Ids.newId(), lemma.id(), "en", "house " + i, i + 1));
+        }
+        for (int i = 0; i < 6; i++) {
+            forms.add(new PublishedDictionary.SurfaceFormEntry(
+                    Ids.newId(), lemma.id(), "\u0918\u0930\u094b\u0902" + i, "gharon" + i, "oblique_plural", null));
+        }
+        pronunciations.add(new PublishedDictionary.PronunciationEntry(
+                Ids.newId(), lemma.id(), "speaker", "Delhi", "s3://audio/ghar.mp3", 640));
+        detail = new PublishedDictionary.LemmaDetail(lemma, meanings, forms, pronunciations);
+
+        sentence = new UsageSentenceView(
+                Ids.newId(), "hi", "\u092f\u0939 \u092e\u0947\u0930\u093e \u0918\u0930 \u0939\u0948\u0964",
+                "yah mera ghar hai.", "This is my house.", "neutral", null, 1, UsageSentenceStatus.PUBLISHED,
+                0L, ZonedDateTime.now(ZoneOffset.UTC));
+    }
+
+    @Benchmark
+    public LemmaDto lemmaToDto() {
+        return PublicLemmaController.toDto(lemma);
+    }
+
+    @Benchmark
+    public LemmaDetailDto lemmaDetailToDto() {
+        return PublicLemmaController.toDto(detail);
+    }
+
+    @Benchmark
+    public UsageSentenceDto usageSentenceToDto() {
+        return PublicUsageSentenceController.toDto(sentence);
+    }
+}
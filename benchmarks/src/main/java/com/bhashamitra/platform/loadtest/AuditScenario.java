@@ -0,0 +1,81 @@
+package com.bhashamitra.platform.loadtest;
+
+import com.bhashamitra.platform.services.EditorialAuditEventService;
+import org.springframework.data.domain.PageRequest;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+import java.util.List;
+import java.util.SplittableRandom;
+
+/**
+ * Reviewers reading editorial history: the timeline of a lemma or sentence, and a week of
+ * one editor's activity somewhere in the generated history.
+ *
+ * Runs against the service, as there is no HTTP endpoint for the timeline yet.
+ */
+final class AuditScenario implements Scenario {
+
+    private static final int TIMELINE_PAGE = 20;
+    private static final int ACTIVITY_PAGE = 50;
+
+    private final EditorialAuditEventService auditEvents;
+    private final SyntheticCorpus corpus;
+    private final int users;
+    private final Duration pacing;
+
+    AuditScenario(EditorialAuditEventService auditEvents, SyntheticCorpus corpus, int users, Duration pacing) {
+        this.auditEvents = auditEvents;
+        this.corpus = corpus;
+        this.users = users;
+        this.pacing = pacing;
+    }
+
+    @Override
+    public String name() {
+        return "audit";
+    }
+
+    @Override
+    public int users() {
+        return users;
+    }
+
+    @Override
+    public Duration pacing() {
+        return pacing;
+    }
+
+    @Override
+    public User newUser(int index) {
+        SplittableRandom random = new SplittableRandom(corpus.seed() * 15485863 + index);
+        long historyDays = Math.max(1, Duration.between(SyntheticCorpus.EPOCH, corpus.end()).toDays());
+
+        return () -> {
+            int pick = random.nextInt(10);
+            if (pick < 6) {
+                String id = corpus.lemmaId(corpus.popularLemma(random));
+                return List.of(new Step("audit.lemmaTimeline", () -> {
+                    auditEvents.getTimeline("LEMMA", id, PageRequest.of(0, TIMELINE_PAGE));
+                    return true;
+                }));
+            }
+            if (pick < 8 && corpus.sentences() > 0) {
+                String id = corpus.sentenceId(random.nextInt(corpus.sentences()));
+                return List.of(new Step("audit.sentenceTimeline", () -> {
+                    auditEvents.getTimeline("USAGE_SENTENCE", id, PageRequest.of(0, TIMELINE_PAGE));
+                    return true;
+                }));
+            }
+            String actor = SyntheticCorpus.EDITORS.get(random.nextInt(SyntheticCorpus.EDITORS.size()));
+            LocalDateTime from = SyntheticCorpus.EPOCH.plusDays(random.nextLong(historyDays));
+            ZonedDateTime fromUtc = from.atZone(ZoneOffset.UTC);
+            return List.of(new Step("audit.editorActivity", () -> {
+                auditEvents.getActivityByActor(actor, fromUtc, fromUtc.plusDays(7), PageRequest.of(0, ACTIVITY_PAGE));
+                return true;
+            }));
+        };
+    }
+}
@@ -0,0 +1,260 @@
+package com.bhashamitra.platform.loadtest;
+
+import com.bhashamitra.platform.loadtest.SyntheticCorpus.FormSpec;
+import com.bhashamitra.platform.loadtest.SyntheticCorpus.LemmaSpec;
+import com.bhashamitra.platform.loadtest.SyntheticCorpus.LinkSpec;
+import com.bhashamitra.platform.loadtest.SyntheticCorpus.MeaningSpec;
+import com.bhashamitra.platform.loadtest.SyntheticCorpus.SentenceSpec;
+import com.bhashamitra.platform.models.Ids;
+import com.bhashamitra.platform.text.TextCanonicalizer;
+import com.bhashamitra.platform.text.TransliterationScheme;
+import com.bhashamitra.platform.text.Transliterator;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.HexFormat;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.function.Consumer;
+
+/**
+ * Writes a {@link SyntheticCorpus} as multi-row INSERT statements against the schema the
+ * Liquibase changelog creates (BINARY(16) ids as hex literals, derived search keys filled
+ * in), in foreign-key order. The same statements run on MySQL and on H2 in MySQL mode.
+ *
+ * As a program it writes a Liquibase formatted SQL changelog that also loads with the
+ * plain mysql client:
+ *
+ * <pre>
+ * java -cp ... com.bhashamitra.platform.loadtest.CorpusSqlWriter --lemmas=100000 --sentences=1000000 --out=corpus.sql
+ * mysql bhashamitra &lt; corpus.sql
+ * </pre>
+ *
+ * Load into a freshly migrated schema; the Hindi language row is enabled, or created
+ * when missing.
+ */
+public final class CorpusSqlWriter {
+
+    static final int ROWS_PER_STATEMENT = 500;
+
+    private static final String AUDIT_COLUMNS =
+            "id, entity_type, entity_id, event_type, actor, comment, details, event_ts, "
+                    + "created_by, created_date, last_modified_by, last_modified_date, version";
+    private static final DateTimeFormatter TIMESTAMP = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss");
+    private static final HexFormat HEX = HexFormat.of();
+
+    private final SyntheticCorpus corpus;
+    private final Transliterator iast = Transliterator.of(TransliterationScheme.IAST);
+
+    public CorpusSqlWriter(SyntheticCorpus corpus) {
+        this.corpus = corpus;
+    }
+
+    /**
+     * Hands each statement, without a trailing delimiter, to {@code statements}.
+     */
+    public void write(Consumer<String> statements) {
+        statements.accept(languageUpsert());
+
+        Batch lemmas = new Batch(statements, "lemmas",
+                "id, language, lemma_native, lemma_key, latin_key, lemma_latin, pos, notes, status, "
+                        + "version, created_date, created_by, last_modified_date, last_modified_by", null);
+        Batch meanings = new Batch(statements, "meanings",
+                "id, lemma_id, meaning_language, meaning_text, priority, "
+                        + "version, created_date, created_by, last_modified_date, last_modified_by", lemmas);
+        Batch forms = new Batch(statements, "surface_forms",
+                "id, lemma_id, form_native, form_key, latin_key, form_latin, form_type, notes, "
+                        + "version, created_date, created_by, last_modified_date, last_modified_by", lemmas);
+        Batch lemmaEvents = new Batch(statements, "editorial_audit_events", AUDIT_COLUMNS, null);
+        long eventCount = 0;
+
+        for (int i = 0; i < corpus.lemmas(); i++) {
+            LemmaSpec lemma = corpus.lemma(i);
+            String created = timestamp(lemma.created());
+            String actor = SyntheticCorpus.EDITORS.get(i % SyntheticCorpus.EDITORS.size());
+
+            lemmas.add(id(lemma.id()), text(SyntheticCorpus.LANGUAGE), text(lemma.word()),
+                    text(TextCanonicalizer.canonicalKey(lemma.word())), text(Transliterator.latinKey(lemma.word())),
+                    text(iast.toLatin(lemma.word())), text(lemma.pos()), "NULL", text(lemma.status().name()),
+                    "0", created, text(actor), created, text(actor));
+            for (MeaningSpec m : lemma.meanings()) {
+                meanings.add(id(m.id()), id(lemma.id()), text("en"), text(m.text()), Integer.toString(m.priority()),
+                        "0", created, text(actor), created, text(actor));
+            }
+            for (FormSpec f : lemma.forms()) {
+                forms.add(id(f.id()), id(lemma.id()), text(f.text()),
+                        text(TextCanonicalizer.canonicalKey(f.text())), text(Transliterator.latinKey(f.text())),
+                        text(iast.toLatin(f.text())), text(f.formType()), "NULL",
+                        "0", created, text(actor), created, text(actor));
+            }
+
+            SplittableRandom history = corpus.historyRandom(false, i);
+            String details = "{\"language\":\"" + SyntheticCorpus.LANGUAGE + "\",\"lemmaNative\":\"" + lemma.word() + "\"}";
+            lemmaEvents.add(event(eventCount++, "LEMMA", lemma.id(), "LEMMA_CREATED", actor, details, lemma.created()));
+            if (history.nextDouble() < 0.30) {
+                lemmaEvents.add(event(eventCount++, "LEMMA", lemma.id(), "LEMMA_UPDATED",
+                        editor(history), details, lemma.created().plusHours(1 + history.nextInt(24 * 30))));
+            }
+            if (history.nextDouble() < 0.20) {
+                lemmaEvents.add(event(eventCount++, "LEMMA", lemma.id(), "LEMMA_STATUS_CHANGED",
+                        editor(history), "{\"to\":\"" + lemma.status().name() + "\"}",
+                        lemma.created().plusHours(1 + history.nextInt(24 * 60))));
+            }
+        }
+        meanings.flush();
+        forms.flush();
+        lemmaEvents.flush();
+
+        Batch sentences = new Batch(statements, "usage_sentences",
+                "id, language, sentence_native, sentence_latin, translation, register, explanation, difficulty, status, "
+                        + "version, created_date, created_by, last_modified_date, last_modified_by", null);
+        Batch links = new Batch(statements, "lemma_sentence_links",
+                "id, lemma_id, sentence_id, surface_form_id, link_type, "
+                        + "version, created_date, created_by, last_modified_date, last_modified_by", sentences);
+        Batch sentenceEvents = new Batch(statements, "editorial_audit_events", AUDIT_COLUMNS, null);
+
+        for (int j = 0; j < corpus.sentences(); j++) {
+            SentenceSpec s = corpus.sentence(j);
+            String created = timestamp(s.created());
+            String actor = SyntheticCorpus.EDITORS.get(j % SyntheticCorpus.EDITORS.size());
+
+            sentences.add(id(s.id()), text(SyntheticCorpus.LANGUAGE), text(s.text()), text(iast.toLatin(s.text())),
+                    text(s.translation()), text(s.register()), "NULL", Integer.toString(s.difficulty()),
+                    text(s.status().name()), "0", created, text(actor), created, text(actor));
+            for (LinkSpec l : s.links()) {
+                links.add(id(l.id()), id(l.lemmaId()), id(s.id()), l.formId() != null ? id(l.formId()) : "NULL",
+                        text(l.type().name()), "0", created, text(actor), created, text(actor));
+            }
+
+            SplittableRandom history = corpus.historyRandom(true, j);
+            String details = "{\"language\":\"" + SyntheticCorpus.LANGUAGE + "\",\"difficulty\":" + s.difficulty() + "}";
+            sentenceEvents.add(event(eventCount++, "USAGE_SENTENCE", s.id(), "USAGE_SENTENCE_CREATED", actor, details, s.created()));
+            if (history.nextDouble() < 0.10) {
+                sentenceEvents.add(event(eventCount++, "USAGE_SENTENCE", s.id(), "USAGE_SENTENCE_UPDATED",
+                        editor(history), details, s.created().plusHours(1 + history.nextInt(24 * 30))));
+            }
+        }
+        links.flush();
+        sentenceEvents.flush();
+    }
+
+    /**
+     * Writes the corpus as a Liquibase formatted SQL changelog, one statement per line.
+     */
+    public void writeChangelog(Writer out) throws IOException {
+        out.write("--liquibase formatted sql\n\n");
+        out.write("--changeset loadtest:synthetic-corpus-" + corpus.seed() + "-" + corpus.lemmas() + "-" + corpus.sentences()
+                + " context:loadtest runInTransaction:false\n");
+        try {
+            write(statement -> {
+                try {
+                    out.write(statement);
+                    out.write(";\n");
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            });
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+    }
+
+    public static void main(String[] args) throws IOException {
+        Map<String, String> options = LoadTest.options(args);
+        SyntheticCorpus corpus = new SyntheticCorpus(
+                Long.parseLong(options.getOrDefault("seed", "42")),
+                Integer.parseInt(options.getOrDefault("lemmas", "100000")),
+                Integer.parseInt(options.getOrDefault("sentences", "1000000")));
+        Path out = Path.of(options.getOrDefault("out", "target/corpus.sql"));
+
+        if (out.getParent() != null) {
+            Files.createDirectories(out.getParent());
+        }
+        try (BufferedWriter writer = Files.newBufferedWriter(out, StandardCharsets.UTF_8)) {
+            new CorpusSqlWriter(corpus).writeChangelog(writer);
+        }
+        System.out.println("Wrote " + corpus.lemmas() + " lemmas and " + corpus.sentences() + " sentences to " + out);
+    }
+
+    // =========================================================
+    // Rows
+    // =========================================================
+
+    private String languageUpsert() {
+        String now = timestamp(SyntheticCorpus.EPOCH);
+        return "INSERT INTO languages (id, code, name, script, transliteration_scheme, enabled, "
+                + "version, created_date, created_by, last_modified_date, last_modified_by) VALUES ("
+                + id(corpus.languageId()) + ", " + text(SyntheticCorpus.LANGUAGE) + ", 'Hindi', 'Devanagari', 'IAST', TRUE, "
+                + "0, " + now + ", 'loadtest', " + now + ", 'loadtest') "
+                + "ON DUPLICATE KEY UPDATE enabled = TRUE";
+    }
+
+    private String[] event(long n, String entityType, String entityId, String eventType,
+                           String actor, String details, LocalDateTime at) {
+        String ts = timestamp(at);
+        return new String[]{
+                id(corpus.auditEventId(n)), text(entityType), id(entityId), text(eventType), text(actor), "NULL",
+                text(details), ts, text(actor), ts, text(actor), ts, "0"};
+    }
+
+    private static String editor(SplittableRandom r) {
+        return SyntheticCorpus.EDITORS.get(r.nextInt(SyntheticCorpus.EDITORS.size()));
+    }
+
+    private static String id(String id) {
+        return "X'" + HEX.formatHex(Ids.toBytes(id)) + "'";
+    }
+
+    private static String text(String s) {
+        return s == null ? "NULL" : "'" + s.replace("'", "''") + "'";
+    }
+
+    private static String timestamp(LocalDateTime t) {
+        return "'" + TIMESTAMP.format(t) + "'";
+    }
+
+    /**
+     * Rows of one table collected into a multi-row INSERT. A batch whose rows reference
+     * another table flushes that table first, so every statement sees its parents.
+     */
+    private static final class Batch {
+
+        private final Consumer<String> statements;
+        private final String prefix;
+        private final Batch parent;
+        private final StringBuilder sql = new StringBuilder(1 << 16);
+        private int rows;
+
+        Batch(Consumer<String> statements, String table, String columns, Batch parent) {
+            this.statements = statements;
+            this.prefix = "INSERT INTO " + table + " (" + columns + ") VALUES ";
+            this.parent = parent;
+        }
+
+        void add(String... values) {
+            sql.append(rows == 0 ? prefix : ", ").append('(').append(String.join(", ", values)).append(')');
+            if (++rows == ROWS_PER_STATEMENT) {
+                flush();
+            }
+        }
+
+        void flush() {
+            if (rows == 0) {
+                return;
+            }
+            if (parent != null) {
+                parent.flush();
+            }
+            statements.accept(sql.toString());
+            sql.setLength(0);
+            rows = 0;
+        }
+    }
+}
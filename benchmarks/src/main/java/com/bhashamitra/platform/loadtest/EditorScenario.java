@@ -0,0 +1,81 @@
+package com.bhashamitra.platform.loadtest;
+
+import com.bhashamitra.platform.services.LemmaService;
+import com.bhashamitra.platform.services.UsageSentenceService;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+
+/**
+ * Editors saving in bursts: every {@link #pacing()} each editor makes a run of lemma note
+ * and sentence translation edits back to back, the way a review session goes. Every edit
+ * writes an audit event and invalidates the published snapshot learners read from.
+ *
+ * Runs against the services rather than the admin API, which needs a Cognito session.
+ */
+final class EditorScenario implements Scenario {
+
+    private final LemmaService lemmaService;
+    private final UsageSentenceService usageSentenceService;
+    private final SyntheticCorpus corpus;
+    private final int users;
+    private final Duration pacing;
+    private final int burst;
+
+    EditorScenario(LemmaService lemmaService, UsageSentenceService usageSentenceService, SyntheticCorpus corpus,
+                   int users, Duration pacing, int burst) {
+        this.lemmaService = lemmaService;
+        this.usageSentenceService = usageSentenceService;
+        this.corpus = corpus;
+        this.users = users;
+        this.pacing = pacing;
+        this.burst = burst;
+    }
+
+    @Override
+    public String name() {
+        return "editor";
+    }
+
+    @Override
+    public int users() {
+        return users;
+    }
+
+    @Override
+    public Duration pacing() {
+        return pacing;
+    }
+
+    @Override
+    public User newUser(int index) {
+        SplittableRandom random = new SplittableRandom(corpus.seed() * 104729 + index);
+        String actor = "loadtest-editor-" + (index + 1);
+        int[] revision = {0};
+
+        return () -> {
+            List<Step> steps = new ArrayList<>(burst);
+            for (int i = 0; i < burst; i++) {
+                int rev = ++revision[0];
+                if (corpus.sentences() > 0 && random.nextInt(10) < 3) {
+                    String id = corpus.sentenceId(random.nextInt(corpus.sentences()));
+                    steps.add(new Step("editor.updateSentence", () -> {
+                        usageSentenceService.update(id, new UsageSentenceService.UsageSentenceUpdateRequest(
+                                null, null, null, "Revised translation " + rev + " by " + actor, null, null, null), actor);
+                        return true;
+                    }));
+                } else {
+                    String id = corpus.lemmaId(corpus.popularLemma(random));
+                    steps.add(new Step("editor.updateLemma", () -> {
+                        lemmaService.update(id, new LemmaService.LemmaUpdateRequest(
+                                null, null, null, null, "Reviewed (" + rev + ") by " + actor), actor);
+                        return true;
+                    }));
+                }
+            }
+            return steps;
+        };
+    }
+}
@@ -0,0 +1,80 @@
+package com.bhashamitra.platform.loadtest;
+
+import org.HdrHistogram.Histogram;
+import org.HdrHistogram.Recorder;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Latency histograms per operation, in microseconds. Recording is lock-free; {@link #reset}
+ * drops everything recorded so far (the warm-up) and {@link #results} reads the interval
+ * since then.
+ */
+final class Latencies {
+
+    private static final long MAX_MICROS = TimeUnit.MINUTES.toMicros(5);
+    private static final int SIGNIFICANT_DIGITS = 3;
+
+    private final Map<String, Operation> operations = new ConcurrentHashMap<>();
+
+    void record(String operation, long micros, boolean ok) {
+        Operation op = operations.computeIfAbsent(operation, k -> new Operation());
+        op.recorder.recordValue(Math.min(Math.max(micros, 0), MAX_MICROS));
+        if (!ok) {
+            op.errors.increment();
+        }
+    }
+
+    void reset() {
+        for (Operation op : operations.values()) {
+            op.recorder.getIntervalHistogram();
+            op.errors.reset();
+        }
+    }
+
+    /**
+     * Results since the last reset, sorted by operation name.
+     */
+    List<Result> results(double seconds) {
+        List<Result> results = new ArrayList<>();
+        for (Map.Entry<String, Operation> e : new TreeMap<>(operations).entrySet()) {
+            Histogram h = e.getValue().recorder.getIntervalHistogram();
+            results.add(new Result(
+                    e.getKey(),
+                    h.getTotalCount(),
+                    e.getValue().errors.sum(),
+                    h.getTotalCount() / seconds,
+                    millis(h.getValueAtPercentile(50)),
+                    millis(h.getValueAtPercentile(99)),
+                    millis(h.getValueAtPercentile(99.9)),
+                    millis(h.getMaxValue())));
+        }
+        return results;
+    }
+
+    private static double millis(long micros) {
+        return micros / 1000.0;
+    }
+
+    record Result(
+            String operation,
+            long count,
+            long errors,
+            double throughputPerSecond,
+            double p50Millis,
+            double p99Millis,
+            double p999Millis,
+            double maxMillis
+    ) {}
+
+    private static final class Operation {
+        final Recorder recorder = new Recorder(MAX_MICROS, SIGNIFICANT_DIGITS);
+        final LongAdder errors = new LongAdder();
+    }
+}
@@ -0,0 +1,217 @@
+package com.bhashamitra.platform.loadtest;
+
+import com.bhashamitra.platform.controllers.dto.LemmaDto;
+import com.bhashamitra.platform.controllers.dto.LemmaPageDto;
+import com.bhashamitra.platform.loadtest.SyntheticCorpus.LemmaSpec;
+import com.bhashamitra.platform.models.LemmaStatus;
+import com.bhashamitra.platform.models.UsageSentenceStatus;
+import com.bhashamitra.platform.text.TransliterationScheme;
+import com.bhashamitra.platform.text.Transliterator;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.net.URI;
+import java.net.URLEncoder;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+
+/**
+ * Anonymous learners over HTTP: paging through the dictionary, opening word pages,
+ * searching, reading example sentences. Each action is one request, picked by weight.
+ *
+ * {@code sentences.list} fetches the complete published sentence list of the language;
+ * it is in the mix on purpose, at a low weight, since that is what the sentences page
+ * does today.
+ */
+final class LearnerScenario implements Scenario {
+
+    private static final Duration REQUEST_TIMEOUT = Duration.ofMinutes(2);
+    private static final int PAGE_SIZE = 50;
+    private static final int DETAILS_BATCH = 20;
+    private static final int MAX_PICK_ATTEMPTS = 50;
+
+    private final String baseUrl;
+    private final HttpClient http;
+    private final JsonMapper json;
+    private final SyntheticCorpus corpus;
+    private final int users;
+    private final Duration pacing;
+    // Weights per mille of actions; the last one is the full sentence list
+    private final int[] weights;
+    private final int totalWeight;
+    private final Transliterator iast = Transliterator.of(TransliterationScheme.IAST);
+
+    LearnerScenario(String baseUrl, HttpClient http, JsonMapper json, SyntheticCorpus corpus,
+                    int users, Duration pacing, int sentenceListPerMille) {
+        this.baseUrl = baseUrl;
+        this.http = http;
+        this.json = json;
+        this.corpus = corpus;
+        this.users = users;
+        this.pacing = pacing;
+        this.weights = new int[]{250, 200, 80, 150, 60, 100, 100, 60, sentenceListPerMille};
+        int total = 0;
+        for (int w : weights) {
+            total += w;
+        }
+        this.totalWeight = total;
+    }
+
+    @Override
+    public String name() {
+        return "learner";
+    }
+
+    @Override
+    public int users() {
+        return users;
+    }
+
+    @Override
+    public Duration pacing() {
+        return pacing;
+    }
+
+    @Override
+    public User newUser(int index) {
+        return new Learner(new SplittableRandom(corpus.seed() * 7919 + index));
+    }
+
+    private final class Learner implements User {
+
+        private final SplittableRandom random;
+        private String cursor;
+        private List<String> lastPageIds = List.of();
+
+        Learner(SplittableRandom random) {
+            this.random = random;
+        }
+
+        @Override
+        public List<Step> nextAction() {
+            int pick = random.nextInt(totalWeight);
+            int action = 0;
+            while (pick >= weights[action]) {
+                pick -= weights[action++];
+            }
+            return List.of(switch (action) {
+                case 0 -> browse();
+                case 1 -> fetch("lemma.detail", "/api/public/lemmas/" + publishedLemma().id() + "/detail");
+                case 2 -> fetch("lemmas.details", "/api/public/lemmas/details?ids=" + String.join(",", detailIds()));
+                case 3 -> autocomplete();
+                case 4 -> latinSearch();
+                case 5 -> lookup();
+                case 6 -> fetch("search.sentences", "/api/public/search/sentences?language=" + SyntheticCorpus.LANGUAGE
+                        + "&q=" + encode(publishedLemma().word()));
+                case 7 -> fetch("sentences.byId", "/api/public/sentences/" + publishedSentenceId());
+                default -> fetch("sentences.list", "/api/public/sentences?language=" + SyntheticCorpus.LANGUAGE);
+            });
+        }
+
+        /**
+         * Next page of the listing; a quarter of the time the learner starts over.
+         */
+        private Step browse() {
+            if (cursor != null && random.nextInt(4) == 0) {
+                cursor = null;
+            }
+            String operation = cursor == null ? "lemmas.firstPage" : "lemmas.nextPage";
+            String path = "/api/public/lemmas?language=" + SyntheticCorpus.LANGUAGE + "&limit=" + PAGE_SIZE
+                    + (cursor != null ? "&cursor=" + encode(cursor) : "");
+            return new Step(operation, () -> {
+                HttpResponse<String> response = get(path);
+                if (response.statusCode() != 200) {
+                    cursor = null;
+                    return false;
+                }
+                LemmaPageDto page = json.readValue(response.body(), LemmaPageDto.class);
+                cursor = page.nextCursor();
+                lastPageIds = page.items().stream().limit(DETAILS_BATCH).map(LemmaDto::id).toList();
+                return true;
+            });
+        }
+
+        private Step autocomplete() {
+            String word = publishedLemma().word();
+            // First syllable, with or without its vowel sign
+            String prefix = word.substring(0, 1 + random.nextInt(2));
+            return fetch("search.autocomplete", "/api/public/search/autocomplete?language="
+                    + SyntheticCorpus.LANGUAGE + "&q=" + encode(prefix) + "&limit=10");
+        }
+
+        private Step latinSearch() {
+            String latin = iast.toLatin(publishedLemma().word());
+            String prefix = latin.substring(0, Math.min(latin.length(), 2 + random.nextInt(3)));
+            return fetch("search.latin", "/api/public/search/latin?language="
+                    + SyntheticCorpus.LANGUAGE + "&q=" + encode(prefix) + "&limit=10");
+        }
+
+        private Step lookup() {
+            LemmaSpec lemma = publishedLemma();
+            String word = lemma.forms().isEmpty()
+                    ? lemma.word()
+                    : lemma.forms().get(random.nextInt(lemma.forms().size())).text();
+            return fetch("search.lookup", "/api/public/search/lookup?language="
+                    + SyntheticCorpus.LANGUAGE + "&word=" + encode(word));
+        }
+
+        private List<String> detailIds() {
+            if (!lastPageIds.isEmpty()) {
+                return lastPageIds;
+            }
+            List<String> ids = new ArrayList<>(DETAILS_BATCH);
+            for (int i = 0; i < DETAILS_BATCH; i++) {
+                ids.add(publishedLemma().id());
+            }
+            return ids;
+        }
+
+        private LemmaSpec publishedLemma() {
+            LemmaSpec lemma = corpus.lemma(corpus.popularLemma(random));
+            for (int attempt = 0; attempt < MAX_PICK_ATTEMPTS && lemma.status() != LemmaStatus.PUBLISHED; attempt++) {
+                lemma = corpus.lemma(corpus.popularLemma(random));
+            }
+            return lemma;
+        }
+
+        private String publishedSentenceId() {
+            if (corpus.sentences() == 0) {
+                return corpus.sentenceId(0);
+            }
+            int j = random.nextInt(corpus.sentences());
+            for (int attempt = 0; attempt < MAX_PICK_ATTEMPTS
+                    && corpus.sentence(j).status() != UsageSentenceStatus.PUBLISHED; attempt++) {
+                j = random.nextInt(corpus.sentences());
+            }
+            return corpus.sentenceId(j);
+        }
+    }
+
+    /**
+     * A GET whose body is read and dropped; the path is built before the clock starts.
+     */
+    private Step fetch(String operation, String path) {
+        return new Step(operation, () -> http.send(request(path), HttpResponse.BodyHandlers.discarding()).statusCode() == 200);
+    }
+
+    private HttpResponse<String> get(String path) throws Exception {
+        return http.send(request(path), HttpResponse.BodyHandlers.ofString(StandardCharsets.UTF_8));
+    }
+
+    private HttpRequest request(String path) {
+        return HttpRequest.newBuilder(URI.create(baseUrl + path))
+                .timeout(REQUEST_TIMEOUT)
+                .header("Accept", "application/json")
+                .GET()
+                .build();
+    }
+
+    private static String encode(String s) {
+        return URLEncoder.encode(s, StandardCharsets.UTF_8);
+    }
+}
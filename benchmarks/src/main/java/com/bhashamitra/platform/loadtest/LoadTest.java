@@ -0,0 +1,232 @@
+package com.bhashamitra.platform.loadtest;
+
+import com.bhashamitra.platform.BenchmarkApp;
+import com.bhashamitra.platform.services.EditorialAuditEventService;
+import com.bhashamitra.platform.services.LanguageRegistry;
+import com.bhashamitra.platform.services.LemmaService;
+import com.bhashamitra.platform.services.PublishedDictionaryService;
+import com.bhashamitra.platform.services.UsageSentenceService;
+import jakarta.persistence.EntityManagerFactory;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.io.File;
+import java.net.http.HttpClient;
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * End-to-end load test: boots the application, loads a {@link SyntheticCorpus} through
+ * {@link CorpusSqlWriter}, then runs learner, editor and audit traffic side by side and
+ * reports p50 / p99 / p99.9 latency per operation.
+ *
+ * <pre>
+ * java -Xmx8g -cp ... com.bhashamitra.platform.loadtest.LoadTest --lemmas=100000 --sentences=1000000 --duration=PT2M
+ * </pre>
+ *
+ * The database is an in-memory H2 (MySQL mode) unless {@code --jdbc-url} points at a local
+ * MySQL, which Liquibase migrates on startup; {@code --skip-load} reuses a corpus loaded
+ * earlier (with the same seed and sizes). Results go to {@code --out} as JSON.
+ *
+ * Users run open-loop: each action has an intended start time on a fixed schedule and
+ * latency is measured from that time, not from when the previous call returned, so a
+ * stalled server shows up as queueing delay in the percentiles instead of as fewer
+ * samples.
+ */
+public final class LoadTest {
+
+    private static final Set<String> OPTIONS = Set.of(
+            "seed", "lemmas", "sentences", "jdbc-url", "username", "password", "skip-load",
+            "warmup", "duration", "learners", "learner-pacing", "sentence-list-per-mille",
+            "editors", "editor-pacing", "editor-burst", "auditors", "audit-pacing", "out");
+
+    private LoadTest() {
+    }
+
+    public static void main(String[] args) throws Exception {
+        Map<String, String> options = options(args);
+        for (String key : options.keySet()) {
+            if (!OPTIONS.contains(key)) {
+                throw new IllegalArgumentException("Unknown option --" + key + "; known: " + new TreeSet<>(OPTIONS));
+            }
+        }
+
+        SyntheticCorpus corpus = new SyntheticCorpus(
+                Long.parseLong(options.getOrDefault("seed", "42")),
+                Integer.parseInt(options.getOrDefault("lemmas", "100000")),
+                Integer.parseInt(options.getOrDefault("sentences", "1000000")));
+        Duration warmup = Duration.parse(options.getOrDefault("warmup", "PT30S"));
+        Duration duration = Duration.parse(options.getOrDefault("duration", "PT2M"));
+
+        String jdbcUrl = options.get("jdbc-url");
+        Map<String, String> datasource = jdbcUrl == null
+                ? BenchmarkApp.h2("loadtest")
+                : Map.of(
+                "spring.datasource.url", jdbcUrl,
+                "spring.datasource.username", options.getOrDefault("username", "root"),
+                "spring.datasource.password", options.getOrDefault("password", ""));
+
+        try (ConfigurableApplicationContext ctx = BenchmarkApp.start(datasource)) {
+            if (!options.containsKey("skip-load")) {
+                load(ctx, corpus);
+            }
+
+            HttpClient http = HttpClient.newBuilder()
+                    .version(HttpClient.Version.HTTP_1_1)
+                    .connectTimeout(Duration.ofSeconds(10))
+                    .build();
+            String baseUrl = "http://localhost:" + ctx.getEnvironment().getProperty("local.server.port");
+            JsonMapper json = JsonMapper.builder().build();
+
+            List<Scenario> scenarios = List.of(
+                    new LearnerScenario(baseUrl, http, json, corpus,
+                            Integer.parseInt(options.getOrDefault("learners", "64")),
+                            Duration.parse(options.getOrDefault("learner-pacing", "PT0.1S")),
+                            Integer.parseInt(options.getOrDefault("sentence-list-per-mille", "1"))),
+                    new EditorScenario(ctx.getBean(LemmaService.class), ctx.getBean(UsageSentenceService.class), corpus,
+                            Integer.parseInt(options.getOrDefault("editors", "4")),
+                            Duration.parse(options.getOrDefault("editor-pacing", "PT15S")),
+                            Integer.parseInt(options.getOrDefault("editor-burst", "20"))),
+                    new AuditScenario(ctx.getBean(EditorialAuditEventService.class), corpus,
+                            Integer.parseInt(options.getOrDefault("auditors", "4")),
+                            Duration.parse(options.getOrDefault("audit-pacing", "PT0.25S"))));
+
+            List<Latencies.Result> results = run(scenarios, warmup, duration);
+            print(results);
+
+            File out = new File(options.getOrDefault("out", "target/loadtest.json"));
+            if (out.getParentFile() != null) {
+                out.getParentFile().mkdirs();
+            }
+            Map<String, Object> report = new LinkedHashMap<>();
+            report.put("database", jdbcUrl == null ? "h2" : jdbcUrl);
+            report.put("seed", corpus.seed());
+            report.put("lemmas", corpus.lemmas());
+            report.put("sentences", corpus.sentences());
+            report.put("options", new TreeMap<>(options));
+            report.put("measuredSeconds", duration.toMillis() / 1000.0);
+            report.put("operations", results);
+            json.writerWithDefaultPrettyPrinter().writeValue(out, report);
+            System.out.println("Results written to " + out);
+        }
+    }
+
+    /**
+     * {@code --key=value} arguments; a bare {@code --flag} is "true".
+     */
+    static Map<String, String> options(String[] args) {
+        Map<String, String> options = new LinkedHashMap<>();
+        for (String arg : args) {
+            if (!arg.startsWith("--")) {
+                throw new IllegalArgumentException("Expected --key=value, got " + arg);
+            }
+            int eq = arg.indexOf('=');
+            if (eq < 0) {
+                options.put(arg.substring(2), "true");
+            } else {
+                options.put(arg.substring(2, eq), arg.substring(eq + 1));
+            }
+        }
+        return options;
+    }
+
+    private static void load(ConfigurableApplicationContext ctx, SyntheticCorpus corpus) {
+        JdbcTemplate jdbc = ctx.getBean(JdbcTemplate.class);
+        LongAdder statements = new LongAdder();
+        long started = System.nanoTime();
+
+        System.out.printf("Loading %d lemmas and %d sentences (seed %d)%n", corpus.lemmas(), corpus.sentences(), corpus.seed());
+        new CorpusSqlWriter(corpus).write(sql -> {
+            jdbc.execute(sql);
+            statements.increment();
+        });
+        System.out.printf("Loaded in %d s (%d statements)%n",
+                TimeUnit.NANOSECONDS.toSeconds(System.nanoTime() - started), statements.sum());
+
+        // Written behind the application's back: drop what it cached before the load
+        ctx.getBean(LanguageRegistry.class).invalidate();
+        ctx.getBean(PublishedDictionaryService.class).invalidate(SyntheticCorpus.LANGUAGE);
+        ctx.getBean(EntityManagerFactory.class).getCache().evictAll();
+    }
+
+    private static List<Latencies.Result> run(List<Scenario> scenarios, Duration warmup, Duration duration)
+            throws InterruptedException {
+        Latencies latencies = new Latencies();
+        long start = System.nanoTime();
+        long measureFrom = start + warmup.toNanos();
+        long end = measureFrom + duration.toNanos();
+
+        ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+        for (Scenario scenario : scenarios) {
+            System.out.printf("%-8s %4d users, one action every %s each%n", scenario.name(), scenario.users(), scenario.pacing());
+            long pacing = scenario.pacing().toNanos();
+            for (int u = 0; u < scenario.users(); u++) {
+                Scenario.User user = scenario.newUser(u);
+                // Spread the users over one pacing interval
+                long first = start + pacing * u / scenario.users();
+                executor.execute(() -> runUser(user, first, pacing, end, latencies));
+            }
+        }
+
+        sleepUntil(measureFrom);
+        latencies.reset();
+        System.out.printf("Warm-up done, measuring for %s%n", duration);
+        sleepUntil(end);
+        List<Latencies.Result> results = latencies.results(duration.toNanos() / 1e9);
+
+        executor.shutdown();
+        if (!executor.awaitTermination(2, TimeUnit.MINUTES)) {
+            executor.shutdownNow();
+        }
+        return results;
+    }
+
+    private static void runUser(Scenario.User user, long first, long pacing, long end, Latencies latencies) {
+        for (long intended = first; intended < end; intended += pacing) {
+            List<Scenario.Step> steps = user.nextAction();
+            sleepUntil(intended);
+
+            // The first step is measured from its intended start, later ones from the step before
+            long stepStart = intended;
+            for (Scenario.Step step : steps) {
+                boolean ok;
+                try {
+                    ok = step.call().call();
+                } catch (Exception e) {
+                    ok = false;
+                }
+                long done = System.nanoTime();
+                latencies.record(step.operation(), TimeUnit.NANOSECONDS.toMicros(done - stepStart), ok);
+                stepStart = done;
+            }
+        }
+    }
+
+    private static void sleepUntil(long nanoTime) {
+        long remaining;
+        while ((remaining = nanoTime - System.nanoTime()) > 0) {
+            LockSupport.parkNanos(remaining);
+        }
+    }
+
+    private static void print(List<Latencies.Result> results) {
+        System.out.printf("%n%-24s %9s %7s %9s %9s %9s %9s %9s%n",
+                "operation", "count", "errors", "per sec", "p50 ms", "p99 ms", "p99.9 ms", "max ms");
+        for (Latencies.Result r : results) {
+            System.out.printf("%-24s %9d %7d %9.1f %9.2f %9.2f %9.2f %9.2f%n",
+                    r.operation(), r.count(), r.errors(), r.throughputPerSecond(),
+                    r.p50Millis(), r.p99Millis(), r.p999Millis(), r.maxMillis());
+        }
+    }
+}
@@ -0,0 +1,33 @@
+package com.bhashamitra.platform.loadtest;
+
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * One traffic mix: a number of simulated users, each starting an action every
+ * {@link #pacing()}. An action is one or more steps run back to back.
+ */
+interface Scenario {
+
+    String name();
+
+    int users();
+
+    Duration pacing();
+
+    User newUser(int index);
+
+    interface User {
+        List<Step> nextAction();
+    }
+
+    /**
+     * One recorded call; {@code call} returns false for an unexpected response.
+     */
+    record Step(String operation, StepCall call) {}
+
+    @FunctionalInterface
+    interface StepCall {
+        boolean call() throws Exception;
+    }
+}
@@ -0,0 +1,319 @@
+package com.bhashamitra.platform.loadtest;
+
+import com.bhashamitra.platform.models.Ids;
+import com.bhashamitra.platform.models.LemmaSentenceLinkType;
+import com.bhashamitra.platform.models.LemmaStatus;
+import com.bhashamitra.platform.models.UsageSentenceStatus;
+
+import java.nio.ByteBuffer;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+
+/**
+ * A deterministic synthetic Hindi corpus. Every attribute of the n-th lemma or sentence is
+ * a pure function of (seed, n), so the SQL writer and the traffic generator agree on ids
+ * and words without sharing state, and two loads with the same seed are identical.
+ *
+ * Words are two syllables (consonant plus optional vowel sign) and a closing consonant,
+ * which leaves room for inflection suffixes and gives 330 * 330 * 33 distinct spellings.
+ * Sentences draw their words with a strong skew towards low lemma indices, so a few
+ * thousand lemmas are "common" the way they are in real text.
+ */
+public final class SyntheticCorpus {
+
+    public static final String LANGUAGE = "hi";
+
+    /**
+     * Creation time of lemma 0 and sentence 0; later rows follow at fixed steps.
+     */
+    public static final LocalDateTime EPOCH = LocalDateTime.of(2025, 1, 1, 0, 0);
+
+    public static final List<String> EDITORS = List.of(
+            "editor-01", "editor-02", "editor-03", "editor-04", "editor-05", "editor-06",
+            "editor-07", "editor-08", "editor-09", "editor-10", "editor-11", "editor-12");
+
+    static final int LEMMA_SPACING_SECONDS = 60;
+    static final int SENTENCE_SPACING_SECONDS = 5;
+
+    private static final String CONSONANTS =
+            "\u0915\u0916\u0917\u0918\u091a\u091b\u091c\u091d\u091f\u0920\u0921\u0922\u0923"
+                    + "\u0924\u0925\u0926\u0927\u0928\u092a\u092b\u092c\u092d\u092e\u092f\u0930"
+                    + "\u0932\u0935\u0936\u0937\u0938\u0939\u0933\u0919";
+    // Inherent vowel plus the nine dependent vowel signs (aa, i, ii, u, uu, e, ai, o, au)
+    private static final String[] VOWEL_SIGNS = {
+            "", "\u093e", "\u093f", "\u0940", "\u0941", "\u0942", "\u0947", "\u0948", "\u094b", "\u094c"};
+    private static final int SYLLABLES = 33 * 10;
+
+    public static final int MAX_LEMMAS = SYLLABLES * SYLLABLES * 33;
+    // Coprime with MAX_LEMMAS: consecutive indices get unrelated spellings
+    private static final long SPREAD = 7919;
+
+    private static final String[] FUNCTION_WORDS = {
+            "\u0915\u093e", "\u0915\u0940", "\u0915\u0947", "\u092e\u0947\u0902", "\u0915\u094b",
+            "\u0938\u0947", "\u0914\u0930", "\u0928\u0947", "\u092a\u0930", "\u092d\u0940"};
+    private static final String SENTENCE_END = " \u0939\u0948\u0964";
+
+    private static final String[] GLOSSES = {
+            "house", "water", "river", "road", "village", "city", "friend", "teacher", "book", "letter",
+            "tree", "flower", "rain", "sun", "moon", "market", "price", "work", "festival", "song",
+            "child", "mother", "father", "field", "door", "window", "train", "journey", "answer", "question",
+            "to go", "to come", "to eat", "to drink", "to read", "to write", "to see", "to speak", "to hear", "to run",
+            "to carry", "to buy", "to sell", "to open", "to close", "to sleep", "to wait", "to learn", "to teach", "to sing",
+            "big", "small", "new", "old", "good", "bad", "hot", "cold", "quickly", "slowly", "here", "there", "today", "always"};
+
+    private static final String[] REGISTERS = {"neutral", "neutral", "neutral", "formal", "informal", "colloquial"};
+
+    private enum Kind { LANGUAGE, LEMMA, MEANING, SURFACE_FORM, SENTENCE, LINK, AUDIT_EVENT }
+
+    private static final long EPOCH_MILLIS = EPOCH.toInstant(ZoneOffset.UTC).toEpochMilli();
+    // Per-kind millisecond offset of the id clock, so kinds never share (millis, sequence)
+    private static final long KIND_MILLIS = 1_000_000_000L;
+
+    private final long seed;
+    private final int lemmas;
+    private final int sentences;
+
+    public SyntheticCorpus(long seed, int lemmas, int sentences) {
+        if (lemmas < 1 || lemmas > MAX_LEMMAS) {
+            throw new IllegalArgumentException("lemmas must be between 1 and " + MAX_LEMMAS);
+        }
+        if (sentences < 0) {
+            throw new IllegalArgumentException("sentences must not be negative");
+        }
+        this.seed = seed;
+        this.lemmas = lemmas;
+        this.sentences = sentences;
+    }
+
+    public long seed() {
+        return seed;
+    }
+
+    public int lemmas() {
+        return lemmas;
+    }
+
+    public int sentences() {
+        return sentences;
+    }
+
+    public String languageId() {
+        return id(Kind.LANGUAGE, 0);
+    }
+
+    // =========================================================
+    // Lemmas
+    // =========================================================
+
+    public record LemmaSpec(
+            int index,
+            String id,
+            String word,
+            String pos,
+            LemmaStatus status,
+            List<MeaningSpec> meanings,
+            List<FormSpec> forms,
+            LocalDateTime created
+    ) {}
+
+    public record MeaningSpec(String id, String text, int priority) {}
+
+    public record FormSpec(String id, String text, String formType) {}
+
+    public LemmaSpec lemma(int i) {
+        SplittableRandom r = random(Kind.LEMMA, i);
+        String word = word(i);
+
+        double p = r.nextDouble();
+        String pos = p < 0.55 ? "noun" : p < 0.75 ? "verb" : p < 0.90 ? "adjective" : "adverb";
+
+        double s = r.nextDouble();
+        LemmaStatus status = s < 0.90 ? LemmaStatus.PUBLISHED
+                : s < 0.95 ? LemmaStatus.DRAFT
+                : s < 0.98 ? LemmaStatus.REVIEW
+                : LemmaStatus.ARCHIVED;
+
+        int meaningCount = 1 + (r.nextDouble() < 0.35 ? 1 : 0) + (r.nextDouble() < 0.10 ? 1 : 0);
+        List<MeaningSpec> meanings = new ArrayList<>(meaningCount);
+        for (int m = 0; m < meaningCount; m++) {
+            meanings.add(new MeaningSpec(id(Kind.MEANING, 4L * i + m), GLOSSES[r.nextInt(GLOSSES.length)], m + 1));
+        }
+
+        String[][] suffixes = switch (pos) {
+            case "noun" -> new String[][]{{"\u094b\u0902", "oblique_plural"}, {"\u0947\u0902", "plural"}};
+            case "verb" -> new String[][]{{"\u0928\u093e", "infinitive"}, {"\u0924\u093e", "habitual"},
+                    {"\u0924\u0940", "habitual_feminine"}, {"\u093e", "perfective"}};
+            case "adjective" -> new String[][]{{"\u0940", "feminine"}, {"\u0947", "oblique"}};
+            default -> new String[0][];
+        };
+        List<FormSpec> forms = new ArrayList<>(suffixes.length);
+        for (int f = 0; f < suffixes.length; f++) {
+            forms.add(new FormSpec(id(Kind.SURFACE_FORM, 4L * i + f), word + suffixes[f][0], suffixes[f][1]));
+        }
+
+        return new LemmaSpec(i, id(Kind.LEMMA, i), word, pos, status, meanings, forms,
+                EPOCH.plusSeconds((long) LEMMA_SPACING_SECONDS * i));
+    }
+
+    /**
+     * Id of lemma {@code i} without building the rest of it.
+     */
+    public String lemmaId(int i) {
+        return id(Kind.LEMMA, i);
+    }
+
+    /**
+     * The spelling of lemma {@code i}; distinct for every index below {@link #MAX_LEMMAS}.
+     */
+    public static String word(int i) {
+        long n = (i * SPREAD) % MAX_LEMMAS;
+        int first = (int) (n % SYLLABLES);
+        int second = (int) ((n / SYLLABLES) % SYLLABLES);
+        int last = (int) (n / ((long) SYLLABLES * SYLLABLES));
+        return syllable(first) + syllable(second) + CONSONANTS.charAt(last);
+    }
+
+    private static String syllable(int n) {
+        return CONSONANTS.charAt(n % 33) + VOWEL_SIGNS[n / 33];
+    }
+
+    /**
+     * A lemma index drawn with a strong skew towards the start of the range.
+     */
+    public int popularLemma(SplittableRandom r) {
+        double u = r.nextDouble();
+        return (int) (lemmas * u * u * u);
+    }
+
+    // =========================================================
+    // Sentences
+    // =========================================================
+
+    public record SentenceSpec(
+            int index,
+            String id,
+            String text,
+            String translation,
+            String register,
+            int difficulty,
+            UsageSentenceStatus status,
+            List<LinkSpec> links,
+            LocalDateTime created
+    ) {}
+
+    /**
+     * Link to a lemma used in the sentence; {@code formId} is set for inflected uses.
+     */
+    public record LinkSpec(String id, String lemmaId, String formId, LemmaSentenceLinkType type) {}
+
+    public SentenceSpec sentence(int j) {
+        SplittableRandom r = random(Kind.SENTENCE, j);
+
+        int contentWords = 2 + r.nextInt(4);
+        StringBuilder text = new StringBuilder(64);
+        StringBuilder translation = new StringBuilder(64);
+        List<LinkSpec> links = new ArrayList<>(3);
+        List<String> linked = new ArrayList<>(3);
+
+        for (int w = 0; w < contentWords; w++) {
+            LemmaSpec lemma = lemma(popularLemma(r));
+            FormSpec form = !lemma.forms().isEmpty() && r.nextBoolean()
+                    ? lemma.forms().get(r.nextInt(lemma.forms().size()))
+                    : null;
+
+            if (w > 0) {
+                text.append(' ').append(FUNCTION_WORDS[r.nextInt(FUNCTION_WORDS.length)]).append(' ');
+                translation.append(' ');
+            }
+            text.append(form != null ? form.text() : lemma.word());
+            translation.append(lemma.meanings().get(0).text());
+
+            if (links.size() < 3 && !linked.contains(lemma.id())) {
+                linked.add(lemma.id());
+                links.add(new LinkSpec(
+                        id(Kind.LINK, 4L * j + links.size()),
+                        lemma.id(),
+                        form != null ? form.id() : null,
+                        form != null ? LemmaSentenceLinkType.INFLECTED : LemmaSentenceLinkType.EXACT));
+            }
+        }
+        text.append(SENTENCE_END);
+        translation.setCharAt(0, Character.toUpperCase(translation.charAt(0)));
+        translation.append('.');
+
+        double s = r.nextDouble();
+        UsageSentenceStatus status = s < 0.92 ? UsageSentenceStatus.PUBLISHED
+                : s < 0.98 ? UsageSentenceStatus.DRAFT
+                : UsageSentenceStatus.ARCHIVED;
+
+        return new SentenceSpec(j, id(Kind.SENTENCE, j), text.toString(), translation.toString(),
+                REGISTERS[r.nextInt(REGISTERS.length)],
+                Math.min(5, contentWords - 1 + r.nextInt(2)),
+                status, links,
+                EPOCH.plusSeconds((long) SENTENCE_SPACING_SECONDS * j));
+    }
+
+    /**
+     * Id of sentence {@code j} without building the rest of it.
+     */
+    public String sentenceId(int j) {
+        return id(Kind.SENTENCE, j);
+    }
+
+    // =========================================================
+    // Audit history
+    // =========================================================
+
+    /**
+     * Id of the {@code n}-th generated audit event.
+     */
+    public String auditEventId(long n) {
+        return id(Kind.AUDIT_EVENT, n);
+    }
+
+    /**
+     * Random source for the editorial history of one lemma ({@code sentence} false) or
+     * sentence; separate from the entity's own stream so history does not shift content.
+     */
+    public SplittableRandom historyRandom(boolean sentence, int n) {
+        return random(Kind.AUDIT_EVENT, sentence ? -1L - n : n);
+    }
+
+    /**
+     * Time of the last generated row; audit windows of the traffic generator fall before it.
+     */
+    public LocalDateTime end() {
+        LocalDateTime lastLemma = EPOCH.plusSeconds((long) LEMMA_SPACING_SECONDS * lemmas);
+        LocalDateTime lastSentence = EPOCH.plusSeconds((long) SENTENCE_SPACING_SECONDS * sentences);
+        return lastLemma.isAfter(lastSentence) ? lastLemma : lastSentence;
+    }
+
+    // =========================================================
+    // Helpers
+    // =========================================================
+
+    private SplittableRandom random(Kind kind, long n) {
+        return new SplittableRandom(mix(seed * 31 + kind.ordinal()) ^ mix(n));
+    }
+
+    /**
+     * Version 7 layout with a synthetic clock: (kind, n) picks the millisecond and sequence,
+     * the seed the random bits. Increasing n gives increasing ids, like real inserts.
+     */
+    private String id(Kind kind, long n) {
+        long millis = EPOCH_MILLIS + kind.ordinal() * KIND_MILLIS + (n >>> 12);
+        long msb = (millis << 16) | 0x7000L | (n & 0xfff);
+        long lsb = 0x8000000000000000L | (mix(seed ^ mix(kind.ordinal() * KIND_MILLIS + n)) >>> 2);
+        return Ids.fromBytes(ByteBuffer.allocate(Ids.BYTES).putLong(msb).putLong(lsb).array());
+    }
+
+    // SplitMix64 finalizer
+    private static long mix(long z) {
+        z = (z ^ (z >>> 30)) * 0xbf58476d1ce4e5b9L;
+        z = (z ^ (z >>> 27)) * 0x94d049bb133111ebL;
+        return z ^ (z >>> 31);
+    }
+}
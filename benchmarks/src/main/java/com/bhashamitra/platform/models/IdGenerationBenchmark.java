@@ -0,0 +1,71 @@
+package com.bhashamitra.platform.models;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Id generation for new entities ({@link Auditable}'s constructor calls {@link Ids#newId()})
+ * and the string / BINARY(16) conversion done for every id bound or read over JDBC.
+ * {@code UUID.randomUUID()} is the previous generator, kept as the baseline.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class IdGenerationBenchmark {
+
+    private String id;
+    private byte[] bytes;
+
+    @Setup
+    public void setUp() {
+        id = Ids.newId();
+        bytes = Ids.toBytes(id);
+    }
+
+    @Benchmark
+    public String newId() {
+        return Ids.newId();
+    }
+
+    // Request threads creating entities at once share the sequence counter
+    @Benchmark
+    @Threads(4)
+    public String newIdContended() {
+        return Ids.newId();
+    }
+
+    @Benchmark
+    public String randomUuidBaseline() {
+        return UUID.randomUUID().toString();
+    }
+
+    @Benchmark
+    public Lemma newEntity() {
+        return new Lemma();
+    }
+
+    @Benchmark
+    public byte[] toBytes() {
+        return Ids.toBytes(id);
+    }
+
+    @Benchmark
+    public String fromBytes() {
+        return Ids.fromBytes(bytes);
+    }
+}
@@ -0,0 +1,70 @@
+package com.bhashamitra.platform.services;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@link AuditService#toJson}: the details map every editorial write serializes, in the
+ * shapes the services actually pass (a field diff, an import chunk summary).
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class AuditSerializationBenchmark {
+
+    private AuditService auditService;
+    private Map<String, Object> fieldChange;
+    private Map<String, Object> importChunk;
+
+    @Setup
+    public void setUp() {
+        // toJson never touches the event service
+        auditService = new AuditService(null, JsonMapper.builder().build(), new SimpleMeterRegistry());
+
+        fieldChange = new LinkedHashMap<>();
+        fieldChange.put("language", "hi");
+        fieldChange.put("lemmaNative", Map.of("from", "\u0918\u0930", "to", "\u0918\u0930\u093c"));
+        fieldChange.put("lemmaLatin", Map.of("from", "ghar", "to", "gha\u1e5b"));
+        fieldChange.put("status", Map.of("from", "DRAFT", "to", "PUBLISHED"));
+
+        importChunk = new LinkedHashMap<>();
+        importChunk.put("language", "hi");
+        importChunk.put("format", "NDJSON");
+        importChunk.put("chunk", 17);
+        importChunk.put("firstLine", 8001);
+        importChunk.put("lastLine", 8500);
+        importChunk.put("lemmas", 498);
+        importChunk.put("meanings", 1210);
+        importChunk.put("surfaceForms", 2904);
+        importChunk.put("links", 311);
+        importChunk.put("skippedLines", List.of(8123, 8377));
+    }
+
+    @Benchmark
+    public String fieldChange() {
+        return auditService.toJson(fieldChange);
+    }
+
+    @Benchmark
+    public String importChunk() {
+        return auditService.toJson(importChunk);
+    }
+}
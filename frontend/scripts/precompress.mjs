@@ -0,0 +1,53 @@
+// Writes .br and .gz siblings next to every compressible file in dist/ so the backend
+// can serve them as-is (see StaticBundle). Runs after `vite build`; uses only node:zlib.
+import { readdir, readFile, stat, writeFile } from "node:fs/promises";
+import { join } from "node:path";
+import { brotliCompressSync, constants, gzipSync } from "node:zlib";
+
+const DIST = process.argv[2] ?? "dist";
+const COMPRESSIBLE = /\.(html|js|mjs|css|json|svg|txt|xml|map|webmanifest|wasm|ico)$/i;
+// Below this size the headers outweigh the savings
+const MIN_BYTES = 1024;
+// Keep a variant only if it saves at least this fraction
+const MIN_SAVING = 0.1;
+
+async function* files(dir) {
+    for (const entry of await readdir(dir, { withFileTypes: true })) {
+        const path = join(dir, entry.name);
+        if (entry.isDirectory()) {
+            yield* files(path);
+        } else if (COMPRESSIBLE.test(entry.name)) {
+            yield path;
+        }
+    }
+}
+
+let count = 0;
+let before = 0;
+let after = 0;
+
+for await (const path of files(DIST)) {
+    if ((await stat(path)).size < MIN_BYTES) {
+        continue;
+    }
+    const input = await readFile(path);
+    const variants = [
+        [".br", brotliCompressSync(input, {
+            params: {
+                [constants.BROTLI_PARAM_QUALITY]: constants.BROTLI_MAX_QUALITY,
+                [constants.BROTLI_PARAM_SIZE_HINT]: input.length,
+            },
+        })],
+        [".gz", gzipSync(input, { level: constants.Z_BEST_COMPRESSION })],
+    ];
+    for (const [suffix, output] of variants) {
+        if (output.length <= input.length * (1 - MIN_SAVING)) {
+            await writeFile(path + suffix, output);
+        }
+    }
+    count++;
+    before += input.length;
+    after += variants[0][1].length;
+}
+
+console.log(`precompress: ${count} files, ${(before / 1024).toFixed(1)} KiB -> ${(after / 1024).toFixed(1)} KiB (br)`);